@@ -12,6 +12,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import xyz.letzcollab.backend.dto.auth.*;
 import xyz.letzcollab.backend.global.dto.ApiResponse;
+import xyz.letzcollab.backend.global.ratelimit.RateLimitKey;
+import xyz.letzcollab.backend.global.ratelimit.RateLimited;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 import xyz.letzcollab.backend.service.AuthService;
 
@@ -47,6 +49,7 @@ public class AuthController {
 			summary = "로그인",
 			description = "이메일과 비밀번호로 로그인합니다.<br>웹 프론트엔드는 `X-Client-Type: web` 헤더 전송 시 HttpOnly 쿠키가 자동 세팅됩니다."
 	)
+	@RateLimited(key = RateLimitKey.IP, permits = 10, window = "1m", distributed = true)
 	@PostMapping("/login")
 	public ResponseEntity<ApiResponse<LoginResponse>> login(
 			@Valid @RequestBody LoginRequest req,
@@ -69,6 +72,7 @@ public class AuthController {
 			summary = "JWT 재발급",
 			description = "JWT와 갱신 토큰을 새로 발급합니다.<br>웹 프론트엔드는 `X-Client-Type: web` 헤더 전송 시 HttpOnly 쿠키가 자동 세팅됩니다."
 	)
+	@RateLimited(key = RateLimitKey.IP, permits = 30, window = "1m", distributed = true)
 	@PostMapping("/refresh")
 	public ResponseEntity<ApiResponse<RefreshResponse>> refresh(
 			@RequestBody(required = false) RefreshRequest req,
@@ -88,7 +92,7 @@ public class AuthController {
 		return ResponseEntity.ok(ApiResponse.success(res, "JWT 재발급 성공!"));
 	}
 
-	@Operation(summary = "로그아웃", description = "웹 브라우저인 경우 JWT/갱신 토큰 쿠키를 만료시키고, 모바일인 경우 갱신 토큰을 redis에서 제거하여 로그아웃 처리합니다.")
+	@Operation(summary = "로그아웃", description = "웹 브라우저인 경우 JWT/갱신 토큰 쿠키를 만료시키고, 모바일인 경우 갱신 토큰을 redis에서 제거하여 로그아웃 처리합니다. 다른 기기의 세션은 유지되며, 모든 기기에서 로그아웃하려면 전체 세션 로그아웃 API를 사용합니다.")
 	@PostMapping("/logout")
 	public ResponseEntity<ApiResponse<Void>> logout(
 			@AuthenticationPrincipal CustomUserDetails userDetails,
@@ -9,9 +9,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardCond;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardResponse;
 import xyz.letzcollab.backend.dto.task.MyTaskResponse;
 import xyz.letzcollab.backend.dto.task.MyTaskSearchCond;
 import xyz.letzcollab.backend.global.dto.ApiResponse;
+import xyz.letzcollab.backend.global.dto.SliceResponse;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 import xyz.letzcollab.backend.service.MyService;
 
@@ -36,4 +39,32 @@ public class MyController {
 		Page<MyTaskResponse> response = myService.getMyTasks(userDetails.getPublicId(), cond, pageable);
 		return ResponseEntity.ok(ApiResponse.success(response));
 	}
+
+	@Operation(
+			summary = "내 업무 전체 Slice 조회",
+			description = "내 업무 목록을 전체 개수 없이 조회합니다. 다음 페이지 존재 여부(hasNext)만 제공하며 무한 스크롤에 적합합니다."
+	)
+	@GetMapping("/tasks/slice")
+	public ResponseEntity<ApiResponse<SliceResponse<MyTaskResponse>>> getMyTaskSlice(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@ModelAttribute @Valid MyTaskSearchCond cond,
+			Pageable pageable
+	) {
+		SliceResponse<MyTaskResponse> response = myService.getMyTaskSlice(userDetails.getPublicId(), cond, pageable);
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
+	@Operation(
+			summary = "내 업무 대시보드 (전체 워크스페이스)",
+			description = "소속된 모든 워크스페이스의 내 업무를 워크스페이스/프로젝트별로 묶어 한 번에 조회합니다. 워크스페이스마다 우선순위 기준 상위 limit개(최대 20)의 업무와 워크스페이스/프로젝트별 업무 수를 반환합니다."
+	)
+	@GetMapping("/tasks/dashboard")
+	public ResponseEntity<ApiResponse<MyTaskDashboardResponse>> getMyTaskDashboard(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@ModelAttribute MyTaskDashboardCond cond,
+			@RequestParam(defaultValue = "5") int limit
+	) {
+		MyTaskDashboardResponse response = myService.getMyTaskDashboard(userDetails.getPublicId(), cond, limit);
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package xyz.letzcollab.backend.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import xyz.letzcollab.backend.dto.notification.NotificationResponse;
 import xyz.letzcollab.backend.global.dto.ApiResponse;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
@@ -64,4 +67,22 @@ public class NotificationController {
 		long count = notificationService.getUnreadCount(userDetails.getPublicId());
 		return ResponseEntity.ok(ApiResponse.success(count));
 	}
-}
\ No newline at end of file
+
+	/** 실시간 알림 구독 (SSE) */
+	@Operation(
+			summary = "실시간 알림 구독 (SSE)",
+			description = "새 알림이 생성되는 즉시 notification 이벤트로 전달합니다. 재연결 시 마지막으로 받은 이벤트 ID를 Last-Event-ID 헤더(또는 lastEventId 파라미터)로 보내면 그 이후의 알림을 먼저 재전송합니다. 재전송 경계의 알림은 중복될 수 있으므로 notificationId로 중복을 제거해야 합니다."
+	)
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+			@RequestParam(required = false) String lastEventId,
+			HttpServletResponse httpServletResponse
+	) {
+		// nginx가 이벤트를 버퍼에 모았다가 보내지 않도록 (버퍼링되면 알림/heartbeat가 늦게 도착하거나 연결이 끊김)
+		httpServletResponse.setHeader("X-Accel-Buffering", "no");
+		return notificationService.subscribe(userDetails.getPublicId(),
+				lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+	}
+}
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import xyz.letzcollab.backend.dto.project.*;
 import xyz.letzcollab.backend.global.dto.ApiResponse;
+import xyz.letzcollab.backend.global.dto.SliceResponse;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 import xyz.letzcollab.backend.service.ProjectService;
 
@@ -65,6 +66,23 @@ public class ProjectController {
 		return ResponseEntity.ok(ApiResponse.success(response));
 	}
 
+	/**
+	 * 프로젝트 목록 조회 (검색 조건 + Slice 페이지네이션)
+	 */
+	@Operation(summary = "프로젝트 목록 Slice 조회", description = "전체 개수 없이 프로젝트 목록을 조회합니다. 다음 페이지 존재 여부(hasNext)만 제공합니다. (해당 워크스페이스의 멤버만 가능)")
+	@GetMapping("/slice")
+	public ResponseEntity<ApiResponse<SliceResponse<ProjectResponse>>> getMyProjectSlice(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@PathVariable UUID workspacePublicId,
+			@ModelAttribute @Valid ProjectSearchCond cond,
+			Pageable pageable
+	) {
+		SliceResponse<ProjectResponse> response = projectService.getMyProjectSlice(
+				userDetails.getPublicId(), workspacePublicId, cond, pageable
+		);
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
 	/**
 	 * 프로젝트 상세 조회
 	 */
@@ -11,6 +11,7 @@ import xyz.letzcollab.backend.dto.comment.CommentResponse;
 import xyz.letzcollab.backend.dto.comment.CreateCommentRequest;
 import xyz.letzcollab.backend.dto.comment.UpdateCommentRequest;
 import xyz.letzcollab.backend.global.dto.ApiResponse;
+import xyz.letzcollab.backend.global.ratelimit.RateLimited;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 import xyz.letzcollab.backend.service.TaskCommentService;
 
@@ -27,6 +28,7 @@ public class TaskCommentController {
 
 	/** 댓글/대댓글 생성 */
 	@Operation(summary = "댓글 및 대댓글 생성", description = "parentCommentId 유무에 따라 최상위 댓글 또는 대댓글을 생성합니다.")
+	@RateLimited(permits = 30, window = "1m")
 	@PostMapping
 	public ResponseEntity<ApiResponse<Void>> createComment(
 			@AuthenticationPrincipal CustomUserDetails userDetails,
@@ -12,6 +12,9 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import xyz.letzcollab.backend.dto.task.*;
 import xyz.letzcollab.backend.global.dto.ApiResponse;
+import xyz.letzcollab.backend.global.ratelimit.RateLimited;
+import xyz.letzcollab.backend.global.dto.CursorResponse;
+import xyz.letzcollab.backend.global.dto.SliceResponse;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 import xyz.letzcollab.backend.service.TaskService;
 
@@ -31,6 +34,7 @@ public class TaskController {
 			summary = "최상위 업무 생성",
 			description = "프로젝트 내에 새로운 최상위 업무를 생성합니다. (프로젝트에서 VIEWER 권한을 가진 멤버는 생성 불가)"
 	)
+	@RateLimited(permits = 60, window = "1m")
 	@PostMapping
 	public ResponseEntity<ApiResponse<Void>> createTask(
 			@AuthenticationPrincipal CustomUserDetails userDetails,
@@ -49,6 +53,7 @@ public class TaskController {
 
 	/** 하위 업무 생성 */
 	@Operation(summary = "하위 업무 생성", description = "특정 상위 업무에 속하는 하위 업무(SubTask)를 생성합니다.")
+	@RateLimited(permits = 60, window = "1m")
 	@PostMapping("/{parentTaskPublicId}/subtasks")
 	public ResponseEntity<ApiResponse<Void>> createSubTask(
 			@AuthenticationPrincipal CustomUserDetails userDetails,
@@ -80,6 +85,41 @@ public class TaskController {
 		return ResponseEntity.ok(ApiResponse.success(response));
 	}
 
+	/** 업무 목록 조회 (필터 + Slice 페이지네이션) */
+	@Operation(
+			summary = "업무 목록 Slice 조회",
+			description = "업무 목록을 전체 개수 없이 조회합니다. 다음 페이지 존재 여부(hasNext)만 제공하며 무한 스크롤에 적합합니다."
+	)
+	@GetMapping("/slice")
+	public ResponseEntity<ApiResponse<SliceResponse<TaskResponse>>> getTaskSlice(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@PathVariable UUID projectPublicId,
+			@ModelAttribute @Valid TaskSearchCond cond,
+			Pageable pageable
+	) {
+		SliceResponse<TaskResponse> response = taskService.getTaskSlice(
+				userDetails.getPublicId(), projectPublicId, cond, pageable);
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
+	/** 업무 목록 조회 (필터 + 커서 기반 페이지네이션) */
+	@Operation(
+			summary = "업무 목록 커서 조회",
+			description = "업무 목록을 커서 기반으로 조회합니다. 전체 개수를 세지 않으며, 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회됩니다. (첫 페이지는 cursor 생략)"
+	)
+	@GetMapping("/cursor")
+	public ResponseEntity<ApiResponse<CursorResponse<TaskResponse>>> getTasksByCursor(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@PathVariable UUID projectPublicId,
+			@ModelAttribute @Valid TaskSearchCond cond,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size
+	) {
+		CursorResponse<TaskResponse> response = taskService.getTasksByCursor(
+				userDetails.getPublicId(), projectPublicId, cond, cursor, size);
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
 	/** 업무 상세 조회 */
 	@Operation(summary = "업무 상세 조회", description = "특정 업무의 상세 정보(하위 업무 포함)를 조회합니다.")
 	@GetMapping("/{taskPublicId}")
@@ -7,12 +7,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import xyz.letzcollab.backend.dto.user.SessionResponse;
 import xyz.letzcollab.backend.dto.user.UserResponse;
 import xyz.letzcollab.backend.dto.user.UserUpdateRequest;
 import xyz.letzcollab.backend.global.dto.ApiResponse;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 import xyz.letzcollab.backend.service.UserService;
 
+import java.util.List;
+
 @Tag(name = "02. User", description = "현재 로그인한 사용자의 정보 조회/수정/탈퇴 API")
 @RestController
 @RequiredArgsConstructor
@@ -52,4 +55,24 @@ public class UserController {
 		userService.withdraw(userDetails.getPublicId());
 		return ResponseEntity.ok(ApiResponse.success("탈퇴 요청이 정상 처리되었습니다"));
 	}
+
+	/**
+	 * 로그인 세션 목록
+	 */
+	@Operation(summary = "로그인 세션 목록", description = "만료되지 않은 로그인 세션(갱신 토큰)을 최근에 갱신된 순으로 조회합니다.")
+	@GetMapping("/me/sessions")
+	public ResponseEntity<ApiResponse<List<SessionResponse>>> getSessions(@AuthenticationPrincipal CustomUserDetails userDetails) {
+		List<SessionResponse> response = userService.getSessions(userDetails.getPublicId());
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
+	/**
+	 * 모든 기기에서 로그아웃
+	 */
+	@Operation(summary = "모든 기기에서 로그아웃", description = "모든 로그인 세션의 갱신 토큰과 지금까지 발급된 JWT를 폐기합니다.")
+	@DeleteMapping("/me/sessions")
+	public ResponseEntity<ApiResponse<Void>> logoutAll(@AuthenticationPrincipal CustomUserDetails userDetails) {
+		userService.logoutAll(userDetails.getPublicId());
+		return ResponseEntity.ok(ApiResponse.success("모든 기기에서 로그아웃되었습니다"));
+	}
 }
@@ -4,16 +4,19 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import xyz.letzcollab.backend.dto.workspace.*;
+import xyz.letzcollab.backend.entity.vo.StatsResolution;
 import xyz.letzcollab.backend.global.dto.ApiResponse;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 import xyz.letzcollab.backend.service.WorkspaceService;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -107,4 +110,23 @@ public class WorkspaceController {
 		WorkspaceStatsResponse response = workspaceService.getStats(userDetails.getPublicId(), workspacePublicId);
 		return ResponseEntity.ok(ApiResponse.success(response));
 	}
+
+	@Operation(
+			summary = "워크스페이스 통계 이력 조회",
+			description = "기간별 워크스페이스 통계 추이를 조회합니다. (기본: 최근 1일, 해상도 미지정 시 기간에 맞춰 자동 선택) " +
+					"5분 단위는 1일, 1시간 단위는 30일, 1일 단위는 영구 보관됩니다. 값이 바뀌지 않은 구간은 생략됩니다."
+	)
+	@GetMapping("/{workspacePublicId}/stats/history")
+	public ResponseEntity<ApiResponse<WorkspaceStatsHistoryResponse>> getWorkspaceStatsHistory(
+			@AuthenticationPrincipal CustomUserDetails userDetails,
+			@PathVariable UUID workspacePublicId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(required = false) StatsResolution resolution
+	) {
+		WorkspaceStatsHistoryResponse response = workspaceService.getStatsHistory(
+				userDetails.getPublicId(), workspacePublicId, from, to, resolution
+		);
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
 }
@@ -0,0 +1,11 @@
+package xyz.letzcollab.backend.dto.notification;
+
+import java.util.List;
+
+/**
+ * 마감 알림 청크 처리 결과
+ * @param inserted 이번 청크에서 새로 생성된 알림
+ * @param lastTaskId 이번 청크에서 확인한 마지막 업무 ID (다음 청크의 커서, 남은 대상 업무가 없으면 null)
+ */
+public record DeadlineNotificationChunk(List<InsertedNotificationRow> inserted, Long lastTaskId) {
+}
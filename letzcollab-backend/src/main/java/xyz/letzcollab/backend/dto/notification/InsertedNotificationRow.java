@@ -0,0 +1,15 @@
+package xyz.letzcollab.backend.dto.notification;
+
+import java.util.UUID;
+
+/**
+ * 일괄 insert(INSERT ... RETURNING)로 새로 생성된 알림 한 건 - 카운터 갱신/실시간 전달용
+ */
+public record InsertedNotificationRow(
+		Long notificationId,
+		UUID recipientPublicId,
+		UUID referenceId,
+		UUID parentReferenceId,
+		String message
+) {
+}
@@ -0,0 +1,9 @@
+package xyz.letzcollab.backend.dto.notification;
+
+import java.util.UUID;
+
+/**
+ * 읽지 않은 알림 카운터 보정용 조회 결과 (사용자별 읽지 않은 알림 수)
+ */
+public record UnreadCountRow(UUID recipientPublicId, Long unreadCount) {
+}
@@ -1,16 +1,16 @@
 package xyz.letzcollab.backend.dto.project;
 
-import xyz.letzcollab.backend.entity.ProjectMember;
 import xyz.letzcollab.backend.entity.vo.ProjectRole;
+import xyz.letzcollab.backend.global.cache.dto.ProjectMembership;
 
 public record MyProjectMemberResponse(
 		ProjectRole role,
 		String position
 ) {
-	public static MyProjectMemberResponse from(ProjectMember member) {
+	public static MyProjectMemberResponse from(ProjectMembership member) {
 		return new MyProjectMemberResponse(
-				member.getRole(),
-				member.getPosition()
+				member.role(),
+				member.position()
 		);
 	}
 }
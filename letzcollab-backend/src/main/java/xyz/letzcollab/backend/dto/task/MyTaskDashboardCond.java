@@ -0,0 +1,17 @@
+package xyz.letzcollab.backend.dto.task;
+
+import xyz.letzcollab.backend.entity.vo.TaskPriority;
+import xyz.letzcollab.backend.entity.vo.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 워크스페이스 통합 "내 업무" 대시보드 필터 (MyTaskSearchCond와 달리 워크스페이스 지정 없음)
+ */
+public record MyTaskDashboardCond(
+		TaskStatus status,
+		TaskPriority priority,
+		LocalDate dueDateFrom,
+		LocalDate dueDateTo
+) {
+}
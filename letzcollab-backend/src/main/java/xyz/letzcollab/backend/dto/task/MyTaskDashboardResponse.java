@@ -0,0 +1,29 @@
+package xyz.letzcollab.backend.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "워크스페이스 통합 내 업무 대시보드 응답 DTO")
+public record MyTaskDashboardResponse(
+	@Schema(description = "워크스페이스별 업무 그룹")
+	List<WorkspaceGroup> workspaces
+) {
+
+	@Schema(description = "워크스페이스별 업무 그룹")
+	public record WorkspaceGroup(
+		@Schema(description = "워크스페이스 ID") UUID workspacePublicId,
+		@Schema(description = "워크스페이스 이름") String workspaceName,
+		@Schema(description = "워크스페이스 내 내 업무 수") long taskCount,
+		@Schema(description = "프로젝트별 내 업무 수") List<ProjectGroup> projects,
+		@Schema(description = "우선순위 기준 상위 업무 (최대 limit개)") List<MyTaskResponse> tasks
+	) {}
+
+	@Schema(description = "프로젝트별 업무 수")
+	public record ProjectGroup(
+		@Schema(description = "프로젝트 ID") UUID projectPublicId,
+		@Schema(description = "프로젝트 이름") String projectName,
+		@Schema(description = "프로젝트 내 내 업무 수") long taskCount
+	) {}
+}
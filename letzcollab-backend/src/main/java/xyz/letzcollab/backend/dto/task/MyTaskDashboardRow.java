@@ -0,0 +1,28 @@
+package xyz.letzcollab.backend.dto.task;
+
+import xyz.letzcollab.backend.entity.vo.TaskPriority;
+import xyz.letzcollab.backend.entity.vo.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 대시보드 조회 결과 한 행 (업무 + 소속 워크스페이스/프로젝트 + 그룹별 개수)
+ * - workspaceRank: 워크스페이스 내 기본 정렬 순위 (1부터)
+ * - workspaceRank가 limit을 넘는 행은 업무 개수만 전달하기 위한 프로젝트 대표 행
+ */
+public record MyTaskDashboardRow(
+		UUID workspacePublicId,
+		String workspaceName,
+		long workspaceTaskCount,
+		UUID projectPublicId,
+		String projectName,
+		long projectTaskCount,
+		UUID taskPublicId,
+		String taskName,
+		TaskStatus status,
+		TaskPriority priority,
+		LocalDate dueDate,
+		long workspaceRank
+) {
+}
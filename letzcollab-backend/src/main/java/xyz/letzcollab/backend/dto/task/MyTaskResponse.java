@@ -27,4 +27,16 @@ public record MyTaskResponse(
 				task.getProject().getPublicId()
 		);
 	}
+
+	public static MyTaskResponse from(MyTaskDashboardRow row) {
+		return new MyTaskResponse(
+				row.taskPublicId(),
+				row.taskName(),
+				row.status(),
+				row.priority(),
+				row.dueDate(),
+				row.projectName(),
+				row.projectPublicId()
+		);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package xyz.letzcollab.backend.dto.task;
+
+import org.springframework.util.StringUtils;
+import xyz.letzcollab.backend.entity.Task;
+import xyz.letzcollab.backend.global.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import static xyz.letzcollab.backend.global.exception.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 업무 목록 커서 = 직전 페이지 마지막 업무의 정렬 키
+ * (우선순위 순위, 마감일, 생성일, 업무 Public ID) 순서로 기본 정렬 기준과 1:1 대응
+ * - 클라이언트에게는 Base64 URL-safe 문자열로만 노출 (불투명 커서)
+ * - 내부 PK 노출을 피하기 위해 tie-breaker로 publicId 사용
+ */
+public record TaskCursor(
+		int priorityRank,
+		LocalDate dueDate,
+		LocalDateTime createdAt,
+		UUID taskPublicId
+) {
+	private static final String DELIMITER = "|";
+
+	public static TaskCursor from(Task task) {
+		return new TaskCursor(
+				task.getPriorityRank(),
+				task.getDueDate(),
+				task.getCreatedAt(),
+				task.getPublicId()
+		);
+	}
+
+	public String encode() {
+		String raw = priorityRank + DELIMITER
+				+ (dueDate == null ? "" : dueDate.toString()) + DELIMITER
+				+ createdAt + DELIMITER
+				+ taskPublicId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 첫 페이지 요청이면 null 반환
+	public static TaskCursor decode(String cursor) {
+		if (!StringUtils.hasText(cursor)) return null;
+
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+
+			if (parts.length != 4) {
+				throw new CustomException(INVALID_CURSOR);
+			}
+
+			return new TaskCursor(
+					Integer.parseInt(parts[0]),
+					parts[1].isEmpty() ? null : LocalDate.parse(parts[1]),
+					LocalDateTime.parse(parts[2]),
+					UUID.fromString(parts[3])
+			);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new CustomException(INVALID_CURSOR, e);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package xyz.letzcollab.backend.dto.user;
+
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 로그인 세션 1개 (로그인 1번에서 이어지는 갱신 토큰 재발급 체인)
+ */
+public record SessionResponse(
+		String sessionId,
+		LocalDateTime createdAt,
+		LocalDateTime lastRefreshedAt,
+		LocalDateTime expiresAt
+) {
+	public static SessionResponse from(RefreshTokenRepository.Session session) {
+		return new SessionResponse(
+				session.sessionId(),
+				toLocalDateTime(session.createdAt()),
+				toLocalDateTime(session.refreshedAt()),
+				toLocalDateTime(session.expiresAt())
+		);
+	}
+
+	private static LocalDateTime toLocalDateTime(long epochSecond) {
+		return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+	}
+}
@@ -0,0 +1,97 @@
+package xyz.letzcollab.backend.dto.workspace;
+
+import xyz.letzcollab.backend.entity.vo.ProjectStatus;
+import xyz.letzcollab.backend.entity.vo.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 워크스페이스 통계 스냅샷 증분 (workspace_stats_snapshots 컬럼과 1:1)
+ * - 변경 전/후 상태의 기여분을 각각 구해 after.minus(before)로 계산
+ */
+public record WorkspaceStatsDelta(
+		long totalMembers,
+		long totalProjects,
+		long plannedProjects,
+		long activeProjects,
+		long onHoldProjects,
+		long completedProjects,
+		long archivedProjects,
+		long totalTasks,
+		long todoTasks,
+		long inProgressTasks,
+		long inReviewTasks,
+		long doneTasks,
+		long cancelledTasks,
+		long overdueTasks
+) {
+	public static final WorkspaceStatsDelta ZERO = new WorkspaceStatsDelta(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+	// 워크스페이스 멤버 1명
+	public static WorkspaceStatsDelta ofMember() {
+		return new WorkspaceStatsDelta(1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+	}
+
+	// 해당 상태인 프로젝트 1개
+	public static WorkspaceStatsDelta ofProject(ProjectStatus status) {
+		return new WorkspaceStatsDelta(
+				0, 1,
+				status == ProjectStatus.PLANNED ? 1 : 0,
+				status == ProjectStatus.ACTIVE ? 1 : 0,
+				status == ProjectStatus.ON_HOLD ? 1 : 0,
+				status == ProjectStatus.COMPLETED ? 1 : 0,
+				status == ProjectStatus.ARCHIVED ? 1 : 0,
+				0, 0, 0, 0, 0, 0, 0
+		);
+	}
+
+	// 해당 상태/마감일인 업무 1개 (마감 초과 기준은 스냅샷 쿼리와 동일: 마감일 < 오늘 && 완료/취소 아님)
+	public static WorkspaceStatsDelta ofTask(TaskStatus status, LocalDate dueDate, LocalDate today) {
+		boolean overdue = dueDate != null && dueDate.isBefore(today)
+				&& status != TaskStatus.DONE && status != TaskStatus.CANCELLED;
+		return new WorkspaceStatsDelta(
+				0, 0, 0, 0, 0, 0, 0, 1,
+				status == TaskStatus.TODO ? 1 : 0,
+				status == TaskStatus.IN_PROGRESS ? 1 : 0,
+				status == TaskStatus.IN_REVIEW ? 1 : 0,
+				status == TaskStatus.DONE ? 1 : 0,
+				status == TaskStatus.CANCELLED ? 1 : 0,
+				overdue ? 1 : 0
+		);
+	}
+
+	public WorkspaceStatsDelta plus(WorkspaceStatsDelta other) {
+		return new WorkspaceStatsDelta(
+				totalMembers + other.totalMembers,
+				totalProjects + other.totalProjects,
+				plannedProjects + other.plannedProjects,
+				activeProjects + other.activeProjects,
+				onHoldProjects + other.onHoldProjects,
+				completedProjects + other.completedProjects,
+				archivedProjects + other.archivedProjects,
+				totalTasks + other.totalTasks,
+				todoTasks + other.todoTasks,
+				inProgressTasks + other.inProgressTasks,
+				inReviewTasks + other.inReviewTasks,
+				doneTasks + other.doneTasks,
+				cancelledTasks + other.cancelledTasks,
+				overdueTasks + other.overdueTasks
+		);
+	}
+
+	public WorkspaceStatsDelta minus(WorkspaceStatsDelta other) {
+		return plus(other.negate());
+	}
+
+	public WorkspaceStatsDelta negate() {
+		return new WorkspaceStatsDelta(
+				-totalMembers, -totalProjects, -plannedProjects, -activeProjects, -onHoldProjects,
+				-completedProjects, -archivedProjects, -totalTasks, -todoTasks, -inProgressTasks,
+				-inReviewTasks, -doneTasks, -cancelledTasks, -overdueTasks
+		);
+	}
+
+	public boolean isZero() {
+		return this.equals(ZERO);
+	}
+}
@@ -0,0 +1,57 @@
+package xyz.letzcollab.backend.dto.workspace;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import xyz.letzcollab.backend.entity.WorkspaceStatsHistory;
+import xyz.letzcollab.backend.entity.vo.StatsResolution;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "워크스페이스 통계 이력 응답 DTO")
+public record WorkspaceStatsHistoryResponse(
+	@Schema(description = "구간 길이 (FIVE_MINUTES, HOURLY, DAILY)", example = "HOURLY")
+	StatsResolution resolution,
+
+	@Schema(description = "구간 시작 시각 오름차순 이력. 값이 바뀌지 않은 구간은 생략되므로 직전 값을 이어서 사용")
+	List<Point> points
+) {
+
+	@Schema(description = "구간 안에서 마지막으로 관측된 통계 값")
+	public record Point(
+		@Schema(description = "구간 시작 시각") LocalDateTime bucketStart,
+		@Schema(description = "전체 멤버 수") int totalMembers,
+		@Schema(description = "전체 프로젝트 수") int totalProjects,
+		@Schema(description = "기획된 프로젝트 수") int plannedProjects,
+		@Schema(description = "진행 중인 프로젝트 수") int activeProjects,
+		@Schema(description = "일시 중단된 프로젝트 수") int onHoldProjects,
+		@Schema(description = "완료된 프로젝트 수") int completedProjects,
+		@Schema(description = "보관된 프로젝트 수") int archivedProjects,
+		@Schema(description = "전체 업무 수") int totalTasks,
+		@Schema(description = "시작 전 업무 수") int todoTasks,
+		@Schema(description = "진행 중 업무 수") int inProgressTasks,
+		@Schema(description = "검토 중 업무 수") int inReviewTasks,
+		@Schema(description = "완료된 업무 수") int doneTasks,
+		@Schema(description = "취소된 업무 수") int cancelledTasks,
+		@Schema(description = "마감 초과 업무 수") int overdueTasks
+	) {
+		public static Point of(LocalDateTime bucketStart, WorkspaceStatsHistory history) {
+			return new Point(
+					bucketStart,
+					history.getTotalMembers(),
+					history.getTotalProjects(),
+					history.getPlannedProjects(),
+					history.getActiveProjects(),
+					history.getOnHoldProjects(),
+					history.getCompletedProjects(),
+					history.getArchivedProjects(),
+					history.getTotalTasks(),
+					history.getTodoTasks(),
+					history.getInProgressTasks(),
+					history.getInReviewTasks(),
+					history.getDoneTasks(),
+					history.getCancelledTasks(),
+					history.getOverdueTasks()
+			);
+		}
+	}
+}
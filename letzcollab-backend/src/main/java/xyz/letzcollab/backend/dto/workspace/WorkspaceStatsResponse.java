@@ -17,7 +17,10 @@ public record WorkspaceStatsResponse(
 	long totalMembers,
 
 	@Schema(description = "갱신 시간")
-	LocalDateTime updatedAt
+	LocalDateTime updatedAt,
+
+	@Schema(description = "집계 중 여부 (true면 통계 값이 비어 있으므로 잠시 후 다시 조회)")
+	boolean computing
 ) {
 
 	@Schema(description = "프로젝트 통계")
@@ -67,7 +70,19 @@ public record WorkspaceStatsResponse(
 					completionRate
 			),
 			snapshot.getTotalMembers(),
-			snapshot.getUpdatedAt()
+			snapshot.getUpdatedAt(),
+			false
+		);
+	}
+
+	// 스냅샷이 아직 없고 집계가 대기 시간 안에 끝나지 않았을 때의 빈 응답
+	public static WorkspaceStatsResponse computing() {
+		return new WorkspaceStatsResponse(
+			new ProjectStats(0, 0, 0, 0, 0, 0),
+			new TaskStats(0, 0, 0, 0, 0, 0, 0, 0),
+			0,
+			null,
+			true
 		);
 	}
 
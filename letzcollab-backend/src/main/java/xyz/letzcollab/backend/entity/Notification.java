@@ -9,6 +9,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import xyz.letzcollab.backend.entity.vo.NotificationType;
 import xyz.letzcollab.backend.entity.vo.ReferenceType;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -25,7 +26,8 @@ import java.util.UUID;
 public class Notification {
 
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+	@SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = IdAllocation.BULK)
 	@Column(name = "notification_id")
 	private Long id;
 
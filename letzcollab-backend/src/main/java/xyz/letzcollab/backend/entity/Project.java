@@ -9,6 +9,7 @@ import org.hibernate.annotations.SQLRestriction;
 import xyz.letzcollab.backend.entity.vo.ProjectRole;
 import xyz.letzcollab.backend.entity.vo.ProjectStatus;
 import xyz.letzcollab.backend.global.entity.PublicIdAndFullAuditBaseEntity;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -30,7 +31,8 @@ import java.util.List;
 )
 public class Project extends PublicIdAndFullAuditBaseEntity {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+	@SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = IdAllocation.DEFAULT)
 	@Column(name = "project_id")
 	private Long id;
 
@@ -5,6 +5,7 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import xyz.letzcollab.backend.entity.vo.ProjectRole;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 import java.time.LocalDateTime;
 
@@ -24,7 +25,8 @@ import java.time.LocalDateTime;
 )
 public class ProjectMember {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_members_seq")
+	@SequenceGenerator(name = "project_members_seq", sequenceName = "project_members_seq", allocationSize = IdAllocation.DEFAULT)
 	@Column(name = "project_member_id")
 	private Long id;
 
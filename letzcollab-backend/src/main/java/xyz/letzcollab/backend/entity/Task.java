@@ -9,6 +9,7 @@ import org.hibernate.annotations.SQLRestriction;
 import xyz.letzcollab.backend.entity.vo.TaskPriority;
 import xyz.letzcollab.backend.entity.vo.TaskStatus;
 import xyz.letzcollab.backend.global.entity.PublicIdAndFullAuditBaseEntity;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,13 +38,19 @@ import java.util.List;
 		@Index(
 			name = "idx_tasks_parent",
 			columnList = "parent_task_id"
+		),
+		// 업무 목록 기본 정렬(우선순위 DESC, 마감일 ASC, 생성일 DESC)과 동일한 순서 → 정렬 없이 인덱스 순서대로 top-N 조회
+		@Index(
+			name = "idx_tasks_project_priority_due_created",
+			columnList = "project_id, priority_rank DESC, due_date, created_at DESC"
 		)
     }
 )
 public class Task extends PublicIdAndFullAuditBaseEntity {
 
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+	@SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = IdAllocation.DEFAULT)
 	@Column(name = "task_id")
 	private Long id;
 
@@ -69,6 +76,10 @@ public class Task extends PublicIdAndFullAuditBaseEntity {
 	@Column(length = 20, nullable = false)
 	private TaskPriority priority;
 
+	// 정렬 전용 - priority 문자열 enum을 CASE로 변환하면 인덱스를 못 타서 숫자로 따로 저장 (priority와 항상 함께 변경)
+	@Column(name = "priority_rank", nullable = false)
+	private int priorityRank;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "parent_task_id")
 	private Task parentTask;
@@ -95,6 +106,7 @@ public class Task extends PublicIdAndFullAuditBaseEntity {
 		this.status = status;
 		this.assignee = assignee;
 		this.priority = priority;
+		this.priorityRank = priority.getLevel();
 		this.parentTask = parentTask;
 		this.reporter = reporter;
 		this.dueDate = dueDate;
@@ -122,7 +134,10 @@ public class Task extends PublicIdAndFullAuditBaseEntity {
 		if (description != null) this.description = description;
 		if (status != null) this.status = status;
 		if (assignee != null) this.assignee = assignee;
-		if (priority != null) this.priority = priority;
+		if (priority != null) {
+			this.priority = priority;
+			this.priorityRank = priority.getLevel();
+		}
 		if (dueDate != null) this.dueDate = dueDate;
 	}
 
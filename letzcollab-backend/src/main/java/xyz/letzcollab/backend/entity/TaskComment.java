@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import xyz.letzcollab.backend.global.entity.DateBaseEntity;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,7 +29,8 @@ import java.util.List;
 public class TaskComment extends DateBaseEntity {
 
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_comments_seq")
+	@SequenceGenerator(name = "task_comments_seq", sequenceName = "task_comments_seq", allocationSize = IdAllocation.DEFAULT)
 	@Column(name = "comment_id")
 	private Long id;
 
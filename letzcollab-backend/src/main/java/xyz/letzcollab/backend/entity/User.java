@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import xyz.letzcollab.backend.entity.vo.UserRole;
 import xyz.letzcollab.backend.entity.vo.UserStatus;
 import xyz.letzcollab.backend.global.entity.PublicIdAndDateBaseEntity;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 @Getter
 @Entity
@@ -15,7 +16,8 @@ import xyz.letzcollab.backend.global.entity.PublicIdAndDateBaseEntity;
 @Table(name = "users")
 public class User extends PublicIdAndDateBaseEntity {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+	@SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = IdAllocation.DEFAULT)
 	@Column(name = "user_id")
 	private Long id;
 
@@ -100,6 +102,11 @@ public class User extends PublicIdAndDateBaseEntity {
 		this.password = newPassword;
 	}
 
+	// 같은 비밀번호를 더 높은 cost로 다시 해시한 값으로 교체
+	public void upgradePasswordHash(String encodedPassword) {
+		this.password = encodedPassword;
+	}
+
 	public void ban() {
 		this.status = UserStatus.BANNED;
 	}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import xyz.letzcollab.backend.entity.vo.TokenType;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -26,7 +27,8 @@ import java.util.UUID;
 @EntityListeners(AuditingEntityListener.class)
 public class VerificationToken {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "verification_tokens_seq")
+	@SequenceGenerator(name = "verification_tokens_seq", sequenceName = "verification_tokens_seq", allocationSize = IdAllocation.DEFAULT)
 	private Long id;
 
 	@Column(unique = true, columnDefinition = "uuid", updatable = false, nullable = false)
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.SQLRestriction;
 import xyz.letzcollab.backend.entity.vo.WorkspaceRole;
 import xyz.letzcollab.backend.global.entity.PublicIdAndFullAuditBaseEntity;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,7 +28,8 @@ import java.util.List;
 )
 public class Workspace extends PublicIdAndFullAuditBaseEntity {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspaces_seq")
+	@SequenceGenerator(name = "workspaces_seq", sequenceName = "workspaces_seq", allocationSize = IdAllocation.DEFAULT)
 	@Column(name = "workspace_id")
 	private Long id;
 
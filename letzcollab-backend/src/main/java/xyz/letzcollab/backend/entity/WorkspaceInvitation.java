@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -25,7 +26,8 @@ import java.util.UUID;
 @EntityListeners(AuditingEntityListener.class)
 public class WorkspaceInvitation {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspace_invitations_seq")
+	@SequenceGenerator(name = "workspace_invitations_seq", sequenceName = "workspace_invitations_seq", allocationSize = IdAllocation.DEFAULT)
 	private Long id;
 
 	@Column(unique = true, columnDefinition = "uuid", updatable = false, nullable = false)
@@ -5,6 +5,7 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import xyz.letzcollab.backend.entity.vo.WorkspaceRole;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
 
 import java.time.LocalDateTime;
 
@@ -32,7 +33,8 @@ import java.time.LocalDateTime;
 )
 public class WorkspaceMember {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspace_members_seq")
+	@SequenceGenerator(name = "workspace_members_seq", sequenceName = "workspace_members_seq", allocationSize = IdAllocation.DEFAULT)
 	@Column(name = "workspace_member_id")
 	private Long id;
 
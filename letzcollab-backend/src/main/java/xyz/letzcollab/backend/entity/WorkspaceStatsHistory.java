@@ -0,0 +1,90 @@
+package xyz.letzcollab.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import xyz.letzcollab.backend.entity.vo.StatsResolution;
+import xyz.letzcollab.backend.global.persistence.IdAllocation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 워크스페이스 통계 이력 (추가 전용)
+ * - 스냅샷이 바뀐 워크스페이스만 구간마다 1행 → 값이 없는 구간은 직전 값이 유지된 것
+ * - 5분 행은 1일, 1시간 행은 30일 보관, 1일 행은 영구 보관 (WorkspaceStatsHistoryScheduler가 다운샘플링/정리)
+ * - 한 워크스페이스의 카운터는 int 범위를 넘지 않으므로 스냅샷(bigint)보다 작은 int 컬럼 사용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "workspace_stats_history", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_workspace_stats_history_bucket",
+				columnNames = {"workspace_id", "resolution", "bucket_start"})
+})
+public class WorkspaceStatsHistory {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspace_stats_history_seq")
+	@SequenceGenerator(name = "workspace_stats_history_seq", sequenceName = "workspace_stats_history_seq",
+			allocationSize = IdAllocation.BULK)
+	@Column(name = "history_id")
+	private Long id;
+
+	// 스냅샷과 마찬가지로 조회 성능 상 연관관계는 안 맺음
+	@Column(name = "workspace_id", nullable = false)
+	private Long workspaceId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private StatsResolution resolution;
+
+	@Column(name = "bucket_start", nullable = false)
+	private LocalDateTime bucketStart;
+
+	@Column(nullable = false, name = "total_members")
+	private int totalMembers;
+
+	// 프로젝트 통계
+	@Column(nullable = false, name = "total_projects")
+	private int totalProjects;
+
+	@Column(nullable = false, name = "planned_projects")
+	private int plannedProjects;
+
+	@Column(nullable = false, name = "active_projects")
+	private int activeProjects;
+
+	@Column(nullable = false, name = "on_hold_projects")
+	private int onHoldProjects;
+
+	@Column(nullable = false, name = "completed_projects")
+	private int completedProjects;
+
+	@Column(nullable = false, name = "archived_projects")
+	private int archivedProjects;
+
+	// 업무 통계
+	@Column(nullable = false, name = "total_tasks")
+	private int totalTasks;
+
+	@Column(nullable = false, name = "todo_tasks")
+	private int todoTasks;
+
+	@Column(nullable = false, name = "in_progress_tasks")
+	private int inProgressTasks;
+
+	@Column(nullable = false, name = "in_review_tasks")
+	private int inReviewTasks;
+
+	@Column(nullable = false, name = "done_tasks")
+	private int doneTasks;
+
+	@Column(nullable = false, name = "cancelled_tasks")
+	private int cancelledTasks;
+
+	@Column(nullable = false, name = "overdue_tasks")
+	private int overdueTasks;
+}
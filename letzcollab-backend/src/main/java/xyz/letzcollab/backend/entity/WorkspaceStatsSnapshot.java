@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import xyz.letzcollab.backend.global.entity.DateBaseEntity;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
@@ -66,4 +67,12 @@ public class WorkspaceStatsSnapshot extends DateBaseEntity {
 
 	@Column(nullable = false, name = "overdue_tasks")
 	private long overdueTasks;
+
+	// overdue_tasks가 기준으로 삼은 날짜 (due_date < overdueAsOf인 미완료 업무 수) - 날짜 변경 반영의 중복 방지용
+	@Column(name = "overdue_as_of")
+	private LocalDate overdueAsOf;
+
+	// 마지막 이력 기록 이후 값이 바뀌었는지 - 스냅샷을 바꾸는 쿼리가 true로, 이력 기록이 false로 바꿈
+	@Column(name = "history_pending", nullable = false)
+	private boolean historyPending;
 }
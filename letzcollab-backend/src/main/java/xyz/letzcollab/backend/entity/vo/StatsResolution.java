@@ -0,0 +1,42 @@
+package xyz.letzcollab.backend.entity.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 워크스페이스 통계 이력 해상도
+ * - bucket: 한 행이 대표하는 구간 길이 (행에는 구간 안에서 마지막으로 관측된 값이 들어감)
+ * - retention: 보관 기간 (null이면 영구 보관)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StatsResolution {
+	FIVE_MINUTES("5분", Duration.ofMinutes(5), Duration.ofDays(1)),
+	HOURLY("1시간", Duration.ofHours(1), Duration.ofDays(30)),
+	DAILY("1일", Duration.ofDays(1), null);
+
+	private final String description;
+	private final Duration bucket;
+	private final Duration retention;
+
+	// time이 속한 구간의 시작 시각
+	public LocalDateTime truncate(LocalDateTime time) {
+		return switch (this) {
+			case FIVE_MINUTES -> {
+				LocalDateTime minutes = time.truncatedTo(ChronoUnit.MINUTES);
+				yield minutes.withMinute(minutes.getMinute() / 5 * 5);
+			}
+			case HOURLY -> time.truncatedTo(ChronoUnit.HOURS);
+			case DAILY -> time.truncatedTo(ChronoUnit.DAYS);
+		};
+	}
+
+	// now 기준으로 이 해상도의 행이 아직 남아있는 가장 이른 시각
+	public LocalDateTime retainedSince(LocalDateTime now) {
+		return retention == null ? LocalDateTime.MIN : truncate(now.minus(retention));
+	}
+}
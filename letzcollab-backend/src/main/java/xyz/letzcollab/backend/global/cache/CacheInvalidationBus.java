@@ -0,0 +1,75 @@
+package xyz.letzcollab.backend.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 로컬(L1) 캐시 무효화 메시지를 Redis pub/sub으로 전 인스턴스에 전파
+ * - 메시지 형식: "{캐시 이름}|{payload}" → 각 인스턴스에서 캐시 이름으로 등록된 핸들러가 payload를 해석해 로컬 항목 제거
+ * - 트랜잭션 안에서 호출되면 커밋 후에 발행 (롤백된 변경으로 다른 인스턴스 캐시를 비우지 않도록)
+ * - 발행한 인스턴스도 자기 메시지를 다시 받지만 제거는 멱등이라 문제 없음
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+	public static final String CHANNEL = "cache:invalidate";
+	private static final String DELIMITER = "|";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final boolean pubSubEnabled;
+	private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+	public CacheInvalidationBus(
+			RedisTemplate<String, String> redisTemplate,
+			@Value("${redis.pubsub.enabled:true}") boolean pubSubEnabled
+	) {
+		this.redisTemplate = redisTemplate;
+		this.pubSubEnabled = pubSubEnabled;
+	}
+
+	public void register(String cacheName, Consumer<String> handler) {
+		handlers.put(cacheName, handler);
+	}
+
+	public void publish(String cacheName, String payload) {
+		if (!pubSubEnabled) return;
+
+		String message = cacheName + DELIMITER + payload;
+		TransactionCallbacks.afterCommit(() -> send(message));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int idx = body.indexOf(DELIMITER);
+		if (idx < 0) {
+			log.warn("잘못된 캐시 무효화 메시지 무시 - message={}", body);
+			return;
+		}
+
+		Consumer<String> handler = handlers.get(body.substring(0, idx));
+		if (handler != null) {
+			handler.accept(body.substring(idx + 1));
+		}
+	}
+
+	// 발행 실패 시 다른 인스턴스는 TTL 만료까지 이전 값을 볼 수 있음 → 요청 자체는 실패시키지 않음
+	private void send(String message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, message);
+		} catch (DataAccessException e) {
+			log.warn("캐시 무효화 메시지 발행 실패 - message={}, error={}", message, e.getMessage());
+		}
+	}
+}
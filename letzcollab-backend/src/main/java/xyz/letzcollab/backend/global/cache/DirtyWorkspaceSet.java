@@ -0,0 +1,55 @@
+package xyz.letzcollab.backend.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 통계 재집계가 필요한 워크스페이스 집합 (Redis Set) - key: STATS:DIRTY
+ * - 통계 증분이 스냅샷에 반영된 워크스페이스를 표시 → WorkspaceStatsScheduler가 이 워크스페이스만 다시 집계해 증분 오차를 바로잡음
+ * - SPOP으로 꺼내므로 여러 인스턴스가 꺼내도 같은 워크스페이스를 중복 처리하지 않음
+ * - Redis 장애 시 표시/꺼내기를 건너뜀 (증분 반영과 전체 보정은 그대로 동작)
+ */
+@Slf4j
+@Component
+public class DirtyWorkspaceSet {
+
+	private static final String KEY = "STATS:DIRTY";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final boolean enabled;
+
+	public DirtyWorkspaceSet(
+			RedisTemplate<String, String> redisTemplate,
+			@Value("${workspace-stats.dirty-tracking.enabled:true}") boolean enabled
+	) {
+		this.redisTemplate = redisTemplate;
+		this.enabled = enabled;
+	}
+
+	public void markAll(Collection<Long> workspaceIds) {
+		if (!enabled || workspaceIds.isEmpty()) return;
+		try {
+			redisTemplate.opsForSet().add(KEY, workspaceIds.stream().map(String::valueOf).toArray(String[]::new));
+		} catch (DataAccessException e) {
+			log.warn("통계 재집계 대상 표시 실패 - count={}, error={}", workspaceIds.size(), e.getMessage());
+		}
+	}
+
+	// 최대 count개를 꺼내면서 집합에서 제거
+	public List<Long> pop(int count) {
+		if (!enabled) return List.of();
+		try {
+			List<String> popped = redisTemplate.opsForSet().pop(KEY, count);
+			return popped == null ? List.of() : popped.stream().map(Long::valueOf).toList();
+		} catch (DataAccessException e) {
+			log.warn("통계 재집계 대상 조회 실패 - error={}", e.getMessage());
+			return List.of();
+		}
+	}
+}
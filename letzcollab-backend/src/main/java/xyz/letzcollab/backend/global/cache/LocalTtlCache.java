@@ -0,0 +1,74 @@
+package xyz.letzcollab.backend.global.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한 + TTL이 있는 단순 로컬 캐시 (LRU)
+ * - 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 만료된 항목은 조회 시점에 제거 (별도 정리 스레드 없음)
+ * - 캐시 라이브러리 의존성 없이 쓰기 위한 용도라 단일 락으로 동기화 (항목 수가 크지 않은 캐시 전용)
+ */
+public class LocalTtlCache<K, V> {
+
+	private final long ttlNanos;
+	private final Map<K, Entry<V>> entries;
+
+	public LocalTtlCache(int maxSize, Duration ttl) {
+		this.ttlNanos = ttl.toNanos();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @return 캐시된 값, 없거나 만료되었으면 null
+	 */
+	public synchronized V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isExpired(System.nanoTime())) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.value();
+	}
+
+	public synchronized void put(K key, V value) {
+		entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+	}
+
+	// 항목마다 유효 기간이 다를 때 (기본 TTL보다 길게는 두지 않음)
+	public synchronized void put(K key, V value, Duration ttl) {
+		entries.put(key, new Entry<>(value, System.nanoTime() + Math.min(ttl.toNanos(), ttlNanos)));
+	}
+
+	public synchronized void invalidate(K key) {
+		entries.remove(key);
+	}
+
+	public synchronized void invalidateIf(Predicate<K> keyPredicate) {
+		entries.keySet().removeIf(keyPredicate);
+	}
+
+	public synchronized void invalidateAll() {
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private record Entry<V>(V value, long expiresAtNanos) {
+		boolean isExpired(long now) {
+			return now - expiresAtNanos >= 0;
+		}
+	}
+}
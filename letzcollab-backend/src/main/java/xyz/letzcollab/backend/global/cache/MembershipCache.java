@@ -0,0 +1,306 @@
+package xyz.letzcollab.backend.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import xyz.letzcollab.backend.global.cache.dto.ProjectMembership;
+import xyz.letzcollab.backend.global.cache.dto.WorkspaceMembership;
+import xyz.letzcollab.backend.repository.ProjectMemberRepository;
+import xyz.letzcollab.backend.repository.WorkspaceMemberRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 워크스페이스/프로젝트 멤버십 2단 캐시 (L1: 인스턴스 로컬, L2: Redis)
+ * - 권한 검증마다 반복되는 멤버 조회(findMemberWithUser)를 줄이기 위한 용도
+ * - 엔티티 대신 스냅샷(ProjectMembership, WorkspaceMembership)을 저장
+ * - L2 키: MBR:{P|W}:{scopeId}:{userPublicId} (멤버별 String, 멤버별 TTL)
+ * - L2 버전: MBRV:{P|W}:{scopeId} (범위 전체), MBRV:{P|W}:{scopeId}:{userPublicId} (멤버 한 명)
+ *   → 무효화는 버전 INCR. DB 조회 전에 읽은 버전이 그대로일 때만 L2에 기록 (조회 중 무효화된 이전 값 재기록 방지)
+ *   → 항목에는 기록 당시 범위 버전을 찍어두고, 읽을 때 범위 버전과 다르면 버림 (범위 전체 무효화)
+ * - 멤버 변경 시 L2 무효화 + CacheInvalidationBus로 모든 인스턴스의 L1 제거
+ * - Redis 장애 시 잠시 L2를 건너뛰고 DB로 조회 (요청은 실패시키지 않음)
+ * - 조회 전용 권한 검증에만 사용. 쓰기 권한 검증은 각 서비스가 리포지토리로 직접 조회 (L1도 L2에서 채워질 수 있으므로)
+ */
+@Slf4j
+@Component
+public class MembershipCache {
+
+	private static final String CACHE_NAME = "membership";
+	private static final String KEY_PREFIX = "MBR:";
+	private static final String VERSION_PREFIX = "MBRV:";
+	private static final Duration L2_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+	// KEYS[1]: 항목, KEYS[2]: 범위 버전, KEYS[3]: 멤버 버전 → {범위 버전, 멤버 버전, JSON(없으면 '')}
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> READ = new DefaultRedisScript<>("""
+			local scopeVersion = redis.call('GET', KEYS[2]) or '0'
+			local memberVersion = redis.call('GET', KEYS[3]) or '0'
+			local value = redis.call('GET', KEYS[1])
+			if not value then return {scopeVersion, memberVersion, ''} end
+			local sep = string.find(value, '|', 1, true)
+			if string.sub(value, 1, sep - 1) ~= scopeVersion then
+				redis.call('DEL', KEYS[1])
+				return {scopeVersion, memberVersion, ''}
+			end
+			return {scopeVersion, memberVersion, string.sub(value, sep + 1)}
+			""", List.class);
+
+	// KEYS: READ와 동일 / ARGV[1]: 조회 전 범위 버전, ARGV[2]: 조회 전 멤버 버전, ARGV[3]: JSON, ARGV[4]: TTL(ms)
+	private static final RedisScript<Long> WRITE = new DefaultRedisScript<>("""
+			if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end
+			if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[2] then return 0 end
+			redis.call('SET', KEYS[1], ARGV[1] .. '|' .. ARGV[3], 'PX', ARGV[4])
+			return 1
+			""", Long.class);
+
+	// KEYS[1]: 버전, KEYS[2]: 항목(범위 전체 무효화면 생략) / ARGV[1]: 버전 TTL(ms)
+	private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>("""
+			local version = redis.call('INCR', KEYS[1])
+			redis.call('PEXPIRE', KEYS[1], ARGV[1])
+			if KEYS[2] then redis.call('DEL', KEYS[2]) end
+			return version
+			""", Long.class);
+
+	private final ProjectMemberRepository projectMemberRepository;
+	private final WorkspaceMemberRepository workspaceMemberRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final CacheInvalidationBus invalidationBus;
+	private final MeterRegistry meterRegistry;
+
+	private final LocalTtlCache<MembershipKey, Object> l1;
+	private final Duration l2Ttl;
+	private final boolean l2Enabled;
+	private volatile long l2SuspendedUntilMillis = 0L;
+
+	public MembershipCache(
+			ProjectMemberRepository projectMemberRepository,
+			WorkspaceMemberRepository workspaceMemberRepository,
+			RedisTemplate<String, String> redisTemplate,
+			ObjectMapper objectMapper,
+			CacheInvalidationBus invalidationBus,
+			MeterRegistry meterRegistry,
+			@Value("${cache.membership.l1-max-size:10000}") int l1MaxSize,
+			@Value("${cache.membership.l1-ttl:30s}") Duration l1Ttl,
+			@Value("${cache.membership.l2-ttl:10m}") Duration l2Ttl,
+			@Value("${cache.membership.l2-enabled:true}") boolean l2Enabled
+	) {
+		this.projectMemberRepository = projectMemberRepository;
+		this.workspaceMemberRepository = workspaceMemberRepository;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.invalidationBus = invalidationBus;
+		this.meterRegistry = meterRegistry;
+		this.l1 = new LocalTtlCache<>(l1MaxSize, l1Ttl);
+		this.l2Ttl = l2Ttl;
+		this.l2Enabled = l2Enabled;
+
+		invalidationBus.register(CACHE_NAME, this::evictLocally);
+		meterRegistry.gauge("cache.membership.l1.size", l1, LocalTtlCache::size);
+	}
+
+	public Optional<ProjectMembership> findProjectMember(UUID userPublicId, UUID projectPublicId) {
+		return get(new MembershipKey(Scope.P, projectPublicId, userPublicId), ProjectMembership.class,
+				() -> loadProjectMember(userPublicId, projectPublicId));
+	}
+
+	public Optional<WorkspaceMembership> findWorkspaceMember(UUID workspacePublicId, UUID userPublicId) {
+		return get(new MembershipKey(Scope.W, workspacePublicId, userPublicId), WorkspaceMembership.class,
+				() -> loadWorkspaceMember(workspacePublicId, userPublicId));
+	}
+
+	// 프로젝트 멤버 한 명의 역할/직책/소속 변경
+	public void evictProjectMember(UUID projectPublicId, UUID userPublicId) {
+		evict(new MembershipKey(Scope.P, projectPublicId, userPublicId));
+	}
+
+	// 워크스페이스 멤버 한 명의 역할/직책/소속 변경
+	public void evictWorkspaceMember(UUID workspacePublicId, UUID userPublicId) {
+		evict(new MembershipKey(Scope.W, workspacePublicId, userPublicId));
+	}
+
+	// 프로젝트 삭제
+	public void evictProject(UUID projectPublicId) {
+		evict(new MembershipKey(Scope.P, projectPublicId, null));
+	}
+
+	// 워크스페이스 삭제
+	public void evictWorkspace(UUID workspacePublicId) {
+		evict(new MembershipKey(Scope.W, workspacePublicId, null));
+	}
+
+	private Optional<ProjectMembership> loadProjectMember(UUID userPublicId, UUID projectPublicId) {
+		return projectMemberRepository.findMemberWithUser(userPublicId, projectPublicId).map(ProjectMembership::from);
+	}
+
+	private Optional<WorkspaceMembership> loadWorkspaceMember(UUID workspacePublicId, UUID userPublicId) {
+		return workspaceMemberRepository.findMemberWithUser(workspacePublicId, userPublicId).map(WorkspaceMembership::from);
+	}
+
+	/**
+	 * 조회 순서: L1 → L2 → DB (DB 결과는 L2, L1 순으로 채움). 멤버가 아닌 경우는 캐싱하지 않음
+	 * - DB 조회 전에 L2 버전을 읽어두고, 조회 중 무효화됐으면 L2/L1 모두 채우지 않음
+	 */
+	private <T> Optional<T> get(MembershipKey key, Class<T> type, Supplier<Optional<T>> loader) {
+		Object local = l1.get(key);
+		if (local != null) {
+			record(key.scope(), "l1");
+			return Optional.of(type.cast(local));
+		}
+
+		L2Entry remote = readL2(key);
+		T cached = remote == null ? null : deserialize(key, remote.json(), type);
+		if (cached != null) {
+			record(key.scope(), "l2");
+			l1.put(key, cached);
+			return Optional.of(cached);
+		}
+
+		record(key.scope(), "miss");
+		Optional<T> loaded = loader.get();
+		loaded.ifPresent(value -> {
+			if (remote == null || writeL2(key, remote, value)) {
+				l1.put(key, value);
+			}
+		});
+		return loaded;
+	}
+
+	private void evict(MembershipKey key) {
+		// 커밋 전에 다른 요청이 이전 값을 다시 채울 수 있어 커밋 후 한 번 더 제거
+		TransactionCallbacks.nowAndAfterCommit(() -> {
+			evictLocally(key.toPayload());
+			invalidateL2(key);
+		});
+		invalidationBus.publish(CACHE_NAME, key.toPayload());
+	}
+
+	private void evictLocally(String payload) {
+		MembershipKey key = MembershipKey.fromPayload(payload);
+		if (key.userPublicId() != null) {
+			l1.invalidate(key);
+		} else {
+			l1.invalidateIf(k -> k.scope() == key.scope() && k.scopeId().equals(key.scopeId()));
+		}
+	}
+
+	// ---- L2 (Redis) ----
+
+	// L2를 쓸 수 없으면 null. 항목이 없으면 json == null (버전은 이후 writeL2의 기준값)
+	@SuppressWarnings("unchecked")
+	private L2Entry readL2(MembershipKey key) {
+		if (!isL2Available()) return null;
+		try {
+			List<String> result = redisTemplate.execute(READ,
+					List.of(key.redisKey(), key.scopeVersionKey(), key.memberVersionKey()));
+			if (result == null || result.size() < 3) return null;
+			String json = result.get(2);
+			return new L2Entry(result.get(0), result.get(1), json.isEmpty() ? null : json);
+		} catch (DataAccessException e) {
+			disableL2Temporarily(e);
+			return null;
+		}
+	}
+
+	private <T> T deserialize(MembershipKey key, String json, Class<T> type) {
+		if (json == null) return null;
+		try {
+			return objectMapper.readValue(json, type);
+		} catch (JsonProcessingException e) {
+			log.warn("멤버십 캐시 역직렬화 실패, DB 조회로 대체 - key={}", key.redisKey());
+			return null;
+		}
+	}
+
+	// 읽어둔 버전이 그대로일 때만 기록. 조회 중 무효화돼 기록하지 않았으면 false
+	private boolean writeL2(MembershipKey key, L2Entry readVersions, Object value) {
+		if (!isL2Available()) return true;
+		try {
+			String json = objectMapper.writeValueAsString(value);
+			Long written = redisTemplate.execute(WRITE,
+					List.of(key.redisKey(), key.scopeVersionKey(), key.memberVersionKey()),
+					readVersions.scopeVersion(), readVersions.memberVersion(), json, String.valueOf(l2Ttl.toMillis()));
+			return written != null && written == 1L;
+		} catch (DataAccessException e) {
+			disableL2Temporarily(e);
+			return true;
+		} catch (JsonProcessingException e) {
+			log.warn("멤버십 캐시 직렬화 실패 - key={}", key.redisKey());
+			return true;
+		}
+	}
+
+	/**
+	 * 무효화는 장애 백오프 중이어도 시도 (실패해도 L2 TTL이 상한)
+	 * - 버전 키는 항목보다 오래 남아야 하므로 TTL을 항목의 2배로 둠 (버전 키가 먼저 사라지면 기록 시 버전 불일치 → 캐싱 생략)
+	 */
+	private void invalidateL2(MembershipKey key) {
+		if (!l2Enabled) return;
+		String versionTtl = String.valueOf(l2Ttl.multipliedBy(2).toMillis());
+		try {
+			if (key.userPublicId() != null) {
+				redisTemplate.execute(INVALIDATE, List.of(key.memberVersionKey(), key.redisKey()), versionTtl);
+			} else {
+				redisTemplate.execute(INVALIDATE, List.of(key.scopeVersionKey()), versionTtl);
+			}
+		} catch (DataAccessException e) {
+			disableL2Temporarily(e);
+		}
+	}
+
+	private boolean isL2Available() {
+		return l2Enabled && System.currentTimeMillis() >= l2SuspendedUntilMillis;
+	}
+
+	private void disableL2Temporarily(DataAccessException e) {
+		l2SuspendedUntilMillis = System.currentTimeMillis() + L2_RETRY_BACKOFF.toMillis();
+		log.warn("멤버십 캐시 Redis 접근 실패, {}초간 L2 생략 - error={}", L2_RETRY_BACKOFF.toSeconds(), e.getMessage());
+	}
+
+	private void record(Scope scope, String result) {
+		meterRegistry.counter("cache.membership.requests", "scope", scope.name(), "result", result).increment();
+	}
+
+	private enum Scope {P, W}
+
+	private record L2Entry(String scopeVersion, String memberVersion, String json) {
+	}
+
+	// userPublicId == null 이면 해당 프로젝트/워크스페이스 전체를 의미 (무효화 전용)
+	private record MembershipKey(Scope scope, UUID scopeId, UUID userPublicId) {
+
+		String redisKey() {
+			return KEY_PREFIX + scope + ":" + scopeId + ":" + userPublicId;
+		}
+
+		String scopeVersionKey() {
+			return VERSION_PREFIX + scope + ":" + scopeId;
+		}
+
+		String memberVersionKey() {
+			return VERSION_PREFIX + scope + ":" + scopeId + ":" + userPublicId;
+		}
+
+		String toPayload() {
+			return scope + ":" + scopeId + ":" + (userPublicId == null ? "*" : userPublicId);
+		}
+
+		static MembershipKey fromPayload(String payload) {
+			String[] parts = payload.split(":");
+			UUID userPublicId = parts[2].equals("*") ? null : UUID.fromString(parts[2]);
+			return new MembershipKey(Scope.valueOf(parts[0]), UUID.fromString(parts[1]), userPublicId);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package xyz.letzcollab.backend.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import xyz.letzcollab.backend.entity.Project;
+import xyz.letzcollab.backend.repository.ProjectRepository;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 프로젝트 조회 권한 판단 결과 캐시 - key: (userPublicId, projectPublicId), value: 접근 가능 여부
+ * - 업무/댓글 조회마다 반복되는 프로젝트 조회 + 멤버십 exists 쿼리를 생략하기 위한 용도
+ * - 판단 기준: 비공개 프로젝트는 프로젝트 멤버만, 공개 프로젝트는 워크스페이스 멤버 전체
+ *   → 멤버 여부는 MembershipCache(L1/L2)로 확인 (이 캐시가 비어 있어도 다른 인스턴스가 채운 L2로 DB 조회 생략)
+ * - 권한이 바뀌는 경로(프로젝트/워크스페이스 멤버 변경, 공개 여부 변경)에서 반드시 evict 호출
+ * - 무효화는 CacheInvalidationBus로 다른 인스턴스에도 전파 (전파 실패 시에도 TTL이 지연 상한)
+ */
+@Component
+public class ProjectAccessCache {
+
+	private static final String CACHE_NAME = "project-access";
+
+	private final LocalTtlCache<AccessKey, Boolean> cache;
+	private final CacheInvalidationBus invalidationBus;
+	private final ProjectRepository projectRepository;
+	private final MembershipCache membershipCache;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public ProjectAccessCache(
+			MeterRegistry meterRegistry,
+			CacheInvalidationBus invalidationBus,
+			ProjectRepository projectRepository,
+			MembershipCache membershipCache,
+			@Value("${cache.project-access.max-size:10000}") int maxSize,
+			@Value("${cache.project-access.ttl:30s}") Duration ttl
+	) {
+		this.cache = new LocalTtlCache<>(maxSize, ttl);
+		this.invalidationBus = invalidationBus;
+		this.projectRepository = projectRepository;
+		this.membershipCache = membershipCache;
+		invalidationBus.register(CACHE_NAME, this::evictLocally);
+		this.hitCounter = Counter.builder("cache.project_access.requests")
+								 .tag("result", "hit")
+								 .description("프로젝트 조회 권한 캐시 적중 횟수")
+								 .register(meterRegistry);
+		this.missCounter = Counter.builder("cache.project_access.requests")
+								  .tag("result", "miss")
+								  .description("프로젝트 조회 권한 캐시 미스 횟수")
+								  .register(meterRegistry);
+		Gauge.builder("cache.project_access.size", cache, LocalTtlCache::size)
+			 .description("프로젝트 조회 권한 캐시 항목 수")
+			 .register(meterRegistry);
+	}
+
+	/**
+	 * 캐시된 권한 판단 결과 반환, 없으면 DB로 판단 후 저장
+	 * - 존재하지 않는(삭제된) 프로젝트는 접근 불가로 판단
+	 */
+	public boolean canView(UUID userPublicId, UUID projectPublicId) {
+		AccessKey key = new AccessKey(userPublicId, projectPublicId);
+		Boolean cached = cache.get(key);
+		if (cached != null) {
+			hitCounter.increment();
+			return cached;
+		}
+
+		missCounter.increment();
+		boolean canView = loadCanView(userPublicId, projectPublicId);
+		cache.put(key, canView);
+		return canView;
+	}
+
+	private boolean loadCanView(UUID userPublicId, UUID projectPublicId) {
+		Project project = projectRepository.findByPublicIdWithWorkspace(projectPublicId).orElse(null);
+		if (project == null) {
+			return false;
+		}
+
+		if (project.isPrivate()) {
+			return membershipCache.findProjectMember(userPublicId, projectPublicId).isPresent();
+		}
+		UUID workspacePublicId = project.getWorkspace().getPublicId();
+		return membershipCache.findWorkspaceMember(workspacePublicId, userPublicId).isPresent();
+	}
+
+	// 특정 프로젝트의 특정 멤버 권한 변경 (프로젝트 멤버 추가/탈퇴/추방)
+	public void evict(UUID userPublicId, UUID projectPublicId) {
+		evictEverywhere("M:" + userPublicId + ":" + projectPublicId);
+	}
+
+	// 사용자의 모든 프로젝트 권한 변경 (워크스페이스 가입/탈퇴/추방)
+	public void evictUser(UUID userPublicId) {
+		evictEverywhere("U:" + userPublicId);
+	}
+
+	// 프로젝트의 모든 사용자 권한 변경 (공개 여부 변경, 프로젝트 삭제)
+	public void evictProject(UUID projectPublicId) {
+		evictEverywhere("P:" + projectPublicId);
+	}
+
+	// 워크스페이스 삭제처럼 영향 범위를 키로 특정하기 어려운 경우
+	public void evictAll() {
+		evictEverywhere("ALL");
+	}
+
+	// 로컬은 바로 제거, 다른 인스턴스에는 커밋 후 무효화 메시지 전파
+	private void evictEverywhere(String payload) {
+		TransactionCallbacks.nowAndAfterCommit(() -> evictLocally(payload));
+		invalidationBus.publish(CACHE_NAME, payload);
+	}
+
+	private void evictLocally(String payload) {
+		if (payload.equals("ALL")) {
+			cache.invalidateAll();
+			return;
+		}
+
+		String[] parts = payload.split(":");
+		switch (parts[0]) {
+			case "M" -> cache.invalidate(new AccessKey(UUID.fromString(parts[1]), UUID.fromString(parts[2])));
+			case "U" -> {
+				UUID userPublicId = UUID.fromString(parts[1]);
+				cache.invalidateIf(key -> key.userPublicId().equals(userPublicId));
+			}
+			case "P" -> {
+				UUID projectPublicId = UUID.fromString(parts[1]);
+				cache.invalidateIf(key -> key.projectPublicId().equals(projectPublicId));
+			}
+			default -> cache.invalidateAll();	// 알 수 없는 형식이면 안전하게 전체 제거
+		}
+	}
+
+	private record AccessKey(UUID userPublicId, UUID projectPublicId) {
+	}
+}
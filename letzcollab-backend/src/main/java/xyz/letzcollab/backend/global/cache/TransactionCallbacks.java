@@ -0,0 +1,57 @@
+package xyz.letzcollab.backend.global.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 종료 시점에 실행할 캐시/카운터/전파 작업 등록 헬퍼
+ * - 트랜잭션 밖에서 호출되면 바로 실행 (afterCommit, afterCompletion)
+ * - 롤백된 변경을 반영하지 않으려면 afterCommit, 성공/실패와 관계없이 정리해야 하면 afterCompletion
+ */
+public final class TransactionCallbacks {
+
+	private TransactionCallbacks() {
+	}
+
+	public static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	/**
+	 * 지금 실행하고, 트랜잭션 안이면 커밋 후에 한 번 더 실행
+	 * - 캐시 제거용: 커밋 전에 다른 요청이 이전 상태를 다시 채울 수 있음
+	 */
+	public static void nowAndAfterCommit(Runnable action) {
+		action.run();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		}
+	}
+
+	public static void afterCompletion(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
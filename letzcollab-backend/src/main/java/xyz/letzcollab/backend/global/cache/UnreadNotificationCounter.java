@@ -0,0 +1,204 @@
+package xyz.letzcollab.backend.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 카운터 (Redis) - key: NOTI:UNREAD:{userPublicId}
+ * - 알림 배지 폴링마다 실행되던 COUNT 쿼리를 O(1) 조회로 대체
+ * - 알림 생성/읽음 처리 시 커밋 후에 증감 (롤백된 변경은 반영하지 않음)
+ * - 키가 없을 때의 증감은 무시 → 다음 조회 시 DB 개수로 다시 채움
+ * - 경합으로 생길 수 있는 오차는 주기적인 보정 작업(reconcile)이 바로잡음
+ * - Redis 장애 시에는 DB COUNT로 대체 (요청은 실패시키지 않음)
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+	private static final String KEY_PREFIX = "NOTI:UNREAD:";
+
+	// 키가 있을 때만 증감, 음수가 되면 오차로 보고 키 삭제 (다음 조회 시 DB로 재계산)
+	private static final RedisScript<Long> ADJUST_IF_PRESENT = new DefaultRedisScript<>("""
+			if redis.call('EXISTS', KEYS[1]) == 0 then return nil end
+			local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+			if count < 0 then
+				redis.call('DEL', KEYS[1])
+				return nil
+			end
+			return count
+			""", Long.class);
+
+	// DB 기준 개수와 다를 때만 삭제 (GET과 DEL 사이에 증감이 끼어들지 않도록 원자적으로 실행)
+	private static final RedisScript<Long> DELETE_IF_MISMATCH = new DefaultRedisScript<>("""
+			local current = redis.call('GET', KEYS[1])
+			if current and current ~= ARGV[1] then
+				redis.call('DEL', KEYS[1])
+				return 1
+			end
+			return 0
+			""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Duration ttl;
+	private final boolean enabled;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public UnreadNotificationCounter(
+			RedisTemplate<String, String> redisTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${cache.unread-notification.ttl:7d}") Duration ttl,
+			@Value("${cache.unread-notification.enabled:true}") boolean enabled
+	) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = ttl;
+		this.enabled = enabled;
+		this.hitCounter = Counter.builder("cache.unread_notification.requests")
+								 .tag("result", "hit")
+								 .description("읽지 않은 알림 카운터 적중 횟수")
+								 .register(meterRegistry);
+		this.missCounter = Counter.builder("cache.unread_notification.requests")
+								  .tag("result", "miss")
+								  .description("읽지 않은 알림 카운터 미스(DB COUNT) 횟수")
+								  .register(meterRegistry);
+	}
+
+	/**
+	 * 카운터 값 반환, 없으면 loader(DB COUNT)로 계산 후 저장
+	 * - SET NX로 저장해 그사이 다른 요청이 채운 값을 덮어쓰지 않음
+	 */
+	public long get(UUID userPublicId, LongSupplier loader) {
+		if (!enabled) return loader.getAsLong();
+
+		String key = KEY_PREFIX + userPublicId;
+		try {
+			String cached = redisTemplate.opsForValue().get(key);
+			if (cached != null) {
+				hitCounter.increment();
+				return Long.parseLong(cached);
+			}
+		} catch (DataAccessException e) {
+			log.warn("읽지 않은 알림 카운터 조회 실패, DB 조회로 대체 - userId={}, error={}", userPublicId, e.getMessage());
+			return loader.getAsLong();
+		}
+
+		missCounter.increment();
+		long count = loader.getAsLong();
+		try {
+			redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+		} catch (DataAccessException e) {
+			log.warn("읽지 않은 알림 카운터 저장 실패 - userId={}, error={}", userPublicId, e.getMessage());
+		}
+		return count;
+	}
+
+	// 알림 생성
+	public void increment(UUID userPublicId) {
+		increment(userPublicId, 1);
+	}
+
+	// 알림 여러 건 일괄 생성
+	public void increment(UUID userPublicId, long count) {
+		TransactionCallbacks.afterCommit(() -> adjust(userPublicId, count));
+	}
+
+	/**
+	 * 여러 수신자의 알림 일괄 생성 (마감 알림 청크)
+	 * - 수신자마다 커밋 후 작업을 등록하지 않고 1번만 등록
+	 */
+	public void incrementAll(Map<UUID, Long> countsByUser) {
+		TransactionCallbacks.afterCommit(() -> countsByUser.forEach(this::adjust));
+	}
+
+	// 알림 단건 읽음 처리
+	public void decrement(UUID userPublicId) {
+		TransactionCallbacks.afterCommit(() -> adjust(userPublicId, -1));
+	}
+
+	/**
+	 * 전체 읽음 처리처럼 증감으로 표현하기 어려운 변경
+	 * - 0으로 덮어쓰면 그사이 생성된 알림이 누락될 수 있어 삭제 후 다음 조회 때 재계산
+	 */
+	public void evict(UUID userPublicId) {
+		TransactionCallbacks.afterCommit(() -> {
+			if (!enabled) return;
+			try {
+				redisTemplate.delete(KEY_PREFIX + userPublicId);
+			} catch (DataAccessException e) {
+				log.warn("읽지 않은 알림 카운터 삭제 실패 - userId={}, error={}", userPublicId, e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * 보정 작업용 - 현재 카운터가 있는 사용자 ID를 batchSize 단위로 전달
+	 */
+	public void forEachTrackedUser(int batchSize, Consumer<List<UUID>> batchConsumer) {
+		if (!enabled) return;
+
+		ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(batchSize).build();
+		List<UUID> batch = new ArrayList<>(batchSize);
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				batch.add(UUID.fromString(cursor.next().substring(KEY_PREFIX.length())));
+				if (batch.size() == batchSize) {
+					batchConsumer.accept(List.copyOf(batch));
+					batch.clear();
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			batchConsumer.accept(List.copyOf(batch));
+		}
+	}
+
+	/**
+	 * 보정 작업용 - DB 기준 개수와 다른 카운터는 삭제 (다음 조회 때 DB로 다시 채움)
+	 * - DB 값으로 덮어쓰지 않는 이유: DB를 센 뒤에 커밋 후 증감이 도착하면 같은 변경이 두 번 반영됨
+	 *   (커밋 → DB 집계에 포함 → 이후 afterCommit 증감이 덮어쓴 값에 한 번 더 적용)
+	 * - 삭제 후 도착한 증감은 키가 없어 무시되므로 항상 안전
+	 * @return 값이 달라서 삭제된 사용자 수
+	 */
+	public int evictIfMismatch(Map<UUID, Long> countsByUser) {
+		int corrected = 0;
+		for (Map.Entry<UUID, Long> entry : countsByUser.entrySet()) {
+			Long deleted = redisTemplate.execute(DELETE_IF_MISMATCH,
+					List.of(KEY_PREFIX + entry.getKey()), String.valueOf(entry.getValue()));
+			if (deleted != null && deleted == 1L) {
+				corrected++;
+			}
+		}
+		return corrected;
+	}
+
+	private void adjust(UUID userPublicId, long delta) {
+		if (!enabled) return;
+		try {
+			redisTemplate.execute(ADJUST_IF_PRESENT, List.of(KEY_PREFIX + userPublicId), String.valueOf(delta));
+		} catch (DataAccessException e) {
+			// 갱신에 실패한 카운터는 틀린 값을 계속 보여줄 수 있으므로 삭제 시도 (실패해도 보정 작업이 바로잡음)
+			log.warn("읽지 않은 알림 카운터 갱신 실패 - userId={}, delta={}, error={}", userPublicId, delta, e.getMessage());
+			try {
+				redisTemplate.delete(KEY_PREFIX + userPublicId);
+			} catch (DataAccessException ignored) {
+			}
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package xyz.letzcollab.backend.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsResponse;
+import xyz.letzcollab.backend.repository.WorkspaceStatsSnapshotRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 통계 스냅샷이 없는 워크스페이스의 실시간 집계를 워크스페이스당 1번만 실행 (스탬피드 방지)
+ * - 인스턴스 내: 같은 워크스페이스의 동시 요청은 먼저 온 요청의 집계 결과(CompletableFuture)를 기다림
+ * - 인스턴스 간: Redis 락(LOCK:STATS:{workspaceId})을 잡은 인스턴스만 집계, 나머지는 스냅샷이 커밋될 때까지 폴링
+ * - 대기는 latency-budget까지만 → 넘으면 빈 값(computing = true)으로 응답하고 클라이언트가 잠시 후 다시 조회
+ * - 대기(await, pollSnapshot)는 트랜잭션 밖에서 호출해야 함 → 대기하는 동안 DB 커넥션을 붙잡지 않음
+ *   → open-in-view도 꺼져 있어야 함 (켜져 있으면 요청 내내 EntityManager가 커넥션을 쥐고 있음)
+ *   → compute는 자체 트랜잭션에서 커밋까지 마치고 반환 (WorkspaceService.getStats 참고)
+ * - 진행 중 표시와 락은 호출 측 트랜잭션 범위가 끝난 뒤 해제
+ *   (커밋 전에 해제하면 그 사이 들어온 요청이 스냅샷을 못 보고 다시 집계함)
+ * - Redis 장애 시 인스턴스 내 단일 실행만 보장
+ */
+@Slf4j
+@Component
+public class WorkspaceStatsSingleFlight {
+
+	private static final String KEY_PREFIX = "LOCK:STATS:";
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+	private static final RedisScript<Long> RELEASE_IF_OWNER = new DefaultRedisScript<>("""
+			if redis.call('GET', KEYS[1]) == ARGV[1] then
+				return redis.call('DEL', KEYS[1])
+			end
+			return 0
+			""", Long.class);
+
+	private final WorkspaceStatsSnapshotRepository snapshotRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Duration latencyBudget;
+	private final Duration lockTtl;
+	private final boolean lockEnabled;
+	private final Counter computedCounter;
+	private final Counter coalescedCounter;
+	private final Counter placeholderCounter;
+
+	private final Map<Long, CompletableFuture<WorkspaceStatsResponse>> inFlight = new ConcurrentHashMap<>();
+
+	public WorkspaceStatsSingleFlight(
+			WorkspaceStatsSnapshotRepository snapshotRepository,
+			RedisTemplate<String, String> redisTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${workspace-stats.fallback.latency-budget:500ms}") Duration latencyBudget,
+			@Value("${workspace-stats.fallback.lock-ttl:10s}") Duration lockTtl,
+			@Value("${workspace-stats.fallback.lock-enabled:true}") boolean lockEnabled
+	) {
+		this.snapshotRepository = snapshotRepository;
+		this.redisTemplate = redisTemplate;
+		this.latencyBudget = latencyBudget;
+		this.lockTtl = lockTtl;
+		this.lockEnabled = lockEnabled;
+		this.computedCounter = fallbackCounter(meterRegistry, "computed", "직접 실시간 집계한 요청 수");
+		this.coalescedCounter = fallbackCounter(meterRegistry, "coalesced", "다른 요청의 집계 결과를 받은 요청 수");
+		this.placeholderCounter = fallbackCounter(meterRegistry, "placeholder", "대기 시간을 넘겨 집계 중 응답을 받은 요청 수");
+	}
+
+	/**
+	 * @param compute 스냅샷을 집계해 응답으로 변환 (이 워크스페이스에 대해 동시에 1번만 실행됨)
+	 */
+	public WorkspaceStatsResponse load(Long workspaceId, Supplier<WorkspaceStatsResponse> compute) {
+		CompletableFuture<WorkspaceStatsResponse> mine = new CompletableFuture<>();
+		CompletableFuture<WorkspaceStatsResponse> running = inFlight.putIfAbsent(workspaceId, mine);
+		if (running != null) {
+			return await(workspaceId, running);
+		}
+
+		String token = UUID.randomUUID().toString();
+		LockState lock = tryLock(workspaceId, token);
+		try {
+			WorkspaceStatsResponse response;
+			if (lock == LockState.HELD_BY_OTHER) {
+				response = pollSnapshot(workspaceId);
+			} else {
+				response = compute.get();
+				computedCounter.increment();
+			}
+			mine.complete(response);
+			return response;
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			TransactionCallbacks.afterCompletion(() -> {
+				inFlight.remove(workspaceId, mine);
+				if (lock == LockState.ACQUIRED) {
+					unlock(workspaceId, token);
+				}
+			});
+		}
+	}
+
+	// 같은 인스턴스의 다른 요청이 집계 중 → 결과를 latencyBudget까지 기다림
+	private WorkspaceStatsResponse await(Long workspaceId, CompletableFuture<WorkspaceStatsResponse> running) {
+		try {
+			WorkspaceStatsResponse response = running.get(latencyBudget.toMillis(), TimeUnit.MILLISECONDS);
+			coalescedCounter.increment();
+			return response;
+		} catch (TimeoutException e) {
+			return placeholder(workspaceId);
+		} catch (ExecutionException e) {
+			log.warn("워크스페이스 통계 실시간 집계 실패로 집계 중 응답 - workspaceId={}, error={}",
+					workspaceId, e.getCause().getMessage());
+			return placeholder(workspaceId);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return placeholder(workspaceId);
+		}
+	}
+
+	// 다른 인스턴스가 집계 중 → 스냅샷이 커밋될 때까지 latencyBudget 동안 폴링
+	private WorkspaceStatsResponse pollSnapshot(Long workspaceId) {
+		long deadline = System.nanoTime() + latencyBudget.toNanos();
+		do {
+			Optional<WorkspaceStatsResponse> snapshot = snapshotRepository.findByWorkspaceId(workspaceId)
+																		  .map(WorkspaceStatsResponse::from);
+			if (snapshot.isPresent()) {
+				coalescedCounter.increment();
+				return snapshot.get();
+			}
+			try {
+				Thread.sleep(POLL_INTERVAL);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		} while (System.nanoTime() < deadline);
+		return placeholder(workspaceId);
+	}
+
+	private WorkspaceStatsResponse placeholder(Long workspaceId) {
+		placeholderCounter.increment();
+		log.info("워크스페이스 통계 집계 대기 시간 초과 - 집계 중 응답, workspaceId={}", workspaceId);
+		return WorkspaceStatsResponse.computing();
+	}
+
+	private LockState tryLock(Long workspaceId, String token) {
+		if (!lockEnabled) return LockState.UNAVAILABLE;
+		try {
+			Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + workspaceId, token, lockTtl);
+			return Boolean.TRUE.equals(acquired) ? LockState.ACQUIRED : LockState.HELD_BY_OTHER;
+		} catch (DataAccessException e) {
+			log.warn("워크스페이스 통계 집계 락 획득 실패, 인스턴스 내 단일 실행만 보장 - workspaceId={}, error={}",
+					workspaceId, e.getMessage());
+			return LockState.UNAVAILABLE;
+		}
+	}
+
+	private void unlock(Long workspaceId, String token) {
+		try {
+			redisTemplate.execute(RELEASE_IF_OWNER, List.of(KEY_PREFIX + workspaceId), token);
+		} catch (DataAccessException e) {
+			// 해제하지 못해도 lockTtl 후 만료됨
+			log.warn("워크스페이스 통계 집계 락 해제 실패 - workspaceId={}, error={}", workspaceId, e.getMessage());
+		}
+	}
+
+	private static Counter fallbackCounter(MeterRegistry meterRegistry, String result, String description) {
+		return Counter.builder("workspace_stats.fallback")
+					  .tag("result", result)
+					  .description(description)
+					  .register(meterRegistry);
+	}
+
+	private enum LockState {
+		ACQUIRED,
+		HELD_BY_OTHER,
+		UNAVAILABLE    // 락 비활성화 또는 Redis 장애
+	}
+}
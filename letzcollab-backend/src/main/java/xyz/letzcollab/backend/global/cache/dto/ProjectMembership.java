@@ -0,0 +1,27 @@
+package xyz.letzcollab.backend.global.cache.dto;
+
+import xyz.letzcollab.backend.entity.ProjectMember;
+import xyz.letzcollab.backend.entity.vo.ProjectRole;
+
+import java.util.UUID;
+
+/**
+ * 캐시용 프로젝트 멤버십 스냅샷 (엔티티는 영속성 컨텍스트 밖에서 재사용할 수 없어 필요한 값만 보관)
+ * - 연관관계 설정이 필요하면 userId로 UserRepository.getReferenceById() 사용
+ */
+public record ProjectMembership(
+		Long userId,
+		UUID userPublicId,
+		ProjectRole role,
+		String position
+) {
+	// member.user가 fetch join 되어 있어야 함
+	public static ProjectMembership from(ProjectMember member) {
+		return new ProjectMembership(
+				member.getUser().getId(),
+				member.getUser().getPublicId(),
+				member.getRole(),
+				member.getPosition()
+		);
+	}
+}
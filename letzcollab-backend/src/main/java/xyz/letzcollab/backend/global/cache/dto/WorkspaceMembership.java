@@ -0,0 +1,27 @@
+package xyz.letzcollab.backend.global.cache.dto;
+
+import xyz.letzcollab.backend.entity.WorkspaceMember;
+import xyz.letzcollab.backend.entity.vo.WorkspaceRole;
+
+import java.util.UUID;
+
+/**
+ * 캐시용 워크스페이스 멤버십 스냅샷
+ * - 연관관계 설정이 필요하면 userId로 UserRepository.getReferenceById() 사용
+ */
+public record WorkspaceMembership(
+		Long userId,
+		UUID userPublicId,
+		WorkspaceRole role,
+		String position
+) {
+	// member.user가 fetch join 되어 있어야 함
+	public static WorkspaceMembership from(WorkspaceMember member) {
+		return new WorkspaceMembership(
+				member.getUser().getId(),
+				member.getUser().getPublicId(),
+				member.getRole(),
+				member.getPosition()
+		);
+	}
+}
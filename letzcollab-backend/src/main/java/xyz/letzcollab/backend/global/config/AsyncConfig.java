@@ -14,20 +14,6 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableRetry
 public class AsyncConfig {
 
-	@Bean(name = "notificationExecutor")
-	public Executor notificationExecutor() {
-		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(2);
-		executor.setMaxPoolSize(5);
-		executor.setQueueCapacity(100);
-		executor.setThreadNamePrefix("notification-");
-
-		// 큐가 가득 찼을 때 호출한 메인 스레드에서 직접 처리하게 하여 서버 부하 방지
-		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-		executor.initialize();
-		return executor;
-	}
-
 	@Bean(name = "emailExecutor")
 	public Executor emailExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -0,0 +1,30 @@
+package xyz.letzcollab.backend.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import xyz.letzcollab.backend.global.cache.CacheInvalidationBus;
+import xyz.letzcollab.backend.global.sse.NotificationStreamRelay;
+
+@Configuration
+public class RedisConfig {
+
+	// 인스턴스 간 pub/sub 구독 (로컬 캐시 무효화, 실시간 알림 전달)
+	@Bean
+	@ConditionalOnProperty(name = "redis.pubsub.enabled", havingValue = "true", matchIfMissing = true)
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+			RedisConnectionFactory connectionFactory,
+			CacheInvalidationBus cacheInvalidationBus,
+			NotificationStreamRelay notificationStreamRelay
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+		container.addMessageListener(notificationStreamRelay, new ChannelTopic(NotificationStreamRelay.CHANNEL));
+		container.addMessageListener(notificationStreamRelay, new ChannelTopic(NotificationStreamRelay.BATCH_CHANNEL));
+		return container;
+	}
+}
@@ -0,0 +1,18 @@
+package xyz.letzcollab.backend.global.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반(keyset) 페이지네이션 응답
+ * - 전체 개수(count)를 조회하지 않으므로 totalElements/totalPages는 제공하지 않음
+ * - nextCursor를 다음 요청의 cursor 파라미터로 그대로 넘기면 이어서 조회됨 (마지막 페이지면 null)
+ */
+public record CursorResponse<T>(
+		List<T> content,
+		String nextCursor,
+		boolean hasNext
+) {
+	public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+		return new CursorResponse<>(content, nextCursor, nextCursor != null);
+	}
+}
@@ -0,0 +1,20 @@
+package xyz.letzcollab.backend.global.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Slice 기반 페이지네이션 응답
+ * - count 쿼리를 생략하므로 totalElements/totalPages 대신 hasNext만 제공 (무한 스크롤용)
+ */
+public record SliceResponse<T>(
+		List<T> content,
+		int page,
+		int size,
+		boolean hasNext
+) {
+	public static <T> SliceResponse<T> from(Slice<T> slice) {
+		return new SliceResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+	}
+}
@@ -0,0 +1,149 @@
+package xyz.letzcollab.backend.global.event.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.letzcollab.backend.global.event.dto.NotificationEvent;
+import xyz.letzcollab.backend.service.NotificationService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 생성 마이크로 배치 처리기
+ * - 커밋된 트랜잭션의 알림 이벤트를 제한된 크기의 큐에 모아두고, 전용 스레드가 maxSize건 또는 maxWait마다 꺼내서
+ *   트랜잭션 1번 + 수신자 IN 조회 1번 + JDBC 배치 insert로 저장
+ * - 큐가 가득 차면 호출한 스레드에서 바로 저장 (기존 CallerRunsPolicy와 같은 역압 방식)
+ *   호출 스레드는 커밋 직후(AFTER_COMMIT) 리스너라 기존 트랜잭션에 참여하면 저장이 반영되지 않으므로 저장은 항상 새 트랜잭션에서 실행
+ * - 종료 시 큐에 남은 이벤트를 모두 저장한 뒤 스레드 종료
+ */
+@Slf4j
+@Component
+public class NotificationBatchProcessor {
+
+	private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+	private final NotificationService notificationService;
+	private final TransactionTemplate requiresNewTemplate;
+	private final BlockingQueue<NotificationEvent> queue;
+	private final int maxSize;
+	private final long maxWaitNanos;
+	private final Counter callerRunsCounter;
+	private final DistributionSummary batchSizeSummary;
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public NotificationBatchProcessor(
+			NotificationService notificationService,
+			MeterRegistry meterRegistry,
+			PlatformTransactionManager transactionManager,
+			@Value("${notification.batch.queue-capacity:10000}") int queueCapacity,
+			@Value("${notification.batch.max-size:100}") int maxSize,
+			@Value("${notification.batch.max-wait:50ms}") Duration maxWait
+	) {
+		this.notificationService = notificationService;
+		this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+		this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.maxSize = maxSize;
+		this.maxWaitNanos = maxWait.toNanos();
+		this.callerRunsCounter = Counter.builder("notification.batch.caller_runs")
+										.description("큐가 가득 차 호출 스레드에서 바로 저장한 알림 수")
+										.register(meterRegistry);
+		this.batchSizeSummary = DistributionSummary.builder("notification.batch.size")
+												   .description("한 번에 저장한 알림 수")
+												   .register(meterRegistry);
+		Gauge.builder("notification.batch.queue.size", queue, BlockingQueue::size)
+			 .description("저장 대기 중인 알림 이벤트 수")
+			 .register(meterRegistry);
+	}
+
+	@PostConstruct
+	void start() {
+		running = true;
+		worker = Thread.ofPlatform().name("notification-batch").daemon().start(this::drainLoop);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		running = false;
+		worker.join(SHUTDOWN_TIMEOUT.toMillis());
+		if (!queue.isEmpty()) {
+			log.warn("종료 시간 초과로 저장하지 못한 알림 이벤트 - count={}", queue.size());
+		}
+	}
+
+	public void submit(NotificationEvent event) {
+		if (running && queue.offer(event)) return;
+
+		callerRunsCounter.increment();
+		flush(List.of(event));
+	}
+
+	private void drainLoop() {
+		while (running || !queue.isEmpty()) {
+			try {
+				NotificationEvent first = queue.poll(maxWaitNanos, TimeUnit.NANOSECONDS);
+				if (first == null) continue;
+
+				List<NotificationEvent> batch = new ArrayList<>(maxSize);
+				batch.add(first);
+				fillBatch(batch);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				log.error("알림 배치 처리 루프 오류", e);
+			}
+		}
+	}
+
+	// 첫 이벤트 이후 maxWait 동안 maxSize까지 모음
+	private void fillBatch(List<NotificationEvent> batch) throws InterruptedException {
+		long deadline = System.nanoTime() + maxWaitNanos;
+		while (batch.size() < maxSize) {
+			queue.drainTo(batch, maxSize - batch.size());
+			long remaining = deadline - System.nanoTime();
+			if (batch.size() >= maxSize || remaining <= 0) return;
+
+			NotificationEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) return;
+			batch.add(next);
+		}
+	}
+
+	/**
+	 * 배치 저장 실패 시 한 건씩 다시 저장해 문제 있는 이벤트만 버림
+	 */
+	private void flush(List<NotificationEvent> batch) {
+		batchSizeSummary.record(batch.size());
+		try {
+			requiresNewTemplate.executeWithoutResult(status -> notificationService.createAll(batch));
+		} catch (Exception e) {
+			log.warn("알림 배치 저장 실패, 개별 저장으로 재시도 - size={}, error={}", batch.size(), e.getMessage());
+			for (NotificationEvent event : batch) {
+				try {
+					requiresNewTemplate.executeWithoutResult(status -> notificationService.create(event));
+				} catch (Exception ex) {
+					log.error("알림 생성 실패 - type={}, recipientId={}, referenceId={}",
+							event.type(), event.recipientId(), event.referenceId(), ex);
+				}
+			}
+		}
+	}
+}
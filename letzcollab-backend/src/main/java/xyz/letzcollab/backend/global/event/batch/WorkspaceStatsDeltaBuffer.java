@@ -0,0 +1,157 @@
+package xyz.letzcollab.backend.global.event.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsDelta;
+import xyz.letzcollab.backend.global.cache.DirtyWorkspaceSet;
+import xyz.letzcollab.backend.repository.WorkspaceStatsSnapshotRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 워크스페이스 통계 증분 버퍼
+ * - 커밋된 변경의 증분을 워크스페이스별로 합쳐두고, 전용 스레드가 flushInterval마다 워크스페이스당 UPDATE 1번으로 반영
+ *   → 같은 워크스페이스의 스냅샷 행을 요청 트랜잭션마다 잠그지 않음 (핫 로우 경합 방지)
+ * - 재집계 요청된 워크스페이스는 쌓인 증분을 버리고 해당 워크스페이스만 다시 집계 (증분은 이미 커밋되어 집계에 포함됨)
+ * - 증분을 반영한 워크스페이스는 재집계 대상(DirtyWorkspaceSet)으로 표시 → 증분 오차는 다음 재집계 주기에 바로잡힘
+ *   (반영 후에 표시해야 재집계가 증분보다 먼저 실행되어 이중 반영된 값이 남지 않음)
+ * - 반영에 실패하면 다음 주기에 다시 시도, 재시작으로 잃은 증분은 WorkspaceStatsScheduler의 전체 보정이 바로잡음
+ */
+@Slf4j
+@Component
+public class WorkspaceStatsDeltaBuffer {
+
+	private final WorkspaceStatsSnapshotRepository snapshotRepository;
+	private final DirtyWorkspaceSet dirtyWorkspaces;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration flushInterval;
+	private final Counter appliedCounter;
+	private final Counter recomputedCounter;
+
+	private final Map<Long, WorkspaceStatsDelta> pending = new ConcurrentHashMap<>();
+	private final Set<Long> recomputeRequested = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService flushExecutor;
+
+	public WorkspaceStatsDeltaBuffer(
+			WorkspaceStatsSnapshotRepository snapshotRepository,
+			DirtyWorkspaceSet dirtyWorkspaces,
+			TransactionTemplate transactionTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${workspace-stats.flush-interval:2s}") Duration flushInterval
+	) {
+		this.snapshotRepository = snapshotRepository;
+		this.dirtyWorkspaces = dirtyWorkspaces;
+		this.transactionTemplate = transactionTemplate;
+		this.flushInterval = flushInterval;
+		this.appliedCounter = Counter.builder("workspace_stats.flushed")
+									 .tag("type", "delta")
+									 .description("증분으로 갱신한 워크스페이스 통계 스냅샷 수")
+									 .register(meterRegistry);
+		this.recomputedCounter = Counter.builder("workspace_stats.flushed")
+										.tag("type", "recompute")
+										.description("다시 집계한 워크스페이스 통계 스냅샷 수")
+										.register(meterRegistry);
+		Gauge.builder("workspace_stats.pending", pending, Map::size)
+			 .description("반영 대기 중인 워크스페이스 통계 증분 수")
+			 .register(meterRegistry);
+		this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+				Thread.ofPlatform().name("workspace-stats-flush").daemon().factory()
+		);
+	}
+
+	@PostConstruct
+	void start() {
+		long intervalMs = flushInterval.toMillis();
+		flushExecutor.scheduleWithFixedDelay(this::flushSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 종료 시 남은 증분 반영
+	 * - 진행 중인 반영은 끝까지 기다림 (interrupt로 중단시키면 반영하던 증분이 버퍼로 돌아오지 않을 수 있음)
+	 * - 주기 실행이 멈춘 뒤에 마지막으로 1번 반영 → 두 스레드가 같은 증분을 동시에 반영하지 않음
+	 *   (대기 시간을 넘기면 경고만 남기고 반영, 꺼낸 증분은 각 스레드가 따로 가지므로 이중 반영은 없음)
+	 */
+	@PreDestroy
+	void stop() {
+		flushExecutor.shutdown();
+		try {
+			if (!flushExecutor.awaitTermination(flushInterval.toMillis() + 10_000, TimeUnit.MILLISECONDS)) {
+				log.warn("워크스페이스 통계 증분 반영이 종료 대기 시간 안에 끝나지 않음");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flushSafely();
+	}
+
+	public void add(Long workspaceId, WorkspaceStatsDelta delta) {
+		if (delta.isZero()) return;
+		pending.merge(workspaceId, delta, WorkspaceStatsDelta::plus);
+	}
+
+	public void recompute(Long workspaceId) {
+		recomputeRequested.add(workspaceId);
+	}
+
+	// 주기 실행 외에 테스트에서 쌓인 증분을 바로 반영할 때도 사용
+	public void flush() {
+		Set<Long> recomputeIds = new HashSet<>();
+		for (Long workspaceId : recomputeRequested) {
+			if (recomputeRequested.remove(workspaceId)) {
+				recomputeIds.add(workspaceId);
+				pending.remove(workspaceId);
+			}
+		}
+
+		Map<Long, WorkspaceStatsDelta> deltas = new HashMap<>();
+		for (Long workspaceId : pending.keySet()) {
+			WorkspaceStatsDelta delta = pending.remove(workspaceId);
+			if (delta != null && !delta.isZero()) {
+				deltas.put(workspaceId, delta);
+			}
+		}
+		if (deltas.isEmpty() && recomputeIds.isEmpty()) return;
+
+		try {
+			LocalDate today = LocalDate.now();
+			transactionTemplate.executeWithoutResult(status -> {
+				deltas.forEach(snapshotRepository::applyDelta);
+				recomputeIds.forEach(workspaceId -> snapshotRepository.updateSnapshotByWorkspaceId(workspaceId, today));
+			});
+			dirtyWorkspaces.markAll(deltas.keySet());
+			appliedCounter.increment(deltas.size());
+			recomputedCounter.increment(recomputeIds.size());
+		} catch (RuntimeException e) {
+			// 다음 주기에 다시 반영 (그사이 들어온 증분과 합쳐짐)
+			log.warn("워크스페이스 통계 증분 반영 실패, 다음 주기에 재시도 - delta={}, recompute={}, error={}",
+					deltas.size(), recomputeIds.size(), e.getMessage());
+			deltas.forEach(this::add);
+			recomputeRequested.addAll(recomputeIds);
+		}
+	}
+
+	// 예외가 나면 ScheduledExecutorService가 이후 실행을 멈추므로 여기서 모두 처리
+	private void flushSafely() {
+		try {
+			flush();
+		} catch (Exception e) {
+			log.error("워크스페이스 통계 증분 반영 중 오류", e);
+		}
+	}
+}
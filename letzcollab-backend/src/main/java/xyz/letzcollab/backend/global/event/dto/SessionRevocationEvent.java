@@ -0,0 +1,10 @@
+package xyz.letzcollab.backend.global.event.dto;
+
+import java.util.UUID;
+
+/**
+ * 사용자의 모든 세션 폐기 이벤트 (커밋 후 액세스 토큰 폐기 + 갱신 토큰 전체 삭제)
+ * - 탈퇴/비밀번호 재설정처럼 DB 변경과 함께 일어나는 폐기는 롤백되면 적용하지 않도록 커밋 후에 처리
+ */
+public record SessionRevocationEvent(UUID userPublicId) {
+}
@@ -0,0 +1,22 @@
+package xyz.letzcollab.backend.global.event.dto;
+
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsDelta;
+
+/**
+ * 워크스페이스 통계 변경 이벤트 (커밋 후 WorkspaceStatsDeltaBuffer로 전달)
+ * - delta: 스냅샷 카운터에 더할 증분
+ * - recompute: 증분으로 표현하기 어려운 변경(프로젝트 삭제 등) → 해당 워크스페이스만 다시 집계
+ */
+public record WorkspaceStatsEvent(
+		Long workspaceId,
+		WorkspaceStatsDelta delta,
+		boolean recompute
+) {
+	public static WorkspaceStatsEvent delta(Long workspaceId, WorkspaceStatsDelta delta) {
+		return new WorkspaceStatsEvent(workspaceId, delta, false);
+	}
+
+	public static WorkspaceStatsEvent recompute(Long workspaceId) {
+		return new WorkspaceStatsEvent(workspaceId, WorkspaceStatsDelta.ZERO, true);
+	}
+}
@@ -0,0 +1,30 @@
+package xyz.letzcollab.backend.global.event.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import xyz.letzcollab.backend.global.event.dto.SessionRevocationEvent;
+import xyz.letzcollab.backend.global.security.jwt.AccessTokenRevocationList;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionRevocationEventListener {
+	private final AccessTokenRevocationList revocationList;
+	private final RefreshTokenRepository refreshTokenRepository;
+
+	// 이미 커밋된 뒤라 예외를 던지면 요청만 실패하므로 기록만 함 (액세스 토큰 폐기는 로컬에 먼저 반영됨)
+	@TransactionalEventListener
+	public void handleSessionRevocation(SessionRevocationEvent event) {
+		revocationList.revokeAll(event.userPublicId());
+		try {
+			long revoked = refreshTokenRepository.revokeAllSessions(event.userPublicId());
+			log.info("세션 전체 폐기 - userId={}, 폐기한 세션={}", event.userPublicId(), revoked);
+		} catch (DataAccessException e) {
+			log.error("갱신 토큰 전체 폐기 실패 - userId={}, error={}", event.userPublicId(), e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package xyz.letzcollab.backend.global.event.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import xyz.letzcollab.backend.global.event.batch.WorkspaceStatsDeltaBuffer;
+import xyz.letzcollab.backend.global.event.dto.WorkspaceStatsEvent;
+
+@Component
+@RequiredArgsConstructor
+public class WorkspaceStatsEventListener {
+
+	private final WorkspaceStatsDeltaBuffer deltaBuffer;
+
+	// 커밋된 변경만 버퍼에 모으고, 스냅샷 반영은 버퍼가 주기적으로 워크스페이스별 1번씩 수행
+	@TransactionalEventListener
+	public void handle(WorkspaceStatsEvent event) {
+		if (event.recompute()) {
+			deltaBuffer.recompute(event.workspaceId());
+		} else {
+			deltaBuffer.add(event.workspaceId(), event.delta());
+		}
+	}
+}
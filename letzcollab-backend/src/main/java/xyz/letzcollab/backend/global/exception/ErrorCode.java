@@ -15,6 +15,8 @@ public enum ErrorCode {
 	INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "데이터 타입이 올바르지 않습니다."),
 	INVALID_JSON_FORMAT(HttpStatus.BAD_REQUEST, "C006", "잘못된 형식의 JSON 요청입니다."),
 	INSUFFICIENT_PERMISSION(HttpStatus.FORBIDDEN, "C007", "해당 작업을 수행할 권한이 없습니다."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C008", "유효하지 않은 페이지 커서입니다."),
+	TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C009", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
 	// --- Auth (A) ---
 	UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "인증되지 않은 사용자입니다."),
@@ -25,6 +27,8 @@ public enum ErrorCode {
 	LOCKED(HttpStatus.FORBIDDEN, "A006", "탈퇴했거나 차단된 계정입니다."),
 	BAD_CREDENTIALS(HttpStatus.UNAUTHORIZED, "A007", "이메일 또는 비밀번호가 잘못되었습니다"),
 	INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "A008", "유효하지 않은 갱신 토큰입니다."),
+	JWT_REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "A009", "로그아웃되었거나 더 이상 사용할 수 없는 JWT 토큰입니다. 다시 로그인해주세요."),
+	PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "A010", "요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
 	// --- User (U) ---
 	USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "존재하지 않는 사용자입니다."),
@@ -53,6 +57,8 @@ public enum ErrorCode {
 	CANNOT_TRANSFER_OWNERSHIP_TO_SELF(HttpStatus.BAD_REQUEST, "W008", "소유권을 자기 자신에게 이전할 수 없습니다."),
 	USE_SELF_UPDATE_API(HttpStatus.BAD_REQUEST, "W009", "본인 정보 수정은 전용 메뉴를 이용해 주세요."),
 	USE_SELF_DELETE_API(HttpStatus.BAD_REQUEST, "W010", "본인 계정 탈퇴는 전용 메뉴를 이용해 주세요."),
+	INVALID_STATS_HISTORY_RANGE(HttpStatus.BAD_REQUEST, "W011", "통계 이력 조회 기간이 올바르지 않거나 너무 깁니다."),
+	STATS_HISTORY_RESOLUTION_EXPIRED(HttpStatus.BAD_REQUEST, "W012", "요청한 해상도의 통계 이력 보관 기간을 벗어났습니다. 더 큰 해상도로 조회해주세요."),
 
 	// --- Project (P) ---
 	INVALID_PROJECT_DATE(HttpStatus.BAD_REQUEST, "P001", "프로젝트 종료일은 시작일보다 빠를 수 없습니다."),
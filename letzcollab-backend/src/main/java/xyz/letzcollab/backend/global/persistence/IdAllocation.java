@@ -0,0 +1,20 @@
+package xyz.letzcollab.backend.global.persistence;
+
+/**
+ * 엔티티 ID 시퀀스 할당 크기 (pooled 옵티마이저)
+ * - 시퀀스 1번 호출로 allocationSize개의 ID를 미리 확보 → insert마다 nextval 왕복이 없고 JDBC 배치 insert가 가능
+ * - DB 시퀀스의 INCREMENT BY와 반드시 같아야 함 (다르면 애플리케이션 기동 실패)
+ *   → 값을 바꿀 때는 ALTER SEQUENCE {테이블}_seq INCREMENT BY {값} 을 먼저 실행
+ * - 네이티브 INSERT ... SELECT에서 행마다 nextval을 부르면 1행이 블록 1개를 소모함 (ID는 겹치지 않지만 빨리 증가)
+ */
+public final class IdAllocation {
+
+	// 일반 테이블 (기존 시퀀스의 INCREMENT BY 50과 동일)
+	public static final int DEFAULT = 50;
+
+	// 배치로 대량 insert되는 테이블 (알림) - hibernate.jdbc.batch_size와 맞춤
+	public static final int BULK = 100;
+
+	private IdAllocation() {
+	}
+}
@@ -0,0 +1,23 @@
+package xyz.letzcollab.backend.global.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * count 쿼리 없는 Slice 페이지네이션 헬퍼
+ * - 조회 시 pageSize + 1 건을 가져오고, 초과분이 있으면 hasNext = true 로 판단 후 잘라냄
+ */
+public final class QuerydslSliceUtils {
+
+	private QuerydslSliceUtils() {
+	}
+
+	public static <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+		boolean hasNext = content.size() > pageable.getPageSize();
+		List<T> sliced = hasNext ? content.subList(0, pageable.getPageSize()) : content;
+		return new SliceImpl<>(sliced, pageable, hasNext);
+	}
+}
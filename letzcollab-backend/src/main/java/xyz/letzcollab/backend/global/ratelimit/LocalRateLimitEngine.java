@@ -0,0 +1,98 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 로컬 요청 제한 (GCRA) - @RateLimited 기본 엔진 + RedisRateLimitEngine의 대체 경로
+ * - 키마다 "다음 요청이 허용되는 이론상 시각"(TAT) 하나만 두고 CAS로 갱신 → 락 없이 판정
+ * - window / limit 간격으로 1개씩 다시 채워지는 용량 limit의 토큰 버킷과 같은 결과
+ * - 이미 다 채워진(TAT가 지난) 키는 전용 스레드가 sweep-interval마다 정리 → 정리해도 판정이 달라지지 않음
+ *   (요청 스레드에서 전체 키를 훑지 않음)
+ * - 키 수가 maxKeys에 도달하면 새 키는 규칙별 공용 버킷 하나를 함께 씀 → 맵이 maxKeys(+ 규칙 수)를 넘지 않음
+ *   → 이미 추적 중인 키는 그대로 판정, 키를 바꿔 가며 보내는 요청은 공용 버킷 한도 안에서만 허용
+ * - 인스턴스별로 따로 세므로 여러 인스턴스에서는 제한이 인스턴스 수만큼 느슨해짐
+ */
+@Slf4j
+@Component
+public class LocalRateLimitEngine implements RateLimitEngine {
+
+	private static final String OVERFLOW_KEY = ":overflow";
+
+	private final Map<String, AtomicLong> theoreticalArrivals = new ConcurrentHashMap<>();
+	private final int maxKeys;
+	private final Duration sweepInterval;
+	private final ScheduledExecutorService sweepExecutor;
+
+	public LocalRateLimitEngine(
+			@Value("${rate-limit.local.max-keys:100000}") int maxKeys,
+			@Value("${rate-limit.local.sweep-interval:30s}") Duration sweepInterval
+	) {
+		this.maxKeys = maxKeys;
+		this.sweepInterval = sweepInterval;
+		this.sweepExecutor = Executors.newSingleThreadScheduledExecutor(
+				Thread.ofPlatform().name("rate-limit-sweep").daemon().factory()
+		);
+	}
+
+	@PostConstruct
+	void start() {
+		long intervalMs = sweepInterval.toMillis();
+		sweepExecutor.scheduleWithFixedDelay(this::sweepSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		sweepExecutor.shutdownNow();
+	}
+
+	@Override
+	public boolean tryAcquire(RateLimitRule rule, String key) {
+		long now = System.nanoTime();
+		long windowNanos = rule.window().toNanos();
+		long intervalNanos = windowNanos / rule.limit();
+
+		AtomicLong tat = theoreticalArrivals.get(rule.name() + ":" + key);
+		if (tat == null) {
+			// 동시에 들어온 새 키만큼은 maxKeys를 잠깐 넘을 수 있음 (요청 스레드 수로 제한됨)
+			String trackedKey = theoreticalArrivals.size() < maxKeys ? rule.name() + ":" + key : rule.name() + OVERFLOW_KEY;
+			tat = theoreticalArrivals.computeIfAbsent(trackedKey, k -> new AtomicLong(now));
+		}
+
+		while (true) {
+			long current = tat.get();
+			long next = (current - now < 0 ? now : current) + intervalNanos;
+			if (next - now > windowNanos) return false;
+			if (tat.compareAndSet(current, next)) return true;
+		}
+	}
+
+	// 다 채워진 키 정리 (정리된 키의 다음 요청은 새 키로 시작해도 같은 판정)
+	void sweep() {
+		long now = System.nanoTime();
+		theoreticalArrivals.values().removeIf(tat -> tat.get() - now <= 0);
+	}
+
+	int trackedKeys() {
+		return theoreticalArrivals.size();
+	}
+
+	private void sweepSafely() {
+		try {
+			sweep();
+		} catch (Exception e) {
+			log.warn("로컬 요청 제한 키 정리 실패 - error={}", e.getMessage());
+		}
+	}
+}
@@ -4,12 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
-import xyz.letzcollab.backend.entity.vo.TokenType;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.global.exception.ErrorCode;
-import xyz.letzcollab.backend.repository.VerificationTokenRepository;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 
 @Component
 @Profile("prod")
@@ -17,16 +15,14 @@ import java.time.LocalDateTime;
 @Slf4j
 public class ProdAuthRateLimiter implements AuthRateLimiter{
 
-	private final VerificationTokenRepository tokenRepository;
-
 	// 24시간에 3회 제한
+	private static final RateLimitRule RESET_PASSWORD = RateLimitRule.of("reset-pwd", 3, Duration.ofHours(24));
+
+	private final RateLimitEngine rateLimitEngine;
+
 	@Override
 	public void rateLimitResetPwdReq(String email) {
-		long count = tokenRepository.countRecentByEmailAndType(
-				email, TokenType.PASSWORD_RESET, LocalDateTime.now().minusHours(24)
-		);
-
-		if (count >= 3) {
+		if (!rateLimitEngine.tryAcquire(RESET_PASSWORD, email)) {
 			log.warn("비밀번호 재설정 요청 rate limit 초과 - email: {}", email);
 			throw new CustomException(ErrorCode.EMAIL_SEND_TOO_FREQUENT);
 		}
@@ -7,9 +7,8 @@ import org.springframework.stereotype.Component;
 import xyz.letzcollab.backend.entity.User;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.global.exception.ErrorCode;
-import xyz.letzcollab.backend.repository.WorkspaceInvitationRepository;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 
 @Component
 @Profile("prod")
@@ -17,14 +16,14 @@ import java.time.LocalDateTime;
 @Slf4j
 public class ProdInvitationRateLimiter implements InvitationRateLimiter{
 
-	private final WorkspaceInvitationRepository invitationRepository;
-
 	// 1시간에 50개로 제한
+	private static final RateLimitRule INVITE_EMAIL = RateLimitRule.of("invite-email", 50, Duration.ofHours(1));
+
+	private final RateLimitEngine rateLimitEngine;
+
 	@Override
 	public void rateLimitInviteEmail(User inviter) {
-		long count = invitationRepository.countByInviterAndCreatedAtAfter(inviter, LocalDateTime.now().minusHours(1));
-
-		if (count >= 50) {
+		if (!rateLimitEngine.tryAcquire(INVITE_EMAIL, inviter.getPublicId().toString())) {
 			log.warn("워크스페이스 초대 rate limit 초과 - inviterUserId={}", inviter.getPublicId());
 			throw new CustomException(ErrorCode.EMAIL_SEND_TOO_FREQUENT);
 		}
@@ -0,0 +1,95 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import xyz.letzcollab.backend.global.exception.CustomException;
+import xyz.letzcollab.backend.global.exception.ErrorCode;
+import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @RateLimited가 붙은 메서드 실행 전 요청 제한 판정
+ * - 한도를 넘으면 메서드를 실행하지 않고 TOO_MANY_REQUESTS 예외 → GlobalExceptionHandler가 429 응답
+ * - 엔드포인트별 거부 횟수: rate_limit.endpoint.rejected{endpoint}
+ * - 규칙은 메서드별로 처음 한 번만 만들어 재사용
+ */
+@Slf4j
+@Aspect
+@Component
+public class RateLimitAspect {
+
+	private final LocalRateLimitEngine localEngine;
+	private final RateLimitEngine distributedEngine;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final Map<Method, RateLimitRule> rules = new ConcurrentHashMap<>();
+
+	public RateLimitAspect(
+			LocalRateLimitEngine localEngine,
+			RateLimitEngine distributedEngine,
+			MeterRegistry meterRegistry,
+			@Value("${rate-limit.endpoint.enabled:true}") boolean enabled
+	) {
+		this.localEngine = localEngine;
+		this.distributedEngine = distributedEngine;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+	}
+
+	@Around("@annotation(rateLimited)")
+	public Object limit(ProceedingJoinPoint joinPoint, RateLimited rateLimited) throws Throwable {
+		if (!enabled) return joinPoint.proceed();
+
+		Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+		RateLimitRule rule = rules.computeIfAbsent(method, m -> toRule(m, rateLimited));
+		String key = resolveKey(rateLimited.key());
+
+		RateLimitEngine engine = rateLimited.distributed() ? distributedEngine : localEngine;
+		if (!engine.tryAcquire(rule, key)) {
+			meterRegistry.counter("rate_limit.endpoint.rejected", "endpoint", rule.name()).increment();
+			log.warn("요청 rate limit 초과 - endpoint={}, key={}", rule.name(), key);
+			throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+		}
+		return joinPoint.proceed();
+	}
+
+	private RateLimitRule toRule(Method method, RateLimited rateLimited) {
+		String name = rateLimited.name().isEmpty()
+				? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+				: rateLimited.name();
+		return RateLimitRule.of(name, rateLimited.permits(), DurationStyle.detectAndParse(rateLimited.window()));
+	}
+
+	private String resolveKey(RateLimitKey keyType) {
+		if (keyType == RateLimitKey.USER) {
+			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+			if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+				return "user:" + userDetails.getPublicId();
+			}
+		}
+		return "ip:" + clientIp();
+	}
+
+	private String clientIp() {
+		if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+			HttpServletRequest request = attributes.getRequest();
+			return request.getRemoteAddr();
+		}
+		return "unknown";
+	}
+}
@@ -0,0 +1,9 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+/**
+ * 요청 제한 판정 엔진 - AuthRateLimiter/InvitationRateLimiter 구현체가 공통으로 사용
+ * - 허용되면 1회를 소비하고 true, 제한을 넘으면 소비하지 않고 false
+ */
+public interface RateLimitEngine {
+	boolean tryAcquire(RateLimitRule rule, String key);
+}
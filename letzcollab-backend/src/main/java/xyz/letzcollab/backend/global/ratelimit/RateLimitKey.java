@@ -0,0 +1,11 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+/**
+ * @RateLimited 한도를 나눠 세는 기준
+ */
+public enum RateLimitKey {
+	// 로그인 사용자별 (인증 전 요청은 IP별)
+	USER,
+	// 클라이언트 IP별 (nginx 뒤에서는 X-Forwarded-For 기준, server.forward-headers-strategy 참고)
+	IP
+}
@@ -0,0 +1,17 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 제한 규칙 - window 동안 key별로 최대 limit번 허용
+ * - name은 Redis 키와 메트릭 태그에 쓰이므로 규칙마다 고유해야 함
+ */
+public record RateLimitRule(
+		String name,
+		int limit,
+		Duration window
+) {
+	public static RateLimitRule of(String name, int limit, Duration window) {
+		return new RateLimitRule(name, limit, window);
+	}
+}
@@ -0,0 +1,29 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 요청 제한 - window 동안 key별로 permits번까지 허용, 넘으면 429 (C009)
+ * - window: Spring Duration 표기 ("1m", "10s", "1h" 등)
+ * - distributed: true면 Redis로 인스턴스 간 한도 공유, false면 인스턴스 로컬에서만 셈 (Redis 조회 없음)
+ * - name: Redis 키/메트릭 태그용 이름, 비우면 "컨트롤러.메서드"
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+	RateLimitKey key() default RateLimitKey.USER;
+
+	int permits();
+
+	String window();
+
+	boolean distributed() default false;
+
+	String name() default "";
+}
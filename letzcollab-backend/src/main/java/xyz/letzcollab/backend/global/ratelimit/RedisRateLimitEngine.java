@@ -0,0 +1,94 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 슬라이딩 윈도우 카운터 - key: RL:{규칙:키}:{윈도우 번호}
+ * - 현재/직전 고정 윈도우 카운터 2개를 직전 윈도우가 겹치는 비율만큼 가중해 합산 → 키당 O(1), DB 조회 없음
+ * - 판정과 증가를 Lua 스크립트 1번으로 처리해 동시 요청에도 제한을 넘지 않음
+ * - 두 키에 같은 해시 태그를 붙여 클러스터에서도 같은 슬롯에 놓임
+ * - Redis 장애(또는 비활성화) 시 인스턴스 로컬 엔진(LocalRateLimitEngine)으로 대체 (요청은 실패시키지 않음)
+ * - RateLimitEngine 주입 시 기본 구현 (여러 인스턴스가 한도를 공유)
+ */
+@Slf4j
+@Primary
+@Component
+public class RedisRateLimitEngine implements RateLimitEngine {
+
+	private static final String KEY_PREFIX = "RL:";
+
+	// KEYS[1]: 현재 윈도우, KEYS[2]: 직전 윈도우 / ARGV: 현재 윈도우 경과(ms), 윈도우(ms), limit
+	private static final RedisScript<Long> SLIDING_WINDOW = new DefaultRedisScript<>("""
+			local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+			local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+			local elapsed = tonumber(ARGV[1])
+			local window = tonumber(ARGV[2])
+			if previous * (window - elapsed) / window + current + 1 > tonumber(ARGV[3]) then
+				return 0
+			end
+			redis.call('INCR', KEYS[1])
+			redis.call('PEXPIRE', KEYS[1], window * 2)
+			return 1
+			""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final LocalRateLimitEngine fallback;
+	private final boolean enabled;
+	private final MeterRegistry meterRegistry;
+	private final Counter fallbackCounter;
+
+	public RedisRateLimitEngine(
+			RedisTemplate<String, String> redisTemplate,
+			LocalRateLimitEngine fallback,
+			MeterRegistry meterRegistry,
+			@Value("${rate-limit.redis-enabled:true}") boolean enabled
+	) {
+		this.redisTemplate = redisTemplate;
+		this.fallback = fallback;
+		this.enabled = enabled;
+		this.meterRegistry = meterRegistry;
+		this.fallbackCounter = Counter.builder("rate_limit.fallback")
+									  .description("Redis 대신 로컬 엔진으로 판정한 횟수")
+									  .register(meterRegistry);
+	}
+
+	@Override
+	public boolean tryAcquire(RateLimitRule rule, String key) {
+		boolean allowed = enabled ? tryAcquireRedis(rule, key) : fallback.tryAcquire(rule, key);
+		if (!allowed) {
+			meterRegistry.counter("rate_limit.rejected", "rule", rule.name()).increment();
+		}
+		return allowed;
+	}
+
+	private boolean tryAcquireRedis(RateLimitRule rule, String key) {
+		long windowMs = rule.window().toMillis();
+		long now = System.currentTimeMillis();
+		long windowIndex = now / windowMs;
+		String base = KEY_PREFIX + "{" + rule.name() + ":" + key + "}:";
+
+		try {
+			Long allowed = redisTemplate.execute(
+					SLIDING_WINDOW,
+					List.of(base + windowIndex, base + (windowIndex - 1)),
+					String.valueOf(now % windowMs), String.valueOf(windowMs), String.valueOf(rule.limit())
+			);
+			return allowed != null && allowed == 1L;
+		} catch (DataAccessException e) {
+			log.warn("rate limit Redis 판정 실패, 로컬 엔진으로 대체 - rule={}, error={}", rule.name(), e.getMessage());
+			fallbackCounter.increment();
+			return fallback.tryAcquire(rule, key);
+		}
+	}
+}
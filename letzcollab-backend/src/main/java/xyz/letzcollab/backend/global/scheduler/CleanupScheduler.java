@@ -4,13 +4,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import xyz.letzcollab.backend.global.scheduler.batch.ChunkedDeleteJob;
+import xyz.letzcollab.backend.global.scheduler.batch.ChunkedDeleteJobRunner;
+import xyz.letzcollab.backend.global.scheduler.batch.ChunkedJobResult;
+import xyz.letzcollab.backend.global.scheduler.lock.SchedulerLock;
 import xyz.letzcollab.backend.repository.NotificationRepository;
 import xyz.letzcollab.backend.repository.VerificationTokenRepository;
 import xyz.letzcollab.backend.repository.WorkspaceInvitationRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
+/**
+ * 오래된 데이터 정리 - 모두 ChunkedDeleteJobRunner로 ID 순서 청크 단위 삭제 (청크마다 짧은 트랜잭션)
+ * 여러 인스턴스 중 SchedulerLock을 잡은 1대만 실행
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -18,44 +26,69 @@ public class CleanupScheduler {
 	private final VerificationTokenRepository tokenRepository;
 	private final WorkspaceInvitationRepository invitationRepository;
 	private final NotificationRepository notificationRepository;
+	private final ChunkedDeleteJobRunner jobRunner;
+	private final SchedulerLock schedulerLock;
 
 	private static final int TOKEN_RETENTION_DAYS = 1;
 	private static final int INVITATION_RETENTION_DAYS = 1;
 	private static final int NOTIFICATION_RETENTION_DAYS = 30;
+	private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
 
 	/**
 	 * 매일 새벽 4시에 실행
-	 * 읽음 처리된 지 30일이 지난 알림을 벌크 삭제
+	 * 읽음 처리된 지 30일이 지난 알림 삭제
+	 * (읽은 알림만 삭제하므로 읽지 않은 알림 카운터는 변하지 않음)
 	 */
 	@Scheduled(cron = "0 0 4 * * *")
-	@Transactional
 	public void deleteOldReadNotifications() {
-		LocalDateTime cutoff = LocalDateTime.now().minusDays(NOTIFICATION_RETENTION_DAYS);
-		int deletedCount = notificationRepository.deleteReadNotificationsOlderThan(cutoff);
-		log.info("오래된 알림 정리 완료 - 삭제 건수={}, 기준일시={}", deletedCount, cutoff);
+		schedulerLock.runExclusively("cleanup-read-notifications", LOCK_AT_LEAST_FOR, () -> {
+			LocalDateTime cutoff = LocalDateTime.now().minusDays(NOTIFICATION_RETENTION_DAYS);
+			ChunkedJobResult result = jobRunner.run(new ChunkedDeleteJob(
+					"cleanup-read-notifications",
+					(afterId, chunk) -> notificationRepository.findReadNotificationIdsOlderThan(cutoff, afterId, chunk),
+					(afterId, lastId) -> notificationRepository.deleteReadNotificationsOlderThan(cutoff, afterId, lastId)
+			));
+			logResult("오래된 알림 정리", result, cutoff);
+		});
 	}
 
 	/**
 	 * 매일 새벽 5시에 실행
-	 * 생성된 지 하루 이상 지난 (이메일/비밀번호 재설정) 인증 토큰 벌크 삭제
+	 * 생성된 지 하루 이상 지난 (이메일/비밀번호 재설정) 인증 토큰 삭제
 	 */
 	@Scheduled(cron = "0 0 5 * * *")
-	@Transactional
 	public void deleteOldVerificationTokens() {
-		LocalDateTime cutoff = LocalDateTime.now().minusDays(TOKEN_RETENTION_DAYS);
-		int deletedCount = tokenRepository.deleteTokensOlderThan(cutoff);
-		log.info("오래된 인증 토큰 정리 완료 - 삭제 건수={}, 기준일시={}", deletedCount, cutoff);
+		schedulerLock.runExclusively("cleanup-verification-tokens", LOCK_AT_LEAST_FOR, () -> {
+			LocalDateTime cutoff = LocalDateTime.now().minusDays(TOKEN_RETENTION_DAYS);
+			ChunkedJobResult result = jobRunner.run(new ChunkedDeleteJob(
+					"cleanup-verification-tokens",
+					(afterId, chunk) -> tokenRepository.findTokenIdsOlderThan(cutoff, afterId, chunk),
+					(afterId, lastId) -> tokenRepository.deleteTokensOlderThan(cutoff, afterId, lastId)
+			));
+			logResult("오래된 인증 토큰 정리", result, cutoff);
+		});
 	}
 
 	/**
 	 * 매일 새벽 5시반에 실행
-	 * 생성된 지 하루 이상 지난 워크스페이스 초대장 벌크 삭제
+	 * 생성된 지 하루 이상 지난 워크스페이스 초대장 삭제
 	 */
 	@Scheduled(cron = "0 30 5 * * *")
-	@Transactional
 	public void deleteOldInvitations() {
-		LocalDateTime cutoff = LocalDateTime.now().minusDays(INVITATION_RETENTION_DAYS);
-		int deletedCount = invitationRepository.deleteInvitationsOlderThan(cutoff);
-		log.info("오래된 워크스페이스 초대장 정리 완료 - 삭제 건수={}, 기준일시={}", deletedCount, cutoff);
+		schedulerLock.runExclusively("cleanup-workspace-invitations", LOCK_AT_LEAST_FOR, () -> {
+			LocalDateTime cutoff = LocalDateTime.now().minusDays(INVITATION_RETENTION_DAYS);
+			ChunkedJobResult result = jobRunner.run(new ChunkedDeleteJob(
+					"cleanup-workspace-invitations",
+					(afterId, chunk) -> invitationRepository.findInvitationIdsOlderThan(cutoff, afterId, chunk),
+					(afterId, lastId) -> invitationRepository.deleteInvitationsOlderThan(cutoff, afterId, lastId)
+			));
+			logResult("오래된 워크스페이스 초대장 정리", result, cutoff);
+		});
+	}
+
+	private void logResult(String jobLabel, ChunkedJobResult result, LocalDateTime cutoff) {
+		log.info("{} {} - 삭제 건수={}, 청크 수={}, 시작 ID={}, 기준일시={}, 소요시간: {}ms",
+				jobLabel, result.completed() ? "완료" : "중단", result.deleted(), result.chunks(),
+				result.resumedAt(), cutoff, result.elapsed().toMillis());
 	}
 }
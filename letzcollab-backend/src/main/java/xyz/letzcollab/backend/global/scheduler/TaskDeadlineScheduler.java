@@ -1,87 +1,118 @@
 package xyz.letzcollab.backend.global.scheduler;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import xyz.letzcollab.backend.entity.Notification;
-import xyz.letzcollab.backend.entity.Task;
-import xyz.letzcollab.backend.entity.User;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.letzcollab.backend.dto.notification.DeadlineNotificationChunk;
+import xyz.letzcollab.backend.dto.notification.InsertedNotificationRow;
+import xyz.letzcollab.backend.dto.notification.NotificationResponse;
 import xyz.letzcollab.backend.entity.vo.NotificationType;
 import xyz.letzcollab.backend.entity.vo.ReferenceType;
+import xyz.letzcollab.backend.global.cache.UnreadNotificationCounter;
+import xyz.letzcollab.backend.global.scheduler.lock.SchedulerLock;
+import xyz.letzcollab.backend.global.sse.NotificationStreamRelay;
+import xyz.letzcollab.backend.global.sse.dto.NotificationStreamMessage;
 import xyz.letzcollab.backend.repository.NotificationRepository;
-import xyz.letzcollab.backend.repository.TaskRepository;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TaskDeadlineScheduler {
 
-	private final TaskRepository taskRepository;
 	private final NotificationRepository notificationRepository;
+	private final UnreadNotificationCounter unreadCounter;
+	private final NotificationStreamRelay streamRelay;
+	private final MeterRegistry meterRegistry;
+	private final SchedulerLock schedulerLock;
+	private final TransactionTemplate transactionTemplate;
+
+	private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+	private static final int CHUNK_SIZE = 500;
 
 	/**
 	 * 매일 새벽 3시에 실행
-	 * - 마감일이 내일인 미완료 업무 → TASK_DUE_SOON 알림
-	 * - 마감일이 어제인 미완료 업무 → TASK_OVERDUE 알림
+	 * - 마감일이 내일인 미완료 업무 → TASK_DUE_SOON 알림 (담당자)
+	 * - 마감일이 어제인 미완료 업무 → TASK_OVERDUE 알림 (담당자 + 담당자와 다른 보고자)
 	 *
-	 * 중복 방지: 같은 업무에 대해 같은 type(TASK_DUE_SOON 등)의 알림이 이미 존재하면 스킵
+	 * 대상 업무를 CHUNK_SIZE개씩 INSERT ... SELECT 1번으로 처리 (업무를 메모리에 올리지 않음)
+	 * - 청크마다 트랜잭션을 커밋 → 커밋 후 전달할 알림이 한 번에 CHUNK_SIZE × 2건을 넘지 않음
+	 * 중복 방지: 같은 업무에 대해 같은 type의 알림이 이미 있는 수신자는 제외 → 중간에 실패해도 재실행하면 이어서 생성
+	 * 여러 인스턴스 중 SchedulerLock을 잡은 1대만 실행 (락을 먼저 잡고 트랜잭션 시작)
 	 */
 	@Scheduled(cron = "0 0 3 * * *")
-	@Transactional
 	public void checkTaskDeadlines() {
-		LocalDate today = LocalDate.now();
-		LocalDate tomorrow = today.plusDays(1);
-		LocalDate yesterday = today.minusDays(1);
+		schedulerLock.runExclusively("task-deadline", LOCK_AT_LEAST_FOR, () -> {
+			LocalDate today = LocalDate.now();
 
-		// D-1: 마감 임박 알림 (담당자에게만)
-		List<Task> dueSoonTasks = taskRepository.findActiveTasksByDueDate(tomorrow);
-		for (Task task : dueSoonTasks) {
-			createNotificationIfAbsent(
-					task.getAssignee(), task.getPublicId(), task.getProject().getPublicId(),
-					NotificationType.TASK_DUE_SOON,
-					String.format("'%s' 업무의 마감일이 내일입니다.", task.getName())
-			);
-		}
+			int dueSoon = createNotifications(NotificationType.TASK_DUE_SOON, today.plusDays(1), false,
+					"업무의 마감일이 내일입니다.");
+			int overdue = createNotifications(NotificationType.TASK_OVERDUE, today.minusDays(1), true,
+					"업무가 마감일을 초과했습니다.");
+
+			log.info("마감 알림 스케줄러 실행 완료 - dueSoon={}, overdue={}", dueSoon, overdue);
+		});
+	}
 
-		// D+1: 마감 초과 알림
-		List<Task> overdueTasks = taskRepository.findActiveTasksByDueDate(yesterday);
-		for (Task task : overdueTasks) {
-			// 담당자에게 알림
-			createNotificationIfAbsent(
-					task.getAssignee(), task.getPublicId(), task.getProject().getPublicId(),
-					NotificationType.TASK_OVERDUE,
-					String.format("'%s' 업무가 마감일을 초과했습니다.", task.getName())
-			);
+	/**
+	 * @param message 업무 이름 뒤에 붙는 문구 ('{업무 이름}' {message})
+	 * @return 새로 생성된 알림 수
+	 */
+	private int createNotifications(NotificationType type, LocalDate dueDate, boolean includeReporter, String message) {
+		Counter created = Counter.builder("scheduler.task_deadline.notifications")
+								 .tag("type", type.name())
+								 .description("마감 알림 스케줄러가 생성한 알림 수")
+								 .register(meterRegistry);
 
-			// 보고자가 담당자와 다르면 보고자에게도 알림
-			if (!task.getReporter().getId().equals(task.getAssignee().getId())) {
-				createNotificationIfAbsent(
-						task.getReporter(), task.getPublicId(), task.getProject().getPublicId(),
-						NotificationType.TASK_OVERDUE,
-						String.format("'%s' 업무가 마감일을 초과했습니다.", task.getName())
+		int total = 0;
+		long afterTaskId = 0L;
+		while (true) {
+			long cursor = afterTaskId;
+			DeadlineNotificationChunk chunk = transactionTemplate.execute(status -> {
+				LocalDateTime now = LocalDateTime.now();
+				DeadlineNotificationChunk inserted = notificationRepository.insertDeadlineNotifications(
+						type, dueDate, includeReporter, message, now, cursor, CHUNK_SIZE
 				);
-			}
-		}
+				dispatch(type, inserted.inserted(), now);
+				return inserted;
+			});
+			if (chunk == null || chunk.lastTaskId() == null) break;
 
-		log.info("마감 알림 스케줄러 실행 완료 - dueSoon={}, overdue={}", dueSoonTasks.size(), overdueTasks.size());
+			created.increment(chunk.inserted().size());
+			total += chunk.inserted().size();
+			afterTaskId = chunk.lastTaskId();
+		}
+		return total;
 	}
 
-	private void createNotificationIfAbsent(User recipient, UUID taskPublicId, UUID projectPublicId,
-											NotificationType type, String message) {
-		boolean alreadySent = notificationRepository.existsByRecipientIdAndReferenceIdAndType(
-				recipient.getId(), taskPublicId, type
-		);
+	/**
+	 * 청크 단위로 커밋 후 작업을 한 번씩만 등록
+	 * - 읽지 않은 알림 카운터는 수신자별로 모아서 증가
+	 * - 실시간 전달은 청크 전체를 메시지 1개로 발행
+	 */
+	private void dispatch(NotificationType type, List<InsertedNotificationRow> inserted, LocalDateTime now) {
+		if (inserted.isEmpty()) return;
+
+		Map<UUID, Long> countsByRecipient = inserted.stream().collect(
+				Collectors.groupingBy(InsertedNotificationRow::recipientPublicId, Collectors.counting()));
+		unreadCounter.incrementAll(countsByRecipient);
 
-		if (!alreadySent) {
-			notificationRepository.save(Notification.create(
-					recipient, type, ReferenceType.TASK, taskPublicId, projectPublicId, message
-			));
-		}
+		streamRelay.publishAll(inserted.stream()
+									   .map(row -> new NotificationStreamMessage(row.recipientPublicId(), new NotificationResponse(
+											   row.notificationId(), type, ReferenceType.TASK, row.referenceId(),
+											   row.parentReferenceId(), row.message(), false, now
+									   )))
+									   .toList());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package xyz.letzcollab.backend.global.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import xyz.letzcollab.backend.dto.notification.UnreadCountRow;
+import xyz.letzcollab.backend.global.cache.UnreadNotificationCounter;
+import xyz.letzcollab.backend.global.scheduler.lock.SchedulerLock;
+import xyz.letzcollab.backend.repository.NotificationRepository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadNotificationCountScheduler {
+
+	private final UnreadNotificationCounter unreadCounter;
+	private final NotificationRepository notificationRepository;
+	private final SchedulerLock schedulerLock;
+
+	private static final long FIXED_DELAY = 10 * 60 * 1000L; // 직전 보정 종료 후 10분 뒤 실행
+	private static final long INITIAL_DELAY = 60 * 1000L; // 애플리케이션 시작 후 1분 뒤 첫 실행
+	private static final int BATCH_SIZE = 500;
+	private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(9);
+
+	/**
+	 * 읽지 않은 알림 카운터 보정
+	 * - 카운터가 있는 사용자만 BATCH_SIZE 단위로 DB 개수를 다시 세어 다르면 카운터 삭제 (다음 조회 때 재계산)
+	 * - 커밋 후 갱신 실패, 카운터 채우기와 증감의 경합 등으로 생긴 오차를 바로잡는 용도
+	 */
+	@Scheduled(fixedDelay = FIXED_DELAY, initialDelay = INITIAL_DELAY)
+	void reconcile() {
+		schedulerLock.runExclusively("unread-notification-reconcile", LOCK_AT_LEAST_FOR, this::reconcileTrackedUsers);
+	}
+
+	private void reconcileTrackedUsers() {
+		long start = System.currentTimeMillis();
+		AtomicInteger checked = new AtomicInteger();
+		AtomicInteger corrected = new AtomicInteger();
+		try {
+			unreadCounter.forEachTrackedUser(BATCH_SIZE, userPublicIds -> {
+				Map<UUID, Long> counts = new HashMap<>();
+				userPublicIds.forEach(id -> counts.put(id, 0L));	// 결과에 없는 사용자는 0개
+				List<UnreadCountRow> rows = notificationRepository.countUnreadByRecipientPublicIds(userPublicIds);
+				rows.forEach(row -> counts.put(row.recipientPublicId(), row.unreadCount()));
+
+				checked.addAndGet(userPublicIds.size());
+				corrected.addAndGet(unreadCounter.evictIfMismatch(counts));
+			});
+			log.info("읽지 않은 알림 카운터 보정 완료 - 확인={}, 보정={}, 소요시간: {}ms",
+					checked.get(), corrected.get(), System.currentTimeMillis() - start);
+		} catch (Exception e) {
+			log.error("읽지 않은 알림 카운터 보정 실패", e);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package xyz.letzcollab.backend.global.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.letzcollab.backend.entity.vo.StatsResolution;
+import xyz.letzcollab.backend.global.scheduler.batch.ChunkedDeleteJob;
+import xyz.letzcollab.backend.global.scheduler.batch.ChunkedDeleteJobRunner;
+import xyz.letzcollab.backend.global.scheduler.batch.ChunkedJobResult;
+import xyz.letzcollab.backend.global.scheduler.lock.SchedulerLock;
+import xyz.letzcollab.backend.repository.WorkspaceStatsHistoryRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static xyz.letzcollab.backend.entity.vo.StatsResolution.*;
+
+/**
+ * 워크스페이스 통계 이력 기록/다운샘플링/정리
+ * - 5분마다 직전 기록 이후 스냅샷이 바뀐 워크스페이스의 값을 방금 끝난 구간의 5분 행으로 기록
+ * - 매시간 5분 행 → 1시간 행, 매일 1시간 행 → 1일 행으로 다운샘플링
+ * - 보관 기간(StatsResolution.retention)이 지난 5분/1시간 행은 청크 단위로 삭제
+ * 여러 인스턴스 중 SchedulerLock을 잡은 1대만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkspaceStatsHistoryScheduler {
+	private final WorkspaceStatsHistoryRepository historyRepository;
+	private final ChunkedDeleteJobRunner jobRunner;
+	private final SchedulerLock schedulerLock;
+	private final TransactionTemplate transactionTemplate;
+
+	private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+	// 직전 실행을 놓쳐도 빈 구간이 생기지 않도록 다운샘플링 구간을 2주기만큼 겹쳐서 다시 계산 (결과는 같음)
+	private static final int ROLLUP_OVERLAP = 2;
+
+	/**
+	 * 5분마다 실행
+	 * 직전 기록 이후 스냅샷이 바뀐 워크스페이스의 값을 방금 끝난 5분 구간의 행으로 기록 (행 = 구간 안 마지막 값)
+	 * - 구간이 끝난 뒤 실행 전까지 커밋된 변경도 끝난 구간에 포함됨 (다음 구간으로 넘기지 않고 당김)
+	 */
+	@Scheduled(cron = "0 */5 * * * *")
+	void recordHistory() {
+		schedulerLock.runExclusively("workspace-stats-history-record", LOCK_AT_LEAST_FOR, () -> {
+			LocalDateTime bucketStart = FIVE_MINUTES.truncate(LocalDateTime.now()).minus(FIVE_MINUTES.getBucket());
+			try {
+				Integer recorded = transactionTemplate.execute(status ->
+						historyRepository.recordChangedSnapshots(bucketStart));
+				log.debug("워크스페이스 통계 이력 기록 - 구간={}, 기록={}", bucketStart, recorded);
+			} catch (Exception e) {
+				log.error("워크스페이스 통계 이력 기록 실패 - 구간={}", bucketStart, e);
+			}
+		});
+	}
+
+	/**
+	 * 매시간 3분에 실행
+	 * 지난 5분 행을 1시간 행으로 다운샘플링
+	 */
+	@Scheduled(cron = "0 3 * * * *")
+	void rollUpHourly() {
+		schedulerLock.runExclusively("workspace-stats-history-hourly", LOCK_AT_LEAST_FOR,
+				() -> rollUp(FIVE_MINUTES, HOURLY, "hour"));
+	}
+
+	/**
+	 * 매일 0시 20분에 실행 (0시 3분의 1시간 다운샘플링으로 전날 마지막 1시간 행이 만들어진 뒤)
+	 * 지난 1시간 행을 1일 행으로 다운샘플링
+	 */
+	@Scheduled(cron = "0 20 0 * * *")
+	void rollUpDaily() {
+		schedulerLock.runExclusively("workspace-stats-history-daily", LOCK_AT_LEAST_FOR,
+				() -> rollUp(HOURLY, DAILY, "day"));
+	}
+
+	/**
+	 * 매일 새벽 4시 40분에 실행
+	 * 보관 기간이 지난 5분/1시간 행 삭제 (1일 행은 영구 보관)
+	 */
+	@Scheduled(cron = "0 40 4 * * *")
+	void pruneHistory() {
+		schedulerLock.runExclusively("workspace-stats-history-prune", LOCK_AT_LEAST_FOR, () -> {
+			LocalDateTime now = LocalDateTime.now();
+			prune(FIVE_MINUTES, now);
+			prune(HOURLY, now);
+		});
+	}
+
+	// 완료된 target 구간만 계산 (진행 중인 구간은 다음 실행에서 확정)
+	private void rollUp(StatsResolution source, StatsResolution target, String unit) {
+		LocalDateTime to = target.truncate(LocalDateTime.now());
+		LocalDateTime from = to.minus(target.getBucket().multipliedBy(ROLLUP_OVERLAP));
+		long start = System.currentTimeMillis();
+		try {
+			Integer rolled = transactionTemplate.execute(status ->
+					historyRepository.rollUp(source.name(), target.name(), unit, from, to));
+			log.info("워크스페이스 통계 이력 다운샘플링 완료 - {} → {}, 구간=[{}, {}), 기록={}, 소요시간: {}ms",
+					source, target, from, to, rolled, System.currentTimeMillis() - start);
+		} catch (Exception e) {
+			log.error("워크스페이스 통계 이력 다운샘플링 실패 - {} → {}, 구간=[{}, {})", source, target, from, to, e);
+		}
+	}
+
+	private void prune(StatsResolution resolution, LocalDateTime now) {
+		LocalDateTime cutoff = resolution.retainedSince(now);
+		ChunkedJobResult result = jobRunner.run(new ChunkedDeleteJob(
+				"workspace-stats-history-prune-" + resolution.name().toLowerCase(),
+				(afterId, chunk) -> historyRepository.findIdsOlderThan(resolution, cutoff, afterId, chunk),
+				(afterId, lastId) -> historyRepository.deleteOlderThan(resolution, cutoff, afterId, lastId)
+		));
+		log.info("워크스페이스 통계 이력 정리 {} - 해상도={}, 삭제 건수={}, 청크 수={}, 기준일시={}, 소요시간: {}ms",
+				result.completed() ? "완료" : "중단", resolution, result.deleted(), result.chunks(),
+				cutoff, result.elapsed().toMillis());
+	}
+}
@@ -1,34 +1,144 @@
 package xyz.letzcollab.backend.global.scheduler;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.letzcollab.backend.global.cache.DirtyWorkspaceSet;
+import xyz.letzcollab.backend.global.scheduler.lock.SchedulerLock;
+import xyz.letzcollab.backend.repository.WorkspaceRepository;
 import xyz.letzcollab.backend.repository.WorkspaceStatsSnapshotRepository;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class WorkspaceStatsScheduler {
 
 	private final EntityManager entityManager;
 	private final WorkspaceStatsSnapshotRepository snapshotRepository;
+	private final WorkspaceRepository workspaceRepository;
+	private final DirtyWorkspaceSet dirtyWorkspaces;
+	private final SchedulerLock schedulerLock;
+	private final TransactionTemplate transactionTemplate;
+	private final DistributionSummary recomputedPerCycle;
+	private final AtomicLong totalWorkspaces = new AtomicLong();
 
-	private static final long FIXED_DELAY = 4 * 60 * 1000L; // 직전 스냅샷 생성 실행 종료 후 4분 뒤 실행 (실행 시간이 길어져도 중복 실행 방지)
-	private static final long INITIAL_DELAY = 30 * 1000L; // 애플리케이션 시작 후 30초 뒤 첫 실행 (부팅 직후 부하 회피)
+	private static final long DIRTY_FIXED_DELAY = 60 * 1000L; // 직전 재집계 종료 후 1분 뒤 실행 (실행 시간이 길어져도 중복 실행 방지)
+	private static final long DIRTY_INITIAL_DELAY = 30 * 1000L; // 애플리케이션 시작 후 30초 뒤 첫 실행 (부팅 직후 부하 회피)
+	// 인스턴스마다 주기가 따로 돌기 때문에, 한 대가 실행한 뒤 주기 대부분 동안 락을 유지해 다른 인스턴스의 실행을 건너뛰게 함
+	private static final Duration DIRTY_LOCK_AT_LEAST_FOR = Duration.ofSeconds(50);
+	private static final int DIRTY_BATCH_SIZE = 200;
+	private static final int DIRTY_MAX_PER_CYCLE = 5000;	// 남은 대상은 다음 주기에 처리
+	private static final Duration FULL_LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+	private static final Duration ROLLOVER_LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
 
-	@Scheduled(fixedDelay = FIXED_DELAY, initialDelay = INITIAL_DELAY)
-	@Transactional
+	public WorkspaceStatsScheduler(
+			EntityManager entityManager,
+			WorkspaceStatsSnapshotRepository snapshotRepository,
+			WorkspaceRepository workspaceRepository,
+			DirtyWorkspaceSet dirtyWorkspaces,
+			SchedulerLock schedulerLock,
+			TransactionTemplate transactionTemplate,
+			MeterRegistry meterRegistry
+	) {
+		this.entityManager = entityManager;
+		this.snapshotRepository = snapshotRepository;
+		this.workspaceRepository = workspaceRepository;
+		this.dirtyWorkspaces = dirtyWorkspaces;
+		this.schedulerLock = schedulerLock;
+		this.transactionTemplate = transactionTemplate;
+		this.recomputedPerCycle = DistributionSummary.builder("workspace_stats.cycle.recomputed")
+													 .description("재집계 주기 1번에 다시 집계한 워크스페이스 수")
+													 .register(meterRegistry);
+		Gauge.builder("workspace_stats.cycle.total_workspaces", totalWorkspaces, AtomicLong::get)
+			 .description("재집계 주기 시점의 전체 워크스페이스 수 (재집계 수와 비교용)")
+			 .register(meterRegistry);
+	}
+
+	/**
+	 * 변경된 워크스페이스만 재집계
+	 * - 통계 증분이 반영된 워크스페이스(DirtyWorkspaceSet)만 꺼내 DIRTY_BATCH_SIZE개씩 다시 집계
+	 * - 주기당 비용이 전체 데이터 크기가 아니라 변경된 워크스페이스 수에 비례
+	 */
+	@Scheduled(fixedDelay = DIRTY_FIXED_DELAY, initialDelay = DIRTY_INITIAL_DELAY)
+	void recomputeDirtySnapshots() {
+		schedulerLock.runExclusively("workspace-stats-dirty", DIRTY_LOCK_AT_LEAST_FOR, this::recomputeDirtyWorkspaces);
+	}
+
+	/**
+	 * 매일 0시 1분에 실행 - 날짜 변경 반영
+	 * - 어제가 마감일인 미완료 업무만 읽어 워크스페이스별 마감 초과 카운터에 더함 (업무 테이블 전체를 다시 읽지 않음)
+	 */
+	@Scheduled(cron = "0 1 0 * * *")
+	void rollOverOverdue() {
+		schedulerLock.runExclusively("workspace-stats-overdue-rollover", ROLLOVER_LOCK_AT_LEAST_FOR, () -> {
+			long start = System.currentTimeMillis();
+			LocalDate today = LocalDate.now();
+			try {
+				Integer updated = transactionTemplate.execute(status ->
+						snapshotRepository.rollOverOverdue(today.minusDays(1), today));
+				log.info("마감 초과 업무 수 날짜 변경 반영 완료 - 기준일={}, 갱신된 스냅샷={}, 소요시간: {}ms",
+						today, updated, System.currentTimeMillis() - start);
+			} catch (Exception e) {
+				log.error("마감 초과 업무 수 날짜 변경 반영 실패 - 기준일={}", today, e);
+			}
+		});
+	}
+
+	/**
+	 * 매주 일요일 0시 10분에 실행 - 전체 워크스페이스 통계 보정 (저빈도)
+	 * - 재시작으로 잃은 증분, Redis 장애로 표시되지 않은 재집계 대상, 날짜 변경 반영을 놓친 날의 마감 초과 수 등을 바로잡음
+	 */
+	@Scheduled(cron = "0 10 0 * * SUN")
 	void updateSnapshots() {
+		schedulerLock.runExclusively("workspace-stats", FULL_LOCK_AT_LEAST_FOR, this::updateAllSnapshots);
+	}
+
+	private void recomputeDirtyWorkspaces() {
+		long start = System.currentTimeMillis();
+		int recomputed = 0;
+		try {
+			while (recomputed < DIRTY_MAX_PER_CYCLE) {
+				List<Long> workspaceIds = dirtyWorkspaces.pop(DIRTY_BATCH_SIZE);
+				if (workspaceIds.isEmpty()) break;
+
+				try {
+					transactionTemplate.executeWithoutResult(status ->
+							snapshotRepository.updateSnapshotsByWorkspaceIds(workspaceIds, LocalDate.now()));
+				} catch (RuntimeException e) {
+					dirtyWorkspaces.markAll(workspaceIds);	// 꺼낸 대상은 다음 주기에 다시 시도
+					throw e;
+				}
+				recomputed += workspaceIds.size();
+			}
+
+			totalWorkspaces.set(workspaceRepository.count());
+			recomputedPerCycle.record(recomputed);
+			if (recomputed > 0) {
+				log.info("변경된 워크스페이스 통계 재집계 완료 - 재집계={}, 전체={}, 소요시간: {}ms",
+						recomputed, totalWorkspaces.get(), System.currentTimeMillis() - start);
+			}
+		} catch (Exception e) {
+			log.error("변경된 워크스페이스 통계 재집계 실패 - 재집계={}", recomputed, e);
+		}
+	}
+
+	private void updateAllSnapshots() {
 		long start = System.currentTimeMillis();
 		log.info("워크스페이스 통계 스냅샷 생성/수정 시도");
 		try {
-			entityManager.createNativeQuery("SET LOCAL work_mem = '192MB'").executeUpdate();
-			snapshotRepository.updateSnapshots(LocalDate.now());
+			transactionTemplate.executeWithoutResult(status -> {
+				entityManager.createNativeQuery("SET LOCAL work_mem = '192MB'").executeUpdate();
+				snapshotRepository.updateSnapshots(LocalDate.now());
+			});
 			long end = System.currentTimeMillis() - start;
 			log.info("워크스페이스 통계 스냅샷 생성/수정 성공, 소요시간: {}ms", end);
 		} catch (Exception e) {
@@ -0,0 +1,25 @@
+package xyz.letzcollab.backend.global.scheduler.batch;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * ID(keyset) 순서로 나눠서 삭제하는 배치 작업 정의
+ * - idReader: afterId보다 큰 삭제 대상 ID를 오름차순으로 최대 청크 크기만큼 조회
+ * - rangeDeleter: (afterId, lastId] 범위에서 삭제 조건을 다시 확인하며 삭제 → 조회 후 조건이 바뀐 행은 남김
+ *
+ * @param name 체크포인트 키, 메트릭 태그로 쓰이는 작업 이름
+ */
+public record ChunkedDeleteJob(String name, IdReader idReader, RangeDeleter rangeDeleter) {
+
+	@FunctionalInterface
+	public interface IdReader {
+		List<Long> read(long afterId, Pageable chunk);
+	}
+
+	@FunctionalInterface
+	public interface RangeDeleter {
+		int delete(long afterId, long lastId);
+	}
+}
@@ -0,0 +1,169 @@
+package xyz.letzcollab.backend.global.scheduler.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 삭제 작업을 ID 순서 청크로 나눠 실행
+ * - 청크마다 별도 트랜잭션 (ID 조회 + 범위 삭제) → 락 보유 시간과 WAL/undo 크기를 청크 크기로 제한
+ * - 청크 커밋 후 체크포인트 저장, 청크 사이에 throttle만큼 쉬어서 운영 트래픽과 복제 지연에 여유를 줌
+ * - 스레드가 인터럽트되면(종료 등) 현재 청크까지만 처리하고 중단 → 다음 실행이 체크포인트부터 이어서 처리
+ * - 이어서 처리한 실행은 체크포인트 이전 구간을 다시 보지 않음 (그 사이 새로 대상이 된 행은 다음 실행에서 삭제)
+ *
+ * 메트릭 (job 태그)
+ * - scheduler.batch_job.deleted: 삭제한 행 수 (진행량)
+ * - scheduler.batch_job.checkpoint: 마지막으로 처리한 ID (진행 위치)
+ * - scheduler.batch_job.chunk.duration / scheduler.batch_job.duration: 청크별 / 작업 전체 소요시간
+ */
+@Slf4j
+@Component
+public class ChunkedDeleteJobRunner {
+
+	private final TransactionTemplate transactionTemplate;
+	private final JobCheckpointStore checkpointStore;
+	private final MeterRegistry meterRegistry;
+	private final int chunkSize;
+	private final Duration throttle;
+
+	// 작업별 진행 위치 (Gauge는 약한 참조라 여기서 강한 참조 유지)
+	private final Map<String, AtomicLong> checkpoints = new ConcurrentHashMap<>();
+
+	public ChunkedDeleteJobRunner(
+			PlatformTransactionManager transactionManager,
+			JobCheckpointStore checkpointStore,
+			MeterRegistry meterRegistry,
+			@Value("${scheduler.batch-job.chunk-size:1000}") int chunkSize,
+			@Value("${scheduler.batch-job.throttle:100ms}") Duration throttle
+	) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.checkpointStore = checkpointStore;
+		this.meterRegistry = meterRegistry;
+		this.chunkSize = chunkSize;
+		this.throttle = throttle;
+	}
+
+	public ChunkedJobResult run(ChunkedDeleteJob job) {
+		String name = job.name();
+		Counter deletedCounter = Counter.builder("scheduler.batch_job.deleted")
+										.tag("job", name)
+										.description("청크 배치 작업이 삭제한 행 수")
+										.register(meterRegistry);
+		Timer chunkTimer = Timer.builder("scheduler.batch_job.chunk.duration")
+								.tag("job", name)
+								.description("청크 1개(트랜잭션 1번) 처리 시간")
+								.register(meterRegistry);
+		AtomicLong checkpoint = checkpoints.computeIfAbsent(name, key -> {
+			AtomicLong value = new AtomicLong();
+			Gauge.builder("scheduler.batch_job.checkpoint", value, AtomicLong::get)
+				 .tag("job", key)
+				 .description("청크 배치 작업이 마지막으로 처리한 ID")
+				 .register(meterRegistry);
+			return value;
+		});
+
+		long start = System.nanoTime();
+		long resumedAt = checkpointStore.load(name);
+		long afterId = resumedAt;
+		long deleted = 0;
+		int chunks = 0;
+		boolean completed = false;
+		checkpoint.set(afterId);
+
+		while (!Thread.currentThread().isInterrupted()) {
+			long chunkStart = System.nanoTime();
+			ChunkOutcome outcome = executeChunk(job, afterId);
+			chunkTimer.record(Duration.ofNanos(System.nanoTime() - chunkStart));
+
+			if (outcome == null) {
+				completed = true;
+				break;
+			}
+			afterId = outcome.lastId();
+			deleted += outcome.deleted();
+			chunks++;
+			deletedCounter.increment(outcome.deleted());
+			checkpoint.set(afterId);
+			saveCheckpoint(name, afterId);
+
+			if (outcome.last()) {
+				completed = true;
+				break;
+			}
+			if (!pause()) break;
+		}
+
+		if (completed) {
+			checkpointStore.clear(name);
+		} else {
+			log.warn("청크 배치 작업 중단, 다음 실행에서 이어서 처리 - job={}, checkpoint={}", name, afterId);
+		}
+
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+		Timer.builder("scheduler.batch_job.duration")
+			 .tag("job", name)
+			 .tag("result", completed ? "completed" : "interrupted")
+			 .description("청크 배치 작업 1회 실행 시간")
+			 .register(meterRegistry)
+			 .record(elapsed);
+		return new ChunkedJobResult(deleted, chunks, resumedAt, elapsed, completed);
+	}
+
+	/**
+	 * @return 삭제 대상이 더 없으면 null
+	 */
+	private ChunkOutcome executeChunk(ChunkedDeleteJob job, long afterId) {
+		return transactionTemplate.execute(status -> {
+			List<Long> ids = job.idReader().read(afterId, PageRequest.of(0, chunkSize));
+			if (ids.isEmpty()) return null;
+
+			long lastId = ids.getLast();
+			int deleted = job.rangeDeleter().delete(afterId, lastId);
+			return new ChunkOutcome(lastId, deleted, ids.size() < chunkSize);
+		});
+	}
+
+	/**
+	 * 청크 도중 인터럽트되어도 이미 커밋한 청크의 체크포인트는 남겨야 함
+	 * - Redis 클라이언트는 인터럽트 상태에서 응답 대기를 포기하므로 저장하는 동안만 인터럽트 상태를 비웠다가 되돌림
+	 */
+	private void saveCheckpoint(String name, long afterId) {
+		boolean interrupted = Thread.interrupted();
+		try {
+			checkpointStore.save(name, afterId);
+		} finally {
+			if (interrupted) Thread.currentThread().interrupt();
+		}
+	}
+
+	// 인터럽트되면 false
+	private boolean pause() {
+		if (throttle.isZero()) return true;
+		try {
+			Thread.sleep(throttle);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * @param last 조회된 ID가 청크 크기보다 적음 → 마지막 청크
+	 */
+	private record ChunkOutcome(long lastId, int deleted, boolean last) {
+	}
+}
@@ -0,0 +1,12 @@
+package xyz.letzcollab.backend.global.scheduler.batch;
+
+import java.time.Duration;
+
+/**
+ * @param deleted   이번 실행에서 삭제한 행 수
+ * @param chunks    처리한 청크 수
+ * @param resumedAt 이전 실행의 체크포인트에서 이어서 시작했다면 그 ID (처음부터 시작했으면 0)
+ * @param completed 끝까지 처리했는지 여부 (중단되면 체크포인트가 남아 다음 실행이 이어서 처리)
+ */
+public record ChunkedJobResult(long deleted, int chunks, long resumedAt, Duration elapsed, boolean completed) {
+}
@@ -0,0 +1,60 @@
+package xyz.letzcollab.backend.global.scheduler.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 청크 배치 작업 체크포인트 (Redis) - key: JOB:CKPT:{jobName}, value: 마지막으로 처리한 ID
+ * - 청크 커밋마다 갱신, 작업이 끝까지 처리되면 삭제
+ * - 배포/재시작으로 중단된 작업은 다음 실행 때 체크포인트 이후부터 이어서 처리
+ * - Redis 장애 시에는 처음부터 처리 (삭제 조건을 다시 확인하므로 중복 처리해도 결과는 같음)
+ */
+@Slf4j
+@Component
+public class JobCheckpointStore {
+
+	private static final String KEY_PREFIX = "JOB:CKPT:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Duration ttl;
+
+	public JobCheckpointStore(
+			RedisTemplate<String, String> redisTemplate,
+			@Value("${scheduler.batch-job.checkpoint-ttl:2d}") Duration ttl
+	) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = ttl;
+	}
+
+	// 체크포인트가 없으면 0 (처음부터)
+	public long load(String jobName) {
+		try {
+			String value = redisTemplate.opsForValue().get(KEY_PREFIX + jobName);
+			return value == null ? 0L : Long.parseLong(value);
+		} catch (DataAccessException e) {
+			log.warn("배치 작업 체크포인트 조회 실패, 처음부터 처리 - job={}, error={}", jobName, e.getMessage());
+			return 0L;
+		}
+	}
+
+	public void save(String jobName, long lastId) {
+		try {
+			redisTemplate.opsForValue().set(KEY_PREFIX + jobName, String.valueOf(lastId), ttl);
+		} catch (DataAccessException e) {
+			log.warn("배치 작업 체크포인트 저장 실패 - job={}, lastId={}, error={}", jobName, lastId, e.getMessage());
+		}
+	}
+
+	public void clear(String jobName) {
+		try {
+			redisTemplate.delete(KEY_PREFIX + jobName);
+		} catch (DataAccessException e) {
+			log.warn("배치 작업 체크포인트 삭제 실패 - job={}, error={}", jobName, e.getMessage());
+		}
+	}
+}
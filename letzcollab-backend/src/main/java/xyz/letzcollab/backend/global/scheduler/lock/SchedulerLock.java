@@ -0,0 +1,247 @@
+package xyz.letzcollab.backend.global.scheduler.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 작업 클러스터 단일 실행 락 (여러 인스턴스 중 락을 잡은 1대만 실행, 나머지는 건너뜀)
+ *
+ * - Redis 락 - key: LOCK:SCHED:{jobName}, value: 실행마다 새로 만든 토큰
+ * - SET NX PX lease로 획득, 실행 중에는 lease/3마다 연장 → 인스턴스가 죽으면 lease 후 자동 해제
+ * - 종료 후 lockAtLeastFor가 지나지 않았으면 남은 시간만큼 유지 → 시계가 조금 어긋난 다른 인스턴스가 같은 주기를 다시 실행하지 않음
+ * - 연장/해제는 토큰이 같을 때만 (lease가 끝나 다른 인스턴스가 잡은 락을 건드리지 않음)
+ *
+ * - Postgres advisory 락 - pg_try_advisory_xact_lock(hashtext(key)), 실행 동안 전용 커넥션 1개의 트랜잭션에 묶임
+ * - Redis 락을 잡은 뒤에도 함께 획득 → Redis 장애로 advisory 락만 잡고 실행 중인 인스턴스와 겹치지 않음
+ * - Redis 장애 시 advisory 락만으로 실행 (하루 1번 작업이 Redis 장애로 통째로 빠지지 않음)
+ *   → lockAtLeastFor 동안은 커넥션을 반납하지 않고 락 유지 (Redis 경로와 같은 보장)
+ * - 트랜잭션 롤백/커넥션 종료 시 자동 해제 → 세션 락과 달리 락을 쥔 채 풀로 돌아가지 않음
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+	private static final String KEY_PREFIX = "LOCK:SCHED:";
+	private static final String TRY_ADVISORY_LOCK = "SELECT pg_try_advisory_xact_lock(hashtext(?))";
+	private static final String BACKEND_REDIS = "redis";
+	private static final String BACKEND_POSTGRES = "postgres";
+
+	private static final RedisScript<Long> EXTEND_IF_OWNER = new DefaultRedisScript<>("""
+			if redis.call('GET', KEYS[1]) == ARGV[1] then
+				return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+			end
+			return 0
+			""", Long.class);
+
+	private static final RedisScript<Long> RELEASE_IF_OWNER = new DefaultRedisScript<>("""
+			if redis.call('GET', KEYS[1]) == ARGV[1] then
+				return redis.call('DEL', KEYS[1])
+			end
+			return 0
+			""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final DataSource dataSource;
+	private final MeterRegistry meterRegistry;
+	private final Duration lease;
+	private final boolean enabled;
+	private final ScheduledExecutorService renewalExecutor;
+
+	public SchedulerLock(
+			RedisTemplate<String, String> redisTemplate,
+			DataSource dataSource,
+			MeterRegistry meterRegistry,
+			@Value("${scheduler.lock.lease:1m}") Duration lease,
+			@Value("${scheduler.lock.enabled:true}") boolean enabled
+	) {
+		this.redisTemplate = redisTemplate;
+		this.dataSource = dataSource;
+		this.meterRegistry = meterRegistry;
+		this.lease = lease;
+		this.enabled = enabled;
+		this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(
+				Thread.ofPlatform().name("scheduler-lock-renewal").daemon().factory()
+		);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		// 반납 대기 중인 advisory 락 커넥션은 커넥션 풀이 닫힐 때 함께 해제됨
+		renewalExecutor.shutdownNow();
+	}
+
+	/**
+	 * 락을 잡으면 task 실행, 다른 인스턴스가 실행 중이면 건너뜀
+	 * @param lockAtLeastFor 실행이 빨리 끝나도 락을 유지할 최소 시간 (스케줄 주기보다 짧게)
+	 * @return task 실행 여부
+	 */
+	public boolean runExclusively(String jobName, Duration lockAtLeastFor, Runnable task) {
+		if (!enabled) {
+			task.run();
+			return true;
+		}
+
+		String key = KEY_PREFIX + jobName;
+		String token = UUID.randomUUID().toString();
+		Boolean acquired;
+		try {
+			acquired = redisTemplate.opsForValue().setIfAbsent(key, token, lease);
+		} catch (DataAccessException e) {
+			record(jobName, BACKEND_REDIS, "unavailable");
+			log.warn("스케줄러 Redis 락 획득 불가로 DB advisory 락으로 대체 - job={}, error={}", jobName, e.getMessage());
+			return runWithAdvisoryLock(jobName, key, lockAtLeastFor, task);
+		}
+
+		if (!Boolean.TRUE.equals(acquired)) {
+			record(jobName, BACKEND_REDIS, "skipped");
+			log.debug("다른 인스턴스가 실행 중이라 건너뜀 - job={}", jobName);
+			return false;
+		}
+
+		Connection advisoryLock = acquireAdvisoryLock(jobName, key);
+		if (advisoryLock == null) {
+			// Redis 장애 중 advisory 락만으로 실행한 인스턴스가 아직 락을 쥐고 있음
+			record(jobName, BACKEND_REDIS, "skipped");
+			release(jobName, key, token, Duration.ZERO);
+			return false;
+		}
+		record(jobName, BACKEND_REDIS, "acquired");
+
+		long start = System.nanoTime();
+		long renewIntervalMs = Math.max(lease.toMillis() / 3, 1);
+		ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(
+				() -> extend(jobName, key, token), renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS
+		);
+		try {
+			task.run();
+		} finally {
+			renewal.cancel(false);
+			releaseAdvisoryLock(jobName, advisoryLock);
+			release(jobName, key, token, lockAtLeastFor.minus(Duration.ofNanos(System.nanoTime() - start)));
+		}
+		return true;
+	}
+
+	/**
+	 * Redis 장애 시 대체 실행
+	 * - 커넥션은 lockAtLeastFor가 지날 때까지 쥐고 있다가 갱신 스레드에서 반납
+	 */
+	private boolean runWithAdvisoryLock(String jobName, String key, Duration lockAtLeastFor, Runnable task) {
+		Connection advisoryLock = acquireAdvisoryLock(jobName, key);
+		if (advisoryLock == null) {
+			record(jobName, BACKEND_POSTGRES, "skipped");
+			return false;
+		}
+		record(jobName, BACKEND_POSTGRES, "acquired");
+
+		long start = System.nanoTime();
+		try {
+			task.run();
+		} finally {
+			Duration remaining = lockAtLeastFor.minus(Duration.ofNanos(System.nanoTime() - start));
+			if (remaining.isNegative() || remaining.isZero()) {
+				releaseAdvisoryLock(jobName, advisoryLock);
+			} else {
+				renewalExecutor.schedule(() -> releaseAdvisoryLock(jobName, advisoryLock),
+						remaining.toMillis(), TimeUnit.MILLISECONDS);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return 락을 쥔 커넥션, 다른 인스턴스가 쥐고 있거나 DB 오류면 null
+	 */
+	private Connection acquireAdvisoryLock(String jobName, String key) {
+		Connection connection = null;
+		try {
+			connection = dataSource.getConnection();
+			connection.setAutoCommit(false);
+			try (PreparedStatement statement = connection.prepareStatement(TRY_ADVISORY_LOCK)) {
+				statement.setString(1, key);
+				try (ResultSet resultSet = statement.executeQuery()) {
+					if (resultSet.next() && resultSet.getBoolean(1)) {
+						return connection;
+					}
+				}
+			}
+			log.debug("다른 인스턴스가 advisory 락을 쥐고 있어 건너뜀 - job={}", jobName);
+		} catch (SQLException e) {
+			log.warn("스케줄러 advisory 락 획득 실패 - job={}, error={}", jobName, e.getMessage());
+		}
+		if (connection != null) {
+			releaseAdvisoryLock(jobName, connection);
+		}
+		return null;
+	}
+
+	private void releaseAdvisoryLock(String jobName, Connection connection) {
+		try (connection) {
+			connection.rollback();
+		} catch (SQLException e) {
+			// 롤백하지 못해도 커넥션이 닫히면 트랜잭션과 함께 해제됨
+			log.warn("스케줄러 advisory 락 해제 실패 - job={}, error={}", jobName, e.getMessage());
+		}
+	}
+
+	private void extend(String jobName, String key, String token) {
+		try {
+			Long extended = redisTemplate.execute(EXTEND_IF_OWNER, List.of(key), token, String.valueOf(lease.toMillis()));
+			if (extended == null || extended == 0) {
+				// lease 안에 연장하지 못해 다른 인스턴스가 락을 가져갔을 수 있음 → 중복 실행 가능성 기록
+				Counter.builder("scheduler.lock.lease_lost")
+					   .tag("job", jobName)
+					   .description("실행 중 스케줄러 락 lease를 잃은 횟수")
+					   .register(meterRegistry)
+					   .increment();
+				log.warn("스케줄러 락 lease 연장 실패 (락 소유권 상실) - job={}", jobName);
+			}
+		} catch (DataAccessException e) {
+			log.warn("스케줄러 락 lease 연장 중 Redis 오류 - job={}, error={}", jobName, e.getMessage());
+		}
+	}
+
+	private void release(String jobName, String key, String token, Duration remaining) {
+		try {
+			if (remaining.isNegative() || remaining.isZero()) {
+				redisTemplate.execute(RELEASE_IF_OWNER, List.of(key), token);
+			} else {
+				redisTemplate.execute(EXTEND_IF_OWNER, List.of(key), token, String.valueOf(remaining.toMillis()));
+			}
+		} catch (DataAccessException e) {
+			// 해제하지 못해도 lease가 지나면 만료됨
+			log.warn("스케줄러 락 해제 실패 - job={}, error={}", jobName, e.getMessage());
+		}
+	}
+
+	private void record(String jobName, String backend, String result) {
+		Counter.builder("scheduler.lock.attempts")
+			   .tag("job", jobName)
+			   .tag("backend", backend)
+			   .tag("result", result)
+			   .description("스케줄러 락 획득 시도 결과 (acquired: 실행, skipped: 다른 인스턴스가 실행 중, unavailable: Redis 장애로 advisory 락 대체)")
+			   .register(meterRegistry)
+			   .increment();
+	}
+}
@@ -0,0 +1,105 @@
+package xyz.letzcollab.backend.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import xyz.letzcollab.backend.global.exception.CustomException;
+import xyz.letzcollab.backend.global.exception.ErrorCode;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시/검증을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * - BCrypt는 CPU만 쓰는 작업이라 요청 스레드에서 그대로 돌리면 로그인이 몰릴 때 CPU를 모두 차지해 다른 조회가 밀림
+ *   → 동시에 해시하는 수를 threads개로 제한하고, 요청 스레드는 CPU를 쓰지 않고 결과만 기다림
+ * - 대기열(queueCapacity)이 가득 차면 기다리지 않고 바로 PASSWORD_HASHING_BUSY(503)
+ * - 메트릭: 대기열 길이(password_hashing.queue), 대기 포함 소요 시간(password_hashing.duration), 거부 횟수(password_hashing.rejected)
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejectedCounter;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.executor = new ThreadPoolExecutor(
+				threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+				new ThreadPoolExecutor.AbortPolicy()
+		);
+		this.encodeTimer = Timer.builder("password_hashing.duration")
+								.tag("operation", "encode")
+								.description("비밀번호 해시 소요 시간 (대기열 대기 포함)")
+								.register(meterRegistry);
+		this.matchesTimer = Timer.builder("password_hashing.duration")
+								 .tag("operation", "matches")
+								 .description("비밀번호 검증 소요 시간 (대기열 대기 포함)")
+								 .register(meterRegistry);
+		this.rejectedCounter = Counter.builder("password_hashing.rejected")
+									  .description("대기열이 가득 차 거부된 비밀번호 해시/검증 수")
+									  .register(meterRegistry);
+		Gauge.builder("password_hashing.queue", executor, e -> e.getQueue().size())
+			 .description("대기 중인 비밀번호 해시/검증 수")
+			 .register(meterRegistry);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(encodeTimer, () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	// 해시 문자열의 cost만 비교하므로 요청 스레드에서 바로 실행
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	// 빈 소멸 시 호출 (@Bean 기본 destroy 메서드 추론)
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private <T> T run(Timer timer, Callable<T> task) {
+		long start = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			log.warn("비밀번호 해시 대기열 초과로 요청 거부 - queue={}", executor.getQueue().size());
+			throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+}
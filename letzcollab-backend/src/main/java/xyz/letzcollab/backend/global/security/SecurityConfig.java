@@ -1,5 +1,7 @@
 package xyz.letzcollab.backend.global.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,7 +13,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -43,6 +44,8 @@ public class SecurityConfig {
 			.csrf(AbstractHttpConfigurer::disable)
 			.formLogin(AbstractHttpConfigurer::disable)
 			.authorizeHttpRequests(auth -> {
+				// SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인증됨
+				auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
 				auth.requestMatchers("/v1/auth/logout").authenticated();
 				auth.requestMatchers(
 						"/v1/auth/**",
@@ -68,6 +71,7 @@ public class SecurityConfig {
 		conf.addAllowedOrigin(frontendURL);
 		conf.addAllowedHeader("X-Client-Type");
 		conf.addAllowedHeader("Content-Type");
+		conf.addAllowedHeader("Last-Event-ID"); // SSE 재연결 시 EventSource가 자동으로 보냄
 		conf.addAllowedMethod("*");
 		conf.setAllowCredentials(true); // 응답헤더 Access-Control-Allow-Credentials: true (서버가 브라우저에게 쿠키를 주고 받는걸 허용했다는걸 알려줌)
 
@@ -76,9 +80,19 @@ public class SecurityConfig {
 		return source;
 	}
 
+	/**
+	 * BCrypt 해시/검증은 전용 스레드 풀에서 실행 (threads가 0이면 CPU 코어 수)
+	 * - strength를 올리면 이전 cost로 저장된 해시는 다음 로그인 때 새 cost로 다시 해시됨 (CustomUserDetailsService.updatePassword)
+	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public BoundedPasswordEncoder passwordEncoder(
+			MeterRegistry meterRegistry,
+			@Value("${password.bcrypt.strength:10}") int strength,
+			@Value("${password.hashing.threads:0}") int threads,
+			@Value("${password.hashing.queue-capacity:32}") int queueCapacity
+	) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, meterRegistry);
 	}
 
 	@Bean
@@ -0,0 +1,196 @@
+package xyz.letzcollab.backend.global.security.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import xyz.letzcollab.backend.global.cache.CacheInvalidationBus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 액세스 토큰 폐기 목록
+ * - 사용자 단위: "이 시각 이전(포함)에 발급된 토큰은 무효" 기준 시각 (전체 로그아웃/탈퇴/비밀번호 재설정)
+ *   → Redis key: REVOKE:{userPublicId} = 기준 시각(epoch 밀리초)
+ * - 세션 단위: 폐기된 세션(갱신 토큰 패밀리, 토큰의 sid 클레임)으로 발급된 토큰은 모두 무효 (현재 기기 로그아웃)
+ *   → Redis key: REVOKE_SID:{sessionId} = 폐기 시각(epoch 밀리초), 폐기된 세션은 더 재발급되지 않으므로 기준 시각이 필요 없음
+ * - TTL = 액세스 토큰 유효 기간 (그 뒤엔 이전 토큰이 모두 만료됨)
+ * - 요청마다 Redis를 조회하지 않도록 전체 목록을 인스턴스 로컬 맵에 복제
+ *   → 폐기 시 CacheInvalidationBus로 모든 인스턴스에 전파, 메시지 유실은 sync-interval마다 Redis 전체 동기화로 보정
+ * - 폐기 대상은 로그아웃/탈퇴/비밀번호 재설정한 사용자뿐이고 액세스 토큰 유효 기간이 지나면 지워지므로 목록은 작게 유지됨
+ * - 발급 시각은 토큰의 밀리초 클레임(JwtTokenProvider.ISSUED_AT_MILLIS) 기준
+ *   → 초 단위 iat로 비교하면 폐기와 같은 초에 발급된 토큰(비밀번호 재설정 직후 재로그인 등)까지 거부됨
+ *   → 인스턴스 간 시계 차이만큼은 여전히 오차가 생길 수 있음 (NTP 동기화 전제)
+ * - Redis 장애 시 폐기는 이 인스턴스에만 바로 반영되고, 다른 인스턴스는 TTL 안에 Redis가 복구되면 동기화로 반영
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+	private static final String CACHE_NAME = "token-revocation";
+	private static final String SESSION_CACHE_NAME = "token-revocation-session";
+	private static final String KEY_PREFIX = "REVOKE:";
+	private static final String SESSION_KEY_PREFIX = "REVOKE_SID:";
+	private static final String DELIMITER = ":";
+	private static final int SCAN_BATCH_SIZE = 500;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final CacheInvalidationBus invalidationBus;
+	private final Duration retention;
+	private final Duration syncInterval;
+	private final boolean redisEnabled;
+
+	// userPublicId → 기준 시각(epoch 밀리초)
+	private final Map<UUID, Long> revokedAt = new ConcurrentHashMap<>();
+	// sessionId → 폐기 시각(epoch 밀리초, 유효 기간이 지난 항목 정리용)
+	private final Map<String, Long> revokedSessions = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService syncExecutor;
+
+	public AccessTokenRevocationList(
+			RedisTemplate<String, String> redisTemplate,
+			CacheInvalidationBus invalidationBus,
+			MeterRegistry meterRegistry,
+			@Value("${jwt.access-validity-in-ms}") long accessTokenValidityInMs,
+			@Value("${jwt.revocation.sync-interval:1m}") Duration syncInterval,
+			@Value("${jwt.revocation.redis-enabled:true}") boolean redisEnabled
+	) {
+		this.redisTemplate = redisTemplate;
+		this.invalidationBus = invalidationBus;
+		this.retention = Duration.ofMillis(accessTokenValidityInMs);
+		this.syncInterval = syncInterval;
+		this.redisEnabled = redisEnabled;
+		this.syncExecutor = Executors.newSingleThreadScheduledExecutor(
+				Thread.ofPlatform().name("token-revocation-sync").daemon().factory()
+		);
+
+		invalidationBus.register(CACHE_NAME, this::applyRemote);
+		invalidationBus.register(SESSION_CACHE_NAME, this::applyRemoteSession);
+		meterRegistry.gauge("jwt.revocation.size", revokedAt, Map::size);
+		meterRegistry.gauge("jwt.revocation.session_size", revokedSessions, Map::size);
+	}
+
+	@PostConstruct
+	void start() {
+		// 기동 직후 바로 1번 동기화해 이미 폐기된 토큰을 받아들이지 않도록 함
+		syncExecutor.scheduleWithFixedDelay(this::syncSafely, 0, syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		syncExecutor.shutdownNow();
+	}
+
+	// 요청 경로에서 호출 - 로컬 맵 조회만 함
+	public boolean isRevoked(UUID userPublicId, Instant issuedAt) {
+		Long epochMilli = revokedAt.get(userPublicId);
+		return epochMilli != null && issuedAt.toEpochMilli() <= epochMilli;
+	}
+
+	// 요청 경로에서 호출 - sid 클레임이 없는 토큰(세션 없이 발급)은 사용자 단위 폐기만 적용
+	public boolean isSessionRevoked(String sessionId) {
+		return sessionId != null && revokedSessions.containsKey(sessionId);
+	}
+
+	// 이 세션으로 발급된 액세스 토큰을 모두 무효화 (같은 사용자의 다른 세션은 유지)
+	public void revokeSession(String sessionId) {
+		long epochMilli = Instant.now().toEpochMilli();
+		revokedSessions.merge(sessionId, epochMilli, Math::max);
+
+		if (redisEnabled) {
+			try {
+				redisTemplate.opsForValue().set(SESSION_KEY_PREFIX + sessionId, String.valueOf(epochMilli), retention);
+			} catch (DataAccessException e) {
+				log.warn("액세스 토큰 세션 폐기 저장 실패, pub/sub으로만 전파 - sessionId={}, error={}", sessionId, e.getMessage());
+			}
+		}
+		invalidationBus.publish(SESSION_CACHE_NAME, sessionId + DELIMITER + epochMilli);
+	}
+
+	// 지금까지 발급된 이 사용자의 액세스 토큰을 모두 무효화
+	public void revokeAll(UUID userPublicId) {
+		long epochMilli = Instant.now().toEpochMilli();
+		revokedAt.merge(userPublicId, epochMilli, Math::max);
+
+		if (redisEnabled) {
+			try {
+				redisTemplate.opsForValue().set(KEY_PREFIX + userPublicId, String.valueOf(epochMilli), retention);
+			} catch (DataAccessException e) {
+				log.warn("액세스 토큰 폐기 저장 실패, pub/sub으로만 전파 - userId={}, error={}", userPublicId, e.getMessage());
+			}
+		}
+		invalidationBus.publish(CACHE_NAME, userPublicId + DELIMITER + epochMilli);
+	}
+
+	private void applyRemote(String payload) {
+		int idx = payload.lastIndexOf(DELIMITER);
+		revokedAt.merge(UUID.fromString(payload.substring(0, idx)), Long.parseLong(payload.substring(idx + 1)), Math::max);
+	}
+
+	private void applyRemoteSession(String payload) {
+		int idx = payload.lastIndexOf(DELIMITER);
+		revokedSessions.merge(payload.substring(0, idx), Long.parseLong(payload.substring(idx + 1)), Math::max);
+	}
+
+	// Redis 전체 목록을 로컬에 합치고, 유효 기간이 지난 항목은 로컬에서 제거
+	void sync() {
+		if (redisEnabled) {
+			mergeFromRedis();
+		}
+		long expiredBefore = Instant.now().minus(retention).toEpochMilli();
+		revokedAt.values().removeIf(epochMilli -> epochMilli < expiredBefore);
+		revokedSessions.values().removeIf(epochMilli -> epochMilli < expiredBefore);
+	}
+
+	private void mergeFromRedis() {
+		scanValues(KEY_PREFIX, (userPublicId, value) ->
+				revokedAt.merge(UUID.fromString(userPublicId), Long.parseLong(value), Math::max));
+		scanValues(SESSION_KEY_PREFIX, (sessionId, value) ->
+				revokedSessions.merge(sessionId, Long.parseLong(value), Math::max));
+	}
+
+	// prefix로 시작하는 키를 모두 읽어 (prefix 뒤 식별자, 값)으로 전달
+	private void scanValues(String prefix, BiConsumer<String, String> consumer) {
+		ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH_SIZE).build();
+		List<String> keys = new ArrayList<>();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			cursor.forEachRemaining(keys::add);
+		}
+
+		for (int from = 0; from < keys.size(); from += SCAN_BATCH_SIZE) {
+			List<String> batch = keys.subList(from, Math.min(from + SCAN_BATCH_SIZE, keys.size()));
+			List<String> values = redisTemplate.opsForValue().multiGet(batch);
+			if (values == null) continue;
+			for (int i = 0; i < batch.size(); i++) {
+				String value = values.get(i);
+				if (value != null) {
+					consumer.accept(batch.get(i).substring(prefix.length()), value);
+				}
+			}
+		}
+	}
+
+	// 예외가 나면 ScheduledExecutorService가 이후 실행을 멈추므로 여기서 모두 처리
+	private void syncSafely() {
+		try {
+			sync();
+		} catch (Exception e) {
+			log.warn("액세스 토큰 폐기 목록 동기화 실패 - error={}", e.getMessage());
+		}
+	}
+}
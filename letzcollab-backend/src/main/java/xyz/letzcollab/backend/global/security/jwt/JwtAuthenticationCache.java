@@ -0,0 +1,95 @@
+package xyz.letzcollab.backend.global.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import xyz.letzcollab.backend.global.cache.LocalTtlCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 액세스 토큰 → Authentication 로컬 캐시 (인스턴스별, LRU)
+ * - 같은 토큰으로 반복되는 요청은 서명 검증, 클레임 JSON 파싱, CustomUserDetails 생성을 건너뜀
+ * - 키는 토큰 원문이 아니라 SHA-256 다이제스트 (힙에 토큰 원문을 쌓아두지 않음)
+ * - 항목은 토큰의 exp까지만 유효 → 만료된 토큰은 캐시에 없으므로 다시 검증되어 ExpiredJwtException 발생
+ * - 검증에 실패한 토큰은 캐시하지 않음
+ * - 폐기 여부(AccessTokenRevocationList)는 캐시와 무관하게 JwtAuthenticationFilter가 요청마다 확인
+ * - Authentication은 변경 가능(setDetails, eraseCredentials 등)하므로 캐시된 인스턴스를 그대로 내주지 않고 요청마다 새로 감싸서 반환
+ *   (principal과 권한 목록은 변경되지 않으므로 공유)
+ */
+@Component
+public class JwtAuthenticationCache {
+
+	private final JwtTokenProvider jwtTokenProvider;
+	private final LocalTtlCache<String, JwtTokenProvider.VerifiedToken> cache;
+	private final boolean enabled;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public JwtAuthenticationCache(
+			JwtTokenProvider jwtTokenProvider,
+			MeterRegistry meterRegistry,
+			@Value("${jwt.auth-cache.max-size:10000}") int maxSize,
+			@Value("${jwt.auth-cache.max-ttl:15m}") Duration maxTtl,
+			@Value("${jwt.auth-cache.enabled:true}") boolean enabled
+	) {
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.cache = new LocalTtlCache<>(maxSize, maxTtl);
+		this.enabled = enabled;
+		this.hitCounter = meterRegistry.counter("cache.jwt_auth.requests", "result", "hit");
+		this.missCounter = meterRegistry.counter("cache.jwt_auth.requests", "result", "miss");
+		meterRegistry.gauge("cache.jwt_auth.size", cache, LocalTtlCache::size);
+	}
+
+	/**
+	 * @throws io.jsonwebtoken.JwtException 서명이 올바르지 않거나 만료된 토큰 (JwtTokenProvider와 동일)
+	 */
+	public JwtTokenProvider.VerifiedToken verify(String token) {
+		if (!enabled) {
+			return jwtTokenProvider.verify(token);
+		}
+
+		String digest = digest(token);
+		JwtTokenProvider.VerifiedToken cached = cache.get(digest);
+		if (cached != null) {
+			hitCounter.increment();
+			return withNewAuthentication(cached);
+		}
+
+		missCounter.increment();
+		JwtTokenProvider.VerifiedToken verified = jwtTokenProvider.verify(token);
+		Duration untilExpiry = Duration.between(Instant.now(), verified.expiresAt());
+		if (untilExpiry.isPositive()) {
+			cache.put(digest, verified, untilExpiry);
+		}
+		return withNewAuthentication(verified);
+	}
+
+	private static JwtTokenProvider.VerifiedToken withNewAuthentication(JwtTokenProvider.VerifiedToken verified) {
+		Authentication cached = verified.authentication();
+		Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+				cached.getPrincipal(), cached.getCredentials(), cached.getAuthorities()
+		);
+		return new JwtTokenProvider.VerifiedToken(
+				authentication, verified.sessionId(), verified.issuedAt(), verified.expiresAt()
+		);
+	}
+
+	private static String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			// 모든 JVM 구현이 SHA-256을 지원해야 하므로 발생하지 않음
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -17,6 +17,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import xyz.letzcollab.backend.global.exception.ErrorCode;
 import xyz.letzcollab.backend.global.security.AuthErrorHandler;
+import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -29,7 +30,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 	private static final String BEARER_PREFIX = "Bearer ";
 
-	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtAuthenticationCache authenticationCache;
+	private final AccessTokenRevocationList revocationList;
 	private final AuthErrorHandler errorHandler;
 
 	@Override
@@ -43,7 +45,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		try {
 			if (StringUtils.hasText(extractedToken)) {
-				Authentication authentication = jwtTokenProvider.getAuthentication(extractedToken);
+				JwtTokenProvider.VerifiedToken verified = authenticationCache.verify(extractedToken);
+				Authentication authentication = verified.authentication();
+
+				// 로그아웃/탈퇴 등으로 폐기된 토큰 (로컬 조회만 하므로 요청마다 Redis 왕복 없음)
+				CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+				if (revocationList.isRevoked(userDetails.getPublicId(), verified.issuedAt())
+						|| revocationList.isSessionRevoked(verified.sessionId())) {
+					errorHandler.handle(response, ErrorCode.JWT_REVOKED_TOKEN);
+					return;
+				}
 				SecurityContextHolder.getContext().setAuthentication(authentication);
 			}
 
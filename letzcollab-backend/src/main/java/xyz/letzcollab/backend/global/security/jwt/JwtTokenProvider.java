@@ -1,6 +1,7 @@
 package xyz.letzcollab.backend.global.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -14,14 +15,22 @@ import xyz.letzcollab.backend.entity.vo.UserRole;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
+	// 표준 iat는 초 단위라 폐기 시각과 같은 초에 발급된 토큰을 구분할 수 없어 밀리초 발급 시각을 따로 담음
+	public static final String ISSUED_AT_MILLIS = "iat_ms";
+	// 발급에 쓰인 세션(갱신 토큰 패밀리) ID - 현재 기기 로그아웃 시 이 세션의 토큰만 폐기
+	public static final String SESSION_ID = "sid";
+
 	private final SecretKey key;
 	private final long accessTokenValidityInMs;
+	// 파서는 불변이고 스레드 안전하므로 한 번만 만들어 재사용
+	private final JwtParser parser;
 
 	public JwtTokenProvider(
 			@Value("${jwt.secret}") String secretKey,
@@ -30,9 +39,15 @@ public class JwtTokenProvider {
 		byte[] keyBytes = Decoders.BASE64.decode(secretKey);
 		this.key = Keys.hmacShaKeyFor(keyBytes);
 		this.accessTokenValidityInMs = accessTokenValidityInMs;
+		this.parser = Jwts.parser().verifyWith(key).build();
 	}
 
+	// 세션 없이 발급 (사용자 단위 폐기만 적용)
 	public String createToken(Authentication authentication) {
+		return createToken(authentication, null);
+	}
+
+	public String createToken(Authentication authentication, String sessionId) {
 		CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
 		String publicId = userDetails.getPublicId().toString();
@@ -46,13 +61,15 @@ public class JwtTokenProvider {
 				   .subject(publicId)
 				   .claim("email", email)
 				   .claim("role", role)
+				   .claim(SESSION_ID, sessionId)
 				   .issuedAt(now)
+				   .claim(ISSUED_AT_MILLIS, now.getTime())
 				   .expiration(expiryDate)
 				   .signWith(key)
 				   .compact();
 	}
 
-	public String createToken(RefreshTokenData data) {
+	public String createToken(RefreshTokenData data, String sessionId) {
 		Date now = new Date();
 		Date expiryDate = new Date(now.getTime() + accessTokenValidityInMs);
 
@@ -60,15 +77,32 @@ public class JwtTokenProvider {
 				   .subject(data.publicId())
 				   .claim("email", data.email())
 				   .claim("role", data.role())
+				   .claim(SESSION_ID, sessionId)
 				   .issuedAt(now)
+				   .claim(ISSUED_AT_MILLIS, now.getTime())
 				   .expiration(expiryDate)
 				   .signWith(key)
 				   .compact();
 	}
 
 	public Authentication getAuthentication(String extractedToken) {
+		return toAuthentication(generateClaims(extractedToken));
+	}
+
+	// JwtAuthenticationCache용 - 검증된 토큰의 Authentication과 세션 ID/발급 시각(폐기 확인), 만료 시각(캐시 유효 기간)을 함께 반환
+	public VerifiedToken verify(String extractedToken) {
 		Claims claims = generateClaims(extractedToken);
+		return new VerifiedToken(toAuthentication(claims), claims.get(SESSION_ID, String.class), issuedAt(claims),
+				claims.getExpiration().toInstant());
+	}
+
+	// 밀리초 클레임이 없는 이전 토큰은 초 단위 iat 사용
+	private Instant issuedAt(Claims claims) {
+		Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+		return issuedAtMillis != null ? Instant.ofEpochMilli(issuedAtMillis) : claims.getIssuedAt().toInstant();
+	}
 
+	private Authentication toAuthentication(Claims claims) {
 		String publicId = claims.getSubject();
 		String email = claims.get("email", String.class);
 		String role = claims.get("role", String.class);
@@ -86,10 +120,11 @@ public class JwtTokenProvider {
 	}
 
 	private Claims generateClaims(String extractedToken) {
-		return Jwts.parser()
-				   .verifyWith(key)
-				   .build()
-				   .parseSignedClaims(extractedToken)
-				   .getPayload();
+		return parser.parseSignedClaims(extractedToken)
+					 .getPayload();
+	}
+
+	// sessionId: sid 클레임이 없는 토큰(세션 없이 발급, 이전 버전)이면 null
+	public record VerifiedToken(Authentication authentication, String sessionId, Instant issuedAt, Instant expiresAt) {
 	}
 }
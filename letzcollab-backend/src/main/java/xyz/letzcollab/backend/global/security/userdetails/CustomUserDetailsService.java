@@ -1,7 +1,9 @@
 package xyz.letzcollab.backend.global.security.userdetails;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -9,10 +11,11 @@ import org.springframework.transaction.annotation.Transactional;
 import xyz.letzcollab.backend.entity.User;
 import xyz.letzcollab.backend.repository.UserRepository;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
 	private final UserRepository userRepository;
 
@@ -21,4 +24,22 @@ public class CustomUserDetailsService implements UserDetailsService {
 		User foundUser = userRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 사용자입니다"));
 		return new CustomUserDetails(foundUser);
 	}
+
+	/**
+	 * 로그인 성공 후 저장된 해시의 cost가 설정값보다 낮으면 DaoAuthenticationProvider가 새 해시로 호출
+	 * - 로그인은 트랜잭션 없이 실행되므로 여기서 시작한 짧은 쓰기 트랜잭션에서 반영
+	 * - 실패해도 로그인은 그대로 진행 (다음 로그인 때 다시 시도)
+	 */
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		try {
+			User foundUser = userRepository.findByEmail(user.getUsername()).orElseThrow();
+			foundUser.upgradePasswordHash(newPassword);
+			return new CustomUserDetails(foundUser);
+		} catch (RuntimeException e) {
+			log.warn("비밀번호 해시 갱신 실패 - email: {}, error={}", user.getUsername(), e.getMessage());
+			return user;
+		}
+	}
 }
@@ -0,0 +1,148 @@
+package xyz.letzcollab.backend.global.sse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import xyz.letzcollab.backend.dto.notification.NotificationResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이 인스턴스에 연결된 알림 SSE 연결(SseEmitter) 관리
+ * - 서블릿 비동기 처리라 연결마다 스레드를 점유하지 않음 (유휴 연결은 소켓만 유지)
+ * - 사용자당 연결 수 제한 (탭 여러 개 허용, 초과 시 가장 오래된 연결 종료)
+ * - 주기적으로 heartbeat 코멘트를 보내 프록시/로드밸런서의 유휴 연결 종료를 막고 끊긴 연결을 정리
+ *   → 전용 스레드에서 실행 (@Scheduled 스레드를 쓰면 오래 걸리는 스케줄 작업 동안 heartbeat가 밀려 연결이 모두 끊김)
+ */
+@Slf4j
+@Component
+public class NotificationEmitterRegistry {
+
+	public static final String NOTIFICATION_EVENT = "notification";
+	private static final String CONNECT_EVENT = "connect";
+	private static final int MAX_CONNECTIONS_PER_USER = 5;
+
+	private final Map<UUID, Deque<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+	private final long timeoutMillis;
+	private final Duration heartbeatInterval;
+	private final ScheduledExecutorService heartbeatExecutor;
+
+	public NotificationEmitterRegistry(
+			MeterRegistry meterRegistry,
+			@Value("${notification.stream.timeout:30m}") Duration timeout,
+			@Value("${notification.stream.heartbeat-interval:25s}") Duration heartbeatInterval
+	) {
+		this.timeoutMillis = timeout.toMillis();
+		this.heartbeatInterval = heartbeatInterval;
+		Gauge.builder("notification.stream.connections", this, NotificationEmitterRegistry::connectionCount)
+			 .description("이 인스턴스에 연결된 알림 SSE 연결 수")
+			 .register(meterRegistry);
+		this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+				Thread.ofPlatform().name("sse-heartbeat").daemon().factory()
+		);
+	}
+
+	@PostConstruct
+	void start() {
+		long intervalMs = heartbeatInterval.toMillis();
+		heartbeatExecutor.scheduleAtFixedRate(this::sendHeartbeatsSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		heartbeatExecutor.shutdownNow();
+	}
+
+	/**
+	 * 새 연결 등록 - 타임아웃 시 클라이언트(EventSource)가 Last-Event-ID와 함께 자동 재연결
+	 */
+	public SseEmitter register(UUID userPublicId) {
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		Deque<SseEmitter> emitters = emittersByUser.computeIfAbsent(userPublicId, id -> new ConcurrentLinkedDeque<>());
+		emitters.addLast(emitter);
+
+		emitter.onCompletion(() -> remove(userPublicId, emitter));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(e -> remove(userPublicId, emitter));
+
+		while (emitters.size() > MAX_CONNECTIONS_PER_USER) {
+			SseEmitter oldest = emitters.pollFirst();
+			if (oldest != null) oldest.complete();
+		}
+
+		// 연결 직후 응답을 바로 내려보내 프록시 버퍼링/503 방지
+		sendOrDrop(userPublicId, emitter, SseEmitter.event().name(CONNECT_EVENT).data("connected"));
+		return emitter;
+	}
+
+	// 이 인스턴스에 연결된 사용자에게만 전송 (다른 인스턴스는 각자 전송)
+	public void send(UUID userPublicId, NotificationResponse notification) {
+		Deque<SseEmitter> emitters = emittersByUser.get(userPublicId);
+		if (emitters == null) return;
+
+		for (SseEmitter emitter : emitters) {
+			send(userPublicId, emitter, notification);
+		}
+	}
+
+	public void send(UUID userPublicId, SseEmitter emitter, NotificationResponse notification) {
+		sendOrDrop(userPublicId, emitter, SseEmitter.event()
+													.id(NotificationStreamCursor.from(notification).format())
+													.name(NOTIFICATION_EVENT)
+													.data(notification, MediaType.APPLICATION_JSON));
+	}
+
+	void sendHeartbeats() {
+		emittersByUser.forEach((userPublicId, emitters) -> {
+			for (SseEmitter emitter : emitters) {
+				sendOrDrop(userPublicId, emitter, SseEmitter.event().comment("ping"));
+			}
+		});
+	}
+
+	// 예외가 나면 ScheduledExecutorService가 이후 실행을 멈추므로 여기서 모두 처리
+	private void sendHeartbeatsSafely() {
+		try {
+			sendHeartbeats();
+		} catch (Exception e) {
+			log.error("알림 SSE heartbeat 전송 중 오류", e);
+		}
+	}
+
+	int connectionCount() {
+		return emittersByUser.values().stream().mapToInt(Deque::size).sum();
+	}
+
+	private void sendOrDrop(UUID userPublicId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트가 이미 끊었거나 완료된 연결
+			log.debug("알림 SSE 전송 실패, 연결 정리 - userId={}, error={}", userPublicId, e.getMessage());
+			remove(userPublicId, emitter);
+			emitter.completeWithError(e);
+		}
+	}
+
+	private void remove(UUID userPublicId, SseEmitter emitter) {
+		emittersByUser.computeIfPresent(userPublicId, (id, emitters) -> {
+			emitters.remove(emitter);
+			return emitters.isEmpty() ? null : emitters;
+		});
+	}
+}
@@ -0,0 +1,45 @@
+package xyz.letzcollab.backend.global.sse;
+
+import xyz.letzcollab.backend.dto.notification.NotificationResponse;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * 알림 SSE 이벤트 ID ("{생성 시각}_{알림 ID}", 재연결 시 Last-Event-ID로 돌아옴)
+ * - 알림 ID는 인스턴스마다 미리 확보한 블록에서 발급되고 마감 알림은 행마다 새 블록을 쓰므로 커밋 순서와 다름
+ *   → 나중에 전달된 알림의 ID가 이미 받은 ID보다 작을 수 있어 ID만으로는 재연결 시 누락됨
+ * - 생성 시각 기준으로 재전송 (생성 후 커밋까지의 지연은 NotificationService의 replay-overlap만큼 겹쳐 읽어 보완)
+ */
+public record NotificationStreamCursor(LocalDateTime createdAt, long notificationId) {
+
+	private static final char SEPARATOR = '_';
+
+	public static NotificationStreamCursor from(NotificationResponse notification) {
+		return new NotificationStreamCursor(notification.createdAt(), notification.notificationId());
+	}
+
+	/**
+	 * 형식이 맞지 않으면 빈 값 (재전송 없이 새 알림부터 전달)
+	 */
+	public static Optional<NotificationStreamCursor> parse(String value) {
+		if (value == null) return Optional.empty();
+
+		int separatorIndex = value.lastIndexOf(SEPARATOR);
+		if (separatorIndex <= 0) return Optional.empty();
+
+		try {
+			return Optional.of(new NotificationStreamCursor(
+					LocalDateTime.parse(value.substring(0, separatorIndex)),
+					Long.parseLong(value.substring(separatorIndex + 1))
+			));
+		} catch (DateTimeParseException | NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+
+	public String format() {
+		return createdAt.toString() + SEPARATOR + notificationId;
+	}
+}
@@ -0,0 +1,116 @@
+package xyz.letzcollab.backend.global.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import xyz.letzcollab.backend.dto.notification.NotificationResponse;
+import xyz.letzcollab.backend.global.cache.TransactionCallbacks;
+import xyz.letzcollab.backend.global.sse.dto.NotificationStreamBatch;
+import xyz.letzcollab.backend.global.sse.dto.NotificationStreamMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 저장된 알림을 SSE 연결이 있는 인스턴스로 전달
+ * - 수신자가 어느 인스턴스에 연결되어 있는지 모르므로 Redis pub/sub으로 전 인스턴스에 발행
+ *   → 각 인스턴스는 자기에게 연결된 수신자에게만 전송
+ * - pub/sub을 끈 환경(단일 인스턴스, 테스트)에서는 이 인스턴스에 바로 전달
+ * - 발행 실패 시에도 알림은 이미 저장되어 있으므로 재연결(Last-Event-ID) 또는 목록 조회로 복구됨
+ */
+@Slf4j
+@Component
+public class NotificationStreamRelay implements MessageListener {
+
+	public static final String CHANNEL = "notification:stream";
+	public static final String BATCH_CHANNEL = "notification:stream:batch";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final NotificationEmitterRegistry emitterRegistry;
+	private final boolean pubSubEnabled;
+
+	public NotificationStreamRelay(
+			RedisTemplate<String, String> redisTemplate,
+			ObjectMapper objectMapper,
+			NotificationEmitterRegistry emitterRegistry,
+			@Value("${redis.pubsub.enabled:true}") boolean pubSubEnabled
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.emitterRegistry = emitterRegistry;
+		this.pubSubEnabled = pubSubEnabled;
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출되면 커밋 후에 전달 (롤백된 알림을 보내지 않도록)
+	 */
+	public void publish(UUID recipientPublicId, NotificationResponse notification) {
+		TransactionCallbacks.afterCommit(() -> relay(new NotificationStreamMessage(recipientPublicId, notification)));
+	}
+
+	/**
+	 * 여러 알림 일괄 전달 (마감 알림 청크)
+	 * - 커밋 후 작업 1번, pub/sub 메시지 1개로 발행 (알림마다 발행하지 않음)
+	 */
+	public void publishAll(List<NotificationStreamMessage> messages) {
+		if (messages.isEmpty()) return;
+
+		TransactionCallbacks.afterCommit(() -> relayBatch(messages));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			if (BATCH_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+				objectMapper.readValue(message.getBody(), NotificationStreamBatch.class)
+							.messages()
+							.forEach(this::sendLocally);
+				return;
+			}
+			sendLocally(objectMapper.readValue(message.getBody(), NotificationStreamMessage.class));
+		} catch (Exception e) {
+			log.warn("알림 스트림 메시지 처리 실패 - error={}", e.getMessage());
+		}
+	}
+
+	private void relayBatch(List<NotificationStreamMessage> messages) {
+		if (!pubSubEnabled) {
+			messages.forEach(this::sendLocally);
+			return;
+		}
+
+		try {
+			redisTemplate.convertAndSend(BATCH_CHANNEL, objectMapper.writeValueAsString(new NotificationStreamBatch(messages)));
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("알림 스트림 일괄 발행 실패, 이 인스턴스에만 전달 - size={}, error={}", messages.size(), e.getMessage());
+			messages.forEach(this::sendLocally);
+		}
+	}
+
+	private void sendLocally(NotificationStreamMessage message) {
+		emitterRegistry.send(message.recipientPublicId(), message.notification());
+	}
+
+	private void relay(NotificationStreamMessage message) {
+		if (!pubSubEnabled) {
+			sendLocally(message);
+			return;
+		}
+
+		try {
+			redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("알림 스트림 발행 실패, 이 인스턴스에만 전달 - recipientId={}, error={}",
+					message.recipientPublicId(), e.getMessage());
+			sendLocally(message);
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package xyz.letzcollab.backend.global.sse.dto;
+
+import java.util.List;
+
+/**
+ * 인스턴스 간 알림 스트림 일괄 전파 메시지 (마감 알림 청크, Redis pub/sub, JSON)
+ */
+public record NotificationStreamBatch(List<NotificationStreamMessage> messages) {
+}
@@ -0,0 +1,11 @@
+package xyz.letzcollab.backend.global.sse.dto;
+
+import xyz.letzcollab.backend.dto.notification.NotificationResponse;
+
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 알림 스트림 전파 메시지 (Redis pub/sub, JSON)
+ */
+public record NotificationStreamMessage(UUID recipientPublicId, NotificationResponse notification) {
+}
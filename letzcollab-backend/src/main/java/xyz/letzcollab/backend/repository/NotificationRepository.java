@@ -6,19 +6,26 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import xyz.letzcollab.backend.dto.notification.UnreadCountRow;
 import xyz.letzcollab.backend.entity.Notification;
-import xyz.letzcollab.backend.entity.vo.NotificationType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
 
 	Page<Notification> findByRecipientPublicId(UUID recipientPublicId, Pageable pageable);
 
 	Optional<Notification> findByIdAndRecipientPublicId(Long id, UUID recipientPublicId);
 
+	// SSE 재연결 시 놓친 알림 재전송용 (생성 시각 기준, ID는 커밋 순서와 달라서 쓰지 않음)
+	List<Notification> findTop100ByRecipientPublicIdAndCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(
+			UUID recipientPublicId, LocalDateTime since
+	);
+
 	@Modifying
 	@Query("UPDATE Notification n SET n.isRead = true " +
 			"WHERE n.recipient.publicId = :recipientPublicId AND n.isRead = false")
@@ -26,11 +33,25 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
 	long countByRecipientPublicIdAndIsReadFalse(UUID recipientPublicId);
 
-	// 스케줄러 중복 방지용
-	boolean existsByRecipientIdAndReferenceIdAndType(Long recipientId, UUID referenceId, NotificationType type);
-
-	// 오래된 읽은 알림 벌크 삭제용
+	// 읽지 않은 알림 카운터 보정용 (읽지 않은 알림이 없는 사용자는 결과에 포함되지 않음)
+	@Query("SELECT new xyz.letzcollab.backend.dto.notification.UnreadCountRow(n.recipient.publicId, COUNT(n)) " +
+			"FROM Notification n " +
+			"WHERE n.recipient.publicId IN :recipientPublicIds AND n.isRead = false " +
+			"GROUP BY n.recipient.publicId")
+	List<UnreadCountRow> countUnreadByRecipientPublicIds(@Param("recipientPublicIds") Collection<UUID> recipientPublicIds);
+
+	// 오래된 읽은 알림 청크 삭제용 - 삭제 대상 ID를 keyset 순서로 조회
+	@Query("SELECT n.id FROM Notification n " +
+			"WHERE n.isRead = true AND n.createdAt < :cutoff AND n.id > :afterId ORDER BY n.id")
+	List<Long> findReadNotificationIdsOlderThan(
+			@Param("cutoff") LocalDateTime cutoff, @Param("afterId") long afterId, Pageable pageable
+	);
+
+	// 오래된 읽은 알림 청크 삭제용 - (afterId, lastId] 범위에서 조건을 다시 확인하며 삭제
 	@Modifying
-	@Query("DELETE FROM Notification n WHERE n.isRead = true AND n.createdAt < :cutoff")
-	int deleteReadNotificationsOlderThan(@Param("cutoff") LocalDateTime cutoff);
+	@Query("DELETE FROM Notification n " +
+			"WHERE n.isRead = true AND n.createdAt < :cutoff AND n.id > :afterId AND n.id <= :lastId")
+	int deleteReadNotificationsOlderThan(
+			@Param("cutoff") LocalDateTime cutoff, @Param("afterId") long afterId, @Param("lastId") long lastId
+	);
 }
\ No newline at end of file
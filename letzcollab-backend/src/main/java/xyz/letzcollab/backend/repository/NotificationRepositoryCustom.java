@@ -0,0 +1,15 @@
+package xyz.letzcollab.backend.repository;
+
+import xyz.letzcollab.backend.dto.notification.DeadlineNotificationChunk;
+import xyz.letzcollab.backend.entity.vo.NotificationType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface NotificationRepositoryCustom {
+
+	DeadlineNotificationChunk insertDeadlineNotifications(
+			NotificationType type, LocalDate dueDate, boolean includeReporter, String message, LocalDateTime now,
+			long afterTaskId, int limit
+	);
+}
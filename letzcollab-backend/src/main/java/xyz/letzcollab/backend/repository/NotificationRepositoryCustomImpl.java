@@ -0,0 +1,109 @@
+package xyz.letzcollab.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import xyz.letzcollab.backend.dto.notification.DeadlineNotificationChunk;
+import xyz.letzcollab.backend.dto.notification.InsertedNotificationRow;
+import xyz.letzcollab.backend.entity.vo.NotificationType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+	private final EntityManager em;
+
+	/**
+	 * 마감일 알림 청크 생성 (업무를 메모리로 읽지 않고 INSERT ... SELECT 1번)
+	 * - 대상 업무를 task_id 오름차순으로 afterTaskId 이후 limit개만 골라 처리 (keyset)
+	 *   → RETURNING 결과와 커밋 후 전달할 알림이 청크 크기로 제한됨
+	 * - 수신자: 담당자, includeReporter면 담당자와 다른 보고자도 포함
+	 * - 중복 방지: 이미 같은 (수신자, 업무, 종류) 알림이 있으면 제외 (NOT EXISTS)
+	 *   + 동시 실행 대비 부분 유니크 인덱스(uk_notifications_deadline)와 ON CONFLICT DO NOTHING
+	 * - 새로 생성된 알림만 반환 (재실행 시 빈 목록), 커서는 알림 생성 여부와 관계없이 청크의 마지막 업무 ID
+	 *   → 결과는 항상 1행 이상 (커서 1행에 생성된 알림을 LEFT JOIN)
+	 * - ID는 notifications_seq에서 직접 발급 (pooled 옵티마이저가 쓰는 블록과 겹치지 않음)
+	 *   → 시퀀스 증가폭이 IdAllocation.BULK라서 행마다 nextval을 부르면 1행이 ID 블록 1개(100개)를 소모함
+	 *   → 하루 알림 수 × 100이어도 bigint 범위에 비하면 무시할 수준이라 그대로 둠
+	 *     (별도 시퀀스를 쓰면 JPA가 발급한 ID와 겹칠 수 있어 같은 시퀀스를 사용)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public DeadlineNotificationChunk insertDeadlineNotifications(
+			NotificationType type, LocalDate dueDate, boolean includeReporter, String message, LocalDateTime now,
+			long afterTaskId, int limit
+	) {
+		String sql = """
+				WITH targets AS (
+					SELECT t.task_id, t.public_id, t.name, t.assignee_id, t.reporter_id, p.public_id AS project_public_id
+					FROM tasks t
+					JOIN projects p ON p.project_id = t.project_id AND p.deleted_at IS NULL
+					WHERE t.due_date = :dueDate
+					  AND t.status NOT IN ('DONE', 'CANCELLED')
+					  AND t.deleted_at IS NULL
+					  AND t.task_id > :afterTaskId
+					ORDER BY t.task_id
+					LIMIT :limit
+				),
+				inserted AS (
+					INSERT INTO notifications (
+						notification_id, recipient_id, type, reference_type, reference_id, parent_reference_id,
+						message, is_read, created_at
+					)
+					SELECT
+						nextval('notifications_seq'), r.recipient_id, :type, 'TASK', t.public_id, t.project_public_id,
+						CONCAT('''', t.name, ''' ', :message), false, :now
+					FROM targets t
+					CROSS JOIN LATERAL (
+						VALUES (t.assignee_id),
+							   (CASE WHEN :includeReporter AND t.reporter_id <> t.assignee_id THEN t.reporter_id END)
+					) AS r(recipient_id)
+					WHERE r.recipient_id IS NOT NULL
+					  AND NOT EXISTS (
+						  SELECT 1 FROM notifications n
+						  WHERE n.recipient_id = r.recipient_id AND n.reference_id = t.public_id AND n.type = :type
+					  )
+					ON CONFLICT DO NOTHING
+					RETURNING notification_id, recipient_id, reference_id, parent_reference_id, message
+				)
+				SELECT c.last_task_id, i.notification_id, u.public_id, i.reference_id, i.parent_reference_id, i.message
+				FROM (SELECT MAX(task_id) AS last_task_id FROM targets) c
+				LEFT JOIN inserted i ON true
+				LEFT JOIN users u ON u.user_id = i.recipient_id
+				""";
+
+		List<Object[]> rows = em.createNativeQuery(sql)
+								.setParameter("type", type.name())
+								.setParameter("message", message)
+								.setParameter("now", now)
+								.setParameter("includeReporter", includeReporter)
+								.setParameter("dueDate", dueDate)
+								.setParameter("afterTaskId", afterTaskId)
+								.setParameter("limit", limit)
+								.getResultList();
+
+		Object lastTaskId = rows.get(0)[0];
+		List<InsertedNotificationRow> inserted = rows.stream()
+													 .filter(row -> row[1] != null)
+													 .map(row -> new InsertedNotificationRow(
+															 ((Number) row[1]).longValue(),
+															 toUuid(row[2]),
+															 toUuid(row[3]),
+															 toUuid(row[4]),
+															 (String) row[5]
+													 ))
+													 .toList();
+		return new DeadlineNotificationChunk(
+				inserted,
+				lastTaskId == null ? null : ((Number) lastTaskId).longValue()
+		);
+	}
+
+	private UUID toUuid(Object value) {
+		if (value == null) return null;
+		return value instanceof UUID uuid ? uuid : UUID.fromString(value.toString());
+	}
+}
@@ -2,6 +2,7 @@ package xyz.letzcollab.backend.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import xyz.letzcollab.backend.dto.project.ProjectSearchCond;
 import xyz.letzcollab.backend.entity.Project;
 
@@ -13,5 +14,9 @@ public interface ProjectRepositoryCustom {
 			UUID userPublicId, UUID workspacePublicId, ProjectSearchCond cond, Pageable pageable
 	);
 
+	Slice<Project> findProjectSliceByCondition(
+			UUID userPublicId, UUID workspacePublicId, ProjectSearchCond cond, Pageable pageable
+	);
+
 	Optional<Project> findProjectDetailsByPublicIds(UUID userPublicId, UUID workspacePublicId, UUID projectPublicId);
 }
@@ -4,17 +4,20 @@ import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 import xyz.letzcollab.backend.dto.project.ProjectSearchCond;
 import xyz.letzcollab.backend.entity.Project;
 import xyz.letzcollab.backend.entity.QUser;
 import xyz.letzcollab.backend.entity.vo.ProjectStatus;
+import xyz.letzcollab.backend.global.persistence.QuerydslSliceUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,28 +38,36 @@ public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
 	public Page<Project> findProjectsByCondition(
 			UUID userPublicId, UUID workspacePublicId, ProjectSearchCond cond, Pageable pageable
 	) {
-		List<Project> projects = query.selectFrom(project)
-									  .join(project.workspace, workspace)
-									  .leftJoin(project.leader, user).fetchJoin()    // 혹시 leader가 null이 들어간 경우에도 프로젝트는 조회 가능하도록
-									  .where(
-										  workspace.publicId.eq(workspacePublicId),
-										  nameContains(cond.keyword()),
-										  statusEq(cond.status()),
-										  isAccessible(userPublicId)
-									  )
-									  .offset(pageable.getOffset())
-									  .limit(pageable.getPageSize())
-									  .orderBy(getOrderSpecifiers(pageable))
-									  .fetch();
-
-		Long total = query.select(project.count())
-						  .from(project)
-						  .where(
-							  project.workspace.publicId.eq(workspacePublicId),
-							  isAccessible(userPublicId)
-						  ).fetchOne();
-
-		return new PageImpl<>(projects, pageable, total == null ? 0L : total);
+		List<Project> projects = projectsByConditionQuery(userPublicId, workspacePublicId, cond)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize())
+				.orderBy(getOrderSpecifiers(pageable))
+				.fetch();
+
+		// 목록과 동일한 필터(keyword, status)를 적용해야 totalElements가 실제 결과와 일치
+		JPAQuery<Long> countQuery = query.select(project.count())
+										 .from(project)
+										 .join(project.workspace, workspace)
+										 .where(projectConditions(userPublicId, workspacePublicId, cond));
+
+		// 첫 페이지가 다 안 찼거나 마지막 페이지면 count 쿼리 생략
+		return PageableExecutionUtils.getPage(projects, pageable, () -> {
+			Long total = countQuery.fetchOne();
+			return total == null ? 0L : total;
+		});
+	}
+
+	@Override
+	public Slice<Project> findProjectSliceByCondition(
+			UUID userPublicId, UUID workspacePublicId, ProjectSearchCond cond, Pageable pageable
+	) {
+		List<Project> projects = projectsByConditionQuery(userPublicId, workspacePublicId, cond)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1L)
+				.orderBy(getOrderSpecifiers(pageable))
+				.fetch();
+
+		return QuerydslSliceUtils.toSlice(projects, pageable);
 	}
 
 	@Override
@@ -81,6 +92,22 @@ public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
 		);
 	}
 
+	private JPAQuery<Project> projectsByConditionQuery(UUID userPublicId, UUID workspacePublicId, ProjectSearchCond cond) {
+		return query.selectFrom(project)
+					.join(project.workspace, workspace)
+					.leftJoin(project.leader, user).fetchJoin()    // 혹시 leader가 null이 들어간 경우에도 프로젝트는 조회 가능하도록
+					.where(projectConditions(userPublicId, workspacePublicId, cond));
+	}
+
+	private BooleanExpression[] projectConditions(UUID userPublicId, UUID workspacePublicId, ProjectSearchCond cond) {
+		return new BooleanExpression[]{
+				workspace.publicId.eq(workspacePublicId),
+				nameContains(cond.keyword()),
+				statusEq(cond.status()),
+				isAccessible(userPublicId)
+		};
+	}
+
 	private BooleanExpression nameContains(String keyword) {
 		return StringUtils.hasText(keyword) ? project.name.contains(keyword) : null;
 	}
@@ -5,8 +5,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import xyz.letzcollab.backend.entity.Task;
 
-import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -50,13 +48,4 @@ public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositor
 			@Param("taskPublicId") UUID taskPublicId,
 			@Param("projectPublicId") UUID projectPublicId
 	);
-
-	// 스케줄러용: 특정 마감일의 미완료 업무 조회 (assignee, reporter, project fetch join)
-	@Query("SELECT t FROM Task t " +
-			"JOIN FETCH t.assignee " +
-			"JOIN FETCH t.reporter " +
-			"JOIN FETCH t.project " +
-			"WHERE t.dueDate = :dueDate " +
-			"AND t.status NOT IN ('DONE', 'CANCELLED')")
-	List<Task> findActiveTasksByDueDate(@Param("dueDate") LocalDate dueDate);
 }
@@ -2,10 +2,15 @@ package xyz.letzcollab.backend.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardCond;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardRow;
 import xyz.letzcollab.backend.dto.task.MyTaskSearchCond;
+import xyz.letzcollab.backend.dto.task.TaskCursor;
 import xyz.letzcollab.backend.dto.task.TaskSearchCond;
 import xyz.letzcollab.backend.entity.Task;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,7 +18,15 @@ public interface TaskRepositoryCustom {
 
 	Page<Task> findTasksByCondition(UUID projectPublicId, TaskSearchCond cond, Pageable pageable);
 
+	Slice<Task> findTaskSliceByCondition(UUID projectPublicId, TaskSearchCond cond, Pageable pageable);
+
+	List<Task> findTasksByCursor(UUID projectPublicId, TaskSearchCond cond, TaskCursor cursor, int limit);
+
 	Optional<Task> findTaskDetailsByPublicId(UUID taskPublicId);
 
 	Page<Task> findMyTasks(UUID assigneePublicId, MyTaskSearchCond cond, Pageable pageable);
+
+	Slice<Task> findMyTaskSlice(UUID assigneePublicId, MyTaskSearchCond cond, Pageable pageable);
+
+	List<MyTaskDashboardRow> findMyTaskDashboardRows(UUID assigneePublicId, MyTaskDashboardCond cond, int perWorkspaceLimit);
 }
@@ -3,20 +3,27 @@ package xyz.letzcollab.backend.repository;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardCond;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardRow;
 import xyz.letzcollab.backend.dto.task.MyTaskSearchCond;
+import xyz.letzcollab.backend.dto.task.TaskCursor;
 import xyz.letzcollab.backend.dto.task.TaskSearchCond;
 import xyz.letzcollab.backend.entity.QUser;
 import xyz.letzcollab.backend.entity.Task;
 import xyz.letzcollab.backend.entity.vo.TaskPriority;
 import xyz.letzcollab.backend.entity.vo.TaskStatus;
+import xyz.letzcollab.backend.global.persistence.QuerydslSliceUtils;
 
+import java.sql.Date;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -30,41 +37,47 @@ import static xyz.letzcollab.backend.entity.QWorkspace.workspace;
 public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
 
 	private final JPAQueryFactory query;
+	private final EntityManager em;
 
 	@Override
 	public Page<Task> findTasksByCondition(UUID projectPublicId, TaskSearchCond cond, Pageable pageable) {
-		QUser assigneeUser = new QUser("assigneeUser");
-		QUser reporterUser = new QUser("reporterUser");
+		List<Task> tasks = tasksByConditionQuery(projectPublicId, cond)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize())
+				.orderBy(getDefaultOrder())
+				.fetch();
 
-		List<Task> tasks = query.selectFrom(task)
-								.join(task.assignee, assigneeUser).fetchJoin()
-								.join(task.reporter, reporterUser).fetchJoin()
-								.leftJoin(task.parentTask).fetchJoin()
-								.where(
-										task.project.publicId.eq(projectPublicId),
-										statusEq(cond.status()),
-										priorityEq(cond.priority()),
-										assigneeEq(cond.assigneePublicId()),
-										dueDateGoe(cond.dueDateFrom()),
-										dueDateLoe(cond.dueDateTo())
-								)
-								.offset(pageable.getOffset())
-								.limit(pageable.getPageSize())
-								.orderBy(getDefaultOrder())
-								.fetch();
-
-		Long total = query.select(task.count())
-						  .from(task)
-						  .where(
-								  task.project.publicId.eq(projectPublicId),
-								  statusEq(cond.status()),
-								  priorityEq(cond.priority()),
-								  assigneeEq(cond.assigneePublicId()),
-								  dueDateGoe(cond.dueDateFrom()),
-								  dueDateLoe(cond.dueDateTo())
-						  ).fetchOne();
-
-		return new PageImpl<>(tasks, pageable, total == null ? 0L : total);
+		JPAQuery<Long> countQuery = query.select(task.count())
+										 .from(task)
+										 .where(taskConditions(projectPublicId, cond));
+
+		// 첫 페이지가 다 안 찼거나 마지막 페이지면 count 쿼리 생략
+		return PageableExecutionUtils.getPage(tasks, pageable, () -> fetchCount(countQuery));
+	}
+
+	@Override
+	public Slice<Task> findTaskSliceByCondition(UUID projectPublicId, TaskSearchCond cond, Pageable pageable) {
+		List<Task> tasks = tasksByConditionQuery(projectPublicId, cond)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1L)
+				.orderBy(getDefaultOrder())
+				.fetch();
+
+		return QuerydslSliceUtils.toSlice(tasks, pageable);
+	}
+
+	/**
+	 * 커서(keyset) 기반 업무 목록 조회
+	 * - offset 없이 직전 페이지 마지막 행의 정렬 키 이후부터 바로 탐색 → 페이지가 뒤로 가도 비용 일정
+	 * - count 쿼리 없음, hasNext 판단은 호출 측에서 limit + 1 조회로 처리
+	 */
+	@Override
+	public List<Task> findTasksByCursor(UUID projectPublicId, TaskSearchCond cond, TaskCursor cursor, int limit) {
+		return tasksByConditionQuery(projectPublicId, cond)
+				.where(afterCursor(cursor))
+				.limit(limit)
+				.orderBy(getCursorOrder())
+				.fetch();
 	}
 
 	@Override
@@ -85,37 +98,164 @@ public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
 
 	@Override
 	public Page<Task> findMyTasks(UUID assigneePublicId, MyTaskSearchCond cond, Pageable pageable) {
+		List<Task> tasks = myTasksQuery(assigneePublicId, cond)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize())
+				.orderBy(getDefaultOrder())
+				.fetch();
+
+		JPAQuery<Long> countQuery = query.select(task.count())
+										 .from(task)
+										 .join(task.project, project)
+										 .join(project.workspace, workspace)
+										 .where(myTaskConditions(assigneePublicId, cond));
+
+		// 첫 페이지가 다 안 찼거나 마지막 페이지면 count 쿼리 생략
+		return PageableExecutionUtils.getPage(tasks, pageable, () -> fetchCount(countQuery));
+	}
 
-		List<Task> tasks = query.selectFrom(task)
-								.join(task.project, project).fetchJoin()
-								.join(project.workspace, workspace)
-								.where(
-										task.assignee.publicId.eq(assigneePublicId),
-										workspace.publicId.eq(cond.workspacePublicId()),
-										statusEq(cond.status()),
-										priorityEq(cond.priority()),
-										dueDateGoe(cond.dueDateFrom()),
-										dueDateLoe(cond.dueDateTo())
-								)
-								.offset(pageable.getOffset())
-								.limit(pageable.getPageSize())
-								.orderBy(getDefaultOrder())
-								.fetch();
-
-		Long total = query.select(task.count())
-						  .from(task)
-						  .join(task.project, project)
-						  .join(project.workspace, workspace)
-						  .where(
-								  task.assignee.publicId.eq(assigneePublicId),
-								  workspace.publicId.eq(cond.workspacePublicId()),
-								  statusEq(cond.status()),
-								  priorityEq(cond.priority()),
-								  dueDateGoe(cond.dueDateFrom()),
-								  dueDateLoe(cond.dueDateTo())
-						  ).fetchOne();
-
-		return new PageImpl<>(tasks, pageable, total == null ? 0L : total);
+	@Override
+	public Slice<Task> findMyTaskSlice(UUID assigneePublicId, MyTaskSearchCond cond, Pageable pageable) {
+		List<Task> tasks = myTasksQuery(assigneePublicId, cond)
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1L)
+				.orderBy(getDefaultOrder())
+				.fetch();
+
+		return QuerydslSliceUtils.toSlice(tasks, pageable);
+	}
+
+	/**
+	 * 워크스페이스 통합 내 업무 대시보드 조회 (1회 왕복)
+	 * - 윈도우 함수로 워크스페이스별 top-N 업무와 워크스페이스/프로젝트별 업무 수를 한 번에 계산
+	 * - 순위가 limit 밖이어도 프로젝트별 첫 행은 함께 반환 → 업무가 모두 잘린 프로젝트도 개수는 유지
+	 * - assignee_id 조건이 선두라 idx_tasks_assignee_project 인덱스로 내 업무만 먼저 좁힌 뒤 집계
+	 * - QueryDSL(JPQL)은 윈도우 함수를 지원하지 않아 네이티브 쿼리로 작성, 필터는 값이 있을 때만 조건 추가
+	 */
+	@Override
+	public List<MyTaskDashboardRow> findMyTaskDashboardRows(UUID assigneePublicId, MyTaskDashboardCond cond, int perWorkspaceLimit) {
+		StringBuilder filters = new StringBuilder();
+		if (cond.status() != null) filters.append(" AND t.status = :status");
+		if (cond.priority() != null) filters.append(" AND t.priority = :priority");
+		if (cond.dueDateFrom() != null) filters.append(" AND t.due_date >= :dueDateFrom");
+		if (cond.dueDateTo() != null) filters.append(" AND t.due_date <= :dueDateTo");
+
+		String sql = """
+				SELECT ranked.workspace_public_id, ranked.workspace_name, ranked.workspace_task_count,
+					   ranked.project_public_id, ranked.project_name, ranked.project_task_count,
+					   ranked.task_public_id, ranked.task_name, ranked.status, ranked.priority, ranked.due_date,
+					   ranked.workspace_rank
+				FROM (
+					SELECT w.public_id AS workspace_public_id,
+						   w.name AS workspace_name,
+						   p.public_id AS project_public_id,
+						   p.name AS project_name,
+						   t.public_id AS task_public_id,
+						   t.name AS task_name,
+						   t.status,
+						   t.priority,
+						   t.due_date,
+						   ROW_NUMBER() OVER (PARTITION BY w.workspace_id
+							   ORDER BY t.priority_rank DESC, t.due_date ASC NULLS LAST, t.created_at DESC, t.task_id DESC) AS workspace_rank,
+						   ROW_NUMBER() OVER (PARTITION BY t.project_id
+							   ORDER BY t.priority_rank DESC, t.due_date ASC NULLS LAST, t.created_at DESC, t.task_id DESC) AS project_rank,
+						   COUNT(*) OVER (PARTITION BY w.workspace_id) AS workspace_task_count,
+						   COUNT(*) OVER (PARTITION BY t.project_id) AS project_task_count
+					FROM tasks t
+					JOIN users u ON u.user_id = t.assignee_id
+					JOIN projects p ON p.project_id = t.project_id AND p.deleted_at IS NULL
+					JOIN workspaces w ON w.workspace_id = p.workspace_id AND w.deleted_at IS NULL
+					WHERE u.public_id = :assigneePublicId
+					  AND t.deleted_at IS NULL%s
+				) ranked
+				WHERE ranked.workspace_rank <= :perWorkspaceLimit OR ranked.project_rank = 1
+				ORDER BY ranked.workspace_name, ranked.workspace_public_id, ranked.workspace_rank
+				""".formatted(filters);
+
+		Query nativeQuery = em.createNativeQuery(sql)
+							  .setParameter("assigneePublicId", assigneePublicId)
+							  .setParameter("perWorkspaceLimit", perWorkspaceLimit);
+		if (cond.status() != null) nativeQuery.setParameter("status", cond.status().name());
+		if (cond.priority() != null) nativeQuery.setParameter("priority", cond.priority().name());
+		if (cond.dueDateFrom() != null) nativeQuery.setParameter("dueDateFrom", cond.dueDateFrom());
+		if (cond.dueDateTo() != null) nativeQuery.setParameter("dueDateTo", cond.dueDateTo());
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = nativeQuery.getResultList();
+
+		return rows.stream()
+				   .map(row -> new MyTaskDashboardRow(
+						   toUuid(row[0]),
+						   (String) row[1],
+						   ((Number) row[2]).longValue(),
+						   toUuid(row[3]),
+						   (String) row[4],
+						   ((Number) row[5]).longValue(),
+						   toUuid(row[6]),
+						   (String) row[7],
+						   TaskStatus.valueOf((String) row[8]),
+						   TaskPriority.valueOf((String) row[9]),
+						   toLocalDate(row[10]),
+						   ((Number) row[11]).longValue()
+				   ))
+				   .toList();
+	}
+
+	// 프로젝트 업무 목록 공통 쿼리 (fetch join + 필터) - 페이징/정렬은 호출 측에서 지정
+	private JPAQuery<Task> tasksByConditionQuery(UUID projectPublicId, TaskSearchCond cond) {
+		QUser assigneeUser = new QUser("assigneeUser");
+		QUser reporterUser = new QUser("reporterUser");
+
+		return query.selectFrom(task)
+					.join(task.assignee, assigneeUser).fetchJoin()
+					.join(task.reporter, reporterUser).fetchJoin()
+					.leftJoin(task.parentTask).fetchJoin()
+					.where(taskConditions(projectPublicId, cond));
+	}
+
+	private BooleanExpression[] taskConditions(UUID projectPublicId, TaskSearchCond cond) {
+		return new BooleanExpression[]{
+				task.project.publicId.eq(projectPublicId),
+				statusEq(cond.status()),
+				priorityEq(cond.priority()),
+				assigneeEq(cond.assigneePublicId()),
+				dueDateGoe(cond.dueDateFrom()),
+				dueDateLoe(cond.dueDateTo())
+		};
+	}
+
+	// 내 업무 목록 공통 쿼리 - 페이징/정렬은 호출 측에서 지정
+	private JPAQuery<Task> myTasksQuery(UUID assigneePublicId, MyTaskSearchCond cond) {
+		return query.selectFrom(task)
+					.join(task.project, project).fetchJoin()
+					.join(project.workspace, workspace)
+					.where(myTaskConditions(assigneePublicId, cond));
+	}
+
+	private BooleanExpression[] myTaskConditions(UUID assigneePublicId, MyTaskSearchCond cond) {
+		return new BooleanExpression[]{
+				task.assignee.publicId.eq(assigneePublicId),
+				workspace.publicId.eq(cond.workspacePublicId()),
+				statusEq(cond.status()),
+				priorityEq(cond.priority()),
+				dueDateGoe(cond.dueDateFrom()),
+				dueDateLoe(cond.dueDateTo())
+		};
+	}
+
+	// 네이티브 쿼리 결과 타입은 DB/드라이버에 따라 달라서 (uuid ↔ String, date ↔ java.sql.Date) 변환을 한 곳에서 처리
+	private UUID toUuid(Object value) {
+		return value instanceof UUID uuid ? uuid : UUID.fromString(value.toString());
+	}
+
+	private LocalDate toLocalDate(Object value) {
+		if (value == null) return null;
+		return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+	}
+
+	private long fetchCount(JPAQuery<Long> countQuery) {
+		Long total = countQuery.fetchOne();
+		return total == null ? 0L : total;
 	}
 
 	private BooleanExpression statusEq(TaskStatus status) {
@@ -139,21 +279,49 @@ public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
 	}
 
 	/**
-	 * 기본 정렬 기준
+	 * 커서 이후의 행만 조회하는 조건 (getCursorOrder()의 정렬 방향과 반드시 일치해야 함)
+	 * - 우선순위 DESC → 마감일 ASC (NULL은 마지막) → 생성일 DESC → publicId DESC
+	 */
+	private BooleanExpression afterCursor(TaskCursor cursor) {
+		if (cursor == null) return null;
+
+		BooleanExpression sameDueDate = cursor.dueDate() == null
+				? task.dueDate.isNull()
+				: task.dueDate.eq(cursor.dueDate());
+
+		BooleanExpression sameDueDateAndAfter = sameDueDate.and(
+				task.createdAt.lt(cursor.createdAt())
+							  .or(task.createdAt.eq(cursor.createdAt()).and(task.publicId.lt(cursor.taskPublicId())))
+		);
+
+		// 마감일이 NULL인 행은 마지막에 정렬되므로, 커서의 마감일이 NULL이면 "더 뒤의 마감일"은 존재하지 않음
+		BooleanExpression laterDueDateOrTie = cursor.dueDate() == null
+				? sameDueDateAndAfter
+				: task.dueDate.gt(cursor.dueDate()).or(task.dueDate.isNull()).or(sameDueDateAndAfter);
+
+		return task.priorityRank.lt(cursor.priorityRank())
+								.or(task.priorityRank.eq(cursor.priorityRank()).and(laterDueDateOrTie));
+	}
+
+	// 커서 조회용 정렬 - 기본 정렬 기준 + 동일 정렬 키 간 순서를 고정하기 위한 publicId
+	private OrderSpecifier<?>[] getCursorOrder() {
+		return new OrderSpecifier[]{
+				new OrderSpecifier<>(Order.DESC, task.priorityRank),
+				new OrderSpecifier<>(Order.ASC, task.dueDate, OrderSpecifier.NullHandling.NullsLast),
+				new OrderSpecifier<>(Order.DESC, task.createdAt),
+				new OrderSpecifier<>(Order.DESC, task.publicId)
+		};
+	}
+
+	/**
+	 * 기본 정렬 기준 (idx_tasks_project_priority_due_created 인덱스 순서와 동일)
 	 * 1. 우선순위 내림차순 (긴급한 것 먼저)
 	 * 2. 기한 오름차순  (임박한 것 먼저)
 	 * 3. 생성일 내림차순 (최신 먼저)
 	 */
 	private OrderSpecifier<?>[] getDefaultOrder() {
-		NumberExpression<Integer> priorityOrder = new CaseBuilder()
-				.when(task.priority.eq(TaskPriority.URGENT)).then(3)
-				.when(task.priority.eq(TaskPriority.HIGH)).then(2)
-				.when(task.priority.eq(TaskPriority.MEDIUM)).then(1)
-				.when(task.priority.eq(TaskPriority.LOW)).then(0)
-				.otherwise(0);
-
 		return new OrderSpecifier[]{
-				new OrderSpecifier<>(Order.DESC, priorityOrder),
+				new OrderSpecifier<>(Order.DESC, task.priorityRank),
 				new OrderSpecifier<>(Order.ASC, task.dueDate),
 				new OrderSpecifier<>(Order.DESC, task.createdAt)
 		};
@@ -1,28 +1,29 @@
 package xyz.letzcollab.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import xyz.letzcollab.backend.entity.VerificationToken;
-import xyz.letzcollab.backend.entity.vo.TokenType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Long> {
 	Optional<VerificationToken> findByToken(UUID token);
 
-	@Query("SELECT COUNT(t) FROM VerificationToken t " +
-			"WHERE t.user.email = :email AND t.type = :type AND t.createdAt > :since")
-	long countRecentByEmailAndType(
-			@Param("email") String email,
-			@Param("type") TokenType type,
-			@Param("since") LocalDateTime since
+	@Query("SELECT v.id FROM VerificationToken v WHERE v.createdAt < :cutoff AND v.id > :afterId ORDER BY v.id")
+	List<Long> findTokenIdsOlderThan(
+			@Param("cutoff") LocalDateTime cutoff, @Param("afterId") long afterId, Pageable pageable
 	);
 
 	@Modifying
-	@Query("DELETE FROM VerificationToken v where v.createdAt < :cutoff")
-	int deleteTokensOlderThan(@Param("cutoff") LocalDateTime cutoff);
+	@Query("DELETE FROM VerificationToken v " +
+			"WHERE v.createdAt < :cutoff AND v.id > :afterId AND v.id <= :lastId")
+	int deleteTokensOlderThan(
+			@Param("cutoff") LocalDateTime cutoff, @Param("afterId") long afterId, @Param("lastId") long lastId
+	);
 }
@@ -1,13 +1,14 @@
 package xyz.letzcollab.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import xyz.letzcollab.backend.entity.User;
 import xyz.letzcollab.backend.entity.WorkspaceInvitation;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,9 +20,15 @@ public interface WorkspaceInvitationRepository extends JpaRepository<WorkspaceIn
 			"WHERE wi.token = :token")
 	Optional<WorkspaceInvitation> findByTokenWithWorkspace(@Param("token") UUID token);
 
-	long countByInviterAndCreatedAtAfter(User inviter, LocalDateTime since);
+	@Query("SELECT w.id FROM WorkspaceInvitation w WHERE w.createdAt < :cutoff AND w.id > :afterId ORDER BY w.id")
+	List<Long> findInvitationIdsOlderThan(
+			@Param("cutoff") LocalDateTime cutoff, @Param("afterId") long afterId, Pageable pageable
+	);
 
 	@Modifying
-	@Query("DELETE FROM WorkspaceInvitation w WHERE w.createdAt < :cutoff")
-	int deleteInvitationsOlderThan(@Param("cutoff") LocalDateTime cutoff);
+	@Query("DELETE FROM WorkspaceInvitation w " +
+			"WHERE w.createdAt < :cutoff AND w.id > :afterId AND w.id <= :lastId")
+	int deleteInvitationsOlderThan(
+			@Param("cutoff") LocalDateTime cutoff, @Param("afterId") long afterId, @Param("lastId") long lastId
+	);
 }
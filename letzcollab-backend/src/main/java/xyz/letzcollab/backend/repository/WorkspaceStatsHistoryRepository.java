@@ -0,0 +1,155 @@
+package xyz.letzcollab.backend.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import xyz.letzcollab.backend.entity.WorkspaceStatsHistory;
+import xyz.letzcollab.backend.entity.vo.StatsResolution;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface WorkspaceStatsHistoryRepository extends JpaRepository<WorkspaceStatsHistory, Long> {
+
+	@Query("SELECT h FROM WorkspaceStatsHistory h " +
+			"WHERE h.workspaceId = :workspaceId AND h.resolution = :resolution " +
+			"AND h.bucketStart >= :from AND h.bucketStart < :to " +
+			"ORDER BY h.bucketStart")
+	List<WorkspaceStatsHistory> findRange(
+			@Param("workspaceId") Long workspaceId,
+			@Param("resolution") StatsResolution resolution,
+			@Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to
+	);
+
+	// 조회 구간 시작 시점의 값 (구간 안에서 변경이 없었던 앞부분을 채우는 용도)
+	Optional<WorkspaceStatsHistory> findFirstByWorkspaceIdAndResolutionAndBucketStartLessThanOrderByBucketStartDesc(
+			Long workspaceId, StatsResolution resolution, LocalDateTime before
+	);
+
+	/**
+	 * 5분 구간 기록 - 직전 기록 이후 스냅샷이 바뀐(history_pending) 워크스페이스만 현재 값을 1행씩 기록하고 표시를 지움
+	 * - 표시는 스냅샷을 바꾼 트랜잭션과 함께 커밋되므로 시각 비교와 달리 늦게 커밋된 변경도 다음 기록에 포함됨
+	 * - 스냅샷을 바꾸는 중인 행은 커밋될 때까지 기다렸다가 커밋된 값으로 기록
+	 * - 바뀌지 않은 워크스페이스는 행을 만들지 않음 (조회 시 직전 값을 이어서 사용)
+	 * - 주간 전체 보정이 모든 스냅샷을 표시하므로 모든 워크스페이스가 주 1번 이상 기록됨
+	 * - 같은 구간을 다시 기록하면 마지막 값으로 덮어씀
+	 * - 행마다 nextval을 부르므로 1행이 ID 블록 1개(IdAllocation.BULK개)를 소모함 (ON CONFLICT로 덮어쓴 행도 포함)
+	 *   → JPA가 발급한 ID와 겹치지 않게 같은 시퀀스를 쓰는 대가, bigint 범위에 비하면 무시할 수준
+	 * @param bucketStart 방금 끝난 구간의 시작 시각 (행에는 그 구간의 마지막 값이 들어감)
+	 */
+	@Modifying
+	@Query(value = """
+			WITH changed AS (
+				UPDATE workspace_stats_snapshots SET history_pending = false
+				WHERE history_pending
+				RETURNING *
+			)
+			INSERT INTO workspace_stats_history (
+				history_id, workspace_id, resolution, bucket_start, total_members, total_projects, planned_projects,
+				active_projects, on_hold_projects, completed_projects, archived_projects, total_tasks, todo_tasks,
+				in_progress_tasks, in_review_tasks, done_tasks, cancelled_tasks, overdue_tasks
+			)
+			SELECT
+				nextval('workspace_stats_history_seq'), s.workspace_id, 'FIVE_MINUTES', :bucketStart,
+				s.total_members, s.total_projects, s.planned_projects, s.active_projects, s.on_hold_projects,
+				s.completed_projects, s.archived_projects, s.total_tasks, s.todo_tasks, s.in_progress_tasks,
+				s.in_review_tasks, s.done_tasks, s.cancelled_tasks, s.overdue_tasks
+			FROM changed s
+			ON CONFLICT (workspace_id, resolution, bucket_start)
+			DO UPDATE SET
+				total_members = EXCLUDED.total_members,
+				total_projects = EXCLUDED.total_projects,
+				planned_projects = EXCLUDED.planned_projects,
+				active_projects = EXCLUDED.active_projects,
+				on_hold_projects = EXCLUDED.on_hold_projects,
+				completed_projects = EXCLUDED.completed_projects,
+				archived_projects = EXCLUDED.archived_projects,
+				total_tasks = EXCLUDED.total_tasks,
+				todo_tasks = EXCLUDED.todo_tasks,
+				in_progress_tasks = EXCLUDED.in_progress_tasks,
+				in_review_tasks = EXCLUDED.in_review_tasks,
+				done_tasks = EXCLUDED.done_tasks,
+				cancelled_tasks = EXCLUDED.cancelled_tasks,
+				overdue_tasks = EXCLUDED.overdue_tasks
+			""",
+			nativeQuery = true)
+	int recordChangedSnapshots(@Param("bucketStart") LocalDateTime bucketStart);
+
+	/**
+	 * 다운샘플링 - [from, to) 구간의 source 행을 unit('hour', 'day') 단위로 묶어 target 행으로 기록
+	 * - 카운터는 누적값이 아니라 현재값이므로 합/평균이 아니라 구간 안의 마지막 값을 사용
+	 * - 같은 구간을 다시 실행해도 결과가 같음 (놓친 주기는 다음 실행이 겹치는 구간으로 채움)
+	 */
+	@Modifying
+	@Query(value = """
+			INSERT INTO workspace_stats_history (
+				history_id, workspace_id, resolution, bucket_start, total_members, total_projects, planned_projects,
+				active_projects, on_hold_projects, completed_projects, archived_projects, total_tasks, todo_tasks,
+				in_progress_tasks, in_review_tasks, done_tasks, cancelled_tasks, overdue_tasks
+			)
+			SELECT
+				nextval('workspace_stats_history_seq'), r.workspace_id, :target, r.bucket,
+				r.total_members, r.total_projects, r.planned_projects, r.active_projects, r.on_hold_projects,
+				r.completed_projects, r.archived_projects, r.total_tasks, r.todo_tasks, r.in_progress_tasks,
+				r.in_review_tasks, r.done_tasks, r.cancelled_tasks, r.overdue_tasks
+			FROM (
+				SELECT DISTINCT ON (workspace_id, bucket)
+					h.workspace_id, date_trunc(:unit, h.bucket_start) AS bucket,
+					h.total_members, h.total_projects, h.planned_projects, h.active_projects, h.on_hold_projects,
+					h.completed_projects, h.archived_projects, h.total_tasks, h.todo_tasks, h.in_progress_tasks,
+					h.in_review_tasks, h.done_tasks, h.cancelled_tasks, h.overdue_tasks
+				FROM workspace_stats_history h
+				WHERE h.resolution = :source AND h.bucket_start >= :from AND h.bucket_start < :to
+				ORDER BY workspace_id, bucket, h.bucket_start DESC
+			) r
+			ON CONFLICT (workspace_id, resolution, bucket_start)
+			DO UPDATE SET
+				total_members = EXCLUDED.total_members,
+				total_projects = EXCLUDED.total_projects,
+				planned_projects = EXCLUDED.planned_projects,
+				active_projects = EXCLUDED.active_projects,
+				on_hold_projects = EXCLUDED.on_hold_projects,
+				completed_projects = EXCLUDED.completed_projects,
+				archived_projects = EXCLUDED.archived_projects,
+				total_tasks = EXCLUDED.total_tasks,
+				todo_tasks = EXCLUDED.todo_tasks,
+				in_progress_tasks = EXCLUDED.in_progress_tasks,
+				in_review_tasks = EXCLUDED.in_review_tasks,
+				done_tasks = EXCLUDED.done_tasks,
+				cancelled_tasks = EXCLUDED.cancelled_tasks,
+				overdue_tasks = EXCLUDED.overdue_tasks
+			""",
+			nativeQuery = true)
+	int rollUp(
+			@Param("source") String source,
+			@Param("target") String target,
+			@Param("unit") String unit,
+			@Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to
+	);
+
+	// 보관 기간이 지난 이력 정리용 - 청크 단위로 삭제할 ID 조회 (afterId 이후 오름차순)
+	@Query("SELECT h.id FROM WorkspaceStatsHistory h " +
+			"WHERE h.resolution = :resolution AND h.bucketStart < :cutoff AND h.id > :afterId ORDER BY h.id")
+	List<Long> findIdsOlderThan(
+			@Param("resolution") StatsResolution resolution,
+			@Param("cutoff") LocalDateTime cutoff,
+			@Param("afterId") long afterId,
+			Pageable pageable
+	);
+
+	// 보관 기간이 지난 이력 청크 삭제용 - (afterId, lastId] 범위에서 조건을 다시 확인하며 삭제
+	@Modifying
+	@Query("DELETE FROM WorkspaceStatsHistory h " +
+			"WHERE h.resolution = :resolution AND h.bucketStart < :cutoff AND h.id > :afterId AND h.id <= :lastId")
+	int deleteOlderThan(
+			@Param("resolution") StatsResolution resolution,
+			@Param("cutoff") LocalDateTime cutoff,
+			@Param("afterId") long afterId,
+			@Param("lastId") long lastId
+	);
+}
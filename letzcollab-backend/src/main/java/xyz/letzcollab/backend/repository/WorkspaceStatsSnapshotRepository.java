@@ -4,9 +4,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsDelta;
 import xyz.letzcollab.backend.entity.WorkspaceStatsSnapshot;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,174 +17,96 @@ public interface WorkspaceStatsSnapshotRepository extends JpaRepository<Workspac
 
 	Optional<WorkspaceStatsSnapshot> findByWorkspacePublicId(UUID workspacePublicId);
 
+	// 전체 워크스페이스 집계 (주기적 전체 보정)
 	@Modifying
 	@Query(value = """
-			INSERT INTO workspace_stats_snapshots (
-				workspace_id, workspace_public_id, total_members, total_projects, planned_projects, active_projects,
-				on_hold_projects, completed_projects, archived_projects, total_tasks, todo_tasks, in_progress_tasks,
-				in_review_tasks, done_tasks, cancelled_tasks, overdue_tasks, created_at, updated_at
+			WITH target_workspaces AS (
+				SELECT workspace_id, public_id FROM workspaces
 			)
-			SELECT
-				w.workspace_id,
-				w.public_id,
-				COALESCE(m.total_members, 0),
-				COALESCE(p.total_projects, 0),
-				COALESCE(p.planned_projects, 0),
-				COALESCE(p.active_projects, 0),
-				COALESCE(p.on_hold_projects, 0),
-				COALESCE(p.completed_projects, 0),
-				COALESCE(p.archived_projects, 0),
-				COALESCE(t.total_tasks, 0),
-				COALESCE(t.todo_tasks, 0),
-				COALESCE(t.in_progress_tasks, 0),
-				COALESCE(t.in_review_tasks, 0),
-				COALESCE(t.done_tasks, 0),
-				COALESCE(t.cancelled_tasks, 0),
-				COALESCE(t.overdue_tasks, 0),
-				NOW(),
-				NOW()
-			FROM workspaces w
-			-- [멤버 수 집계]
-			LEFT JOIN (
-				SELECT workspace_id, COUNT(*) AS total_members
-				FROM workspace_members
-				GROUP BY workspace_id
-			) m ON w.workspace_id = m.workspace_id
-			-- [프로젝트 통계 집계]
-			LEFT JOIN (
-				SELECT
-				   workspace_id,
-				   COUNT(project_id) AS total_projects,
-				   SUM(CASE WHEN status = 'PLANNED' THEN 1 ELSE 0 END) AS planned_projects,
-				   SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END) AS active_projects,
-				   SUM(CASE WHEN status = 'ON_HOLD' THEN 1 ELSE 0 END) AS on_hold_projects,
-				   SUM(CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed_projects,
-				   SUM(CASE WHEN status = 'ARCHIVED' THEN 1 ELSE 0 END) AS archived_projects
-				FROM projects
-				GROUP BY workspace_id
-			) p ON w.workspace_id = p.workspace_id
-			-- [업무 통계 집계]
-			LEFT JOIN (
-				SELECT
-				   p.workspace_id,
-				   COUNT(t.task_id) AS total_tasks,
-				   SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END) AS todo_tasks,
-				   SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) AS in_progress_tasks,
-				   SUM(CASE WHEN t.status = 'IN_REVIEW' THEN 1 ELSE 0 END) AS in_review_tasks,
-				   SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END) AS done_tasks,
-				   SUM(CASE WHEN t.status = 'CANCELLED' THEN 1 ELSE 0 END) AS cancelled_tasks,
-				   SUM(CASE WHEN t.due_date < :today AND t.status NOT IN ('DONE', 'CANCELLED') THEN 1 ELSE 0 END) AS overdue_tasks
-				FROM tasks t
-				JOIN projects p ON t.project_id = p.project_id
-				GROUP BY p.workspace_id
-			) t ON w.workspace_id = t.workspace_id
-			-- [UPSERT]
-			ON CONFLICT (workspace_id)
-			DO UPDATE SET
-				total_members = EXCLUDED.total_members,
-				total_projects = EXCLUDED.total_projects,
-				planned_projects = EXCLUDED.planned_projects,
-				active_projects = EXCLUDED.active_projects,
-				on_hold_projects = EXCLUDED.on_hold_projects,
-				completed_projects = EXCLUDED.completed_projects,
-				archived_projects = EXCLUDED.archived_projects,
-				total_tasks = EXCLUDED.total_tasks,
-				todo_tasks = EXCLUDED.todo_tasks,
-				in_progress_tasks = EXCLUDED.in_progress_tasks,
-				in_review_tasks = EXCLUDED.in_review_tasks,
-				done_tasks = EXCLUDED.done_tasks,
-				cancelled_tasks = EXCLUDED.cancelled_tasks,
-				overdue_tasks = EXCLUDED.overdue_tasks,
-				updated_at = NOW()
-			""",
+			""" + WorkspaceStatsSnapshotSql.UPSERT_FROM_TARGETS,
 			nativeQuery = true)
 	void updateSnapshots(@Param("today") LocalDate today);
 
+	// 재집계 대상(DirtyWorkspaceSet) 워크스페이스만 한 번에 다시 집계
+	@Modifying
+	@Query(value = """
+			WITH target_workspaces AS (
+				SELECT workspace_id, public_id FROM workspaces WHERE workspace_id IN (:workspaceIds)
+			)
+			""" + WorkspaceStatsSnapshotSql.UPSERT_FROM_TARGETS,
+			nativeQuery = true)
+	void updateSnapshotsByWorkspaceIds(
+			@Param("workspaceIds") Collection<Long> workspaceIds,
+			@Param("today") LocalDate today
+	);
 
+	// 워크스페이스 1개 집계 (스냅샷이 없을 때의 실시간 집계, 증분 반영 대신 다시 집계할 때)
 	@Modifying
 	@Query(value = """
-			INSERT INTO workspace_stats_snapshots (
-				workspace_id, workspace_public_id, total_members, total_projects, planned_projects, active_projects,
-				on_hold_projects, completed_projects, archived_projects, total_tasks, todo_tasks, in_progress_tasks,
-				in_review_tasks, done_tasks, cancelled_tasks, overdue_tasks, created_at, updated_at
+			WITH target_workspaces AS (
+				SELECT workspace_id, public_id FROM workspaces WHERE workspace_id = :workspaceId
 			)
-			SELECT
-				w.workspace_id,
-				w.public_id,
-				COALESCE(m.total_members, 0),
-				COALESCE(p.total_projects, 0),
-				COALESCE(p.planned_projects, 0),
-				COALESCE(p.active_projects, 0),
-				COALESCE(p.on_hold_projects, 0),
-				COALESCE(p.completed_projects, 0),
-				COALESCE(p.archived_projects, 0),
-				COALESCE(t.total_tasks, 0),
-				COALESCE(t.todo_tasks, 0),
-				COALESCE(t.in_progress_tasks, 0),
-				COALESCE(t.in_review_tasks, 0),
-				COALESCE(t.done_tasks, 0),
-				COALESCE(t.cancelled_tasks, 0),
-				COALESCE(t.overdue_tasks, 0),
-				NOW(),
-				NOW()
-			FROM workspaces w
-			-- [멤버 수 집계]
-			LEFT JOIN (
-				SELECT :workspaceId AS ws_id, COUNT(*) AS total_members
-				FROM workspace_members
-				WHERE workspace_id = :workspaceId
-			) m ON w.workspace_id = m.ws_id
-			-- [프로젝트 통계 집계]
-			LEFT JOIN (
-				SELECT
-				   :workspaceId AS ws_id,
-				   COUNT(project_id) AS total_projects,
-				   SUM(CASE WHEN status = 'PLANNED' THEN 1 ELSE 0 END) AS planned_projects,
-				   SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END) AS active_projects,
-				   SUM(CASE WHEN status = 'ON_HOLD' THEN 1 ELSE 0 END) AS on_hold_projects,
-				   SUM(CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed_projects,
-				   SUM(CASE WHEN status = 'ARCHIVED' THEN 1 ELSE 0 END) AS archived_projects
-				FROM projects
-				WHERE workspace_id = :workspaceId
-			) p ON w.workspace_id = p.ws_id
-			-- [업무 통계 집계]
-			LEFT JOIN (
-				SELECT
-				   :workspaceId AS ws_id,
-				   COUNT(t.task_id) AS total_tasks,
-				   SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END) AS todo_tasks,
-				   SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) AS in_progress_tasks,
-				   SUM(CASE WHEN t.status = 'IN_REVIEW' THEN 1 ELSE 0 END) AS in_review_tasks,
-				   SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END) AS done_tasks,
-				   SUM(CASE WHEN t.status = 'CANCELLED' THEN 1 ELSE 0 END) AS cancelled_tasks,
-				   SUM(CASE WHEN t.due_date < :today AND t.status NOT IN ('DONE', 'CANCELLED') THEN 1 ELSE 0 END) AS overdue_tasks
-				FROM tasks t
-				JOIN projects p ON t.project_id = p.project_id
-				WHERE p.workspace_id = :workspaceId
-			) t ON w.workspace_id = t.ws_id
-			WHERE w.workspace_id = :workspaceId
-			-- [UPSERT]
-			ON CONFLICT (workspace_id)
-			DO UPDATE SET
-				total_members = EXCLUDED.total_members,
-				total_projects = EXCLUDED.total_projects,
-				planned_projects = EXCLUDED.planned_projects,
-				active_projects = EXCLUDED.active_projects,
-				on_hold_projects = EXCLUDED.on_hold_projects,
-				completed_projects = EXCLUDED.completed_projects,
-				archived_projects = EXCLUDED.archived_projects,
-				total_tasks = EXCLUDED.total_tasks,
-				todo_tasks = EXCLUDED.todo_tasks,
-				in_progress_tasks = EXCLUDED.in_progress_tasks,
-				in_review_tasks = EXCLUDED.in_review_tasks,
-				done_tasks = EXCLUDED.done_tasks,
-				cancelled_tasks = EXCLUDED.cancelled_tasks,
-				overdue_tasks = EXCLUDED.overdue_tasks,
-				updated_at = NOW()
-			""",
+			""" + WorkspaceStatsSnapshotSql.UPSERT_FROM_TARGETS,
 			nativeQuery = true)
 	void updateSnapshotByWorkspaceId(
 			@Param("workspaceId") Long workspaceId,
 			@Param("today") LocalDate today
 	);
+
+	/**
+	 * 증분 반영 (WorkspaceStatsDeltaBuffer가 워크스페이스별로 합친 값)
+	 * - 스냅샷이 아직 없으면 0건 → 첫 조회 시 실시간 집계로 생성됨
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE workspace_stats_snapshots SET
+				total_members = total_members + :#{#delta.totalMembers()},
+				total_projects = total_projects + :#{#delta.totalProjects()},
+				planned_projects = planned_projects + :#{#delta.plannedProjects()},
+				active_projects = active_projects + :#{#delta.activeProjects()},
+				on_hold_projects = on_hold_projects + :#{#delta.onHoldProjects()},
+				completed_projects = completed_projects + :#{#delta.completedProjects()},
+				archived_projects = archived_projects + :#{#delta.archivedProjects()},
+				total_tasks = total_tasks + :#{#delta.totalTasks()},
+				todo_tasks = todo_tasks + :#{#delta.todoTasks()},
+				in_progress_tasks = in_progress_tasks + :#{#delta.inProgressTasks()},
+				in_review_tasks = in_review_tasks + :#{#delta.inReviewTasks()},
+				done_tasks = done_tasks + :#{#delta.doneTasks()},
+				cancelled_tasks = cancelled_tasks + :#{#delta.cancelledTasks()},
+				overdue_tasks = overdue_tasks + :#{#delta.overdueTasks()},
+				history_pending = true,
+				updated_at = NOW()
+			WHERE workspace_id = :workspaceId
+			""",
+			nativeQuery = true)
+	int applyDelta(@Param("workspaceId") Long workspaceId, @Param("delta") WorkspaceStatsDelta delta);
+
+	/**
+	 * 날짜 변경 반영 - 어제가 마감일인 미완료 업무 수만큼 마감 초과 카운터를 올림 (업무 테이블 전체를 다시 읽지 않음)
+	 * - due_date = :yesterday 조건으로 idx_tasks_due_date_status 인덱스 범위만 읽음
+	 * - overdue_as_of가 오늘보다 이른 스냅샷만 반영하고 오늘로 갱신 → 재실행해도 중복 반영되지 않고,
+	 *   자정 이후 이미 다시 집계된 스냅샷(overdue_as_of = 오늘)은 건너뜀
+	 * - 어제 반영을 놓친 스냅샷은 다음 전체 보정에서 바로잡힘
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE workspace_stats_snapshots s SET
+				overdue_tasks = s.overdue_tasks + d.newly_overdue,
+				overdue_as_of = :today,
+				history_pending = true,
+				updated_at = NOW()
+			FROM (
+				SELECT p.workspace_id, COUNT(*) AS newly_overdue
+				FROM tasks t
+				JOIN projects p ON t.project_id = p.project_id
+				WHERE t.due_date = :yesterday
+				  AND t.status NOT IN ('DONE', 'CANCELLED')
+				  AND t.deleted_at IS NULL AND p.deleted_at IS NULL
+				GROUP BY p.workspace_id
+			) d
+			WHERE s.workspace_id = d.workspace_id
+			  AND (s.overdue_as_of IS NULL OR s.overdue_as_of < :today)
+			""",
+			nativeQuery = true)
+	int rollOverOverdue(@Param("yesterday") LocalDate yesterday, @Param("today") LocalDate today);
 }
@@ -0,0 +1,103 @@
+package xyz.letzcollab.backend.repository;
+
+/**
+ * 워크스페이스 통계 스냅샷 집계 SQL - 전체 보정, 재집계 대상 일괄 집계, 단건 실시간 집계가 같은 집계식을 공유
+ * - 앞에 집계할 워크스페이스를 고르는 CTE target_workspaces(workspace_id, public_id)를 붙여서 사용
+ * - 하위 집계도 target_workspaces와 조인해 대상 워크스페이스의 행만 읽음
+ * - 파라미터: :today (마감 초과 판단 기준일)
+ * - 값을 바꾸는 쿼리는 모두 history_pending = true로 표시 (다음 이력 기록 대상)
+ */
+final class WorkspaceStatsSnapshotSql {
+
+	static final String UPSERT_FROM_TARGETS = """
+			INSERT INTO workspace_stats_snapshots (
+				workspace_id, workspace_public_id, total_members, total_projects, planned_projects, active_projects,
+				on_hold_projects, completed_projects, archived_projects, total_tasks, todo_tasks, in_progress_tasks,
+				in_review_tasks, done_tasks, cancelled_tasks, overdue_tasks, overdue_as_of, history_pending, created_at, updated_at
+			)
+			SELECT
+				w.workspace_id,
+				w.public_id,
+				COALESCE(m.total_members, 0),
+				COALESCE(p.total_projects, 0),
+				COALESCE(p.planned_projects, 0),
+				COALESCE(p.active_projects, 0),
+				COALESCE(p.on_hold_projects, 0),
+				COALESCE(p.completed_projects, 0),
+				COALESCE(p.archived_projects, 0),
+				COALESCE(t.total_tasks, 0),
+				COALESCE(t.todo_tasks, 0),
+				COALESCE(t.in_progress_tasks, 0),
+				COALESCE(t.in_review_tasks, 0),
+				COALESCE(t.done_tasks, 0),
+				COALESCE(t.cancelled_tasks, 0),
+				COALESCE(t.overdue_tasks, 0),
+				:today,
+				true,
+				NOW(),
+				NOW()
+			FROM target_workspaces w
+			-- [멤버 수 집계]
+			LEFT JOIN (
+				SELECT wm.workspace_id, COUNT(*) AS total_members
+				FROM workspace_members wm
+				JOIN target_workspaces tw ON tw.workspace_id = wm.workspace_id
+				GROUP BY wm.workspace_id
+			) m ON w.workspace_id = m.workspace_id
+			-- [프로젝트 통계 집계]
+			LEFT JOIN (
+				SELECT
+				   p.workspace_id,
+				   COUNT(p.project_id) AS total_projects,
+				   SUM(CASE WHEN p.status = 'PLANNED' THEN 1 ELSE 0 END) AS planned_projects,
+				   SUM(CASE WHEN p.status = 'ACTIVE' THEN 1 ELSE 0 END) AS active_projects,
+				   SUM(CASE WHEN p.status = 'ON_HOLD' THEN 1 ELSE 0 END) AS on_hold_projects,
+				   SUM(CASE WHEN p.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed_projects,
+				   SUM(CASE WHEN p.status = 'ARCHIVED' THEN 1 ELSE 0 END) AS archived_projects
+				FROM projects p
+				JOIN target_workspaces tw ON tw.workspace_id = p.workspace_id
+				WHERE p.deleted_at IS NULL
+				GROUP BY p.workspace_id
+			) p ON w.workspace_id = p.workspace_id
+			-- [업무 통계 집계]
+			LEFT JOIN (
+				SELECT
+				   p.workspace_id,
+				   COUNT(t.task_id) AS total_tasks,
+				   SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END) AS todo_tasks,
+				   SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) AS in_progress_tasks,
+				   SUM(CASE WHEN t.status = 'IN_REVIEW' THEN 1 ELSE 0 END) AS in_review_tasks,
+				   SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END) AS done_tasks,
+				   SUM(CASE WHEN t.status = 'CANCELLED' THEN 1 ELSE 0 END) AS cancelled_tasks,
+				   SUM(CASE WHEN t.due_date < :today AND t.status NOT IN ('DONE', 'CANCELLED') THEN 1 ELSE 0 END) AS overdue_tasks
+				FROM tasks t
+				JOIN projects p ON t.project_id = p.project_id
+				JOIN target_workspaces tw ON tw.workspace_id = p.workspace_id
+				WHERE t.deleted_at IS NULL AND p.deleted_at IS NULL
+				GROUP BY p.workspace_id
+			) t ON w.workspace_id = t.workspace_id
+			-- [UPSERT]
+			ON CONFLICT (workspace_id)
+			DO UPDATE SET
+				total_members = EXCLUDED.total_members,
+				total_projects = EXCLUDED.total_projects,
+				planned_projects = EXCLUDED.planned_projects,
+				active_projects = EXCLUDED.active_projects,
+				on_hold_projects = EXCLUDED.on_hold_projects,
+				completed_projects = EXCLUDED.completed_projects,
+				archived_projects = EXCLUDED.archived_projects,
+				total_tasks = EXCLUDED.total_tasks,
+				todo_tasks = EXCLUDED.todo_tasks,
+				in_progress_tasks = EXCLUDED.in_progress_tasks,
+				in_review_tasks = EXCLUDED.in_review_tasks,
+				done_tasks = EXCLUDED.done_tasks,
+				cancelled_tasks = EXCLUDED.cancelled_tasks,
+				overdue_tasks = EXCLUDED.overdue_tasks,
+				overdue_as_of = EXCLUDED.overdue_as_of,
+				history_pending = true,
+				updated_at = NOW()
+			""";
+
+	private WorkspaceStatsSnapshotSql() {
+	}
+}
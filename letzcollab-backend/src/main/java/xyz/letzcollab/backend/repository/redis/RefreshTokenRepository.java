@@ -1,63 +1,259 @@
 package xyz.letzcollab.backend.repository.redis;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import xyz.letzcollab.backend.dto.auth.RefreshTokenData;
-import xyz.letzcollab.backend.global.exception.CustomException;
 
-import java.util.concurrent.TimeUnit;
-
-import static xyz.letzcollab.backend.global.exception.ErrorCode.DAO_ERROR;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
+/**
+ * 갱신 토큰 저장소 (Redis)
+ * - RT:{token}  : 해시 (uid, email, role, fam) - JSON 문자열 대신 필드별로 저장
+ * - RTF:{fam}   : 토큰 패밀리(로그인 1번에서 이어지는 재발급 체인 = 세션 1개) 해시 (tok: 현재 유효 토큰, uid, created, refreshed)
+ * - RTU:{token} : 이미 재발급에 사용된 토큰 표시 (uid, fam) → 같은 토큰이 다시 오면 탈취로 보고 패밀리 전체 폐기
+ * - RTS:{uid}   : 사용자별 세션 인덱스 (sorted set, member = fam, score = 만료 시각) → SCAN 없이 세션 조회/전체 폐기
+ *   만료된 member는 저장/재발급/조회 때 정리
+ * - RTR:{uid}   : 전체 세션 폐기 표시 (값 = 폐기 시각)
+ *   → 이전 JSON 형식 토큰은 패밀리가 없어 RTS 인덱스에 없으므로 전체 폐기로 지울 수 없음
+ *   → 대신 재발급 시 이 표시가 있으면 거부 (JSON 토큰은 모두 배포 전에 발급되어 폐기 시각보다 오래됨)
+ *   → TTL이 갱신 토큰 유효 기간이라, 표시가 사라질 때면 그 전에 발급된 JSON 토큰도 모두 만료됨
+ * - 모든 키의 TTL = 갱신 토큰 유효 기간
+ * - 패밀리/인덱스 키는 토큰 값에서 알 수 없어 스크립트 안에서 만드므로 단일 Redis(비클러스터) 전제
+ */
 @Repository
 @Slf4j
 public class RefreshTokenRepository {
 	private static final String REFRESH_TOKEN_PREFIX = "RT:";
+	private static final String FAMILY_PREFIX = "RTF:";
+	private static final String USED_PREFIX = "RTU:";
+	private static final String SESSIONS_PREFIX = "RTS:";
+	private static final String REVOKED_PREFIX = "RTR:";
+
+	// KEYS[1]: RT:{token}, KEYS[2]: RTF:{fam}, KEYS[3]: RTS:{uid} / ARGV: TTL(초), uid, email, role, fam, token, 현재 시각(epoch 초)
+	private static final RedisScript<Long> SAVE = new DefaultRedisScript<>("""
+			local ttl, now = tonumber(ARGV[1]), tonumber(ARGV[7])
+			redis.call('HSET', KEYS[1], 'uid', ARGV[2], 'email', ARGV[3], 'role', ARGV[4], 'fam', ARGV[5])
+			redis.call('EXPIRE', KEYS[1], ttl)
+			redis.call('HSET', KEYS[2], 'tok', ARGV[6], 'uid', ARGV[2], 'created', now, 'refreshed', now)
+			redis.call('EXPIRE', KEYS[2], ttl)
+			redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', now)
+			redis.call('ZADD', KEYS[3], now + ttl, ARGV[5])
+			redis.call('EXPIRE', KEYS[3], ttl)
+			return 1
+			""", Long.class);
+
+	/*
+	 * 조회 + 이전 토큰 삭제 + 새 토큰 저장 + 사용 표시를 한 번에 처리 (동시에 같은 토큰으로 재발급해도 1번만 성공)
+	 * KEYS[1]: RT:{이전 토큰}, KEYS[2]: RT:{새 토큰}, KEYS[3]: RTU:{이전 토큰}
+	 * ARGV: TTL(초), 새 토큰, 새 패밀리 id (이전 JSON 형식으로 저장된 토큰용), 현재 시각(epoch 초)
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> ROTATE = new DefaultRedisScript<>("""
+			local ttl, now = tonumber(ARGV[1]), tonumber(ARGV[4])
+			local uid, email, role, fam
+			local keyType = redis.call('TYPE', KEYS[1]).ok
+			if keyType == 'hash' then
+				local fields = redis.call('HMGET', KEYS[1], 'uid', 'email', 'role', 'fam')
+				uid, email, role, fam = fields[1], fields[2], fields[3], fields[4]
+			elseif keyType == 'string' then
+				local data = cjson.decode(redis.call('GET', KEYS[1]))
+				if redis.call('EXISTS', 'RTR:' .. data.publicId) == 1 then
+					redis.call('DEL', KEYS[1])
+					return {'NOT_FOUND'}
+				end
+				uid, email, role, fam = data.publicId, data.email, data.role, ARGV[3]
+			else
+				local used = redis.call('HMGET', KEYS[3], 'uid', 'fam')
+				if not used[2] then return {'NOT_FOUND'} end
+				local familyKey = 'RTF:' .. used[2]
+				local current = redis.call('HGET', familyKey, 'tok')
+				if current then redis.call('DEL', 'RT:' .. current) end
+				redis.call('DEL', familyKey)
+				redis.call('ZREM', 'RTS:' .. used[1], used[2])
+				return {'REPLAYED', used[1]}
+			end
+			redis.call('DEL', KEYS[1])
+			redis.call('HSET', KEYS[2], 'uid', uid, 'email', email, 'role', role, 'fam', fam)
+			redis.call('EXPIRE', KEYS[2], ttl)
+			redis.call('HSET', KEYS[3], 'uid', uid, 'fam', fam)
+			redis.call('EXPIRE', KEYS[3], ttl)
+			local familyKey = 'RTF:' .. fam
+			redis.call('HSETNX', familyKey, 'created', now)
+			redis.call('HSET', familyKey, 'tok', ARGV[2], 'uid', uid, 'refreshed', now)
+			redis.call('EXPIRE', familyKey, ttl)
+			local sessionsKey = 'RTS:' .. uid
+			redis.call('ZREMRANGEBYSCORE', sessionsKey, '-inf', now)
+			redis.call('ZADD', sessionsKey, now + ttl, fam)
+			redis.call('EXPIRE', sessionsKey, ttl)
+			return {'ROTATED', uid, email, role, fam}
+			""", List.class);
+
+	// KEYS[1]: RT:{token} - 토큰 삭제 + 세션 인덱스에서 제거 → {삭제 건수, 패밀리(이전 JSON 형식이면 빈 값)}
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> DELETE = new DefaultRedisScript<>("""
+			local fam = ''
+			if redis.call('TYPE', KEYS[1]).ok == 'hash' then
+				local fields = redis.call('HMGET', KEYS[1], 'uid', 'fam')
+				if fields[2] then
+					fam = fields[2]
+					redis.call('DEL', 'RTF:' .. fam)
+					redis.call('ZREM', 'RTS:' .. fields[1], fam)
+				end
+			end
+			return {tostring(redis.call('DEL', KEYS[1])), fam}
+			""", List.class);
+
+	// KEYS[1]: RTS:{uid} / ARGV[1]: 현재 시각(epoch 초) → {fam, created, refreshed, 만료 시각, ...}
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> LIST_SESSIONS = new DefaultRedisScript<>("""
+			redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+			local members = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+			local result = {}
+			for i = 1, #members, 2 do
+				local fields = redis.call('HMGET', 'RTF:' .. members[i], 'created', 'refreshed')
+				if fields[1] then
+					table.insert(result, members[i])
+					table.insert(result, fields[1])
+					table.insert(result, fields[2])
+					table.insert(result, members[i + 1])
+				end
+			end
+			return result
+			""", List.class);
+
+	/*
+	 * 사용자의 모든 패밀리와 현재 토큰 삭제 + 전체 폐기 표시, 폐기한 세션 수 반환
+	 * KEYS[1]: RTS:{uid}, KEYS[2]: RTR:{uid} / ARGV: TTL(초), 현재 시각(epoch 초)
+	 */
+	private static final RedisScript<Long> REVOKE_ALL = new DefaultRedisScript<>("""
+			local families = redis.call('ZRANGE', KEYS[1], 0, -1)
+			for _, fam in ipairs(families) do
+				local familyKey = 'RTF:' .. fam
+				local current = redis.call('HGET', familyKey, 'tok')
+				if current then redis.call('DEL', 'RT:' .. current) end
+				redis.call('DEL', familyKey)
+			end
+			redis.call('DEL', KEYS[1])
+			redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[1])
+			return #families
+			""", Long.class);
 
 	private final RedisTemplate<String, String> redisTemplate;
-	private final long rtValidityInDays;
-	private final ObjectMapper objectMapper;
+	private final long rtValiditySeconds;
 
 	public RefreshTokenRepository(
 			RedisTemplate<String, String> redisTemplate,
-			@Value("${jwt.refresh-validity-in-days}") long rtValidityInDays,
-			ObjectMapper objectMapper
+			@Value("${jwt.refresh-validity-in-days}") long rtValidityInDays
 	) {
 		this.redisTemplate = redisTemplate;
-		this.rtValidityInDays = rtValidityInDays;
-		this.objectMapper = objectMapper;
+		this.rtValiditySeconds = rtValidityInDays * 24 * 60 * 60;
+	}
+
+	public enum RotateStatus { ROTATED, REPLAYED, NOT_FOUND }
+
+	/**
+	 * @param data        ROTATED일 때 토큰 정보
+	 * @param userPublicId ROTATED/REPLAYED일 때 토큰 주인
+	 * @param sessionId   ROTATED일 때 토큰 패밀리 (새 액세스 토큰의 sid)
+	 */
+	public record RotateResult(RotateStatus status, String userPublicId, RefreshTokenData data, String sessionId) {}
+
+	/**
+	 * @param sessionId 삭제한 토큰의 패밀리 (이전 JSON 형식 토큰이면 null)
+	 */
+	public record DeleteResult(boolean deleted, String sessionId) {}
+
+	/**
+	 * 세션(토큰 패밀리) 1개 - 시각은 모두 epoch 초
+	 */
+	public record Session(String sessionId, long createdAt, long refreshedAt, long expiresAt) {}
+
+	/**
+	 * 로그인 - 새 토큰 패밀리 시작
+	 * @return 패밀리 ID (액세스 토큰의 sid)
+	 */
+	public String saveRefreshToken(String token, RefreshTokenData data) {
+		String family = UUID.randomUUID().toString();
+		redisTemplate.execute(
+				SAVE,
+				List.of(REFRESH_TOKEN_PREFIX + token, FAMILY_PREFIX + family, SESSIONS_PREFIX + data.publicId()),
+				String.valueOf(rtValiditySeconds), data.publicId(), data.email(), data.role(), family, token, now()
+		);
+		return family;
 	}
 
-	public void saveRefreshToken(String token, RefreshTokenData data) {
-		try {
-			String redisKey = REFRESH_TOKEN_PREFIX + token;
-			String json = objectMapper.writeValueAsString(data);
-			redisTemplate.opsForValue().set(redisKey, json, rtValidityInDays, TimeUnit.DAYS);
-		} catch (JsonProcessingException e) {
-			log.error("갱신 토큰 redis 값 직렬화 실패: {}", e.getMessage());
-			throw new CustomException(DAO_ERROR);
+	/**
+	 * 이전 토큰을 새 토큰으로 교체 (Redis 왕복 1번)
+	 * - 이미 사용된 토큰이면 패밀리의 현재 토큰까지 삭제하고 REPLAYED
+	 */
+	@SuppressWarnings("unchecked")
+	public RotateResult rotate(String oldToken, String newToken) {
+		List<String> result = redisTemplate.execute(
+				ROTATE,
+				List.of(REFRESH_TOKEN_PREFIX + oldToken, REFRESH_TOKEN_PREFIX + newToken, USED_PREFIX + oldToken),
+				String.valueOf(rtValiditySeconds), newToken, UUID.randomUUID().toString(), now()
+		);
+		if (result == null || result.isEmpty()) {
+			return new RotateResult(RotateStatus.NOT_FOUND, null, null, null);
 		}
+
+		RotateStatus status = RotateStatus.valueOf(result.get(0));
+		return switch (status) {
+			case ROTATED -> new RotateResult(status, result.get(1),
+					new RefreshTokenData(result.get(1), result.get(2), result.get(3)), result.get(4));
+			case REPLAYED -> new RotateResult(status, result.get(1), null, null);
+			case NOT_FOUND -> new RotateResult(status, null, null, null);
+		};
 	}
 
-	public RefreshTokenData getRefreshTokenData(String token) {
-		try {
-			String redisKey = REFRESH_TOKEN_PREFIX + token;
-			String json = redisTemplate.opsForValue().get(redisKey);
+	@SuppressWarnings("unchecked")
+	public DeleteResult deleteRefreshToken(String token) {
+		List<String> result = redisTemplate.execute(DELETE, List.of(REFRESH_TOKEN_PREFIX + token));
+		if (result == null || result.isEmpty()) {
+			return new DeleteResult(false, null);
+		}
+		String family = result.get(1);
+		return new DeleteResult(Long.parseLong(result.get(0)) > 0, family.isEmpty() ? null : family);
+	}
+
+	// 만료되지 않은 세션 목록 (Redis 왕복 1번, SCAN 없음)
+	@SuppressWarnings("unchecked")
+	public List<Session> findSessions(UUID userPublicId) {
+		List<String> flat = redisTemplate.execute(LIST_SESSIONS, List.of(SESSIONS_PREFIX + userPublicId), now());
+		List<Session> sessions = new ArrayList<>();
+		if (flat == null) return sessions;
 
-			if (json == null) return null;
-			return objectMapper.readValue(json, RefreshTokenData.class);
-		} catch (JsonProcessingException e) {
-			log.error("갱신 토큰 역직렬화 실패: {}", e.getMessage());
-			throw new CustomException(DAO_ERROR);
+		for (int i = 0; i + 3 < flat.size(); i += 4) {
+			sessions.add(new Session(
+					flat.get(i), Long.parseLong(flat.get(i + 1)), Long.parseLong(flat.get(i + 2)),
+					(long) Double.parseDouble(flat.get(i + 3))
+			));
 		}
+		return sessions;
+	}
+
+	/**
+	 * 사용자의 모든 갱신 토큰 폐기 (세션 수만큼만 삭제)
+	 * - 인덱스에 없는 이전 JSON 형식 토큰은 삭제하지 않고 재발급 시 거부됨 (RTR 표시)
+	 * @return 폐기한 세션 수
+	 */
+	public long revokeAllSessions(UUID userPublicId) {
+		Long revoked = redisTemplate.execute(
+				REVOKE_ALL,
+				List.of(SESSIONS_PREFIX + userPublicId, REVOKED_PREFIX + userPublicId),
+				String.valueOf(rtValiditySeconds), now()
+		);
+		return revoked == null ? 0 : revoked;
 	}
 
-	public boolean deleteRefreshToken(String token) {
-		String redisKey = REFRESH_TOKEN_PREFIX + token;
-		return Boolean.TRUE.equals(redisTemplate.delete(redisKey));
+	private static String now() {
+		return String.valueOf(Instant.now().getEpochSecond());
 	}
 }
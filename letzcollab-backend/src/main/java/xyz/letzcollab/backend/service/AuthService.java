@@ -8,7 +8,9 @@ import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import xyz.letzcollab.backend.dto.auth.LoginResponse;
 import xyz.letzcollab.backend.dto.auth.RefreshResponse;
 import xyz.letzcollab.backend.dto.auth.RefreshTokenData;
@@ -18,14 +20,19 @@ import xyz.letzcollab.backend.entity.VerificationToken;
 import xyz.letzcollab.backend.global.email.context.PasswordResetEmailContext;
 import xyz.letzcollab.backend.global.email.context.VerifyEmailContext;
 import xyz.letzcollab.backend.global.event.dto.EmailEvent;
+import xyz.letzcollab.backend.global.event.dto.SessionRevocationEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.global.ratelimit.AuthRateLimiter;
+import xyz.letzcollab.backend.global.security.jwt.AccessTokenRevocationList;
 import xyz.letzcollab.backend.global.security.jwt.JwtTokenProvider;
 import xyz.letzcollab.backend.global.security.jwt.RefreshTokenProvider;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 import xyz.letzcollab.backend.repository.UserRepository;
 import xyz.letzcollab.backend.repository.VerificationTokenRepository;
 import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository.DeleteResult;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository.RotateResult;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository.RotateStatus;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -46,34 +53,52 @@ public class AuthService {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final RefreshTokenRepository refreshTokenRepository;
 	private final RefreshTokenProvider refreshTokenProvider;
+	private final AccessTokenRevocationList revocationList;
 	private final AuthRateLimiter authRateLimiter;
+	private final TransactionTemplate transactionTemplate;
 
 	@Value("${frontend.base-url}")
 	private String frontendURL;
 
+	/**
+	 * 회원가입
+	 * - 비밀번호 해시(BoundedPasswordEncoder)는 오래 걸리므로 트랜잭션 밖에서 먼저 계산하고 저장만 짧은 트랜잭션에서 실행
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public void signup(SignupRequest req) {
 		if (userRepository.existsByEmail(req.email())) {
 			log.warn("회원가입 실패 - 이메일 중복: {}", req.email());
 			throw new CustomException(DUPLICATE_EMAIL);
 		}
 
-		User user = User.createPendingUser(
-				req.name(),
-				req.email(),
-				passwordEncoder.encode(req.password()),
-				req.phoneNumber()
-		);
-		userRepository.save(user);
-		log.info("회원가입 완료 - email: {}", req.email());
+		String encodedPassword = passwordEncoder.encode(req.password());
+
+		transactionTemplate.executeWithoutResult(status -> {
+			User user = User.createPendingUser(
+					req.name(),
+					req.email(),
+					encodedPassword,
+					req.phoneNumber()
+			);
+			userRepository.save(user);
+			log.info("회원가입 완료 - email: {}", req.email());
 
-		VerificationToken token = VerificationToken.createEmailVerificationToken(user);
-		tokenRepository.save(token);
+			VerificationToken token = VerificationToken.createEmailVerificationToken(user);
+			tokenRepository.save(token);
 
-		sendVerificationEmail(req.name(), token.getToken().toString(), req.email());
-		log.info("이메일 인증 메일 발송 - email: {}", req.email());
+			sendVerificationEmail(req.name(), token.getToken().toString(), req.email());
+			log.info("이메일 인증 메일 발송 - email: {}", req.email());
+		});
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * 로그인
+	 * - 비밀번호 검증(BoundedPasswordEncoder)은 전용 스레드풀 대기 + bcrypt 계산으로 오래 걸리므로 트랜잭션 없이 실행
+	 *   → 검증하는 동안 DB 커넥션을 붙잡지 않음 (사용자 조회는 CustomUserDetailsService의 읽기 트랜잭션에서 바로 끝남)
+	 *   → open-in-view가 꺼져 있어야 함 (켜져 있으면 사용자 조회에 쓴 커넥션을 응답까지 붙잡음)
+	 * - 저장된 해시의 cost가 낮으면 CustomUserDetailsService.updatePassword가 자체 짧은 트랜잭션에서 새 해시로 갱신
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public LoginResponse login(String email, String password) {
 		log.debug("로그인 시도 - email: {}", email);
 		try {
@@ -81,11 +106,10 @@ public class AuthService {
 
 			Authentication authentication = authenticationManager.authenticate(authenticationToken);
 
-			String accessToken = jwtTokenProvider.createToken(authentication);
-			String refreshToken = refreshTokenProvider.createToken();
-
 			CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-			refreshTokenRepository.saveRefreshToken(refreshToken, RefreshTokenData.from(userDetails));
+			String refreshToken = refreshTokenProvider.createToken();
+			String sessionId = refreshTokenRepository.saveRefreshToken(refreshToken, RefreshTokenData.from(userDetails));
+			String accessToken = jwtTokenProvider.createToken(authentication, sessionId);
 
 			log.info("로그인 성공 - email: {}", email);
 			return new LoginResponse(accessToken, refreshToken, userDetails.getName(), userDetails.getEmail());
@@ -104,29 +128,37 @@ public class AuthService {
 
 	@Transactional(readOnly = true)
 	public RefreshResponse refresh(String oldRefreshToken) {
-		RefreshTokenData data = refreshTokenRepository.getRefreshTokenData(oldRefreshToken);
+		String newRefreshToken = refreshTokenProvider.createToken();
+		RotateResult result = refreshTokenRepository.rotate(oldRefreshToken, newRefreshToken);
 
-		if (data == null) {
+		if (result.status() == RotateStatus.REPLAYED) {
+			// 이미 재발급에 쓰인 토큰이 다시 옴 → 탈취로 보고 패밀리 폐기 + 발급된 액세스 토큰 폐기
+			log.warn("JWT 재발급 실패 - 이미 사용된 갱신 토큰 재사용, 토큰 패밀리 폐기: userId={}", result.userPublicId());
+			revocationList.revokeAll(UUID.fromString(result.userPublicId()));
+			throw new CustomException(INVALID_REFRESH_TOKEN);
+		}
+		if (result.status() == RotateStatus.NOT_FOUND) {
 			throw new CustomException(INVALID_REFRESH_TOKEN);
 		}
 
-		log.debug("JWT 재발급 시도 - email: {}", data.email());
-
-		String newAccessToken = jwtTokenProvider.createToken(data);
-		String newRefreshToken = refreshTokenProvider.createToken();
-
-		refreshTokenRepository.saveRefreshToken(newRefreshToken, data);
-		refreshTokenRepository.deleteRefreshToken(oldRefreshToken);
+		RefreshTokenData data = result.data();
+		String newAccessToken = jwtTokenProvider.createToken(data, result.sessionId());
 
 		log.info("JWT 재발급 성공 - email: {}", data.email());
 		return new RefreshResponse(newAccessToken, newRefreshToken);
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * 현재 기기 로그아웃 - 이 기기의 갱신 토큰을 삭제하고 같은 세션(sid)으로 발급된 액세스 토큰만 폐기
+	 * - 사용자 단위로 폐기하면 다른 기기까지 로그아웃되므로 하지 않음 (전체 폐기는 UserService.logoutAll)
+	 */
 	public void logout(String oldRefreshToken, String email) {
-		boolean deleted = refreshTokenRepository.deleteRefreshToken(oldRefreshToken);
+		DeleteResult result = refreshTokenRepository.deleteRefreshToken(oldRefreshToken);
+		if (result.sessionId() != null) {
+			revocationList.revokeSession(result.sessionId());
+		}
 
-		if (deleted) {
+		if (result.deleted()) {
 			log.info("로그아웃 성공 - email: {}", email);
 		} else {
 			log.info("갱신 토큰 제거 실패 - email: {}", email);
@@ -191,14 +223,25 @@ public class AuthService {
 		log.info("비밀번호 재설정 메일 발송 완료 - email: {}", email);
 	}
 
+	/**
+	 * 비밀번호 재설정
+	 * - 회원가입과 같이 새 비밀번호 해시는 트랜잭션 밖에서 먼저 계산
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public void resetPassword(UUID token, String newPassword) {
 		log.debug("비밀번호 재설정 시도 - token: {}", token);
 
-		VerificationToken foundToken = getVerificationToken(token);
-		foundToken.getUser().resetPassword(passwordEncoder.encode(newPassword));
-		foundToken.use();
+		String encodedPassword = passwordEncoder.encode(newPassword);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			VerificationToken foundToken = getVerificationToken(token);
+			foundToken.getUser().resetPassword(encodedPassword);
+			foundToken.use();
+			// 이전 비밀번호로 발급된 액세스/갱신 토큰 폐기 (커밋 후, 롤백되면 기존 세션 유지)
+			eventPublisher.publishEvent(new SessionRevocationEvent(foundToken.getUser().getPublicId()));
 
-		log.info("비밀번호 재설정 완료 - email: {}", foundToken.getUser().getEmail());
+			log.info("비밀번호 재설정 완료 - email: {}", foundToken.getUser().getEmail());
+		});
 	}
 
 
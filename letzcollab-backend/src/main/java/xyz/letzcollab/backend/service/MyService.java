@@ -5,16 +5,28 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardCond;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardResponse;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardResponse.ProjectGroup;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardResponse.WorkspaceGroup;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardRow;
 import xyz.letzcollab.backend.dto.task.MyTaskResponse;
 import xyz.letzcollab.backend.dto.task.MyTaskSearchCond;
+import xyz.letzcollab.backend.global.dto.SliceResponse;
 import xyz.letzcollab.backend.repository.TaskRepository;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class MyService {
 
+	private static final int MAX_DASHBOARD_LIMIT = 20;
+
 	private final TaskRepository taskRepository;
 
 	@Transactional(readOnly = true)
@@ -22,4 +34,50 @@ public class MyService {
 		return taskRepository.findMyTasks(userPublicId, cond, pageable)
 							 .map(MyTaskResponse::from);
 	}
+
+	@Transactional(readOnly = true)
+	public SliceResponse<MyTaskResponse> getMyTaskSlice(UUID userPublicId, MyTaskSearchCond cond, Pageable pageable) {
+		return SliceResponse.from(taskRepository.findMyTaskSlice(userPublicId, cond, pageable)
+												.map(MyTaskResponse::from));
+	}
+
+	/**
+	 * 워크스페이스 통합 내 업무 대시보드
+	 * - 워크스페이스마다 요청을 나눠 보내지 않도록 쿼리 1번으로 워크스페이스/프로젝트별로 묶어서 반환
+	 * - 각 워크스페이스의 업무는 기본 정렬 기준 상위 limit개만, 개수는 전체 기준
+	 */
+	@Transactional(readOnly = true)
+	public MyTaskDashboardResponse getMyTaskDashboard(UUID userPublicId, MyTaskDashboardCond cond, int limit) {
+		int perWorkspaceLimit = Math.clamp(limit, 1, MAX_DASHBOARD_LIMIT);
+		List<MyTaskDashboardRow> rows = taskRepository.findMyTaskDashboardRows(userPublicId, cond, perWorkspaceLimit);
+
+		// 쿼리가 워크스페이스 → 순위 순으로 정렬되어 있으므로 등장 순서 그대로 묶음
+		Map<UUID, List<MyTaskDashboardRow>> rowsByWorkspace = new LinkedHashMap<>();
+		for (MyTaskDashboardRow row : rows) {
+			rowsByWorkspace.computeIfAbsent(row.workspacePublicId(), id -> new ArrayList<>()).add(row);
+		}
+
+		List<WorkspaceGroup> workspaces = rowsByWorkspace.values().stream()
+														 .map(workspaceRows -> toWorkspaceGroup(workspaceRows, perWorkspaceLimit))
+														 .toList();
+		return new MyTaskDashboardResponse(workspaces);
+	}
+
+	private WorkspaceGroup toWorkspaceGroup(List<MyTaskDashboardRow> workspaceRows, int perWorkspaceLimit) {
+		MyTaskDashboardRow first = workspaceRows.getFirst();
+
+		Map<UUID, ProjectGroup> projects = new LinkedHashMap<>();
+		List<MyTaskResponse> tasks = new ArrayList<>();
+		for (MyTaskDashboardRow row : workspaceRows) {
+			projects.putIfAbsent(row.projectPublicId(),
+					new ProjectGroup(row.projectPublicId(), row.projectName(), row.projectTaskCount()));
+			// limit 밖의 행은 프로젝트 개수 전달용이므로 업무 목록에는 넣지 않음
+			if (row.workspaceRank() <= perWorkspaceLimit) {
+				tasks.add(MyTaskResponse.from(row));
+			}
+		}
+
+		return new WorkspaceGroup(first.workspacePublicId(), first.workspaceName(), first.workspaceTaskCount(),
+				List.copyOf(projects.values()), tasks);
+	}
 }
\ No newline at end of file
@@ -2,22 +2,36 @@ package xyz.letzcollab.backend.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import xyz.letzcollab.backend.dto.notification.NotificationResponse;
 import xyz.letzcollab.backend.entity.Notification;
 import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.global.cache.UnreadNotificationCounter;
 import xyz.letzcollab.backend.global.event.dto.NotificationEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.global.exception.ErrorCode;
+import xyz.letzcollab.backend.global.sse.NotificationEmitterRegistry;
+import xyz.letzcollab.backend.global.sse.NotificationStreamCursor;
+import xyz.letzcollab.backend.global.sse.NotificationStreamRelay;
 import xyz.letzcollab.backend.repository.NotificationRepository;
 import xyz.letzcollab.backend.repository.UserRepository;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static xyz.letzcollab.backend.global.exception.ErrorCode.NOTIFICATION_NOT_FOUND;
 
@@ -29,6 +43,13 @@ public class NotificationService {
 
 	private final NotificationRepository notificationRepository;
 	private final UserRepository userRepository;
+	private final UnreadNotificationCounter unreadCounter;
+	private final NotificationEmitterRegistry emitterRegistry;
+	private final NotificationStreamRelay streamRelay;
+
+	// 알림 생성 시각과 커밋 시각의 차이 상한 (재연결 시 이만큼 앞에서부터 다시 읽음)
+	@Value("${notification.stream.replay-overlap:1m}")
+	private Duration replayOverlap;
 
 	public void create(NotificationEvent event) {
 		User recipient = userRepository.findById(event.recipientId())
@@ -44,10 +65,48 @@ public class NotificationService {
 		);
 
 		notificationRepository.save(notification);
+		unreadCounter.increment(recipient.getPublicId());
+		streamRelay.publish(recipient.getPublicId(), NotificationResponse.from(notification));
 		log.info("알림 생성 - type={}, recipientId={}, referenceType={}, referenceId={}, parentReferenceId={}",
 				event.type(), event.recipientId(), event.referenceType(), event.referenceId(), event.parentReferenceId());
 	}
 
+	/**
+	 * 알림 일괄 생성 (NotificationBatchProcessor에서 호출)
+	 * - 수신자는 IN 조회 1번으로 가져오고, insert는 hibernate.jdbc.batch_size 단위 JDBC 배치로 실행
+	 * - 그사이 탈퇴 등으로 없어진 수신자의 알림은 건너뜀
+	 */
+	public void createAll(List<NotificationEvent> events) {
+		Set<Long> recipientIds = events.stream().map(NotificationEvent::recipientId).collect(Collectors.toSet());
+		Map<Long, User> recipients = userRepository.findAllById(recipientIds).stream()
+												   .collect(Collectors.toMap(User::getId, Function.identity()));
+
+		List<Notification> notifications = new ArrayList<>(events.size());
+		for (NotificationEvent event : events) {
+			User recipient = recipients.get(event.recipientId());
+			if (recipient == null) {
+				log.warn("알림 수신자 없음, 건너뜀 - type={}, recipientId={}", event.type(), event.recipientId());
+				continue;
+			}
+			notifications.add(Notification.create(
+					recipient,
+					event.type(),
+					event.referenceType(),
+					event.referenceId(),
+					event.parentReferenceId(),
+					event.message()
+			));
+		}
+
+		notificationRepository.saveAll(notifications);
+		for (Notification notification : notifications) {
+			UUID recipientPublicId = notification.getRecipient().getPublicId();
+			unreadCounter.increment(recipientPublicId);
+			streamRelay.publish(recipientPublicId, NotificationResponse.from(notification));
+		}
+		log.info("알림 일괄 생성 - requested={}, created={}", events.size(), notifications.size());
+	}
+
 	@Transactional(readOnly = true)
 	public Page<NotificationResponse> getMyNotifications(UUID userPublicId, Pageable pageable) {
 		Pageable sorted = PageRequest.of(
@@ -58,21 +117,52 @@ public class NotificationService {
 									 .map(NotificationResponse::from);
 	}
 
+	/**
+	 * 실시간 알림 구독 (SSE)
+	 * - lastEventId(NotificationStreamCursor)가 있으면 마지막으로 받은 알림의 생성 시각 - replayOverlap 이후 알림을 먼저 재전송
+	 *   (재연결 시 누락 방지, 최대 100건) → 먼저 생성됐지만 늦게 커밋된 알림도 다시 전달됨
+	 * - 겹쳐 읽은 알림과 연결 등록 후 재전송 경계의 알림은 중복될 수 있음 → 클라이언트가 알림 ID로 중복 제거
+	 * - 트랜잭션 없이 실행해 재전송 조회에만 잠깐 커넥션을 쓰고 반납 (스트림이 열려 있는 동안 커넥션을 붙잡지 않음)
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public SseEmitter subscribe(UUID userPublicId, String lastEventId) {
+		SseEmitter emitter = emitterRegistry.register(userPublicId);
+
+		NotificationStreamCursor.parse(lastEventId).ifPresent(cursor ->
+				notificationRepository.findTop100ByRecipientPublicIdAndCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(
+											  userPublicId, cursor.createdAt().minus(replayOverlap))
+									  .stream()
+									  .filter(n -> n.getId() != cursor.notificationId())
+									  .forEach(n -> emitterRegistry.send(userPublicId, emitter, NotificationResponse.from(n)))
+		);
+		return emitter;
+	}
+
 	public void markAsRead(UUID userPublicId, Long notificationId) {
 		Notification notification = notificationRepository.findByIdAndRecipientPublicId(notificationId, userPublicId)
 														  .orElseThrow(() -> new CustomException(NOTIFICATION_NOT_FOUND));
 
-		notification.markAsRead();
+		if (!notification.isRead()) {
+			notification.markAsRead();
+			unreadCounter.decrement(userPublicId);
+		}
 		log.info("알림 읽음 처리 - userId={}, notificationId={}", userPublicId, notificationId);
 	}
 
 	public void markAllAsRead(UUID userPublicId) {
 		int updatedCount = notificationRepository.markAllAsRead(userPublicId);
+		if (updatedCount > 0) {
+			unreadCounter.evict(userPublicId);
+		}
 		log.info("알림 전체 읽음 처리 - userId={}, count={}", userPublicId, updatedCount);
 	}
 
+	/**
+	 * 읽지 않은 알림 개수 - 카운터 조회 1번, 카운터가 없을 때만 DB COUNT
+	 */
 	@Transactional(readOnly = true)
 	public long getUnreadCount(UUID userPublicId) {
-		return notificationRepository.countByRecipientPublicIdAndIsReadFalse(userPublicId);
+		return unreadCounter.get(userPublicId,
+				() -> notificationRepository.countByRecipientPublicIdAndIsReadFalse(userPublicId));
 	}
 }
\ No newline at end of file
@@ -17,6 +17,8 @@ import xyz.letzcollab.backend.entity.WorkspaceMember;
 import xyz.letzcollab.backend.entity.vo.NotificationType;
 import xyz.letzcollab.backend.entity.vo.ProjectRole;
 import xyz.letzcollab.backend.entity.vo.ReferenceType;
+import xyz.letzcollab.backend.global.cache.MembershipCache;
+import xyz.letzcollab.backend.global.cache.ProjectAccessCache;
 import xyz.letzcollab.backend.global.event.dto.NotificationEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.global.exception.ErrorCode;
@@ -39,12 +41,15 @@ public class ProjectMemberService {
 	private final ProjectMemberRepository projectMemberRepository;
 	private final WorkspaceMemberRepository workspaceMemberRepository;
 
+	private final ProjectAccessCache projectAccessCache;
+	private final MembershipCache membershipCache;
+
+	// 조회 전용 - 멤버십 캐시 사용
 	@Transactional(readOnly = true)
 	public MyProjectMemberResponse getMyMemberInfo(UUID userPublicId, UUID projectPublicId) {
-		ProjectMember me = projectMemberRepository
-				.findByUserPublicIdAndProjectPublicId(userPublicId, projectPublicId)
-				.orElseThrow(() -> new CustomException(PROJECT_NOT_FOUND_OR_ACCESS_DENIED));
-		return MyProjectMemberResponse.from(me);
+		return membershipCache.findProjectMember(userPublicId, projectPublicId)
+							  .map(MyProjectMemberResponse::from)
+							  .orElseThrow(() -> new CustomException(PROJECT_NOT_FOUND_OR_ACCESS_DENIED));
 	}
 
 
@@ -81,6 +86,8 @@ public class ProjectMemberService {
 		};
 
 		projectMemberRepository.save(projectMember);
+		projectAccessCache.evict(req.targetUserPublicId(), projectPublicId);
+		membershipCache.evictProjectMember(projectPublicId, req.targetUserPublicId());
 		log.info("프로젝트 멤버 추가 성공 - requesterId={}, targetUserId={}, projectId={}, role={}",
 				requesterPublicId, req.targetUserPublicId(), projectPublicId, req.role());
 
@@ -117,6 +124,7 @@ public class ProjectMemberService {
 		}
 
 		target.updateInfo(req.newPosition(), req.newRole());
+		membershipCache.evictProjectMember(projectPublicId, req.targetUserPublicId());
 		log.info("타인의 프로젝트 멤버 정보 수정 - requesterId={}, targetUserId={}, projectId={}, newRole={}",
 				requesterPublicId, req.targetUserPublicId(), projectPublicId, req.newRole());
 
@@ -136,6 +144,7 @@ public class ProjectMemberService {
 		ProjectMember me = projectMemberRepository.findByUserPublicIdAndProjectPublicId(userPublicId, projectPublicId)
 												  .orElseThrow(() -> new CustomException(PROJECT_NOT_FOUND_OR_ACCESS_DENIED));
 		me.updatePosition(req.newPosition());
+		membershipCache.evictProjectMember(projectPublicId, userPublicId);
 		log.info("본인 프로젝트 멤버 정보 수정 - userId={}, projectId={}, newPosition={}",
 				userPublicId, projectPublicId, req.newPosition());
 	}
@@ -150,6 +159,8 @@ public class ProjectMemberService {
 		}
 
 		projectMemberRepository.delete(me);
+		projectAccessCache.evict(userPublicId, projectPublicId);
+		membershipCache.evictProjectMember(projectPublicId, userPublicId);
 		log.info("프로젝트 자진 탈퇴 - userId={}, projectId={}", userPublicId, projectPublicId);
 	}
 
@@ -167,6 +178,7 @@ public class ProjectMemberService {
 		validateRequesterIsLeader(requesterPublicId, project);
 
 		project.changeLeader(target);
+		membershipCache.evictProjectMember(projectPublicId, targetUserPublicId);	// 새 리더는 ADMIN으로 승격
 		log.info("프로젝트 리더 변경 - requesterId={}, newLeaderId={}, projectId={}",
 				requesterPublicId, targetUserPublicId, projectPublicId);
 	}
@@ -196,6 +208,8 @@ public class ProjectMemberService {
 		}
 
 		projectMemberRepository.delete(target);
+		projectAccessCache.evict(targetUserPublicId, projectPublicId);
+		membershipCache.evictProjectMember(projectPublicId, targetUserPublicId);
 		log.info("프로젝트 멤버 강퇴 - requesterId={}, targetUserId={}, projectId={}",
 				requesterPublicId, targetUserPublicId, projectPublicId);
 
@@ -2,16 +2,23 @@ package xyz.letzcollab.backend.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import xyz.letzcollab.backend.dto.project.*;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsDelta;
 import xyz.letzcollab.backend.entity.Project;
 import xyz.letzcollab.backend.entity.User;
 import xyz.letzcollab.backend.entity.Workspace;
 import xyz.letzcollab.backend.entity.WorkspaceMember;
 import xyz.letzcollab.backend.entity.vo.ProjectRole;
+import xyz.letzcollab.backend.entity.vo.ProjectStatus;
+import xyz.letzcollab.backend.global.cache.MembershipCache;
+import xyz.letzcollab.backend.global.cache.ProjectAccessCache;
+import xyz.letzcollab.backend.global.dto.SliceResponse;
+import xyz.letzcollab.backend.global.event.dto.WorkspaceStatsEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.repository.ProjectMemberRepository;
 import xyz.letzcollab.backend.repository.ProjectRepository;
@@ -26,10 +33,15 @@ import static xyz.letzcollab.backend.global.exception.ErrorCode.*;
 @Transactional
 @Slf4j
 public class ProjectService {
+	private final ApplicationEventPublisher eventPublisher;
+
 	private final ProjectRepository projectRepository;
 	private final ProjectMemberRepository projectMemberRepository;
 	private final WorkspaceMemberRepository workspaceMemberRepository;
 
+	private final ProjectAccessCache projectAccessCache;
+	private final MembershipCache membershipCache;
+
 	public UUID createProject(UUID userPublicId, UUID workspacePublicId, CreateProjectRequest req) {
 		WorkspaceMember requester = workspaceMemberRepository.findMemberWithWorkspaceAndUser(workspacePublicId, userPublicId)
 															 .orElseThrow(() -> new CustomException(WORKSPACE_NOT_FOUND_OR_ACCESS_DENIED));
@@ -52,6 +64,7 @@ public class ProjectService {
 		);
 
 		projectRepository.save(project);
+		eventPublisher.publishEvent(WorkspaceStatsEvent.delta(workspace.getId(), WorkspaceStatsDelta.ofProject(project.getStatus())));
 		log.info("프로젝트 생성 - projectName={}, leaderId={}, workspaceId={}",
 				req.name(), userPublicId, workspacePublicId);
 
@@ -60,7 +73,7 @@ public class ProjectService {
 
 	@Transactional(readOnly = true)
 	public Page<ProjectResponse> getMyProjects(UUID userPublicId, UUID workspacePublicId, ProjectSearchCond cond, Pageable pageable) {
-		if (!workspaceMemberRepository.existsByWorkspacePublicIdAndUserPublicId(workspacePublicId, userPublicId)) {
+		if (membershipCache.findWorkspaceMember(workspacePublicId, userPublicId).isEmpty()) {
 			throw new CustomException(WORKSPACE_NOT_FOUND_OR_ACCESS_DENIED);
 		}
 
@@ -68,6 +81,16 @@ public class ProjectService {
 								.map(ProjectResponse::from);
 	}
 
+	@Transactional(readOnly = true)
+	public SliceResponse<ProjectResponse> getMyProjectSlice(UUID userPublicId, UUID workspacePublicId, ProjectSearchCond cond, Pageable pageable) {
+		if (membershipCache.findWorkspaceMember(workspacePublicId, userPublicId).isEmpty()) {
+			throw new CustomException(WORKSPACE_NOT_FOUND_OR_ACCESS_DENIED);
+		}
+
+		return SliceResponse.from(projectRepository.findProjectSliceByCondition(userPublicId, workspacePublicId, cond, pageable)
+												   .map(ProjectResponse::from));
+	}
+
 	@Transactional(readOnly = true)
 	public ProjectDetailsResponse getProjectDetails(UUID userPublicId, UUID workspacePublicId, UUID projectPublicId) {
 		Project project = projectRepository.findProjectDetailsByPublicIds(userPublicId, workspacePublicId, projectPublicId)
@@ -94,6 +117,7 @@ public class ProjectService {
 			prevIsPrivateVal = project.isPrivate();
 		}
 
+		ProjectStatus previousStatus = project.getStatus();
 		project.updateProject(
 				req.newName(),
 				req.newDescription(),
@@ -103,6 +127,17 @@ public class ProjectService {
 				req.newIsPrivate()
 		);
 
+		if (previousStatus != project.getStatus()) {
+			WorkspaceStatsDelta delta = WorkspaceStatsDelta.ofProject(project.getStatus())
+														   .minus(WorkspaceStatsDelta.ofProject(previousStatus));
+			eventPublisher.publishEvent(WorkspaceStatsEvent.delta(project.getWorkspace().getId(), delta));
+		}
+
+		// 공개 여부가 바뀌면 조회 권한 판단 기준(프로젝트 멤버 ↔ 워크스페이스 멤버)이 달라짐
+		if (isPrivateChanged) {
+			projectAccessCache.evictProject(projectPublicId);
+		}
+
 		log.info("프로젝트 정보 수정 - userId={}, projectId={}, fields={}, isPrivateChanged={}",
 				userPublicId, projectPublicId, req.getUpdatedFields(),
 				isPrivateChanged ? prevIsPrivateVal + " -> " + project.isPrivate() : "변경 없음");
@@ -115,6 +150,10 @@ public class ProjectService {
 		validateIsLeader(userPublicId, leader);
 
 		project.softDelete();
+		projectAccessCache.evictProject(projectPublicId);
+		membershipCache.evictProject(projectPublicId);
+		// 하위 업무까지 통계에서 빠지므로 증분 대신 해당 워크스페이스 재집계
+		eventPublisher.publishEvent(WorkspaceStatsEvent.recompute(project.getWorkspace().getId()));
 
 		log.info("프로젝트 삭제 - projectId={}, leaderUserId={}", projectPublicId, userPublicId);
 	}
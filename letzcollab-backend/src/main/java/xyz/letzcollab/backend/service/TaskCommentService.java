@@ -12,6 +12,7 @@ import xyz.letzcollab.backend.entity.TaskComment;
 import xyz.letzcollab.backend.entity.User;
 import xyz.letzcollab.backend.entity.vo.NotificationType;
 import xyz.letzcollab.backend.entity.vo.ReferenceType;
+import xyz.letzcollab.backend.global.cache.ProjectAccessCache;
 import xyz.letzcollab.backend.global.event.dto.NotificationEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.repository.*;
@@ -37,6 +38,8 @@ public class TaskCommentService {
 	private final ProjectMemberRepository projectMemberRepository;
 	private final WorkspaceMemberRepository workspaceMemberRepository;
 
+	private final ProjectAccessCache projectAccessCache;
+
 	/**
 	 * 댓글/대댓글 생성
 	 * 권한 = validatePermission() 참고
@@ -76,7 +79,7 @@ public class TaskCommentService {
 	 */
 	@Transactional(readOnly = true)
 	public List<CommentResponse> getComments(UUID requesterPublicId, UUID projectPublicId, UUID taskPublicId) {
-		validatePermission(requesterPublicId, projectPublicId);
+		validateViewPermission(requesterPublicId, projectPublicId);
 
 		Task task = taskRepository.findByPublicIdAndProjectPublicId(taskPublicId, projectPublicId)
 								  .orElseThrow(() -> new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED));
@@ -126,6 +129,7 @@ public class TaskCommentService {
 		Project project = projectRepository.findByPublicIdWithWorkspace(projectPublicId)
 										   .orElseThrow(() -> new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED));
 
+		// 쓰기 권한이므로 멤버십 캐시를 거치지 않고 DB에서 확인
 		if (project.isPrivate()) {
 			return projectMemberRepository.findMemberWithUser(requesterPublicId, projectPublicId)
 										  .orElseThrow(() -> new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED))
@@ -138,6 +142,16 @@ public class TaskCommentService {
 		}
 	}
 
+	/**
+	 * 조회 전용 권한 검증 - 작성자 엔티티가 필요 없으므로 캐시된 판단 결과 사용
+	 * 판단 기준은 validatePermission()과 동일
+	 */
+	private void validateViewPermission(UUID requesterPublicId, UUID projectPublicId) {
+		if (!projectAccessCache.canView(requesterPublicId, projectPublicId)) {
+			throw new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED);
+		}
+	}
+
 	private void validateIsAuthor(UUID requesterPublicId, TaskComment comment) {
 		if (!comment.getAuthor().getPublicId().equals(requesterPublicId)) {
 			throw new CustomException(COMMENT_ACCESS_DENIED);
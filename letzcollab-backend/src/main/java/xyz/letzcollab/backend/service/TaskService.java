@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import xyz.letzcollab.backend.dto.task.*;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsDelta;
 import xyz.letzcollab.backend.entity.Project;
 import xyz.letzcollab.backend.entity.ProjectMember;
 import xyz.letzcollab.backend.entity.Task;
@@ -16,13 +17,18 @@ import xyz.letzcollab.backend.entity.vo.NotificationType;
 import xyz.letzcollab.backend.entity.vo.ProjectRole;
 import xyz.letzcollab.backend.entity.vo.ReferenceType;
 import xyz.letzcollab.backend.entity.vo.TaskStatus;
+import xyz.letzcollab.backend.global.cache.ProjectAccessCache;
+import xyz.letzcollab.backend.global.cache.dto.ProjectMembership;
+import xyz.letzcollab.backend.global.dto.CursorResponse;
+import xyz.letzcollab.backend.global.dto.SliceResponse;
 import xyz.letzcollab.backend.global.event.dto.NotificationEvent;
+import xyz.letzcollab.backend.global.event.dto.WorkspaceStatsEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.repository.ProjectMemberRepository;
-import xyz.letzcollab.backend.repository.ProjectRepository;
 import xyz.letzcollab.backend.repository.TaskRepository;
-import xyz.letzcollab.backend.repository.WorkspaceMemberRepository;
+import xyz.letzcollab.backend.repository.UserRepository;
 
+import java.time.LocalDate;
 import java.util.*;
 
 import static xyz.letzcollab.backend.global.exception.ErrorCode.*;
@@ -37,8 +43,11 @@ public class TaskService {
 
 	private final TaskRepository taskRepository;
 	private final ProjectMemberRepository projectMemberRepository;
-	private final ProjectRepository projectRepository;
-	private final WorkspaceMemberRepository workspaceMemberRepository;
+	private final UserRepository userRepository;
+
+	private final ProjectAccessCache projectAccessCache;
+
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
 	// assignee가 변경할 수 있는 상태 범위: TODO → IN_PROGRESS → IN_REVIEW
 	private static final Set<TaskStatus> ASSIGNEE_ALLOWED_STATUSES =
@@ -61,14 +70,14 @@ public class TaskService {
 			throw new CustomException(INSUFFICIENT_PERMISSION);
 		}
 
-		ProjectMember assigneeMember = getAssigneeMember(
+		ProjectMembership assignee = getAssigneeMembership(
 				reporterPublicId, projectPublicId, req.assigneePublicId(), reporter);
 
-		validateAssignPermission(reporter, assigneeMember, req.assigneePublicId());
+		validateAssignPermission(reporter.getRole(), reporterPublicId, assignee.role(), req.assigneePublicId());
 
 		Project project = reporter.getProject();
 		User reporterUser = reporter.getUser();
-		User assigneeUser = assigneeMember.getUser();
+		User assigneeUser = userRepository.getReferenceById(assignee.userId());
 
 		Task task = Task.createTask(
 				project, req.name(), req.description(),
@@ -76,10 +85,11 @@ public class TaskService {
 		);
 
 		taskRepository.save(task);
+		publishStatsChange(task, statsOf(task, false));
 		log.info("업무 생성 - taskName={}, projectId={}, reporterId={}, assigneeId={}",
 				req.name(), projectPublicId, reporterPublicId, req.assigneePublicId());
 
-		sendTaskAssignedNotification(reporterPublicId, assigneeUser, task, req.name(), projectPublicId);
+		sendTaskAssignedNotification(reporterPublicId, assignee, task, req.name(), projectPublicId);
 
 		return task.getPublicId();
 	}
@@ -102,14 +112,14 @@ public class TaskService {
 
 		validateCanCreateSubtask(reporterPublicId, reporter, parentTask);
 
-		ProjectMember assigneeMember = getAssigneeMember(
+		ProjectMembership assignee = getAssigneeMembership(
 				reporterPublicId, projectPublicId, req.assigneePublicId(), reporter);
 
-		validateAssignPermission(reporter, assigneeMember, req.assigneePublicId());
+		validateAssignPermission(reporter.getRole(), reporterPublicId, assignee.role(), req.assigneePublicId());
 
 		Project project = reporter.getProject();
 		User reporterUser = reporter.getUser();
-		User assigneeUser = assigneeMember.getUser();
+		User assigneeUser = userRepository.getReferenceById(assignee.userId());
 
 		Task subTask = Task.createTask(
 				project, req.name(), req.description(),
@@ -117,10 +127,11 @@ public class TaskService {
 		);
 
 		taskRepository.save(subTask);
+		publishStatsChange(subTask, statsOf(subTask, false));
 		log.info("하위 업무 생성 - taskName={}, parentTaskId={}, reporterId={}, assigneeId={}",
 				req.name(), parentTaskPublicId, reporterPublicId, req.assigneePublicId());
 
-		sendTaskAssignedNotification(reporterPublicId, assigneeUser, subTask, req.name(), projectPublicId);
+		sendTaskAssignedNotification(reporterPublicId, assignee, subTask, req.name(), projectPublicId);
 
 		return subTask.getPublicId();
 	}
@@ -132,6 +143,38 @@ public class TaskService {
 							 .map(TaskResponse::from);
 	}
 
+	/**
+	 * Slice 기반 업무 목록 조회 (무한 스크롤용)
+	 * - count 쿼리 없이 size + 1개 조회로 다음 페이지 존재 여부만 판단
+	 */
+	@Transactional(readOnly = true)
+	public SliceResponse<TaskResponse> getTaskSlice(UUID requesterPublicId, UUID projectPublicId, TaskSearchCond cond, Pageable pageable) {
+		validateViewPermission(requesterPublicId, projectPublicId);
+		return SliceResponse.from(taskRepository.findTaskSliceByCondition(projectPublicId, cond, pageable)
+												.map(TaskResponse::from));
+	}
+
+	/**
+	 * 커서 기반 업무 목록 조회
+	 * - size + 1개를 조회해서 다음 페이지 존재 여부를 판단 (count 쿼리 생략)
+	 * - 필터 조건은 offset 방식과 동일하게 TaskSearchCond 사용
+	 */
+	@Transactional(readOnly = true)
+	public CursorResponse<TaskResponse> getTasksByCursor(UUID requesterPublicId, UUID projectPublicId,
+														 TaskSearchCond cond, String cursor, int size) {
+		validateViewPermission(requesterPublicId, projectPublicId);
+
+		int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+		List<Task> tasks = taskRepository.findTasksByCursor(
+				projectPublicId, cond, TaskCursor.decode(cursor), pageSize + 1);
+
+		boolean hasNext = tasks.size() > pageSize;
+		List<Task> content = hasNext ? tasks.subList(0, pageSize) : tasks;
+		String nextCursor = hasNext ? TaskCursor.from(content.getLast()).encode() : null;
+
+		return CursorResponse.of(content.stream().map(TaskResponse::from).toList(), nextCursor);
+	}
+
 	@Transactional(readOnly = true)
 	public TaskDetailsResponse getTaskDetails(UUID requesterPublicId, UUID projectPublicId, UUID taskPublicId) {
 		validateViewPermission(requesterPublicId, projectPublicId);
@@ -149,8 +192,7 @@ public class TaskService {
 	 * (하위 업무도 동일 로직 적용)
 	 */
 	public void updateTask(UUID requesterPublicId, UUID projectPublicId, UUID taskPublicId, UpdateTaskRequest req) {
-		ProjectMember requester = projectMemberRepository
-				.findByUserPublicIdAndProjectPublicId(requesterPublicId, projectPublicId)
+		ProjectMembership requester = findProjectMembership(requesterPublicId, projectPublicId)
 				.orElseThrow(() -> new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED));
 
 		Task task = (req.status() == TaskStatus.CANCELLED)
@@ -159,11 +201,13 @@ public class TaskService {
 				: taskRepository.findByPublicIdWithReporterAndAssignee(taskPublicId)
 								.orElseThrow(() -> new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED));
 
-		// ── 알림용 캡처 (변경 전) ──
+		// ── 알림/통계용 캡처 (변경 전) ──
 		TaskStatus previousStatus = task.getStatus();
 		User previousAssignee = task.getAssignee();
+		boolean cascades = req.status() == TaskStatus.CANCELLED;	// 취소는 하위 업무까지 연쇄
+		WorkspaceStatsDelta statsBefore = statsOf(task, cascades);
 
-		boolean isAdmin = requester.getRole() == ProjectRole.ADMIN;
+		boolean isAdmin = requester.role() == ProjectRole.ADMIN;
 		boolean isReporter = task.getReporter().getPublicId().equals(requesterPublicId);
 		boolean isAssignee = task.getAssignee().getPublicId().equals(requesterPublicId);
 
@@ -175,6 +219,7 @@ public class TaskService {
 			throw new CustomException(INSUFFICIENT_PERMISSION);
 		}
 
+		publishStatsChange(task, statsOf(task, cascades).minus(statsBefore));
 		sendTaskUpdateNotifications(requesterPublicId, projectPublicId, task, previousStatus, previousAssignee);
 
 		String role = isAdmin ? "ADMIN" : isReporter ? "REPORTER" : "ASSIGNEE";
@@ -189,32 +234,56 @@ public class TaskService {
 	 * - VIEWER: 삭제 불가
 	 */
 	public void deleteTask(UUID requesterPublicId, UUID projectPublicId, UUID taskPublicId) {
-		ProjectMember requester = projectMemberRepository
-				.findByUserPublicIdAndProjectPublicId(requesterPublicId, projectPublicId)
+		ProjectMembership requester = findProjectMembership(requesterPublicId, projectPublicId)
 				.orElseThrow(() -> new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED));
 
 		Task task = taskRepository.findTaskWithSubTasksAndMembers(taskPublicId)
 								  .orElseThrow(() -> new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED));
 
-		boolean isAdmin = requester.getRole() == ProjectRole.ADMIN;
+		boolean isAdmin = requester.role() == ProjectRole.ADMIN;
 		boolean isReporter = task.getReporter().getPublicId().equals(requesterPublicId);
 
 		if (!isAdmin && !isReporter) {
 			throw new CustomException(INSUFFICIENT_PERMISSION);
 		}
 
+		publishStatsChange(task, statsOf(task, true).negate());	// 하위 업무까지 연쇄 삭제
 		task.softDelete();
 		log.info("업무 삭제 - taskId={}, projectId={}, requesterId={}", taskPublicId, projectPublicId, requesterPublicId);
 	}
 
 	// 헬퍼 -------------------------
 
-	private ProjectMember getAssigneeMember(UUID reporterPublicId, UUID projectPublicId,
-											UUID assigneePublicId, ProjectMember reporter) {
+	// 업무(includeSubTasks면 하위 업무 전체 포함)가 워크스페이스 통계에 기여하는 값
+	private WorkspaceStatsDelta statsOf(Task task, boolean includeSubTasks) {
+		LocalDate today = LocalDate.now();
+		WorkspaceStatsDelta stats = WorkspaceStatsDelta.ofTask(task.getStatus(), task.getDueDate(), today);
+		if (includeSubTasks) {
+			for (Task subTask : task.getSubTasks()) {
+				stats = stats.plus(statsOf(subTask, true));
+			}
+		}
+		return stats;
+	}
+
+	// 상태/마감일이 바뀐 경우에만 발행 (이름/설명 수정 등은 통계와 무관)
+	private void publishStatsChange(Task task, WorkspaceStatsDelta delta) {
+		if (delta.isZero()) return;
+		Long workspaceId = task.getProject().getWorkspace().getId();
+		eventPublisher.publishEvent(WorkspaceStatsEvent.delta(workspaceId, delta));
+	}
+
+	// 쓰기 권한 검증용 - 멤버십 캐시를 거치지 않고 DB에서 조회
+	private Optional<ProjectMembership> findProjectMembership(UUID userPublicId, UUID projectPublicId) {
+		return projectMemberRepository.findMemberWithUser(userPublicId, projectPublicId).map(ProjectMembership::from);
+	}
+
+	private ProjectMembership getAssigneeMembership(UUID reporterPublicId, UUID projectPublicId,
+												   UUID assigneePublicId, ProjectMember reporter) {
 		return reporterPublicId.equals(assigneePublicId)
-				? reporter
-				: projectMemberRepository.findMemberWithUser(assigneePublicId, projectPublicId)
-										 .orElseThrow(() -> new CustomException(PROJECT_MEMBER_NOT_FOUND));
+				? ProjectMembership.from(reporter)
+				: findProjectMembership(assigneePublicId, projectPublicId)
+						.orElseThrow(() -> new CustomException(PROJECT_MEMBER_NOT_FOUND));
 	}
 
 	// ADMIN 또는 부모 업무의 reporter/assignee만 하위 업무 생성 가능
@@ -234,23 +303,13 @@ public class TaskService {
 	 * - 공개 프로젝트 : 워크스페이스 멤버면 조회 가능
 	 */
 	private void validateViewPermission(UUID requesterPublicId, UUID projectPublicId) {
-		Project project = projectRepository.findByPublicIdWithWorkspace(projectPublicId)
-										   .orElseThrow(() -> new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED));
-
-		if (project.isPrivate()) {
-			if (!projectMemberRepository.existsByProjectPublicIdAndUserPublicId(projectPublicId, requesterPublicId)) {
-				throw new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED);
-			}
-		} else {
-			UUID workspacePublicId = project.getWorkspace().getPublicId();
-			if (!workspaceMemberRepository.existsByWorkspacePublicIdAndUserPublicId(workspacePublicId, requesterPublicId)) {
-				throw new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED);
-			}
+		if (!projectAccessCache.canView(requesterPublicId, projectPublicId)) {
+			throw new CustomException(TASK_NOT_FOUND_OR_ACCESS_DENIED);
 		}
 	}
 
 	// ADMIN/REPORTER 전용 — 모든 필드 수정 + CANCELLED 연쇄 처리
-	private void applyFullUpdate(Task task, UpdateTaskRequest req, UUID projectPublicId, ProjectMember requester) {
+	private void applyFullUpdate(Task task, UpdateTaskRequest req, UUID projectPublicId, ProjectMembership requester) {
 		User newAssignee = resolveNewAssignee(req.assigneePublicId(), projectPublicId, requester);
 
 		if (req.status() == TaskStatus.CANCELLED) {
@@ -275,16 +334,15 @@ public class TaskService {
 		}
 	}
 
-	private User resolveNewAssignee(UUID assigneePublicId, UUID projectPublicId, ProjectMember requester) {
+	private User resolveNewAssignee(UUID assigneePublicId, UUID projectPublicId, ProjectMembership requester) {
 		if (assigneePublicId == null) return null;
 
-		ProjectMember assigneeMember = projectMemberRepository
-				.findMemberWithUser(assigneePublicId, projectPublicId)
+		ProjectMembership assignee = findProjectMembership(assigneePublicId, projectPublicId)
 				.orElseThrow(() -> new CustomException(PROJECT_MEMBER_NOT_FOUND));
 
-		validateAssignPermission(requester, assigneeMember, assigneePublicId);
+		validateAssignPermission(requester.role(), requester.userPublicId(), assignee.role(), assigneePublicId);
 
-		return assigneeMember.getUser();
+		return userRepository.getReferenceById(assignee.userId());
 	}
 
 	/**
@@ -293,8 +351,8 @@ public class TaskService {
 	 * - MEMBER: 본인 혹은 다른 MEMBER에게만 할당 가능
 	 * - 누구도 VIEWER에게 할당 불가
 	 */
-	private void validateAssignPermission(ProjectMember requester, ProjectMember assigneeMember, UUID assigneePublicId) {
-		ProjectRole assigneeRole = assigneeMember.getRole();
+	private void validateAssignPermission(ProjectRole requesterRole, UUID requesterPublicId,
+										  ProjectRole assigneeRole, UUID assigneePublicId) {
 
 		// 누구도 VIEWER에게 할당 불가
 		if (assigneeRole == ProjectRole.VIEWER) {
@@ -302,8 +360,8 @@ public class TaskService {
 		}
 
 		// MEMBER는 본인 혹은 다른 MEMBER에게만 할당 가능
-		if (requester.getRole() == ProjectRole.MEMBER) {
-			boolean isSelf = assigneePublicId.equals(requester.getUser().getPublicId());
+		if (requesterRole == ProjectRole.MEMBER) {
+			boolean isSelf = assigneePublicId.equals(requesterPublicId);
 			boolean isMember = assigneeRole == ProjectRole.MEMBER;
 			if (!isSelf && !isMember) {
 				throw new CustomException(INSUFFICIENT_PERMISSION);
@@ -319,11 +377,11 @@ public class TaskService {
 		));
 	}
 
-	private void sendTaskAssignedNotification(UUID reporterPublicId, User assigneeUser,
+	private void sendTaskAssignedNotification(UUID reporterPublicId, ProjectMembership assignee,
 											  Task task, String taskName, UUID projectPublicId) {
-		if (!reporterPublicId.equals(assigneeUser.getPublicId())) {
+		if (!reporterPublicId.equals(assignee.userPublicId())) {
 			publishTaskNotification(
-					assigneeUser.getId(), NotificationType.TASK_ASSIGNED, task.getPublicId(), projectPublicId,
+					assignee.userId(), NotificationType.TASK_ASSIGNED, task.getPublicId(), projectPublicId,
 					String.format("'%s' 업무가 회원님에게 할당되었습니다.", taskName)
 			);
 		}
@@ -1,24 +1,36 @@
 package xyz.letzcollab.backend.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.letzcollab.backend.dto.user.SessionResponse;
 import xyz.letzcollab.backend.dto.user.UserResponse;
 import xyz.letzcollab.backend.dto.user.UserUpdateRequest;
 import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.global.event.dto.SessionRevocationEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
+import xyz.letzcollab.backend.global.security.jwt.AccessTokenRevocationList;
 import xyz.letzcollab.backend.repository.UserRepository;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 import static xyz.letzcollab.backend.global.exception.ErrorCode.USER_NOT_FOUND;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserService {
 
 	private final UserRepository userRepository;
+	private final AccessTokenRevocationList revocationList;
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional(readOnly = true)
 	public UserResponse getMyInfo(UUID publicId) {
@@ -41,5 +53,24 @@ public class UserService {
 								  .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
 
 		user.delete();
+		// 탈퇴 후에는 남은 액세스/갱신 토큰으로도 접근 불가 (커밋 후 폐기)
+		eventPublisher.publishEvent(new SessionRevocationEvent(publicId));
+	}
+
+	// 최근에 갱신된 세션부터
+	@Transactional(readOnly = true)
+	public List<SessionResponse> getSessions(UUID publicId) {
+		return refreshTokenRepository.findSessions(publicId)
+									 .stream()
+									 .sorted(Comparator.comparingLong(RefreshTokenRepository.Session::refreshedAt).reversed())
+									 .map(SessionResponse::from)
+									 .toList();
+	}
+
+	// 모든 기기에서 로그아웃 - 모든 갱신 토큰과 지금까지 발급된 액세스 토큰 폐기
+	public void logoutAll(UUID publicId) {
+		revocationList.revokeAll(publicId);
+		long revoked = refreshTokenRepository.revokeAllSessions(publicId);
+		log.info("전체 세션 로그아웃 - userId={}, 폐기한 세션={}", publicId, revoked);
 	}
 }
@@ -7,13 +7,17 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import xyz.letzcollab.backend.dto.workspace.MyWorkspaceMemberResponse;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsDelta;
 import xyz.letzcollab.backend.entity.User;
 import xyz.letzcollab.backend.entity.Workspace;
 import xyz.letzcollab.backend.entity.WorkspaceInvitation;
 import xyz.letzcollab.backend.entity.WorkspaceMember;
 import xyz.letzcollab.backend.entity.vo.WorkspaceRole;
+import xyz.letzcollab.backend.global.cache.MembershipCache;
+import xyz.letzcollab.backend.global.cache.ProjectAccessCache;
 import xyz.letzcollab.backend.global.email.context.WorkspaceInvitationEmailContext;
 import xyz.letzcollab.backend.global.event.dto.EmailEvent;
+import xyz.letzcollab.backend.global.event.dto.WorkspaceStatsEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.global.exception.ErrorCode;
 import xyz.letzcollab.backend.global.ratelimit.InvitationRateLimiter;
@@ -44,6 +48,8 @@ public class WorkspaceMemberService {
 	private final WorkspaceInvitationRepository invitationRepository;
 	private final UserRepository userRepository;
 	private final InvitationRateLimiter invitationRateLimiter;
+	private final ProjectAccessCache projectAccessCache;
+	private final MembershipCache membershipCache;
 
 	@Value("${frontend.base-url}")
 	private String frontendURL;
@@ -94,6 +100,9 @@ public class WorkspaceMemberService {
 
 		WorkspaceMember newMember = WorkspaceMember.createGeneralMember(user, workspace, invitation.getInviteePosition());
 		memberRepository.save(newMember);
+		eventPublisher.publishEvent(WorkspaceStatsEvent.delta(workspace.getId(), WorkspaceStatsDelta.ofMember()));
+		projectAccessCache.evictUser(userPublicId);
+		membershipCache.evictWorkspaceMember(workspace.getPublicId(), userPublicId);
 
 		invitation.accept();
 		log.info("워크스페이스 초대 수락 - workspaceId={}, userId={}", workspace.getPublicId(), userPublicId);
@@ -111,6 +120,7 @@ public class WorkspaceMemberService {
 											 .orElseThrow(() -> new CustomException(WORKSPACE_NOT_FOUND_OR_ACCESS_DENIED));
 
 		me.updatePosition(newPosition);
+		membershipCache.evictWorkspaceMember(workspacePublicId, userPublicId);
 		log.info("본인 직책 수정 - workspaceId={}, userId={}, newPosition={}", workspacePublicId, userPublicId, newPosition);
 	}
 
@@ -134,6 +144,7 @@ public class WorkspaceMemberService {
 		}
 
 		targetMember.updateInfo(newPosition, newRole);
+		membershipCache.evictWorkspaceMember(workspacePublicId, targetMemberUserPublicId);
 		log.info("타인의 멤버 정보 수정 - workspaceId={}, requesterId={}, targetUserId={}, newRole={}",
 				workspacePublicId, requesterUserPublicId, targetMemberUserPublicId, newRole);
 	}
@@ -153,6 +164,9 @@ public class WorkspaceMemberService {
 		}
 
 		memberRepository.delete(me);
+		eventPublisher.publishEvent(WorkspaceStatsEvent.delta(workspace.getId(), WorkspaceStatsDelta.ofMember().negate()));
+		projectAccessCache.evictUser(userPublicId);
+		membershipCache.evictWorkspaceMember(workspacePublicId, userPublicId);
 		log.info("워크스페이스 자진 탈퇴 - workspaceId={}, userId={}", workspacePublicId, userPublicId);
 	}
 
@@ -171,6 +185,10 @@ public class WorkspaceMemberService {
 		}
 
 		memberRepository.delete(targetMember);
+		eventPublisher.publishEvent(WorkspaceStatsEvent.delta(
+				targetMember.getWorkspace().getId(), WorkspaceStatsDelta.ofMember().negate()));
+		projectAccessCache.evictUser(targetMemberUserPublicId);
+		membershipCache.evictWorkspaceMember(workspacePublicId, targetMemberUserPublicId);
 		log.info("멤버 강퇴 - workspaceId={}, requesterId={}, targetUserId={}",
 				workspacePublicId, requesterUserPublicId, targetMemberUserPublicId);
 	}
@@ -188,6 +206,8 @@ public class WorkspaceMemberService {
 
 		Workspace workspace = requester.getWorkspace();
 		workspace.transferOwnership(requester, targetMember);
+		membershipCache.evictWorkspaceMember(workspacePublicId, requesterUserPublicId);
+		membershipCache.evictWorkspaceMember(workspacePublicId, targetMemberUserPublicId);
 		log.info("소유권 이전 - workspaceId={}, requesterId={}, targetUserId={}",
 				workspacePublicId, requesterUserPublicId, targetMemberUserPublicId);
 	}
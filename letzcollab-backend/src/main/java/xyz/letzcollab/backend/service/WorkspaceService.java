@@ -3,18 +3,30 @@ package xyz.letzcollab.backend.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import xyz.letzcollab.backend.dto.workspace.WorkspaceDetailsResponse;
 import xyz.letzcollab.backend.dto.workspace.WorkspaceResponse;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsHistoryResponse;
 import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsResponse;
 import xyz.letzcollab.backend.entity.User;
 import xyz.letzcollab.backend.entity.Workspace;
 import xyz.letzcollab.backend.entity.WorkspaceMember;
+import xyz.letzcollab.backend.entity.WorkspaceStatsHistory;
+import xyz.letzcollab.backend.entity.vo.StatsResolution;
+import xyz.letzcollab.backend.global.cache.MembershipCache;
+import xyz.letzcollab.backend.global.cache.ProjectAccessCache;
+import xyz.letzcollab.backend.global.cache.WorkspaceStatsSingleFlight;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.repository.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static xyz.letzcollab.backend.global.exception.ErrorCode.*;
@@ -33,8 +45,16 @@ public class WorkspaceService {
 	private final WorkspaceRepository workspaceRepository;
 	private final WorkspaceMemberRepository workspaceMemberRepository;
 	private final WorkspaceStatsSnapshotRepository snapshotRepository;
+	private final WorkspaceStatsHistoryRepository historyRepository;
 	private final UserRepository userRepository;
 
+	private final ProjectAccessCache projectAccessCache;
+	private final MembershipCache membershipCache;
+	private final WorkspaceStatsSingleFlight statsSingleFlight;
+	private final TransactionTemplate transactionTemplate;
+
+	private static final int MAX_HISTORY_POINTS = 1000;
+
 	/**
 	 * (워크스페이스 이름, 소유자 ID)에 복합 unique 제약조건이 있음
 	 * 즉, 워크스페이스 이름 = 전역 중복 허용 but. 사용자별 중복 차단
@@ -92,26 +112,110 @@ public class WorkspaceService {
 	public void deleteWorkspace(UUID userPublicId, UUID workspacePublicId) {
 		Workspace foundWorkspace = getWorkspaceAndCheckOwner(userPublicId, workspacePublicId);
 		foundWorkspace.softDelete();
+		membershipCache.evictWorkspace(workspacePublicId);
+		projectAccessCache.evictAll();	// 워크스페이스 하위 프로젝트 목록을 캐시 키로 특정할 수 없어 전체 제거 (드문 작업)
 		log.info("워크스페이스 삭제 - workspaceId={}, ownerUserId={}", workspacePublicId, userPublicId);
 	}
 
+	/**
+	 * 워크스페이스 통계 조회
+	 * - 스냅샷이 없으면 실시간 집계를 기다릴 수 있으므로 트랜잭션 없이 실행 (대기 중 DB 커넥션을 붙잡지 않음)
+	 *   → open-in-view가 꺼져 있어야 함 (켜져 있으면 권한 확인에 쓴 커넥션을 응답까지 붙잡음)
+	 * - 실시간 집계만 자체 트랜잭션에서 실행하고 커밋
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public WorkspaceStatsResponse getStats(UUID userPublicId, UUID workspacePublicId) {
 		Long workspaceId = workspaceMemberRepository.findWorkspaceIdByPublicIds(workspacePublicId, userPublicId)
 													.orElseThrow(() -> new CustomException(WORKSPACE_NOT_FOUND_OR_ACCESS_DENIED));
 
+		// 스냅샷이 없을 때의 실시간 집계는 워크스페이스당 1번만 실행, 동시 요청은 그 결과를 기다림
 		return snapshotRepository.findByWorkspacePublicId(workspacePublicId)
 								 .map(WorkspaceStatsResponse::from)
-								 .orElseGet(() -> {
+								 .orElseGet(() -> statsSingleFlight.load(workspaceId, () -> transactionTemplate.execute(status -> {
 									 log.info("워크스페이스 통계 스냅샷 미존재 - 실시간 집계로 폴백, workspaceId = {}", workspaceId);
 									 snapshotRepository.updateSnapshotByWorkspaceId(workspaceId, LocalDate.now());
 									 return snapshotRepository.findByWorkspaceId(workspaceId)
 															  .map(WorkspaceStatsResponse::from)
 															  .get();
-								 });
+								 })));
+	}
+
+	/**
+	 * 워크스페이스 통계 이력 조회 - 미리 기록/다운샘플링된 이력 행만 읽음 (업무/프로젝트 재집계 없음)
+	 * - resolution 미지정 시 보관 기간 안에서 MAX_HISTORY_POINTS를 넘지 않는 가장 촘촘한 해상도 선택
+	 * - 이력은 값이 바뀐 구간만 있으므로, 조회 시작 시점의 값(직전 행)을 첫 점으로 채워서 반환
+	 */
+	@Transactional(readOnly = true)
+	public WorkspaceStatsHistoryResponse getStatsHistory(
+			UUID userPublicId, UUID workspacePublicId,
+			LocalDateTime from, LocalDateTime to, StatsResolution resolution
+	) {
+		Long workspaceId = workspaceMemberRepository.findWorkspaceIdByPublicIds(workspacePublicId, userPublicId)
+													.orElseThrow(() -> new CustomException(WORKSPACE_NOT_FOUND_OR_ACCESS_DENIED));
+
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime end = to != null ? to : now;
+		LocalDateTime start = from != null ? from : end.minusDays(1);
+		if (!start.isBefore(end)) {
+			throw new CustomException(INVALID_STATS_HISTORY_RANGE);
+		}
+
+		StatsResolution res = resolution != null ? resolution : chooseResolution(start, end, now);
+		LocalDateTime alignedStart = res.truncate(start);
+		if (alignedStart.isBefore(res.retainedSince(now))) {
+			throw new CustomException(STATS_HISTORY_RESOLUTION_EXPIRED);
+		}
+		if (countBuckets(res, alignedStart, end) > MAX_HISTORY_POINTS) {
+			throw new CustomException(INVALID_STATS_HISTORY_RANGE);
+		}
+
+		List<WorkspaceStatsHistory> rows = historyRepository.findRange(workspaceId, res, alignedStart, end);
+
+		List<WorkspaceStatsHistoryResponse.Point> points = new ArrayList<>(rows.size() + 1);
+		if (rows.isEmpty() || rows.getFirst().getBucketStart().isAfter(alignedStart)) {
+			findValueBefore(workspaceId, res, alignedStart)
+					.ifPresent(seed -> points.add(WorkspaceStatsHistoryResponse.Point.of(alignedStart, seed)));
+		}
+		rows.forEach(row -> points.add(WorkspaceStatsHistoryResponse.Point.of(row.getBucketStart(), row)));
+
+		return new WorkspaceStatsHistoryResponse(res, points);
 	}
 
 
 	// 헬퍼 메소드
+	private StatsResolution chooseResolution(LocalDateTime start, LocalDateTime end, LocalDateTime now) {
+		for (StatsResolution candidate : StatsResolution.values()) {
+			LocalDateTime alignedStart = candidate.truncate(start);
+			if (!alignedStart.isBefore(candidate.retainedSince(now))
+					&& countBuckets(candidate, alignedStart, end) <= MAX_HISTORY_POINTS) {
+				return candidate;
+			}
+		}
+		return StatsResolution.DAILY;
+	}
+
+	private long countBuckets(StatsResolution resolution, LocalDateTime alignedStart, LocalDateTime end) {
+		return Duration.between(alignedStart, end).dividedBy(resolution.getBucket());
+	}
+
+	/**
+	 * 조회 시작 시점의 값 = 같은 해상도의 직전 행
+	 * - 오래 변경이 없어 직전 행이 보관 기간이 지나 삭제됐다면 영구 보관되는 1일 행에서 찾음
+	 *   (1일 행은 그 날의 마지막 값이므로 조회 시작일 전날까지의 행만 사용)
+	 */
+	private Optional<WorkspaceStatsHistory> findValueBefore(
+			Long workspaceId, StatsResolution resolution, LocalDateTime alignedStart
+	) {
+		Optional<WorkspaceStatsHistory> previous = historyRepository
+				.findFirstByWorkspaceIdAndResolutionAndBucketStartLessThanOrderByBucketStartDesc(
+						workspaceId, resolution, alignedStart);
+		if (previous.isPresent() || resolution == StatsResolution.DAILY) {
+			return previous;
+		}
+		return historyRepository.findFirstByWorkspaceIdAndResolutionAndBucketStartLessThanOrderByBucketStartDesc(
+				workspaceId, StatsResolution.DAILY, StatsResolution.DAILY.truncate(alignedStart));
+	}
+
 	private void validateMemberAndWorkspaceExistence(UUID userPublicId, UUID workspacePublicId) {
 		if (!workspaceMemberRepository.existsByWorkspacePublicIdAndUserPublicId(workspacePublicId, userPublicId)) {
 			throw new CustomException(WORKSPACE_NOT_FOUND_OR_ACCESS_DENIED);
@@ -0,0 +1,17 @@
+-- 마감 알림(TASK_DUE_SOON, TASK_OVERDUE) 중복 방지용 부분 유니크 인덱스
+-- 업무 할당/상태 변경 알림은 같은 업무에 여러 번 생길 수 있으므로 마감 알림 종류에만 적용
+-- 스케줄러의 INSERT ... ON CONFLICT DO NOTHING이 동시 실행 시에도 중복을 만들지 않도록 보장
+
+-- 기존 중복 정리 (가장 먼저 생성된 알림만 남김)
+DELETE FROM notifications n
+USING notifications d
+WHERE n.type IN ('TASK_DUE_SOON', 'TASK_OVERDUE')
+  AND d.type = n.type
+  AND d.recipient_id = n.recipient_id
+  AND d.reference_id = n.reference_id
+  AND d.notification_id < n.notification_id;
+
+-- 운영 중 테이블 락을 피하기 위해 CONCURRENTLY, 트랜잭션 밖에서 실행
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_notifications_deadline
+    ON notifications (recipient_id, reference_id, type)
+    WHERE type IN ('TASK_DUE_SOON', 'TASK_OVERDUE');
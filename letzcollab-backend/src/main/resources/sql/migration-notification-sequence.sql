@@ -0,0 +1,3 @@
+-- 알림 ID 할당 크기 변경 (IdAllocation.BULK = 100) 전에 실행
+-- pooled 옵티마이저는 시퀀스 값을 블록의 상한으로 쓰므로 증가폭만 늘리면 기존에 발급된 ID와 겹치지 않음
+ALTER SEQUENCE notifications_seq INCREMENT BY 100;
@@ -0,0 +1,17 @@
+-- 기존 DB에 tasks.priority_rank 컬럼 추가 (ddl-auto: update는 NOT NULL 컬럼을 기존 행이 있는 테이블에 추가하지 못함)
+-- TaskPriority.level과 동일한 값으로 백필: LOW=0, MEDIUM=1, HIGH=2, URGENT=3
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS priority_rank INTEGER NOT NULL DEFAULT 0;
+
+UPDATE tasks
+SET priority_rank = CASE priority
+                        WHEN 'URGENT' THEN 3
+                        WHEN 'HIGH' THEN 2
+                        WHEN 'MEDIUM' THEN 1
+                        ELSE 0
+                    END;
+
+ALTER TABLE tasks ALTER COLUMN priority_rank DROP DEFAULT;
+
+-- 업무 목록 기본 정렬과 같은 순서의 복합 인덱스 (운영 중 테이블 락을 피하기 위해 CONCURRENTLY, 트랜잭션 밖에서 실행)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_priority_due_created
+    ON tasks (project_id, priority_rank DESC, due_date, created_at DESC);
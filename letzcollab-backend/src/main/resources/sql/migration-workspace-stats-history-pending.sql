@@ -0,0 +1,9 @@
+-- 기존 DB에 workspace_stats_snapshots.history_pending 컬럼 추가 (ddl-auto: update는 NOT NULL 컬럼을 기존 행이 있는 테이블에 추가하지 못함)
+-- 기존 스냅샷은 모두 기록 대상으로 두고 시작 (첫 이력 기록에서 한 번씩 기록됨)
+ALTER TABLE workspace_stats_snapshots ADD COLUMN IF NOT EXISTS history_pending BOOLEAN NOT NULL DEFAULT true;
+
+ALTER TABLE workspace_stats_snapshots ALTER COLUMN history_pending DROP DEFAULT;
+
+-- 이력 기록은 표시된 행만 읽음 (표시된 행은 전체 중 일부이므로 부분 인덱스, 운영 중 테이블 락을 피하기 위해 CONCURRENTLY)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_workspace_stats_snapshots_history_pending
+    ON workspace_stats_snapshots (workspace_id) WHERE history_pending;
@@ -107,7 +107,7 @@ SELECT setval('project_members_seq', (SELECT MAX(project_member_id) FROM project
 -- 6. tasks (1 ~ 2,250,000)
 -- 각 프로젝트(750,000개)당 3개의 업무 생성
 INSERT INTO tasks (
-    task_id, public_id, project_id, name, description, status, assignee_id, priority, reporter_id, due_date,
+    task_id, public_id, project_id, name, description, status, assignee_id, priority, priority_rank, reporter_id, due_date,
     created_at, updated_at, created_by, updated_by
 )
 SELECT
@@ -119,6 +119,7 @@ SELECT
     (ARRAY['TODO','IN_PROGRESS','IN_REVIEW','DONE','CANCELLED'])[(task_idx % 5) + 1],
     assignee.user_id,
     (ARRAY['LOW','MEDIUM','HIGH','URGENT'])[(task_idx % 4) + 1],
+    task_idx % 4,
     reporter.user_id,
     CURRENT_DATE + (task_idx * 3),
     NOW(), NOW(),
@@ -230,7 +231,7 @@ SELECT setval('projects_seq', (SELECT MAX(project_id) FROM projects));
 
 -- 생성된 프로젝트들에 업무 대량 삽입 (각 프로젝트당 40개씩)
 INSERT INTO tasks (
-    task_id, public_id, project_id, name, description, status, assignee_id, priority, reporter_id, due_date,
+    task_id, public_id, project_id, name, description, status, assignee_id, priority, priority_rank, reporter_id, due_date,
     created_at, updated_at, created_by, updated_by
 )
 SELECT
@@ -242,6 +243,7 @@ SELECT
     (ARRAY['TODO','IN_PROGRESS','IN_REVIEW','DONE','CANCELLED'])[(t_idx % 5) + 1],
     p.lead_id,
     (ARRAY['LOW','MEDIUM','HIGH','URGENT'])[(t_idx % 4) + 1],
+    t_idx % 4,
     p.lead_id,
     CURRENT_DATE + (t_idx % 60) - 10, -- 일부는 과거 날짜로 해서 overdue 유도
     NOW(), NOW(),
@@ -0,0 +1,72 @@
+package xyz.letzcollab.backend.benchmark;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.entity.vo.NotificationType;
+import xyz.letzcollab.backend.entity.vo.ReferenceType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * NotificationInsertBenchmark의 before 측정용 - 시퀀스 변경 전 Notification 매핑 그대로
+ * - 암묵적 @GeneratedValue (기본 pooled 시퀀스, allocationSize 50)
+ * - Notification과 같은 컬럼/인덱스, 별도 테이블 (notifications_seq와 ID 할당 방식이 섞이지 않도록)
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "benchmark_baseline_notifications", indexes = {
+		@Index(name = "idx_benchmark_baseline_recipient_created", columnList = "recipient_id, created_at DESC"),
+		@Index(name = "idx_benchmark_baseline_recipient_unread", columnList = "recipient_id, is_read"),
+		@Index(name = "idx_benchmark_baseline_recipient_reference_type", columnList = "recipient_id, reference_id, type")
+})
+class BaselineNotification {
+
+	@Id
+	@GeneratedValue
+	@Column(name = "notification_id")
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "recipient_id", nullable = false, updatable = false)
+	private User recipient;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 50, nullable = false, updatable = false)
+	private NotificationType type;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "reference_type", length = 30, nullable = false, updatable = false)
+	private ReferenceType referenceType;
+
+	@Column(name = "reference_id", nullable = false, updatable = false)
+	private UUID referenceId;
+
+	@Column(name = "parent_reference_id", columnDefinition = "uuid", updatable = false)
+	private UUID parentReferenceId;
+
+	@Column(nullable = false, updatable = false)
+	private String message;
+
+	@Column(name = "is_read", nullable = false)
+	private boolean isRead;
+
+	@CreatedDate
+	@Column(name = "created_at", updatable = false, nullable = false)
+	private LocalDateTime createdAt;
+
+	BaselineNotification(User recipient, NotificationType type, ReferenceType referenceType,
+						 UUID referenceId, UUID parentReferenceId, String message) {
+		this.recipient = recipient;
+		this.type = type;
+		this.referenceType = referenceType;
+		this.referenceId = referenceId;
+		this.parentReferenceId = parentReferenceId;
+		this.message = message;
+	}
+}
@@ -0,0 +1,105 @@
+package xyz.letzcollab.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import xyz.letzcollab.backend.entity.vo.UserRole;
+import xyz.letzcollab.backend.entity.vo.UserStatus;
+import xyz.letzcollab.backend.global.cache.CacheInvalidationBus;
+import xyz.letzcollab.backend.global.security.AuthErrorHandler;
+import xyz.letzcollab.backend.global.security.jwt.AccessTokenRevocationList;
+import xyz.letzcollab.backend.global.security.jwt.JwtAuthenticationCache;
+import xyz.letzcollab.backend.global.security.jwt.JwtAuthenticationFilter;
+import xyz.letzcollab.backend.global.security.jwt.JwtTokenProvider;
+import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용 비교 (같은 토큰으로 반복 요청, 단일 스레드)
+ * - before: 인증 캐시 off → 요청마다 서명 검증 + 클레임 파싱 + CustomUserDetails 생성
+ * - after : 인증 캐시 on  → 첫 요청 이후 토큰 다이제스트로 캐시 조회
+ * JMH 대신 기존 벤치마크와 같이 태그로 분리한 JUnit 테스트로 측정 (워밍업 후 반복 측정)
+ * 실행: ./gradlew test -PincludeTags=benchmark --tests '*JwtAuthenticationFilterBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmark {
+
+	private static final int ITERATIONS = 200_000;
+	private static final int WARMUP_ITERATIONS = 50_000;
+	private static final String SECRET = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+
+	@Test
+	void perRequestCost() throws Exception {
+		JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3_600_000L);
+		String token = createToken(provider);
+
+		JwtAuthenticationFilter uncached = filter(provider, false);
+		JwtAuthenticationFilter cached = filter(provider, true);
+
+		// JIT 워밍업
+		run(uncached, token, WARMUP_ITERATIONS);
+		run(cached, token, WARMUP_ITERATIONS);
+
+		long before = run(uncached, token, ITERATIONS);
+		long after = run(cached, token, ITERATIONS);
+
+		log.info("[benchmark] JwtAuthenticationFilter {}회 요청", String.format("%,d", ITERATIONS));
+		log.info("  before (cache off) : {} ns/req", String.format("%,8d", before / ITERATIONS));
+		log.info("  after  (cache on)  : {} ns/req", String.format("%,8d", after / ITERATIONS));
+
+		assertThat(after).isLessThan(before);
+	}
+
+	/**
+	 * @return 소요 시간(ns)
+	 */
+	private long run(JwtAuthenticationFilter filter, String token, int iterations) throws Exception {
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/users/me");
+			request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			filter.doFilter(request, response, new MockFilterChain());
+			SecurityContextHolder.clearContext();
+		}
+		return System.nanoTime() - start;
+	}
+
+	private JwtAuthenticationFilter filter(JwtTokenProvider provider, boolean cacheEnabled) {
+		JwtAuthenticationCache cache = new JwtAuthenticationCache(
+				provider, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(15), cacheEnabled
+		);
+		// 폐기 목록은 로컬 맵 조회만 측정 (Redis/pub-sub 사용 안 함)
+		AccessTokenRevocationList revocationList = new AccessTokenRevocationList(
+				new RedisTemplate<>(), new CacheInvalidationBus(new RedisTemplate<>(), false),
+				new SimpleMeterRegistry(), 3_600_000L, Duration.ofMinutes(1), false
+		);
+		return new JwtAuthenticationFilter(cache, revocationList, new AuthErrorHandler(new ObjectMapper()));
+	}
+
+	private String createToken(JwtTokenProvider provider) {
+		CustomUserDetails userDetails = new CustomUserDetails(
+				"벤치마크", UUID.randomUUID(), "bench@example.com", "pw", UserRole.USER, UserStatus.ACTIVE
+		);
+		return provider.createToken(
+				new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities())
+		);
+	}
+}
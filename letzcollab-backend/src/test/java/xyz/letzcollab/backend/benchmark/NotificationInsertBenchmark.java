@@ -0,0 +1,113 @@
+package xyz.letzcollab.backend.benchmark;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.letzcollab.backend.PostgresTestContainer;
+import xyz.letzcollab.backend.TestAuditConfig;
+import xyz.letzcollab.backend.entity.Notification;
+import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.entity.vo.NotificationType;
+import xyz.letzcollab.backend.entity.vo.ReferenceType;
+import xyz.letzcollab.backend.repository.NotificationRepository;
+import xyz.letzcollab.backend.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 10,000건 insert 처리량 비교 (PostgreSQL 컨테이너)
+ * - before: 변경 전 매핑(BaselineNotification, 기본 시퀀스 allocationSize 50) + JDBC 배치 없이 한 건씩 insert
+ * - after : Notification(IdAllocation.BULK 시퀀스) + hibernate.jdbc.batch_size 배치 insert
+ * - before 행은 별도 테이블에 쌓이므로 인덱스 크기가 서로의 측정에 영향을 주지 않음
+ * 실행: ./gradlew test -PincludeTags=benchmark --tests '*NotificationInsertBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+@Import(TestAuditConfig.class)
+class NotificationInsertBenchmark extends PostgresTestContainer {
+
+	private static final int COUNT = 10_000;
+	private static final int WARMUP_COUNT = 1_000;
+
+	@Autowired EntityManager em;
+	@Autowired PlatformTransactionManager transactionManager;
+	@Autowired NotificationRepository notificationRepository;
+	@Autowired UserRepository userRepository;
+
+	private TransactionTemplate tx;
+	private User recipient;
+
+	@BeforeEach
+	void setUp() {
+		tx = new TransactionTemplate(transactionManager);
+		notificationRepository.deleteAllInBatch();
+		tx.executeWithoutResult(status -> em.createQuery("delete from BaselineNotification").executeUpdate());
+		recipient = userRepository.save(User.createDummyUser("수신자", UUID.randomUUID() + "@test.com", "password1234!", null));
+	}
+
+	@Test
+	void insertThroughput() {
+		// JIT/커넥션 풀 워밍업
+		insertBaseline(WARMUP_COUNT);
+		insert(WARMUP_COUNT);
+
+		long before = insertBaseline(COUNT);
+		long after = insert(COUNT);
+
+		log.info("[benchmark] notifications {}건 insert", String.format("%,d", COUNT));
+		log.info("  before (batch off) : {} ms, {} rows/s", String.format("%,6d", before), String.format("%,8.0f", COUNT * 1000.0 / before));
+		log.info("  after  (batch on)  : {} ms, {} rows/s", String.format("%,6d", after), String.format("%,8.0f", COUNT * 1000.0 / after));
+
+		assertThat(notificationRepository.count()).isEqualTo(COUNT + WARMUP_COUNT);
+		assertThat(em.createQuery("select count(b) from BaselineNotification b", Long.class).getSingleResult())
+				.isEqualTo(COUNT + WARMUP_COUNT);
+	}
+
+	/**
+	 * 변경 전 ID 할당(50개 단위 시퀀스) + 배치 off
+	 * @return 소요 시간(ms)
+	 */
+	private long insertBaseline(int count) {
+		long start = System.nanoTime();
+		tx.executeWithoutResult(status -> {
+			em.unwrap(Session.class).setJdbcBatchSize(1);
+			User ref = em.getReference(User.class, recipient.getId());
+
+			for (int i = 0; i < count; i++) {
+				em.persist(new BaselineNotification(ref, NotificationType.TASK_ASSIGNED, ReferenceType.TASK,
+						UUID.randomUUID(), UUID.randomUUID(), "벤치마크 알림 " + i));
+			}
+		});
+		return (System.nanoTime() - start) / 1_000_000;
+	}
+
+	/**
+	 * 현재 ID 할당(IdAllocation.BULK) + 설정값 hibernate.jdbc.batch_size
+	 * @return 소요 시간(ms)
+	 */
+	private long insert(int count) {
+		long start = System.nanoTime();
+		tx.executeWithoutResult(status -> {
+			User ref = em.getReference(User.class, recipient.getId());
+
+			List<Notification> notifications = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				notifications.add(Notification.create(ref, NotificationType.TASK_ASSIGNED, ReferenceType.TASK,
+						UUID.randomUUID(), UUID.randomUUID(), "벤치마크 알림 " + i));
+			}
+			notificationRepository.saveAll(notifications);
+		});
+		return (System.nanoTime() - start) / 1_000_000;
+	}
+}
@@ -0,0 +1,85 @@
+package xyz.letzcollab.backend.controller;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.global.security.jwt.JwtTokenProvider;
+import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
+import xyz.letzcollab.backend.global.sse.NotificationStreamCursor;
+import xyz.letzcollab.backend.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * SSE 스트림은 30분까지 열려 있으므로 요청이 끝날 때까지 커넥션을 붙잡으면 탭 몇 개로 풀이 고갈됨
+ * - 트랜잭션 롤백 대신 직접 정리 (커밋된 사용자로 실제 요청 처리)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("알림 SSE 스트림 커넥션 반납 테스트")
+class NotificationStreamConnectionTest {
+
+	@Autowired MockMvc mockMvc;
+	@Autowired JwtTokenProvider jwtTokenProvider;
+	@Autowired UserRepository userRepository;
+	@Autowired DataSource dataSource;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.createDummyUser("스트림 유저", "stream@test.com", "password1234!", null));
+	}
+
+	@AfterEach
+	void tearDown() {
+		userRepository.deleteById(user.getId());
+	}
+
+	@Test
+	@DisplayName("스트림이 열려 있는 동안 재전송 조회에 쓴 DB 커넥션을 반납한다")
+	void streamOpen_connectionReturned() throws Exception {
+		// when - Last-Event-ID를 보내 재전송 조회까지 실행
+		MvcResult result = mockMvc.perform(get("/api/v1/notifications/stream").contextPath("/api")
+										   .header(HttpHeaders.AUTHORIZATION, "Bearer " + createToken(user))
+										   .header("Last-Event-ID", new NotificationStreamCursor(LocalDateTime.now(), 1L).format()))
+								  .andExpect(request().asyncStarted())
+								  .andReturn();
+
+		// then - 스트림은 열려 있지만 커넥션은 풀에 돌아와 있음
+		assertThat(result.getRequest().isAsyncStarted()).isTrue();
+		await().atMost(Duration.ofSeconds(2))
+			   .untilAsserted(() -> assertThat(activeConnections()).isZero());
+	}
+
+	private String createToken(User user) {
+		CustomUserDetails userDetails = new CustomUserDetails(user);
+		return jwtTokenProvider.createToken(
+				new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities())
+		);
+	}
+
+	private int activeConnections() throws SQLException {
+		return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+	}
+}
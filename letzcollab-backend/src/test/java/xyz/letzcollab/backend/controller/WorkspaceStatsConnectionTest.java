@@ -0,0 +1,128 @@
+package xyz.letzcollab.backend.controller;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsResponse;
+import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.entity.Workspace;
+import xyz.letzcollab.backend.global.cache.WorkspaceStatsSingleFlight;
+import xyz.letzcollab.backend.global.security.jwt.JwtTokenProvider;
+import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
+import xyz.letzcollab.backend.repository.UserRepository;
+import xyz.letzcollab.backend.repository.WorkspaceRepository;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 스냅샷이 없는 워크스페이스 통계 조회는 다른 요청의 실시간 집계를 latency-budget까지 기다림
+ * - 기다리는 동안 권한 확인에 쓴 DB 커넥션을 붙잡으면 동시 요청 몇 개로 풀이 고갈됨
+ * - 트랜잭션 롤백 대신 직접 정리 (커밋된 데이터로 실제 요청 처리)
+ */
+@SpringBootTest(properties = "workspace-stats.fallback.latency-budget=5s")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("워크스페이스 통계 조회 커넥션 반납 테스트")
+class WorkspaceStatsConnectionTest {
+
+	@Autowired MockMvc mockMvc;
+	@Autowired JwtTokenProvider jwtTokenProvider;
+	@Autowired UserRepository userRepository;
+	@Autowired WorkspaceRepository workspaceRepository;
+	@Autowired WorkspaceStatsSingleFlight statsSingleFlight;
+	@Autowired DataSource dataSource;
+
+	private User owner;
+	private Workspace workspace;
+
+	@BeforeEach
+	void setUp() {
+		owner = userRepository.save(User.createDummyUser("통계 유저", "stats-connection@test.com", "password1234!", null));
+		workspace = workspaceRepository.save(Workspace.createWorkspace("통계 커넥션 테스트", owner, "CTO"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		workspaceRepository.deleteById(workspace.getId());
+		userRepository.deleteById(owner.getId());
+	}
+
+	@Test
+	@DisplayName("다른 요청의 실시간 집계를 기다리는 동안 DB 커넥션을 반납한다")
+	void waitingForCompute_connectionReturned() throws Exception {
+		// given - 다른 요청이 실시간 집계 중 (latch를 열 때까지 끝나지 않음)
+		CountDownLatch computeRelease = new CountDownLatch(1);
+		AtomicInteger waiting = new AtomicInteger();
+		CompletableFuture<WorkspaceStatsResponse> computing = CompletableFuture.supplyAsync(() ->
+				statsSingleFlight.load(workspace.getId(), () -> {
+					awaitQuietly(computeRelease);
+					return WorkspaceStatsResponse.computing();
+				}));
+		await().atMost(Duration.ofSeconds(2)).until(() -> activeConnections() == 0);
+
+		// when - 같은 워크스페이스 통계를 조회하는 요청이 집계 결과를 기다림
+		CompletableFuture<Void> request = CompletableFuture.runAsync(() -> {
+			try {
+				waiting.incrementAndGet();
+				mockMvc.perform(get("/api/v1/workspaces/{id}/stats", workspace.getPublicId()).contextPath("/api")
+										.header(HttpHeaders.AUTHORIZATION, "Bearer " + createToken(owner)))
+					   .andExpect(status().isOk())
+					   .andExpect(jsonPath("$.data.computing").value(true));
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		// then - 요청은 대기 중이지만 커넥션은 풀에 돌아와 있음
+		await().atMost(Duration.ofSeconds(2)).until(() -> waiting.get() == 1);
+		await().pollDelay(Duration.ofMillis(300)).atMost(Duration.ofSeconds(2))
+			   .untilAsserted(() -> {
+				   assertThat(request).isNotDone();
+				   assertThat(activeConnections()).isZero();
+			   });
+
+		computeRelease.countDown();
+		request.get(5, TimeUnit.SECONDS);
+		computing.get(5, TimeUnit.SECONDS);
+	}
+
+	private String createToken(User user) {
+		CustomUserDetails userDetails = new CustomUserDetails(user);
+		return jwtTokenProvider.createToken(
+				new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities())
+		);
+	}
+
+	private int activeConnections() throws SQLException {
+		return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,223 @@
+package xyz.letzcollab.backend.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import xyz.letzcollab.backend.entity.Project;
+import xyz.letzcollab.backend.entity.ProjectMember;
+import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.entity.vo.ProjectRole;
+import xyz.letzcollab.backend.global.cache.dto.ProjectMembership;
+import xyz.letzcollab.backend.repository.ProjectMemberRepository;
+import xyz.letzcollab.backend.repository.ProjectRepository;
+import xyz.letzcollab.backend.repository.WorkspaceMemberRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인스턴스 여러 대를 MembershipCache 객체 여러 개로 흉내 냄 (L1은 각자, L2 Redis는 공유)
+ */
+@Testcontainers
+@DisplayName("MembershipCache 단위 테스트")
+class MembershipCacheTest {
+
+	@Container
+	private static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ProjectMemberRepository projectMemberRepository;
+
+	private final UUID projectPublicId = UUID.randomUUID();
+	private final UUID userPublicId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+				redis.getHost(),
+				redis.getFirstMappedPort()
+		);
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
+		factory.afterPropertiesSet();
+
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(factory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+
+		projectMemberRepository = mock(ProjectMemberRepository.class);
+	}
+
+	private MembershipCache createInstance() {
+		return new MembershipCache(
+				projectMemberRepository,
+				mock(WorkspaceMemberRepository.class),
+				redisTemplate,
+				new ObjectMapper(),
+				new CacheInvalidationBus(redisTemplate, false),
+				new SimpleMeterRegistry(),
+				100, Duration.ofSeconds(30), Duration.ofMinutes(10), true
+		);
+	}
+
+	private ProjectMember member(ProjectRole role) {
+		User user = mock(User.class);
+		when(user.getId()).thenReturn(1L);
+		when(user.getPublicId()).thenReturn(userPublicId);
+
+		ProjectMember member = mock(ProjectMember.class);
+		when(member.getUser()).thenReturn(user);
+		when(member.getRole()).thenReturn(role);
+		when(member.getPosition()).thenReturn("개발");
+		return member;
+	}
+
+	@Test
+	@DisplayName("한 인스턴스가 DB에서 읽어 L2에 채운 값을 다른 인스턴스는 DB 조회 없이 사용한다")
+	void l2Hit_sharedAcrossInstances() {
+		// given
+		ProjectMember member = member(ProjectRole.MEMBER);
+		when(projectMemberRepository.findMemberWithUser(userPublicId, projectPublicId)).thenReturn(Optional.of(member));
+
+		// when
+		createInstance().findProjectMember(userPublicId, projectPublicId);
+		Optional<ProjectMembership> found = createInstance().findProjectMember(userPublicId, projectPublicId);
+
+		// then
+		assertThat(found).map(ProjectMembership::role).contains(ProjectRole.MEMBER);
+		verify(projectMemberRepository, times(1)).findMemberWithUser(userPublicId, projectPublicId);
+	}
+
+	@Test
+	@DisplayName("DB 조회 도중 무효화되면 조회한 이전 값은 L2에 기록되지 않는다")
+	void evictDuringLoad_doesNotRepopulateStaleValue() {
+		// given - 인스턴스 A가 DB에서 MEMBER를 읽는 사이 인스턴스 B가 ADMIN으로 변경하고 무효화
+		MembershipCache instanceA = createInstance();
+		MembershipCache instanceB = createInstance();
+		ProjectMember before = member(ProjectRole.MEMBER);
+		ProjectMember after = member(ProjectRole.ADMIN);
+
+		when(projectMemberRepository.findMemberWithUser(userPublicId, projectPublicId))
+				.thenAnswer(invocation -> {
+					instanceB.evictProjectMember(projectPublicId, userPublicId);
+					return Optional.of(before);
+				})
+				.thenReturn(Optional.of(after));
+
+		// when
+		Optional<ProjectMembership> stale = instanceA.findProjectMember(userPublicId, projectPublicId);
+		Optional<ProjectMembership> fresh = createInstance().findProjectMember(userPublicId, projectPublicId);
+
+		// then
+		assertThat(stale).map(ProjectMembership::role).contains(ProjectRole.MEMBER);
+		assertThat(fresh).map(ProjectMembership::role).contains(ProjectRole.ADMIN);
+		verify(projectMemberRepository, times(2)).findMemberWithUser(userPublicId, projectPublicId);
+	}
+
+	@Test
+	@DisplayName("DB 조회 도중 무효화되면 해당 인스턴스의 L1에도 이전 값을 남기지 않는다")
+	void evictDuringLoad_doesNotFillL1() {
+		// given
+		MembershipCache instanceA = createInstance();
+		ProjectMember before = member(ProjectRole.MEMBER);
+		ProjectMember after = member(ProjectRole.ADMIN);
+
+		when(projectMemberRepository.findMemberWithUser(userPublicId, projectPublicId))
+				.thenAnswer(invocation -> {
+					createInstance().evictProjectMember(projectPublicId, userPublicId);
+					return Optional.of(before);
+				})
+				.thenReturn(Optional.of(after));
+
+		// when
+		instanceA.findProjectMember(userPublicId, projectPublicId);
+		Optional<ProjectMembership> found = instanceA.findProjectMember(userPublicId, projectPublicId);
+
+		// then
+		assertThat(found).map(ProjectMembership::role).contains(ProjectRole.ADMIN);
+	}
+
+	@Test
+	@DisplayName("프로젝트 전체 무효화 이후에는 이전에 채워진 멤버 항목을 사용하지 않는다")
+	void evictProject_invalidatesAllMembers() {
+		// given
+		ProjectMember member = member(ProjectRole.MEMBER);
+		when(projectMemberRepository.findMemberWithUser(userPublicId, projectPublicId))
+				.thenReturn(Optional.of(member))
+				.thenReturn(Optional.empty());
+		createInstance().findProjectMember(userPublicId, projectPublicId);
+
+		// when
+		createInstance().evictProject(projectPublicId);
+		Optional<ProjectMembership> found = createInstance().findProjectMember(userPublicId, projectPublicId);
+
+		// then
+		assertThat(found).isEmpty();
+		verify(projectMemberRepository, times(2)).findMemberWithUser(userPublicId, projectPublicId);
+	}
+
+	@Test
+	@DisplayName("멤버 항목은 각자 TTL을 가진다")
+	void memberEntry_hasOwnTtl() {
+		// given
+		ProjectMember member = member(ProjectRole.MEMBER);
+		when(projectMemberRepository.findMemberWithUser(userPublicId, projectPublicId)).thenReturn(Optional.of(member));
+
+		// when
+		createInstance().findProjectMember(userPublicId, projectPublicId);
+
+		// then
+		Long ttl = redisTemplate.getExpire("MBR:P:" + projectPublicId + ":" + userPublicId);
+		assertThat(ttl).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(10).toSeconds());
+	}
+
+	@Test
+	@DisplayName("비공개 프로젝트 조회 권한은 다른 인스턴스가 채운 멤버십 L2로 DB 조회 없이 판단한다")
+	void projectAccess_readsMembershipThroughL2() {
+		// given
+		ProjectMember member = member(ProjectRole.VIEWER);
+		when(projectMemberRepository.findMemberWithUser(userPublicId, projectPublicId)).thenReturn(Optional.of(member));
+		Project project = mock(Project.class);
+		when(project.isPrivate()).thenReturn(true);
+		ProjectRepository projectRepository = mock(ProjectRepository.class);
+		when(projectRepository.findByPublicIdWithWorkspace(projectPublicId)).thenReturn(Optional.of(project));
+
+		// when - 인스턴스마다 조회 권한 캐시는 비어 있음
+		boolean first = createAccessCache(projectRepository).canView(userPublicId, projectPublicId);
+		boolean second = createAccessCache(projectRepository).canView(userPublicId, projectPublicId);
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isTrue();
+		verify(projectMemberRepository, times(1)).findMemberWithUser(userPublicId, projectPublicId);
+	}
+
+	private ProjectAccessCache createAccessCache(ProjectRepository projectRepository) {
+		return new ProjectAccessCache(
+				new SimpleMeterRegistry(),
+				new CacheInvalidationBus(redisTemplate, false),
+				projectRepository,
+				createInstance(),
+				100, Duration.ofSeconds(30)
+		);
+	}
+}
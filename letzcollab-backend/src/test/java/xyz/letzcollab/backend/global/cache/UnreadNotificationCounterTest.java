@@ -0,0 +1,214 @@
+package xyz.letzcollab.backend.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DisplayName("UnreadNotificationCounter 단위 테스트")
+class UnreadNotificationCounterTest {
+
+	@Container
+	private static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	private RedisTemplate<String, String> redisTemplate;
+	private UnreadNotificationCounter counter;
+
+	private final UUID userPublicId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+				redis.getHost(),
+				redis.getFirstMappedPort()
+		);
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
+		factory.afterPropertiesSet();
+
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(factory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+
+		counter = new UnreadNotificationCounter(redisTemplate, new SimpleMeterRegistry(), Duration.ofDays(7), true);
+	}
+
+	private String cachedValue() {
+		return redisTemplate.opsForValue().get("NOTI:UNREAD:" + userPublicId);
+	}
+
+	@Nested
+	@DisplayName("조회")
+	class Get {
+
+		@Test
+		@DisplayName("카운터가 없으면 DB 개수로 채우고, 이후에는 DB를 조회하지 않는다")
+		void miss_thenHit() {
+			// when
+			long first = counter.get(userPublicId, () -> 3L);
+			long second = counter.get(userPublicId, () -> { throw new AssertionError("DB를 다시 조회하면 안 됨"); });
+
+			// then
+			assertThat(first).isEqualTo(3L);
+			assertThat(second).isEqualTo(3L);
+			assertThat(redisTemplate.getExpire("NOTI:UNREAD:" + userPublicId)).isPositive();
+		}
+	}
+
+	@Nested
+	@DisplayName("증감")
+	class Adjust {
+
+		@Test
+		@DisplayName("카운터가 있으면 증감이 반영된다")
+		void present_adjusted() {
+			// given
+			counter.get(userPublicId, () -> 3L);
+
+			// when
+			counter.increment(userPublicId, 2);
+			counter.decrement(userPublicId);
+
+			// then
+			assertThat(cachedValue()).isEqualTo("4");
+		}
+
+		@Test
+		@DisplayName("여러 수신자 일괄 증가 시 카운터가 있는 수신자만 반영된다")
+		void incrementAll_adjustsPresentOnly() {
+			// given
+			UUID otherPublicId = UUID.randomUUID();
+			counter.get(userPublicId, () -> 1L);
+
+			// when
+			counter.incrementAll(Map.of(userPublicId, 2L, otherPublicId, 3L));
+
+			// then
+			assertThat(cachedValue()).isEqualTo("3");
+			assertThat(redisTemplate.opsForValue().get("NOTI:UNREAD:" + otherPublicId)).isNull();
+		}
+
+		@Test
+		@DisplayName("카운터가 없으면 증감은 무시된다 (다음 조회 때 DB로 채움)")
+		void absent_ignored() {
+			// when
+			counter.increment(userPublicId);
+
+			// then
+			assertThat(cachedValue()).isNull();
+		}
+
+		@Test
+		@DisplayName("음수가 되면 오차로 보고 카운터를 삭제한다")
+		void negative_deleted() {
+			// given
+			counter.get(userPublicId, () -> 0L);
+
+			// when
+			counter.decrement(userPublicId);
+
+			// then
+			assertThat(cachedValue()).isNull();
+		}
+
+		@Test
+		@DisplayName("전체 읽음 처리 시 카운터를 삭제한다")
+		void evict_deleted() {
+			// given
+			counter.get(userPublicId, () -> 5L);
+
+			// when
+			counter.evict(userPublicId);
+
+			// then
+			assertThat(cachedValue()).isNull();
+		}
+	}
+
+	@Nested
+	@DisplayName("보정")
+	class Reconcile {
+
+		@Test
+		@DisplayName("DB 개수와 같으면 유지하고, 다르면 삭제한다")
+		void evictIfMismatch() {
+			// given
+			UUID matchedUser = UUID.randomUUID();
+			counter.get(userPublicId, () -> 3L);
+			counter.get(matchedUser, () -> 7L);
+
+			// when
+			int corrected = counter.evictIfMismatch(Map.of(userPublicId, 4L, matchedUser, 7L));
+
+			// then
+			assertThat(corrected).isEqualTo(1);
+			assertThat(cachedValue()).isNull();
+			assertThat(redisTemplate.opsForValue().get("NOTI:UNREAD:" + matchedUser)).isEqualTo("7");
+		}
+
+		@Test
+		@DisplayName("그사이 만료/삭제된 카운터는 다시 만들지 않는다")
+		void absent_notRecreated() {
+			// when
+			int corrected = counter.evictIfMismatch(Map.of(userPublicId, 4L));
+
+			// then
+			assertThat(corrected).isZero();
+			assertThat(cachedValue()).isNull();
+		}
+
+		@Test
+		@DisplayName("DB 집계 후 도착한 커밋 후 증감이 두 번 반영되지 않는다")
+		void lateIncrement_notDoubleCounted() {
+			// given - 카운터 3, 새 알림이 커밋되어 DB는 4개지만 커밋 후 증가는 아직 도착 전
+			counter.get(userPublicId, () -> 3L);
+			int corrected = counter.evictIfMismatch(Map.of(userPublicId, 4L));
+
+			// when - 늦게 도착한 증가
+			counter.increment(userPublicId);
+			long count = counter.get(userPublicId, () -> 4L);
+
+			// then
+			assertThat(corrected).isEqualTo(1);
+			assertThat(count).isEqualTo(4L);
+		}
+
+		@Test
+		@DisplayName("카운터가 있는 사용자를 batchSize 단위로 모두 전달한다")
+		void forEachTrackedUser() {
+			// given
+			List<UUID> tracked = List.of(userPublicId, UUID.randomUUID(), UUID.randomUUID());
+			tracked.forEach(id -> counter.get(id, () -> 1L));
+
+			// when
+			List<UUID> visited = new ArrayList<>();
+			List<Integer> batchSizes = new ArrayList<>();
+			counter.forEachTrackedUser(2, batch -> {
+				visited.addAll(batch);
+				batchSizes.add(batch.size());
+			});
+
+			// then
+			assertThat(visited).containsAll(tracked);
+			assertThat(batchSizes).allMatch(size -> size <= 2);
+		}
+	}
+}
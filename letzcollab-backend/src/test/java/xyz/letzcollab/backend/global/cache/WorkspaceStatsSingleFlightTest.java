@@ -0,0 +1,210 @@
+package xyz.letzcollab.backend.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsResponse;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsResponse.ProjectStats;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsResponse.TaskStats;
+import xyz.letzcollab.backend.entity.WorkspaceStatsSnapshot;
+import xyz.letzcollab.backend.repository.WorkspaceStatsSnapshotRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Testcontainers
+@DisplayName("WorkspaceStatsSingleFlight 동시성 테스트")
+class WorkspaceStatsSingleFlightTest {
+
+	@Container
+	private static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	private RedisTemplate<String, String> redisTemplate;
+	private WorkspaceStatsSnapshotRepository snapshotRepository;
+	private ExecutorService executor;
+
+	private final Long workspaceId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+	private final WorkspaceStatsResponse computed = new WorkspaceStatsResponse(
+			new ProjectStats(1, 0, 1, 0, 0, 0),
+			new TaskStats(3, 3, 0, 0, 0, 0, 0, 0),
+			2, LocalDateTime.now(), false
+	);
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+				redis.getHost(),
+				redis.getFirstMappedPort()
+		);
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
+		factory.afterPropertiesSet();
+
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(factory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+
+		snapshotRepository = mock(WorkspaceStatsSnapshotRepository.class);
+		when(snapshotRepository.findByWorkspaceId(workspaceId)).thenReturn(Optional.empty());
+		executor = Executors.newFixedThreadPool(8);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private WorkspaceStatsSingleFlight createInstance(Duration latencyBudget) {
+		return new WorkspaceStatsSingleFlight(
+				snapshotRepository, redisTemplate, new SimpleMeterRegistry(), latencyBudget, Duration.ofSeconds(10), true
+		);
+	}
+
+	@Test
+	@DisplayName("같은 워크스페이스에 동시에 요청이 몰려도 집계는 1번만 실행되고 모두 같은 결과를 받는다")
+	void concurrentLoads_computeOnce() throws Exception {
+		// given
+		WorkspaceStatsSingleFlight singleFlight = createInstance(Duration.ofSeconds(5));
+		AtomicInteger computeCount = new AtomicInteger();
+		CountDownLatch ready = new CountDownLatch(1);
+
+		// when - 집계가 300ms 걸리는 동안 8개 요청이 동시에 들어옴
+		List<Future<WorkspaceStatsResponse>> futures = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			futures.add(executor.submit(() -> {
+				ready.await();
+				return singleFlight.load(workspaceId, () -> {
+					computeCount.incrementAndGet();
+					sleep(300);
+					return computed;
+				});
+			}));
+		}
+		ready.countDown();
+
+		// then
+		for (Future<WorkspaceStatsResponse> future : futures) {
+			assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(computed);
+		}
+		assertThat(computeCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("집계가 대기 시간 안에 끝나지 않으면 기다리던 요청은 집계 중(computing) 응답을 받는다")
+	void slowCompute_waiterGetsComputing() throws Exception {
+		// given
+		WorkspaceStatsSingleFlight singleFlight = createInstance(Duration.ofMillis(100));
+		CountDownLatch computing = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+
+		Future<WorkspaceStatsResponse> first = executor.submit(() -> singleFlight.load(workspaceId, () -> {
+			computing.countDown();
+			await(finish);
+			return computed;
+		}));
+		computing.await(5, TimeUnit.SECONDS);
+
+		// when
+		WorkspaceStatsResponse waiter = singleFlight.load(workspaceId, () -> {
+			throw new AssertionError("집계가 진행 중이면 다시 집계하면 안 됨");
+		});
+		finish.countDown();
+
+		// then
+		assertThat(waiter.computing()).isTrue();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(computed);
+	}
+
+	@Test
+	@DisplayName("집계가 실패하면 락과 진행 중 표시가 해제되어 다음 요청이 다시 집계한다")
+	void failedCompute_releasesLock() {
+		// given
+		WorkspaceStatsSingleFlight singleFlight = createInstance(Duration.ofMillis(100));
+
+		// when
+		assertThatThrownBy(() -> singleFlight.load(workspaceId, () -> {
+			throw new IllegalStateException("집계 실패");
+		})).isInstanceOf(IllegalStateException.class);
+
+		// then
+		assertThat(redisTemplate.hasKey("LOCK:STATS:" + workspaceId)).isFalse();
+		assertThat(singleFlight.load(workspaceId, () -> computed)).isEqualTo(computed);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 집계 중이면 직접 집계하지 않고 커밋된 스냅샷을 기다려 반환한다")
+	void lockHeldByOther_pollsSnapshot() {
+		// given
+		redisTemplate.opsForValue().set("LOCK:STATS:" + workspaceId, "other-instance", Duration.ofSeconds(10));
+		WorkspaceStatsSnapshot snapshot = mock(WorkspaceStatsSnapshot.class);
+		when(snapshot.getTotalTasks()).thenReturn(4L);
+		when(snapshotRepository.findByWorkspaceId(workspaceId))
+				.thenReturn(Optional.empty())
+				.thenReturn(Optional.of(snapshot));
+		WorkspaceStatsSingleFlight singleFlight = createInstance(Duration.ofSeconds(2));
+
+		// when
+		WorkspaceStatsResponse response = singleFlight.load(workspaceId, () -> {
+			throw new AssertionError("다른 인스턴스가 집계 중이면 직접 집계하면 안 됨");
+		});
+
+		// then
+		assertThat(response.computing()).isFalse();
+		assertThat(response.tasks().total()).isEqualTo(4L);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스의 집계가 대기 시간 안에 끝나지 않으면 집계 중 응답을 반환한다")
+	void lockHeldByOther_timeout_returnsComputing() {
+		// given
+		redisTemplate.opsForValue().set("LOCK:STATS:" + workspaceId, "other-instance", Duration.ofSeconds(10));
+		WorkspaceStatsSingleFlight singleFlight = createInstance(Duration.ofMillis(150));
+
+		// when
+		WorkspaceStatsResponse response = singleFlight.load(workspaceId, () -> computed);
+
+		// then
+		assertThat(response.computing()).isTrue();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package xyz.letzcollab.backend.global.event.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.letzcollab.backend.entity.Notification;
+import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.entity.vo.NotificationType;
+import xyz.letzcollab.backend.entity.vo.ReferenceType;
+import xyz.letzcollab.backend.global.event.dto.NotificationEvent;
+import xyz.letzcollab.backend.repository.NotificationRepository;
+import xyz.letzcollab.backend.repository.UserRepository;
+import xyz.letzcollab.backend.service.NotificationService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 호출 스레드 저장 경로는 커밋 직후(AFTER_COMMIT) 리스너에서 실행되므로, 실제 커밋된 트랜잭션 안에서 검증
+ * (클래스 단위 @Transactional 없이 직접 정리)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("NotificationBatchProcessor 통합 테스트")
+class NotificationBatchProcessorTest {
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private User recipient;
+
+	@BeforeEach
+	void setUp() {
+		recipient = userRepository.save(
+				User.createDummyUser("수신자", "batch-" + UUID.randomUUID() + "@test.com", "pw", "010-0000-0000")
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		notificationRepository.deleteAll(findNotifications());
+		userRepository.delete(recipient);
+	}
+
+	@Test
+	@DisplayName("처리기가 멈춘 상태에서 커밋 직후 제출된 알림은 호출 스레드에서 새 트랜잭션으로 저장된다")
+	void stoppedProcessor_savesInNewTransaction() {
+		// start()를 호출하지 않은 처리기 = 멈춘 상태 → 항상 호출 스레드에서 저장
+		NotificationBatchProcessor processor = new NotificationBatchProcessor(
+				notificationService, new SimpleMeterRegistry(), transactionManager, 1, 100, Duration.ofMillis(50)
+		);
+
+		submitAfterCommit(processor, event(), event());
+
+		assertThat(findNotifications()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("큐가 가득 차면 넘친 알림은 호출 스레드에서 새 트랜잭션으로 저장된다")
+	void fullQueue_savesOverflowInNewTransaction() throws InterruptedException {
+		NotificationBatchProcessor processor = new NotificationBatchProcessor(
+				notificationService, new SimpleMeterRegistry(), transactionManager, 1, 100, Duration.ofMillis(50)
+		);
+		processor.start();
+		try {
+			submitAfterCommit(processor, event(), event(), event(), event(), event());
+		} finally {
+			processor.stop();
+		}
+
+		assertThat(findNotifications()).hasSize(5);
+	}
+
+	private void submitAfterCommit(NotificationBatchProcessor processor, NotificationEvent... events) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						for (NotificationEvent event : events) {
+							processor.submit(event);
+						}
+					}
+				}));
+	}
+
+	private NotificationEvent event() {
+		return new NotificationEvent(
+				recipient.getId(), NotificationType.TASK_ASSIGNED, ReferenceType.TASK,
+				UUID.randomUUID(), UUID.randomUUID(), "알림"
+		);
+	}
+
+	private List<Notification> findNotifications() {
+		return notificationRepository.findTop100ByRecipientPublicIdAndIdGreaterThanOrderByIdAsc(recipient.getPublicId(), 0L);
+	}
+}
@@ -0,0 +1,80 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalRateLimitEngine 단위 테스트")
+class LocalRateLimitEngineTest {
+
+	private final LocalRateLimitEngine engine = new LocalRateLimitEngine(100, Duration.ofSeconds(30));
+
+	@Test
+	@DisplayName("window 안에서 limit번까지만 허용한다")
+	void allowsUpToLimit() {
+		RateLimitRule rule = RateLimitRule.of("test", 3, Duration.ofHours(1));
+
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+		assertThat(engine.tryAcquire(rule, "a")).isFalse();
+	}
+
+	@Test
+	@DisplayName("키와 규칙마다 따로 센다")
+	void countsPerKeyAndRule() {
+		RateLimitRule rule = RateLimitRule.of("test", 1, Duration.ofHours(1));
+		RateLimitRule otherRule = RateLimitRule.of("other", 1, Duration.ofHours(1));
+
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+		assertThat(engine.tryAcquire(rule, "a")).isFalse();
+		assertThat(engine.tryAcquire(rule, "b")).isTrue();
+		assertThat(engine.tryAcquire(otherRule, "a")).isTrue();
+	}
+
+	@Test
+	@DisplayName("시간이 지나면 다시 채워진다")
+	void refillsOverTime() throws InterruptedException {
+		RateLimitRule rule = RateLimitRule.of("test", 1, Duration.ofMillis(50));
+
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+		assertThat(engine.tryAcquire(rule, "a")).isFalse();
+
+		Thread.sleep(60);
+
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+	}
+
+	@Test
+	@DisplayName("키 수가 maxKeys에 도달하면 새 키는 규칙별 공용 버킷을 함께 쓴다")
+	void full_newKeysShareOverflowBucket() {
+		LocalRateLimitEngine small = new LocalRateLimitEngine(2, Duration.ofSeconds(30));
+		RateLimitRule rule = RateLimitRule.of("test", 1, Duration.ofHours(1));
+
+		assertThat(small.tryAcquire(rule, "a")).isTrue();
+		assertThat(small.tryAcquire(rule, "b")).isTrue();
+		assertThat(small.tryAcquire(rule, "c")).isTrue();
+		assertThat(small.tryAcquire(rule, "d")).isFalse();
+		assertThat(small.tryAcquire(rule, "a")).isFalse();
+		assertThat(small.trackedKeys()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("정리는 다 채워진 키만 지우고 아직 제한 중인 키는 남긴다")
+	void sweep_removesOnlyRefilledKeys() throws InterruptedException {
+		RateLimitRule shortRule = RateLimitRule.of("short", 1, Duration.ofMillis(50));
+		RateLimitRule longRule = RateLimitRule.of("long", 1, Duration.ofHours(1));
+		engine.tryAcquire(shortRule, "a");
+		engine.tryAcquire(longRule, "a");
+
+		Thread.sleep(60);
+		engine.sweep();
+
+		assertThat(engine.trackedKeys()).isEqualTo(1);
+		assertThat(engine.tryAcquire(longRule, "a")).isFalse();
+		assertThat(engine.tryAcquire(shortRule, "a")).isTrue();
+	}
+}
@@ -0,0 +1,88 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import xyz.letzcollab.backend.entity.vo.UserRole;
+import xyz.letzcollab.backend.entity.vo.UserStatus;
+import xyz.letzcollab.backend.global.exception.CustomException;
+import xyz.letzcollab.backend.global.exception.ErrorCode;
+import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RateLimitAspect 단위 테스트")
+class RateLimitAspectTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private LimitedTarget target;
+
+	static class LimitedTarget {
+		@RateLimited(permits = 2, window = "1h")
+		public String call() {
+			return "ok";
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		RateLimitAspect aspect = new RateLimitAspect(
+				new LocalRateLimitEngine(100, Duration.ofSeconds(30)), (rule, key) -> true, meterRegistry, true
+		);
+		AspectJProxyFactory factory = new AspectJProxyFactory(new LimitedTarget());
+		factory.setProxyTargetClass(true);
+		factory.addAspect(aspect);
+		target = factory.getProxy();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("한도를 넘으면 TOO_MANY_REQUESTS 예외가 발생하고 엔드포인트별 거부 횟수가 기록된다")
+	void rejectsOverLimit() {
+		authenticate(UUID.randomUUID());
+
+		assertThat(target.call()).isEqualTo("ok");
+		assertThat(target.call()).isEqualTo("ok");
+		assertThatThrownBy(() -> target.call())
+				.isInstanceOf(CustomException.class)
+				.extracting(e -> ((CustomException) e).getErrorCode())
+				.isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+
+		assertThat(meterRegistry.counter("rate_limit.endpoint.rejected", "endpoint", "LimitedTarget.call").count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("사용자마다 한도를 따로 센다")
+	void countsPerUser() {
+		authenticate(UUID.randomUUID());
+		target.call();
+		target.call();
+
+		authenticate(UUID.randomUUID());
+		assertThat(target.call()).isEqualTo("ok");
+	}
+
+	private void authenticate(UUID publicId) {
+		CustomUserDetails userDetails = new CustomUserDetails(
+				"테스트", publicId, "user@example.com", "pw", UserRole.USER, UserStatus.ACTIVE
+		);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities())
+		);
+	}
+}
@@ -0,0 +1,204 @@
+package xyz.letzcollab.backend.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DisplayName("RedisRateLimitEngine 단위 테스트")
+class RedisRateLimitEngineTest {
+
+	@Container
+	private static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	// 테스트 도중 윈도우 경계를 넘거나 가중치가 눈에 띄게 바뀌지 않도록 긴 윈도우 사용
+	private static final Duration WINDOW = Duration.ofDays(1);
+
+	private RedisTemplate<String, String> redisTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private RedisRateLimitEngine engine;
+
+	// 규칙 이름을 테스트마다 다르게 해서 키가 겹치지 않게 함
+	private final String ruleName = "test-" + UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = redisTemplate(redis.getHost(), redis.getFirstMappedPort());
+		meterRegistry = new SimpleMeterRegistry();
+		engine = new RedisRateLimitEngine(redisTemplate, new LocalRateLimitEngine(100, Duration.ofSeconds(30)), meterRegistry, true);
+	}
+
+	private RedisTemplate<String, String> redisTemplate(String host, int port) {
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+		factory.afterPropertiesSet();
+
+		RedisTemplate<String, String> template = new RedisTemplate<>();
+		template.setConnectionFactory(factory);
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(new StringRedisSerializer());
+		template.afterPropertiesSet();
+		return template;
+	}
+
+	private String windowKey(String key, long offset) {
+		long windowIndex = System.currentTimeMillis() / WINDOW.toMillis();
+		return "RL:{" + ruleName + ":" + key + "}:" + (windowIndex + offset);
+	}
+
+	private double elapsedRatio() {
+		return (double) (System.currentTimeMillis() % WINDOW.toMillis()) / WINDOW.toMillis();
+	}
+
+	@Test
+	@DisplayName("직전 윈도우 기록이 없으면 현재 윈도우에서 limit번까지만 허용하고 거부 횟수를 기록한다")
+	void allowsUpToLimit() {
+		RateLimitRule rule = RateLimitRule.of(ruleName, 3, WINDOW);
+
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+		assertThat(engine.tryAcquire(rule, "a")).isFalse();
+
+		assertThat(redisTemplate.opsForValue().get(windowKey("a", 0))).isEqualTo("3");
+		assertThat(meterRegistry.counter("rate_limit.rejected", "rule", ruleName).count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("거부된 요청은 카운터를 올리지 않는다")
+	void rejectedRequest_doesNotIncrement() {
+		RateLimitRule rule = RateLimitRule.of(ruleName, 1, WINDOW);
+
+		engine.tryAcquire(rule, "a");
+		engine.tryAcquire(rule, "a");
+		engine.tryAcquire(rule, "a");
+
+		assertThat(redisTemplate.opsForValue().get(windowKey("a", 0))).isEqualTo("1");
+	}
+
+	@Test
+	@DisplayName("직전 윈도우의 요청 수는 아직 겹쳐 있는 비율만큼만 한도에서 차감된다")
+	void previousWindow_weightedByOverlap() {
+		// given - 직전 윈도우에서 한도를 모두 사용
+		int limit = 100;
+		RateLimitRule rule = RateLimitRule.of(ruleName, limit, WINDOW);
+		redisTemplate.opsForValue().set(windowKey("a", -1), String.valueOf(limit), WINDOW.multipliedBy(2));
+		double ratioBefore = elapsedRatio();
+
+		// when
+		int allowed = 0;
+		while (engine.tryAcquire(rule, "a")) {
+			allowed++;
+		}
+		double ratioAfter = elapsedRatio();
+
+		// then - 허용 수 ≈ limit × 현재 윈도우 경과 비율 (직전 윈도우가 덜 겹칠수록 더 많이 허용)
+		assertThat(allowed).isBetween((int) Math.floor(limit * ratioBefore) - 1, (int) Math.ceil(limit * ratioAfter));
+	}
+
+	@Test
+	@DisplayName("직전 윈도우보다 오래된 윈도우의 요청 수는 반영하지 않는다")
+	void olderWindow_ignored() {
+		RateLimitRule rule = RateLimitRule.of(ruleName, 1, WINDOW);
+		redisTemplate.opsForValue().set(windowKey("a", -2), "100", WINDOW);
+
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+	}
+
+	@Test
+	@DisplayName("현재 윈도우 카운터는 다음 윈도우에서 직전 윈도우로 읽힐 수 있도록 윈도우 2배 동안 유지된다")
+	void currentWindow_expiresAfterTwoWindows() {
+		RateLimitRule rule = RateLimitRule.of(ruleName, 3, WINDOW);
+
+		engine.tryAcquire(rule, "a");
+
+		Long ttl = redisTemplate.getExpire(windowKey("a", 0), TimeUnit.MILLISECONDS);
+		assertThat(ttl).isGreaterThan(WINDOW.toMillis()).isLessThanOrEqualTo(WINDOW.multipliedBy(2).toMillis());
+	}
+
+	@Test
+	@DisplayName("키마다 따로 센다")
+	void countsPerKey() {
+		RateLimitRule rule = RateLimitRule.of(ruleName, 1, WINDOW);
+
+		assertThat(engine.tryAcquire(rule, "a")).isTrue();
+		assertThat(engine.tryAcquire(rule, "a")).isFalse();
+		assertThat(engine.tryAcquire(rule, "b")).isTrue();
+	}
+
+	@Test
+	@DisplayName("동시에 요청해도 limit번을 넘겨 허용하지 않는다")
+	void concurrentRequests_neverExceedLimit() throws Exception {
+		// given
+		int limit = 5;
+		RateLimitRule rule = RateLimitRule.of(ruleName, limit, WINDOW);
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+		CountDownLatch ready = new CountDownLatch(1);
+
+		// when
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			results.add(executor.submit(() -> {
+				ready.await();
+				return engine.tryAcquire(rule, "a");
+			}));
+		}
+		ready.countDown();
+
+		int allowed = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get(5, TimeUnit.SECONDS)) allowed++;
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(allowed).isEqualTo(limit);
+	}
+
+	@Test
+	@DisplayName("Redis에 연결할 수 없으면 로컬 엔진으로 판정하고 대체 횟수를 기록한다")
+	void redisUnavailable_fallsBackToLocal() {
+		// given - 아무것도 열려 있지 않은 포트
+		RedisRateLimitEngine unavailable = new RedisRateLimitEngine(
+				redisTemplate("localhost", 1), new LocalRateLimitEngine(100, Duration.ofSeconds(30)), meterRegistry, true
+		);
+		RateLimitRule rule = RateLimitRule.of(ruleName, 1, WINDOW);
+
+		// when & then
+		assertThat(unavailable.tryAcquire(rule, "a")).isTrue();
+		assertThat(unavailable.tryAcquire(rule, "a")).isFalse();
+		assertThat(meterRegistry.counter("rate_limit.fallback").count()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("비활성화하면 Redis를 쓰지 않고 로컬 엔진으로 판정한다")
+	void disabled_usesLocalEngine() {
+		RedisRateLimitEngine disabled = new RedisRateLimitEngine(
+				redisTemplate, new LocalRateLimitEngine(100, Duration.ofSeconds(30)), meterRegistry, false
+		);
+		RateLimitRule rule = RateLimitRule.of(ruleName, 1, WINDOW);
+
+		assertThat(disabled.tryAcquire(rule, "a")).isTrue();
+		assertThat(disabled.tryAcquire(rule, "a")).isFalse();
+		assertThat(redisTemplate.hasKey(windowKey("a", 0))).isFalse();
+	}
+}
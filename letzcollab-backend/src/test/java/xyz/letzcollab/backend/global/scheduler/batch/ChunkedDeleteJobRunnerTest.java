@@ -0,0 +1,192 @@
+package xyz.letzcollab.backend.global.scheduler.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import xyz.letzcollab.backend.PostgresTestContainer;
+import xyz.letzcollab.backend.entity.Notification;
+import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.entity.vo.NotificationType;
+import xyz.letzcollab.backend.entity.vo.ReferenceType;
+import xyz.letzcollab.backend.repository.NotificationRepository;
+import xyz.letzcollab.backend.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 청크마다 실제로 커밋되는지, 중단 후 체크포인트부터 이어서 처리하는지 검증 (클래스 단위 @Transactional 없이 직접 정리)
+ * - 삭제 대상(읽은 알림)과 비대상(읽지 않은 알림)을 번갈아 저장해 청크 경계에 비대상 행이 섞이도록 함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ChunkedDeleteJobRunner 통합 테스트")
+class ChunkedDeleteJobRunnerTest extends PostgresTestContainer {
+
+	@Container
+	private static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	private static final String JOB_NAME = "test-cleanup-read-notifications";
+	private static final int CHUNK_SIZE = 10;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private JobCheckpointStore checkpointStore;
+	private ChunkedDeleteJobRunner runner;
+	private User recipient;
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+				redis.getHost(),
+				redis.getFirstMappedPort()
+		);
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
+		factory.afterPropertiesSet();
+
+		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(factory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+
+		checkpointStore = new JobCheckpointStore(redisTemplate, Duration.ofMinutes(5));
+		checkpointStore.clear(JOB_NAME);
+		runner = new ChunkedDeleteJobRunner(
+				transactionManager, checkpointStore, new SimpleMeterRegistry(), CHUNK_SIZE, Duration.ZERO
+		);
+
+		recipient = userRepository.save(
+				User.createDummyUser("수신자", "chunk-" + UUID.randomUUID() + "@test.com", "pw", null)
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		Thread.interrupted();
+		notificationRepository.deleteAll(notificationRepository.findAll().stream()
+				.filter(n -> n.getRecipient().getId().equals(recipient.getId()))
+				.toList());
+		userRepository.delete(recipient);
+		checkpointStore.clear(JOB_NAME);
+	}
+
+	@Test
+	@DisplayName("여러 청크에 걸친 삭제 대상을 끝까지 지우고 비대상 행과 체크포인트는 남기지 않는다")
+	void deletesAllTargetsAcrossChunks() {
+		// given - 대상 25개(청크 3개), 비대상 25개가 번갈아 저장됨
+		List<Long> targets = seed(25);
+		LocalDateTime cutoff = LocalDateTime.now().plusDays(1);
+
+		// when
+		ChunkedJobResult result = runner.run(job(cutoff, new AtomicInteger(), Integer.MAX_VALUE));
+
+		// then
+		assertThat(result.completed()).isTrue();
+		assertThat(result.deleted()).isEqualTo(25);
+		assertThat(result.chunks()).isEqualTo(3);
+		assertThat(remainingIds()).doesNotContainAnyElementsOf(targets).hasSize(25);
+		assertThat(checkpointStore.load(JOB_NAME)).isZero();
+	}
+
+	@Test
+	@DisplayName("중단되면 처리한 청크까지만 커밋하고, 다음 실행은 체크포인트부터 이어서 나머지 대상만 삭제한다")
+	void interrupted_resumesFromCheckpoint() {
+		// given
+		List<Long> targets = seed(25);
+		LocalDateTime cutoff = LocalDateTime.now().plusDays(1);
+
+		// when - 첫 청크를 삭제하는 도중 인터럽트 (종료 신호) → 커밋과 체크포인트 저장은 마쳐야 함
+		ChunkedJobResult first = runner.run(job(cutoff, new AtomicInteger(), 1));
+		boolean interrupted = Thread.interrupted();
+
+		// then - 첫 청크(대상 10개)만 커밋되고 체크포인트는 그 청크의 마지막 ID
+		assertThat(interrupted).isTrue();
+		assertThat(first.completed()).isFalse();
+		assertThat(first.deleted()).isEqualTo(CHUNK_SIZE);
+		assertThat(checkpointStore.load(JOB_NAME)).isEqualTo(targets.get(CHUNK_SIZE - 1));
+		assertThat(remainingIds()).doesNotContainAnyElementsOf(targets.subList(0, CHUNK_SIZE))
+								  .containsAll(targets.subList(CHUNK_SIZE, targets.size()));
+
+		// when - 다음 실행
+		ChunkedJobResult resumed = runner.run(job(cutoff, new AtomicInteger(), Integer.MAX_VALUE));
+
+		// then - 체크포인트 이후의 대상 15개만 삭제하고 끝까지 처리
+		assertThat(resumed.completed()).isTrue();
+		assertThat(resumed.resumedAt()).isEqualTo(targets.get(CHUNK_SIZE - 1));
+		assertThat(resumed.deleted()).isEqualTo(15);
+		assertThat(remainingIds()).doesNotContainAnyElementsOf(targets).hasSize(25);
+		assertThat(checkpointStore.load(JOB_NAME)).isZero();
+	}
+
+	/**
+	 * @param interruptAfterChunks 이 수만큼 청크를 삭제한 뒤 현재 스레드를 인터럽트
+	 */
+	private ChunkedDeleteJob job(LocalDateTime cutoff, AtomicInteger deletedChunks, int interruptAfterChunks) {
+		return new ChunkedDeleteJob(
+				JOB_NAME,
+				(afterId, chunk) -> notificationRepository.findReadNotificationIdsOlderThan(cutoff, afterId, chunk),
+				(afterId, lastId) -> {
+					int deleted = notificationRepository.deleteReadNotificationsOlderThan(cutoff, afterId, lastId);
+					if (deletedChunks.incrementAndGet() >= interruptAfterChunks) {
+						Thread.currentThread().interrupt();
+					}
+					return deleted;
+				}
+		);
+	}
+
+	// 읽은 알림(대상)과 읽지 않은 알림(비대상)을 번갈아 저장하고 대상 ID를 오름차순으로 반환
+	private List<Long> seed(int targetCount) {
+		List<Notification> notifications = new ArrayList<>();
+		for (int i = 0; i < targetCount; i++) {
+			Notification read = notification();
+			read.markAsRead();
+			notifications.add(read);
+			notifications.add(notification());
+		}
+		return notificationRepository.saveAll(notifications).stream()
+									 .filter(Notification::isRead)
+									 .map(Notification::getId)
+									 .sorted()
+									 .toList();
+	}
+
+	private Notification notification() {
+		return Notification.create(
+				recipient, NotificationType.TASK_ASSIGNED, ReferenceType.TASK, UUID.randomUUID(), null, "메시지"
+		);
+	}
+
+	private List<Long> remainingIds() {
+		return notificationRepository.findAll().stream()
+									 .filter(n -> n.getRecipient().getId().equals(recipient.getId()))
+									 .map(Notification::getId)
+									 .toList();
+	}
+}
@@ -0,0 +1,259 @@
+package xyz.letzcollab.backend.global.scheduler.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Testcontainers
+@DisplayName("SchedulerLock 단위 테스트")
+class SchedulerLockTest {
+
+	@Container
+	private static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	@Container
+	private static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+	private RedisTemplate<String, String> redisTemplate;
+	private DataSource dataSource;
+	private final List<SchedulerLock> locks = new ArrayList<>();
+	private final String jobName = "test-job-" + UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+				redis.getHost(),
+				redis.getFirstMappedPort()
+		);
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
+		factory.afterPropertiesSet();
+
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(factory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+
+		dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+	}
+
+	@AfterEach
+	void tearDown() {
+		locks.forEach(SchedulerLock::shutdown);
+	}
+
+	// 인스턴스 한 대 = SchedulerLock 객체 하나
+	private SchedulerLock createInstance(RedisTemplate<String, String> template, Duration lease, boolean enabled) {
+		SchedulerLock lock = new SchedulerLock(template, dataSource, new SimpleMeterRegistry(), lease, enabled);
+		locks.add(lock);
+		return lock;
+	}
+
+	@Nested
+	@DisplayName("Redis 락")
+	class RedisLock {
+
+		@Test
+		@DisplayName("다른 인스턴스가 실행 중이면 건너뛴다")
+		void concurrentRun_skipped() {
+			// given
+			SchedulerLock instanceA = createInstance(redisTemplate, Duration.ofMinutes(1), true);
+			SchedulerLock instanceB = createInstance(redisTemplate, Duration.ofMinutes(1), true);
+			AtomicBoolean ranOnB = new AtomicBoolean(false);
+
+			// when
+			boolean ranOnA = instanceA.runExclusively(jobName, Duration.ZERO,
+					() -> instanceB.runExclusively(jobName, Duration.ZERO, () -> ranOnB.set(true)));
+
+			// then
+			assertThat(ranOnA).isTrue();
+			assertThat(ranOnB).isFalse();
+		}
+
+		@Test
+		@DisplayName("lockAtLeastFor가 0이면 실행 후 바로 해제되어 다음 실행이 가능하다")
+		void released_afterRun() {
+			// given
+			SchedulerLock lock = createInstance(redisTemplate, Duration.ofMinutes(1), true);
+			lock.runExclusively(jobName, Duration.ZERO, () -> {});
+
+			// when
+			boolean ranAgain = lock.runExclusively(jobName, Duration.ZERO, () -> {});
+
+			// then
+			assertThat(ranAgain).isTrue();
+			assertThat(redisTemplate.hasKey("LOCK:SCHED:" + jobName)).isFalse();
+		}
+
+		@Test
+		@DisplayName("실행이 lockAtLeastFor보다 빨리 끝나면 남은 시간 동안 락을 유지한다")
+		void lockAtLeastFor_keepsLock() {
+			// given
+			SchedulerLock instanceA = createInstance(redisTemplate, Duration.ofMinutes(1), true);
+			SchedulerLock instanceB = createInstance(redisTemplate, Duration.ofMinutes(1), true);
+			instanceA.runExclusively(jobName, Duration.ofSeconds(30), () -> {});
+
+			// when
+			boolean ranOnB = instanceB.runExclusively(jobName, Duration.ZERO, () -> {});
+
+			// then
+			assertThat(ranOnB).isFalse();
+			assertThat(redisTemplate.getExpire("LOCK:SCHED:" + jobName)).isPositive().isLessThanOrEqualTo(30L);
+		}
+
+		@Test
+		@DisplayName("실행이 lease보다 길어져도 연장되어 다른 인스턴스가 실행하지 못한다")
+		void longRun_renewsLease() {
+			// given - lease 300ms, 실행 900ms (연장이 없으면 중간에 만료)
+			SchedulerLock instanceA = createInstance(redisTemplate, Duration.ofMillis(300), true);
+			SchedulerLock instanceB = createInstance(redisTemplate, Duration.ofMillis(300), true);
+			AtomicBoolean ranOnB = new AtomicBoolean(false);
+
+			// when
+			instanceA.runExclusively(jobName, Duration.ZERO, () -> {
+				sleep(900);
+				instanceB.runExclusively(jobName, Duration.ZERO, () -> ranOnB.set(true));
+			});
+
+			// then
+			assertThat(ranOnB).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("Redis 장애 / 비활성화")
+	class Fallback {
+
+		@Test
+		@DisplayName("Redis 장애 시 DB advisory 락으로 실행한다")
+		void redisDown_runsWithAdvisoryLock() {
+			// given
+			SchedulerLock lock = createInstance(brokenRedisTemplate(), Duration.ofMinutes(1), true);
+			AtomicBoolean ran = new AtomicBoolean(false);
+
+			// when
+			boolean result = lock.runExclusively(jobName, Duration.ZERO, () -> ran.set(true));
+
+			// then
+			assertThat(result).isTrue();
+			assertThat(ran).isTrue();
+		}
+
+		@Test
+		@DisplayName("Redis 장애 중 advisory 락으로 실행 중이면 Redis 락을 잡은 인스턴스도 건너뛴다")
+		void advisoryHeld_redisInstanceSkipped() {
+			// given
+			SchedulerLock fallbackInstance = createInstance(brokenRedisTemplate(), Duration.ofMinutes(1), true);
+			SchedulerLock redisInstance = createInstance(redisTemplate, Duration.ofMinutes(1), true);
+			AtomicBoolean ranOnRedisInstance = new AtomicBoolean(false);
+
+			// when
+			boolean ranOnFallback = fallbackInstance.runExclusively(jobName, Duration.ZERO,
+					() -> redisInstance.runExclusively(jobName, Duration.ZERO, () -> ranOnRedisInstance.set(true)));
+
+			// then - 건너뛴 인스턴스는 Redis 락도 바로 풀어 둠
+			assertThat(ranOnFallback).isTrue();
+			assertThat(ranOnRedisInstance).isFalse();
+			assertThat(redisTemplate.hasKey("LOCK:SCHED:" + jobName)).isFalse();
+		}
+
+		@Test
+		@DisplayName("Redis 락으로 실행 중이면 Redis 장애를 겪는 인스턴스도 건너뛴다")
+		void redisHeld_fallbackInstanceSkipped() {
+			// given
+			SchedulerLock redisInstance = createInstance(redisTemplate, Duration.ofMinutes(1), true);
+			SchedulerLock fallbackInstance = createInstance(brokenRedisTemplate(), Duration.ofMinutes(1), true);
+			AtomicBoolean ranOnFallback = new AtomicBoolean(false);
+
+			// when
+			boolean ranOnRedisInstance = redisInstance.runExclusively(jobName, Duration.ZERO,
+					() -> fallbackInstance.runExclusively(jobName, Duration.ZERO, () -> ranOnFallback.set(true)));
+
+			// then
+			assertThat(ranOnRedisInstance).isTrue();
+			assertThat(ranOnFallback).isFalse();
+		}
+
+		@Test
+		@DisplayName("advisory 락도 실행이 lockAtLeastFor보다 빨리 끝나면 남은 시간 동안 유지한다")
+		void advisoryLock_keptForLockAtLeastFor() {
+			// given
+			SchedulerLock instanceA = createInstance(brokenRedisTemplate(), Duration.ofMinutes(1), true);
+			SchedulerLock instanceB = createInstance(brokenRedisTemplate(), Duration.ofMinutes(1), true);
+			instanceA.runExclusively(jobName, Duration.ofMillis(500), () -> {});
+
+			// when
+			boolean ranWhileHeld = instanceB.runExclusively(jobName, Duration.ZERO, () -> {});
+			sleep(800);
+			boolean ranAfterRelease = instanceB.runExclusively(jobName, Duration.ZERO, () -> {});
+
+			// then
+			assertThat(ranWhileHeld).isFalse();
+			assertThat(ranAfterRelease).isTrue();
+		}
+
+		@Test
+		@DisplayName("락이 비활성화되면 Redis 없이 바로 실행한다")
+		@SuppressWarnings("unchecked")
+		void disabled_runsWithoutRedis() {
+			// given
+			RedisTemplate<String, String> unusedTemplate = mock(RedisTemplate.class);
+			SchedulerLock lock = createInstance(unusedTemplate, Duration.ofMinutes(1), false);
+			AtomicBoolean ran = new AtomicBoolean(false);
+
+			// when
+			boolean result = lock.runExclusively(jobName, Duration.ZERO, () -> ran.set(true));
+
+			// then
+			assertThat(result).isTrue();
+			assertThat(ran).isTrue();
+			verifyNoInteractions(unusedTemplate);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RedisTemplate<String, String> brokenRedisTemplate() {
+		RedisTemplate<String, String> brokenTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		when(brokenTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+				.thenThrow(new RedisConnectionFailureException("connection refused"));
+		return brokenTemplate;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
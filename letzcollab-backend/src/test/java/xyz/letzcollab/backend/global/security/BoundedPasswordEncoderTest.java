@@ -0,0 +1,86 @@
+package xyz.letzcollab.backend.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import xyz.letzcollab.backend.global.exception.CustomException;
+import xyz.letzcollab.backend.global.exception.ErrorCode;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder 단위 테스트")
+class BoundedPasswordEncoderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private BoundedPasswordEncoder encoder;
+
+	@AfterEach
+	void tearDown() {
+		encoder.shutdown();
+	}
+
+	@Test
+	@DisplayName("전용 스레드에서 해시/검증한 결과를 그대로 반환한다")
+	void encodesAndMatches() {
+		encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 4, meterRegistry);
+
+		String encoded = encoder.encode("Password1!");
+
+		assertThat(encoder.matches("Password1!", encoded)).isTrue();
+		assertThat(encoder.matches("Wrong1!", encoded)).isFalse();
+		assertThat(meterRegistry.timer("password_hashing.duration", "operation", "matches").count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("실행 중인 작업과 대기열이 가득 차면 기다리지 않고 PASSWORD_HASHING_BUSY 예외가 발생한다")
+	void rejectsWhenSaturated() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		encoder = new BoundedPasswordEncoder(blockingEncoder(started, release), 1, 1, meterRegistry);
+
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+		while (meterRegistry.get("password_hashing.queue").gauge().value() < 1) {
+			Thread.onSpinWait();
+		}
+
+		assertThatThrownBy(() -> encoder.encode("c"))
+				.isInstanceOf(CustomException.class)
+				.extracting(e -> ((CustomException) e).getErrorCode())
+				.isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+		assertThat(meterRegistry.counter("password_hashing.rejected").count()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+	}
+
+	private PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+		return new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return rawPassword.toString();
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return rawPassword.toString().equals(encodedPassword);
+			}
+		};
+	}
+}
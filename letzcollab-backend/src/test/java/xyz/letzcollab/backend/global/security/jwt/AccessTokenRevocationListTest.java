@@ -0,0 +1,98 @@
+package xyz.letzcollab.backend.global.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import xyz.letzcollab.backend.entity.vo.UserRole;
+import xyz.letzcollab.backend.entity.vo.UserStatus;
+import xyz.letzcollab.backend.global.cache.CacheInvalidationBus;
+import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AccessTokenRevocationList 단위 테스트")
+class AccessTokenRevocationListTest {
+
+	private static final String TEST_SECRET = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+	private static final long VALID_EXPIRY_MS = 3_600_000L;
+
+	private AccessTokenRevocationList revocationList;
+	private JwtTokenProvider jwtTokenProvider;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		revocationList = new AccessTokenRevocationList(
+				redisTemplate,
+				new CacheInvalidationBus(redisTemplate, false),
+				new SimpleMeterRegistry(),
+				VALID_EXPIRY_MS,
+				Duration.ofMinutes(1),
+				false
+		);
+		jwtTokenProvider = new JwtTokenProvider(TEST_SECRET, VALID_EXPIRY_MS);
+	}
+
+	@Test
+	@DisplayName("폐기 시점 이전에 발급된 토큰은 무효다")
+	void issuedBefore_revoked() {
+		// given
+		UUID userPublicId = UUID.randomUUID();
+		Instant issuedAt = Instant.now().minusMillis(1);
+
+		// when
+		revocationList.revokeAll(userPublicId);
+
+		// then
+		assertThat(revocationList.isRevoked(userPublicId, issuedAt)).isTrue();
+	}
+
+	@Test
+	@DisplayName("폐기 직후 같은 초 안에 발급된 토큰은 유효하다 (비밀번호 재설정 후 재로그인)")
+	void issuedRightAfter_sameSecond_notRevoked() throws InterruptedException {
+		// given
+		CustomUserDetails userDetails = new CustomUserDetails(
+				"테스트", UUID.randomUUID(), "user@example.com", "pw", UserRole.USER, UserStatus.ACTIVE
+		);
+		revocationList.revokeAll(userDetails.getPublicId());
+		Thread.sleep(2);
+
+		// when
+		String token = jwtTokenProvider.createToken(new UsernamePasswordAuthenticationToken(
+				userDetails, "", userDetails.getAuthorities()
+		));
+
+		// then
+		Instant issuedAt = jwtTokenProvider.verify(token).issuedAt();
+		assertThat(revocationList.isRevoked(userDetails.getPublicId(), issuedAt)).isFalse();
+	}
+
+	@Test
+	@DisplayName("세션을 폐기하면 그 세션의 토큰만 무효이고 같은 사용자의 다른 세션과 세션 없는 토큰은 유효하다")
+	void revokeSession_onlyThatSession() {
+		// when
+		revocationList.revokeSession("session-a");
+
+		// then
+		assertThat(revocationList.isSessionRevoked("session-a")).isTrue();
+		assertThat(revocationList.isSessionRevoked("session-b")).isFalse();
+		assertThat(revocationList.isSessionRevoked(null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("폐기되지 않은 사용자의 토큰은 유효하다")
+	void notRevokedUser() {
+		assertThat(revocationList.isRevoked(UUID.randomUUID(), Instant.now())).isFalse();
+	}
+}
@@ -0,0 +1,110 @@
+package xyz.letzcollab.backend.global.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import xyz.letzcollab.backend.entity.vo.UserRole;
+import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JwtAuthenticationCache 단위 테스트")
+class JwtAuthenticationCacheTest {
+
+	private static final String TEST_SECRET = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+	private static final long VALID_EXPIRY_MS = 3_600_000L;   // 1시간
+	private static final long EXPIRED_EXPIRY_MS = -1L;        // 즉시 만료
+
+	private JwtTokenProvider jwtTokenProvider;
+	private SimpleMeterRegistry meterRegistry;
+	private JwtAuthenticationCache cache;
+
+	@BeforeEach
+	void setUp() {
+		jwtTokenProvider = new JwtTokenProvider(TEST_SECRET, VALID_EXPIRY_MS);
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new JwtAuthenticationCache(jwtTokenProvider, meterRegistry, 100, Duration.ofMinutes(15), true);
+	}
+
+	@Test
+	@DisplayName("같은 토큰으로 다시 조회하면 검증 없이 캐시된 사용자 정보를 반환한다")
+	void returnsCachedAuthentication() {
+		String token = jwtTokenProvider.createToken(mockAuthentication());
+
+		Authentication first = cache.verify(token).authentication();
+		Authentication second = cache.verify(token).authentication();
+
+		assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+		assertThat(second.isAuthenticated()).isTrue();
+		assertThat(((CustomUserDetails) second.getPrincipal()).getUsername()).isEqualTo("user@example.com");
+		assertThat(meterRegistry.counter("cache.jwt_auth.requests", "result", "hit").count()).isEqualTo(1.0);
+		assertThat(meterRegistry.counter("cache.jwt_auth.requests", "result", "miss").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("반환한 Authentication을 변경해도 다음 요청이 받는 Authentication에는 영향이 없다")
+	void returnedAuthentication_isNotShared() {
+		String token = jwtTokenProvider.createToken(mockAuthentication());
+
+		Authentication first = cache.verify(token).authentication();
+		((AbstractAuthenticationToken) first).setDetails("request-1");
+		first.setAuthenticated(false);
+
+		Authentication second = cache.verify(token).authentication();
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getDetails()).isNull();
+		assertThat(second.isAuthenticated()).isTrue();
+		assertThat(second.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 캐시하지 않고 매번 ExpiredJwtException이 발생한다")
+	void doesNotCacheExpiredToken() {
+		JwtTokenProvider expiredProvider = new JwtTokenProvider(TEST_SECRET, EXPIRED_EXPIRY_MS);
+		String expiredToken = expiredProvider.createToken(mockAuthentication());
+
+		assertThatThrownBy(() -> cache.verify(expiredToken))
+				.isInstanceOf(ExpiredJwtException.class);
+		assertThatThrownBy(() -> cache.verify(expiredToken))
+				.isInstanceOf(ExpiredJwtException.class);
+	}
+
+	@Test
+	@DisplayName("캐시를 끄면 매번 토큰을 검증한다")
+	void disabled_verifiesEveryTime() {
+		JwtAuthenticationCache disabled = new JwtAuthenticationCache(
+				jwtTokenProvider, meterRegistry, 100, Duration.ofMinutes(15), false
+		);
+		String token = jwtTokenProvider.createToken(mockAuthentication());
+
+		Authentication first = disabled.verify(token).authentication();
+		Authentication second = disabled.verify(token).authentication();
+
+		assertThat(second.getPrincipal()).isNotSameAs(first.getPrincipal());
+		assertThat(meterRegistry.counter("cache.jwt_auth.requests", "result", "hit").count()).isZero();
+	}
+
+	private Authentication mockAuthentication() {
+		CustomUserDetails userDetails = mock(CustomUserDetails.class);
+		when(userDetails.getPublicId()).thenReturn(UUID.fromString("f975142b-aae5-4747-aaa9-f7ad11d84ce3"));
+		when(userDetails.getUsername()).thenReturn("user@example.com");
+		when(userDetails.getRole()).thenReturn(UserRole.USER);
+
+		Authentication authentication = mock(Authentication.class);
+		when(authentication.getPrincipal()).thenReturn(userDetails);
+		return authentication;
+	}
+}
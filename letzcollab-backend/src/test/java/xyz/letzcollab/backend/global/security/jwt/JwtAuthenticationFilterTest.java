@@ -39,6 +39,9 @@ class JwtAuthenticationFilterTest {
 	@Autowired
 	private JwtTokenProvider jwtTokenProvider;
 
+	@Autowired
+	private AccessTokenRevocationList revocationList;
+
 	@Value("${jwt.secret}")
 	private String testSecretKey;
 
@@ -172,6 +175,60 @@ class JwtAuthenticationFilterTest {
 	}
 
 
+	@Nested
+	@DisplayName("폐기된 토큰")
+	class RevokedToken {
+
+		@Test
+		@DisplayName("폐기 이전에 발급된 토큰이면 401과 JWT_REVOKED_TOKEN 에러 응답을 반환한다")
+		void revokedToken_returns401_withRevokedErrorResponse() throws Exception {
+			// 다른 테스트의 고정 사용자가 폐기되지 않도록 별도 사용자 사용
+			CustomUserDetails userDetails = new CustomUserDetails(
+					"테스트",
+					UUID.randomUUID(),
+					"revoked@example.com",
+					"pw",
+					UserRole.USER,
+					UserStatus.ACTIVE
+			);
+			String token = jwtTokenProvider.createToken(new UsernamePasswordAuthenticationToken(
+					userDetails, "", userDetails.getAuthorities()
+			));
+			revocationList.revokeAll(userDetails.getPublicId());
+
+			expectUnauthorizedResponse(
+					mockMvc.perform(get("/api/v1/users/me")
+							.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)),
+					ErrorCode.JWT_REVOKED_TOKEN
+			);
+		}
+
+		@Test
+		@DisplayName("폐기된 세션으로 발급된 토큰이면 401과 JWT_REVOKED_TOKEN 에러 응답을 반환한다")
+		void revokedSession_returns401_withRevokedErrorResponse() throws Exception {
+			CustomUserDetails userDetails = new CustomUserDetails(
+					"테스트",
+					UUID.randomUUID(),
+					"revoked-session@example.com",
+					"pw",
+					UserRole.USER,
+					UserStatus.ACTIVE
+			);
+			String sessionId = UUID.randomUUID().toString();
+			String token = jwtTokenProvider.createToken(new UsernamePasswordAuthenticationToken(
+					userDetails, "", userDetails.getAuthorities()
+			), sessionId);
+			revocationList.revokeSession(sessionId);
+
+			expectUnauthorizedResponse(
+					mockMvc.perform(get("/api/v1/users/me")
+							.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)),
+					ErrorCode.JWT_REVOKED_TOKEN
+			);
+		}
+	}
+
+
 	@Nested
 	@DisplayName("변조/잘못된 토큰")
 	class InvalidToken {
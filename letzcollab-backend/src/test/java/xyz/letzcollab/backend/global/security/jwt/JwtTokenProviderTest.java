@@ -12,6 +12,7 @@ import org.springframework.security.core.Authentication;
 import xyz.letzcollab.backend.entity.vo.UserRole;
 import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -67,6 +68,30 @@ class JwtTokenProviderTest {
 			assertThat(details.getUsername()).isEqualTo(email);
 			assertThat(details.getRole()).isEqualTo(role);
 		}
+
+		@Test
+		@DisplayName("세션 ID를 넘기면 sid 클레임으로 담기고, 넘기지 않으면 담기지 않는다")
+		void createToken_sessionId() {
+			Authentication authentication = mockAuthentication("f975142b-aae5-4747-aaa9-f7ad11d84ce3", "user@example.com", UserRole.USER);
+
+			String withSession = jwtTokenProvider.createToken(authentication, "session-1");
+			String withoutSession = jwtTokenProvider.createToken(authentication);
+
+			assertThat(jwtTokenProvider.verify(withSession).sessionId()).isEqualTo("session-1");
+			assertThat(jwtTokenProvider.verify(withoutSession).sessionId()).isNull();
+		}
+
+		@Test
+		@DisplayName("발급 시각은 밀리초 단위로 담긴다")
+		void createToken_issuedAtInMillis() {
+			Authentication authentication = mockAuthentication("f975142b-aae5-4747-aaa9-f7ad11d84ce3", "user@example.com", UserRole.USER);
+			Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+
+			String token = jwtTokenProvider.createToken(authentication);
+			Instant after = Instant.ofEpochMilli(System.currentTimeMillis());
+
+			assertThat(jwtTokenProvider.verify(token).issuedAt()).isBetween(before, after);
+		}
 	}
 
 	@Nested
@@ -138,7 +163,6 @@ class JwtTokenProviderTest {
 		}
 	}
 
-
 	private Authentication mockAuthentication(String publicId, String email, UserRole role) {
 		CustomUserDetails userDetails = mock(CustomUserDetails.class);
 		when(userDetails.getPublicId()).thenReturn(UUID.fromString(publicId));
@@ -0,0 +1,124 @@
+package xyz.letzcollab.backend.global.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import xyz.letzcollab.backend.dto.notification.NotificationResponse;
+import xyz.letzcollab.backend.entity.vo.NotificationType;
+import xyz.letzcollab.backend.entity.vo.ReferenceType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("NotificationEmitterRegistry 단위 테스트")
+class NotificationEmitterRegistryTest {
+
+	private NotificationEmitterRegistry registry;
+	private final UUID userPublicId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		registry = new NotificationEmitterRegistry(new SimpleMeterRegistry(), Duration.ofMinutes(30), Duration.ofSeconds(25));
+	}
+
+	private NotificationResponse notification(long id) {
+		return new NotificationResponse(id, NotificationType.TASK_ASSIGNED, ReferenceType.TASK,
+				UUID.randomUUID(), UUID.randomUUID(), "알림", false, LocalDateTime.now());
+	}
+
+	@Test
+	@DisplayName("연결을 등록하면 연결 수가 늘어난다")
+	void register_countsConnection() {
+		// when
+		registry.register(userPublicId);
+		registry.register(UUID.randomUUID());
+
+		// then
+		assertThat(registry.connectionCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("사용자당 연결이 5개를 넘으면 가장 오래된 연결부터 종료한다")
+	void register_overLimit_completesOldest() {
+		// given
+		List<SseEmitter> emitters = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			emitters.add(registry.register(userPublicId));
+		}
+
+		// when
+		registry.register(userPublicId);
+
+		// then - 종료된 가장 오래된 연결에는 더 이상 보낼 수 없음
+		assertThat(registry.connectionCount()).isEqualTo(5);
+		assertThatCode(() -> emitters.get(0).send(SseEmitter.event().comment("ping")))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("이미 끝난 연결로 전송하면 실패한 연결을 정리한다")
+	void send_toCompletedEmitter_removed() {
+		// given
+		SseEmitter emitter = registry.register(userPublicId);
+		emitter.complete();
+
+		// when
+		registry.send(userPublicId, notification(1L));
+
+		// then
+		assertThat(registry.connectionCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("heartbeat 전송에 실패한 연결을 정리한다")
+	void heartbeat_removesDeadConnections() {
+		// given
+		SseEmitter dead = registry.register(userPublicId);
+		registry.register(userPublicId);
+		dead.complete();
+
+		// when
+		registry.sendHeartbeats();
+
+		// then
+		assertThat(registry.connectionCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("heartbeat는 스케줄러 스레드가 아닌 전용 스레드에서 주기적으로 실행된다")
+	void heartbeat_runsOnDedicatedExecutor() {
+		// given
+		NotificationEmitterRegistry fastRegistry =
+				new NotificationEmitterRegistry(new SimpleMeterRegistry(), Duration.ofMinutes(30), Duration.ofMillis(50));
+		SseEmitter dead = fastRegistry.register(userPublicId);
+		fastRegistry.register(userPublicId);
+		dead.complete();
+
+		// when
+		fastRegistry.start();
+
+		// then - 직접 호출하지 않아도 끊긴 연결이 정리됨
+		try {
+			await().atMost(Duration.ofSeconds(2))
+				   .untilAsserted(() -> assertThat(fastRegistry.connectionCount()).isEqualTo(1));
+		} finally {
+			fastRegistry.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("이 인스턴스에 연결이 없는 사용자에게 보내면 아무 일도 일어나지 않는다")
+	void send_noConnection_ignored() {
+		assertThatCode(() -> registry.send(userPublicId, notification(1L))).doesNotThrowAnyException();
+		assertThat(registry.connectionCount()).isZero();
+	}
+}
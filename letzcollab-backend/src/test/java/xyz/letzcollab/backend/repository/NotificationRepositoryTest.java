@@ -0,0 +1,226 @@
+package xyz.letzcollab.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.letzcollab.backend.PostgresTestContainer;
+import xyz.letzcollab.backend.TestAuditConfig;
+import xyz.letzcollab.backend.dto.notification.DeadlineNotificationChunk;
+import xyz.letzcollab.backend.dto.notification.InsertedNotificationRow;
+import xyz.letzcollab.backend.entity.*;
+import xyz.letzcollab.backend.entity.vo.NotificationType;
+import xyz.letzcollab.backend.entity.vo.ProjectStatus;
+import xyz.letzcollab.backend.entity.vo.ReferenceType;
+import xyz.letzcollab.backend.entity.vo.TaskPriority;
+import xyz.letzcollab.backend.entity.vo.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@Import(TestAuditConfig.class)
+@DisplayName("NotificationRepository 통합 테스트")
+class NotificationRepositoryTest extends PostgresTestContainer {
+
+	@Autowired
+	NotificationRepository notificationRepository;
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	WorkspaceRepository workspaceRepository;
+
+	@Autowired
+	ProjectRepository projectRepository;
+
+	@Autowired
+	TaskRepository taskRepository;
+
+	@Autowired
+	EntityManager em;
+
+	private final LocalDate dueDate = LocalDate.now().plusDays(1);
+
+	private User assignee;
+	private User reporter;
+	private Project project;
+
+	@BeforeEach
+	void setUp() {
+		assignee = userRepository.save(User.createDummyUser("담당자", "assignee@test.com", "pwd1234!?", null));
+		reporter = userRepository.save(User.createDummyUser("보고자", "reporter@test.com", "pwd1234!?", null));
+
+		Workspace workspace = workspaceRepository.save(Workspace.createWorkspace("테스트 워크스페이스", reporter, "CTO"));
+		project = projectRepository.save(Project.createProject(
+				workspace, "테스트 프로젝트", "", ProjectStatus.ACTIVE, LocalDate.now(), LocalDate.now().plusDays(30),
+				false, reporter, "CTO"
+		));
+	}
+
+	@Nested
+	@DisplayName("마감일 알림 청크 생성")
+	class InsertDeadlineNotifications {
+
+		@Test
+		@DisplayName("마감일이 대상 날짜인 진행 중 업무의 담당자와 보고자에게 알림을 1개씩 생성한다")
+		void insertsForAssigneeAndReporter() {
+			// given
+			Task target = saveTask("마감 임박 업무", assignee, dueDate);
+			saveTask("다른 날 마감 업무", assignee, dueDate.plusDays(1));
+			Task done = saveTask("완료된 업무", assignee, dueDate);
+			done.update(null, null, TaskStatus.DONE, null, null, null);
+			em.flush();
+
+			// when
+			List<InsertedNotificationRow> inserted = insert();
+
+			// then
+			assertThat(inserted)
+					.extracting(InsertedNotificationRow::recipientPublicId, InsertedNotificationRow::referenceId,
+							InsertedNotificationRow::parentReferenceId)
+					.containsExactlyInAnyOrder(
+							tuple(assignee.getPublicId(), target.getPublicId(), project.getPublicId()),
+							tuple(reporter.getPublicId(), target.getPublicId(), project.getPublicId())
+					);
+			assertThat(inserted).extracting(InsertedNotificationRow::notificationId).doesNotHaveDuplicates();
+		}
+
+		@Test
+		@DisplayName("같은 날짜로 다시 실행하면 중복 알림을 만들지 않고 빈 목록을 반환한다")
+		void rerun_doesNotDuplicate() {
+			// given
+			saveTask("업무1", assignee, dueDate);
+			saveTask("업무2", assignee, dueDate);
+			em.flush();
+
+			List<InsertedNotificationRow> first = insert();
+
+			// when
+			List<InsertedNotificationRow> second = insert();
+
+			// then
+			assertThat(first).hasSize(4);
+			assertThat(second).isEmpty();
+			assertThat(countNotifications()).isEqualTo(4L);
+		}
+
+		@Test
+		@DisplayName("재실행 사이에 새로 생긴 대상 업무는 그 업무의 알림만 추가된다")
+		void rerun_insertsOnlyNewTargets() {
+			// given
+			saveTask("기존 업무", assignee, dueDate);
+			em.flush();
+			insert();
+
+			Task added = saveTask("새 업무", assignee, dueDate);
+			em.flush();
+
+			// when
+			List<InsertedNotificationRow> second = insert();
+
+			// then
+			assertThat(second)
+					.extracting(InsertedNotificationRow::referenceId)
+					.containsOnly(added.getPublicId());
+			assertThat(countNotifications()).isEqualTo(4L);
+		}
+
+		@Test
+		@DisplayName("insert로 발급한 ID는 JPA로 저장한 알림의 ID와 겹치지 않는다")
+		void issuedIds_doNotCollideWithJpaIds() {
+			// given
+			saveTask("업무", assignee, dueDate);
+			em.flush();
+
+			// when
+			List<InsertedNotificationRow> inserted = insert();
+			Notification saved = notificationRepository.saveAndFlush(Notification.create(
+					assignee, NotificationType.TASK_ASSIGNED, ReferenceType.TASK, project.getPublicId(), null, "메시지"
+			));
+
+			// then
+			assertThat(inserted).extracting(InsertedNotificationRow::notificationId).doesNotContain(saved.getId());
+		}
+
+		@Test
+		@DisplayName("task_id 순으로 limit개씩 처리하고, 남은 대상이 없으면 커서가 null이다")
+		void chunked_byTaskIdCursor() {
+			// given
+			Task first = saveTask("업무1", assignee, dueDate);
+			Task second = saveTask("업무2", assignee, dueDate);
+			em.flush();
+
+			// when
+			DeadlineNotificationChunk firstChunk = insertChunk(0L, 1);
+			DeadlineNotificationChunk secondChunk = insertChunk(firstChunk.lastTaskId(), 1);
+			DeadlineNotificationChunk lastChunk = insertChunk(secondChunk.lastTaskId(), 1);
+
+			// then
+			assertThat(firstChunk.lastTaskId()).isEqualTo(first.getId());
+			assertThat(firstChunk.inserted())
+					.extracting(InsertedNotificationRow::referenceId)
+					.containsOnly(first.getPublicId())
+					.hasSize(2);
+			assertThat(secondChunk.lastTaskId()).isEqualTo(second.getId());
+			assertThat(secondChunk.inserted())
+					.extracting(InsertedNotificationRow::referenceId)
+					.containsOnly(second.getPublicId())
+					.hasSize(2);
+			assertThat(lastChunk.lastTaskId()).isNull();
+			assertThat(lastChunk.inserted()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("이미 알림을 만든 청크도 커서는 다음 업무로 진행한다")
+		void rerun_cursorAdvancesWithoutInserts() {
+			// given
+			Task task = saveTask("업무", assignee, dueDate);
+			em.flush();
+			insert();
+
+			// when
+			DeadlineNotificationChunk rerun = insertChunk(0L, 1);
+
+			// then
+			assertThat(rerun.inserted()).isEmpty();
+			assertThat(rerun.lastTaskId()).isEqualTo(task.getId());
+		}
+	}
+
+	private List<InsertedNotificationRow> insert() {
+		return insertChunk(0L, 100).inserted();
+	}
+
+	private DeadlineNotificationChunk insertChunk(long afterTaskId, int limit) {
+		DeadlineNotificationChunk chunk = notificationRepository.insertDeadlineNotifications(
+				NotificationType.TASK_DUE_SOON, dueDate, true, "업무의 마감일이 내일입니다", LocalDateTime.now(),
+				afterTaskId, limit
+		);
+		em.clear();
+		return chunk;
+	}
+
+	private long countNotifications() {
+		return em.createQuery("SELECT COUNT(n) FROM Notification n", Long.class).getSingleResult();
+	}
+
+	private Task saveTask(String name, User taskAssignee, LocalDate taskDueDate) {
+		return taskRepository.save(Task.createTask(
+				project, name, "", taskAssignee, TaskPriority.MEDIUM, null, reporter, taskDueDate
+		));
+	}
+}
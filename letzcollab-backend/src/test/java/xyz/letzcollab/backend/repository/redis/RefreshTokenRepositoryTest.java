@@ -1,6 +1,5 @@
 package xyz.letzcollab.backend.repository.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,7 +11,12 @@ import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import xyz.letzcollab.backend.dto.auth.RefreshTokenData;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository.DeleteResult;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository.RotateResult;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository.RotateStatus;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository.Session;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +28,7 @@ class RefreshTokenRepositoryTest {
 	@Container
 	private static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
 
+	private RedisTemplate<String, String> redisTemplate;
 	private RefreshTokenRepository refreshTokenRepository;
 
 	@BeforeEach
@@ -35,13 +40,19 @@ class RefreshTokenRepositoryTest {
 		LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
 		factory.afterPropertiesSet();
 
-		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+		redisTemplate = new RedisTemplate<>();
 		redisTemplate.setConnectionFactory(factory);
 		redisTemplate.setKeySerializer(new StringRedisSerializer());
 		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		redisTemplate.setHashValueSerializer(new StringRedisSerializer());
 		redisTemplate.afterPropertiesSet();
 
-		refreshTokenRepository = new RefreshTokenRepository(redisTemplate, 14L, new ObjectMapper());
+		refreshTokenRepository = new RefreshTokenRepository(redisTemplate, 14L);
+	}
+
+	private boolean refreshTokenExists(String token) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey("RT:" + token));
 	}
 
 	private RefreshTokenData createTokenData() {
@@ -53,47 +64,169 @@ class RefreshTokenRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("저장한 갱신 토큰을 올바르게 조회할 수 있다")
-	void saveAndGet_success() {
+	@DisplayName("저장한 갱신 토큰으로 재발급하면 저장한 정보가 반환된다")
+	void save_success() {
 		// given
 		String token = "test-token";
 		RefreshTokenData data = createTokenData();
 
 		// when
-		refreshTokenRepository.saveRefreshToken(token, data);
-		RefreshTokenData found = refreshTokenRepository.getRefreshTokenData(token);
+		String sessionId = refreshTokenRepository.saveRefreshToken(token, data);
+		RotateResult result = refreshTokenRepository.rotate(token, "test-token-new");
 
 		// then
-		assertThat(found).isNotNull();
-		assertThat(found.publicId()).isEqualTo(data.publicId());
-		assertThat(found.email()).isEqualTo(data.email());
-		assertThat(found.role()).isEqualTo(data.role());
-	}
-
-	@Test
-	@DisplayName("존재하지 않는 토큰 조회 시 null을 반환한다")
-	void get_nonexistent_returnsNull() {
-		assertThat(refreshTokenRepository.getRefreshTokenData("nonexistent")).isNull();
+		assertThat(result.status()).isEqualTo(RotateStatus.ROTATED);
+		assertThat(result.data()).isEqualTo(data);
+		assertThat(result.sessionId()).isEqualTo(sessionId);
 	}
 
 	@Test
-	@DisplayName("갱신 토큰 삭제 후 조회 시 null을 반환한다")
+	@DisplayName("갱신 토큰을 삭제하면 키가 남지 않는다")
 	void delete_success() {
 		// given
 		String token = "delete-test-token";
-		refreshTokenRepository.saveRefreshToken(token, createTokenData());
+		String sessionId = refreshTokenRepository.saveRefreshToken(token, createTokenData());
 
 		// when
-		boolean deleted = refreshTokenRepository.deleteRefreshToken(token);
+		DeleteResult result = refreshTokenRepository.deleteRefreshToken(token);
 
 		// then
-		assertThat(deleted).isTrue();
-		assertThat(refreshTokenRepository.getRefreshTokenData(token)).isNull();
+		assertThat(result.deleted()).isTrue();
+		assertThat(result.sessionId()).isEqualTo(sessionId);
+		assertThat(refreshTokenExists(token)).isFalse();
 	}
 
 	@Test
 	@DisplayName("존재하지 않는 토큰 삭제 시 false를 반환한다")
 	void delete_nonexistent_returnsFalse() {
-		assertThat(refreshTokenRepository.deleteRefreshToken("nonexistent")).isFalse();
+		assertThat(refreshTokenRepository.deleteRefreshToken("nonexistent").deleted()).isFalse();
+	}
+
+	@Test
+	@DisplayName("재발급하면 이전 토큰은 삭제되고 같은 정보와 같은 세션으로 새 토큰이 저장된다")
+	void rotate_success() {
+		// given
+		RefreshTokenData data = createTokenData();
+		String sessionId = refreshTokenRepository.saveRefreshToken("rotate-old", data);
+
+		// when
+		RotateResult result = refreshTokenRepository.rotate("rotate-old", "rotate-new");
+
+		// then
+		assertThat(result.status()).isEqualTo(RotateStatus.ROTATED);
+		assertThat(result.data()).isEqualTo(data);
+		assertThat(result.sessionId()).isEqualTo(sessionId);
+		assertThat(refreshTokenExists("rotate-old")).isFalse();
+		assertThat(refreshTokenExists("rotate-new")).isTrue();
+	}
+
+	@Test
+	@DisplayName("이미 사용된 토큰으로 재발급하면 REPLAYED를 반환하고 패밀리의 현재 토큰도 삭제된다")
+	void rotate_replayed_revokesFamily() {
+		// given
+		RefreshTokenData data = createTokenData();
+		refreshTokenRepository.saveRefreshToken("replay-1", data);
+		refreshTokenRepository.rotate("replay-1", "replay-2");
+		refreshTokenRepository.rotate("replay-2", "replay-3");
+
+		// when
+		RotateResult result = refreshTokenRepository.rotate("replay-1", "replay-4");
+
+		// then
+		assertThat(result.status()).isEqualTo(RotateStatus.REPLAYED);
+		assertThat(result.userPublicId()).isEqualTo(data.publicId());
+		assertThat(refreshTokenExists("replay-3")).isFalse();
+		assertThat(refreshTokenExists("replay-4")).isFalse();
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 토큰으로 재발급하면 NOT_FOUND를 반환한다")
+	void rotate_nonexistent_returnsNotFound() {
+		assertThat(refreshTokenRepository.rotate("nonexistent", "new").status()).isEqualTo(RotateStatus.NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("사용자별 세션 목록에 로그인마다 세션 1개가 있고, 재발급해도 세션 id는 유지된다")
+	void findSessions_perLogin() {
+		// given
+		RefreshTokenData data = createTokenData();
+		UUID userPublicId = UUID.fromString(data.publicId());
+		refreshTokenRepository.saveRefreshToken("session-a1", data);
+		refreshTokenRepository.saveRefreshToken("session-b1", data);
+		List<String> before = refreshTokenRepository.findSessions(userPublicId).stream().map(Session::sessionId).toList();
+
+		// when
+		refreshTokenRepository.rotate("session-a1", "session-a2");
+		refreshTokenRepository.deleteRefreshToken("session-b1");
+
+		// then
+		List<Session> after = refreshTokenRepository.findSessions(userPublicId);
+		assertThat(before).hasSize(2);
+		assertThat(after).hasSize(1);
+		assertThat(before).contains(after.get(0).sessionId());
+		assertThat(after.get(0).expiresAt()).isGreaterThan(after.get(0).refreshedAt());
+	}
+
+	@Test
+	@DisplayName("사용자의 모든 세션을 폐기하면 각 세션의 현재 갱신 토큰이 삭제된다")
+	void revokeAllSessions_success() {
+		// given
+		RefreshTokenData data = createTokenData();
+		UUID userPublicId = UUID.fromString(data.publicId());
+		refreshTokenRepository.saveRefreshToken("revoke-a1", data);
+		refreshTokenRepository.rotate("revoke-a1", "revoke-a2");
+		refreshTokenRepository.saveRefreshToken("revoke-b1", data);
+
+		// when
+		long revoked = refreshTokenRepository.revokeAllSessions(userPublicId);
+
+		// then
+		assertThat(revoked).isEqualTo(2);
+		assertThat(refreshTokenExists("revoke-a2")).isFalse();
+		assertThat(refreshTokenExists("revoke-b1")).isFalse();
+		assertThat(refreshTokenRepository.findSessions(userPublicId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("이전 JSON 형식 토큰은 재발급하면 새 패밀리로 세션 인덱스에 등록된다")
+	void rotate_legacyToken_indexesSession() {
+		// given
+		RefreshTokenData data = createTokenData();
+		UUID userPublicId = UUID.fromString(data.publicId());
+		saveLegacyToken("legacy-a1", data);
+
+		// when
+		RotateResult result = refreshTokenRepository.rotate("legacy-a1", "legacy-a2");
+
+		// then
+		assertThat(result.status()).isEqualTo(RotateStatus.ROTATED);
+		assertThat(result.data().email()).isEqualTo(data.email());
+		assertThat(refreshTokenRepository.findSessions(userPublicId)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("전체 세션 폐기 이후에는 인덱스에 없는 이전 JSON 형식 토큰도 재발급이 거부되고 삭제된다")
+	void rotate_legacyTokenAfterRevokeAll_returnsNotFound() {
+		// given
+		RefreshTokenData data = createTokenData();
+		UUID userPublicId = UUID.fromString(data.publicId());
+		saveLegacyToken("legacy-b1", data);
+		refreshTokenRepository.revokeAllSessions(userPublicId);
+
+		// when
+		RotateResult result = refreshTokenRepository.rotate("legacy-b1", "legacy-b2");
+
+		// then
+		assertThat(result.status()).isEqualTo(RotateStatus.NOT_FOUND);
+		assertThat(redisTemplate.hasKey("RT:legacy-b1")).isFalse();
+		assertThat(redisTemplate.hasKey("RT:legacy-b2")).isFalse();
+	}
+
+	// 세션 인덱스 도입 전 형식 - RT:{token} = JSON 문자열
+	private void saveLegacyToken(String token, RefreshTokenData data) {
+		redisTemplate.opsForValue().set("RT:" + token, String.format(
+				"{\"publicId\":\"%s\",\"email\":\"%s\",\"role\":\"%s\"}",
+				data.publicId(), data.email(), data.role()
+		));
 	}
-}
\ No newline at end of file
+}
@@ -6,15 +6,20 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.context.event.ApplicationEvents;
 import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -28,21 +33,28 @@ import xyz.letzcollab.backend.entity.vo.TokenType;
 import xyz.letzcollab.backend.entity.vo.UserRole;
 import xyz.letzcollab.backend.entity.vo.UserStatus;
 import xyz.letzcollab.backend.global.event.dto.EmailEvent;
+import xyz.letzcollab.backend.global.event.dto.SessionRevocationEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.global.exception.ErrorCode;
+import xyz.letzcollab.backend.global.security.jwt.AccessTokenRevocationList;
 import xyz.letzcollab.backend.global.security.jwt.RefreshTokenProvider;
+import xyz.letzcollab.backend.global.security.userdetails.CustomUserDetails;
 import xyz.letzcollab.backend.repository.UserRepository;
 import xyz.letzcollab.backend.repository.VerificationTokenRepository;
 import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository;
 
 import java.lang.reflect.Field;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -67,10 +79,16 @@ class AuthServiceTest {
 	@Autowired
 	private RefreshTokenProvider refreshTokenProvider;
 
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private AccessTokenRevocationList revocationList;
+
 	@Container
 	private static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
 
-	@Autowired
+	@MockitoSpyBean
 	private PasswordEncoder passwordEncoder;
 
 	@Autowired
@@ -185,7 +203,23 @@ class AuthServiceTest {
 			assertThat(response.accessToken()).isNotBlank();
 			assertThat(response.refreshToken()).isNotBlank();
 
-			assertThat(refreshTokenRepository.getRefreshTokenData(response.refreshToken())).isNotNull();
+			assertThat(refreshTokenExists(response.refreshToken())).isTrue();
+		}
+
+		@Test
+		@DisplayName("저장된 해시의 cost가 설정값보다 낮으면 로그인 시 새 cost로 다시 해시한다")
+		void login_outdatedCost_rehashesPassword() {
+			// given
+			User user = userRepository.findByEmail("user@example.com").orElseThrow();
+			user.verifyEmail();
+			user.resetPassword(new BCryptPasswordEncoder(4).encode("Password1!"));
+
+			// when
+			authService.login("user@example.com", "Password1!");
+
+			// then
+			assertThat(user.getPassword()).startsWith("$2a$10$");
+			assertThat(passwordEncoder.matches("Password1!", user.getPassword())).isTrue();
 		}
 
 		@Test
@@ -221,6 +255,103 @@ class AuthServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("로그인 트랜잭션 범위")
+	class LoginTransaction {
+
+		// 테스트 트랜잭션 없이 실행해야 로그인 자체의 트랜잭션 범위를 볼 수 있으므로 직접 저장하고 정리
+		@Test
+		@Transactional(propagation = Propagation.NOT_SUPPORTED)
+		@DisplayName("비밀번호 검증은 트랜잭션 밖에서 실행되고, 오래된 해시 갱신은 별도 트랜잭션으로 커밋된다")
+		void login_verifiesPasswordOutsideTransaction() {
+			// given
+			User user = userRepository.save(User.createDummyUser(
+					"홍길동", "notx@example.com", new BCryptPasswordEncoder(4).encode("Password1!"), "010-1234-5678"
+			));
+			List<Boolean> transactionActive = new ArrayList<>();
+			doAnswer(invocation -> {
+				transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+				return invocation.callRealMethod();
+			}).when(passwordEncoder).matches(any(), any());
+
+			try {
+				// when
+				authService.login("notx@example.com", "Password1!");
+
+				// then
+				assertThat(transactionActive).containsOnly(false);
+				assertThat(userRepository.findByEmail("notx@example.com").orElseThrow().getPassword())
+						.startsWith("$2a$10$");
+			} finally {
+				userRepository.delete(user);
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("비밀번호 해시 트랜잭션 범위")
+	class HashingTransaction {
+
+		private final List<Boolean> transactionActive = new ArrayList<>();
+
+		@BeforeEach
+		void recordTransactionOnEncode() {
+			doAnswer(invocation -> {
+				transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+				return invocation.callRealMethod();
+			}).when(passwordEncoder).encode(any());
+		}
+
+		// 로그인 트랜잭션 범위 테스트와 같이 테스트 트랜잭션 없이 실행하고 직접 정리
+		@Test
+		@Transactional(propagation = Propagation.NOT_SUPPORTED)
+		@DisplayName("회원가입 시 비밀번호 해시는 트랜잭션 밖에서 계산된다")
+		void signup_hashesOutsideTransaction() {
+			try {
+				// when
+				authService.signup(createSignupRequest("hashnotx@example.com"));
+
+				// then
+				assertThat(transactionActive).containsOnly(false);
+				assertThat(userRepository.findByEmail("hashnotx@example.com")).isPresent();
+			} finally {
+				userRepository.findByEmail("hashnotx@example.com").ifPresent(user -> {
+					tokenRepository.findAll().stream()
+								   .filter(token -> token.getUser().getId().equals(user.getId()))
+								   .forEach(tokenRepository::delete);
+					userRepository.delete(user);
+				});
+			}
+		}
+
+		@Test
+		@Transactional(propagation = Propagation.NOT_SUPPORTED)
+		@DisplayName("비밀번호 재설정 시 새 비밀번호 해시는 트랜잭션 밖에서 계산된다")
+		void resetPassword_hashesOutsideTransaction() {
+			// given
+			User user = saveActiveUser("resetnotx@example.com");
+			VerificationToken token = tokenRepository.save(VerificationToken.createPasswordVerificationToken(user));
+			refreshTokenRepository.saveRefreshToken(refreshTokenProvider.createToken(), new RefreshTokenData(
+					user.getPublicId().toString(),
+					user.getEmail(),
+					user.getRole().getAuthority()
+			));
+
+			try {
+				// when
+				authService.resetPassword(token.getToken(), "NewPassword1!");
+
+				// then - 커밋 후 세션 폐기까지 반영됨
+				assertThat(transactionActive).containsOnly(false);
+				assertThat(tokenRepository.findByToken(token.getToken()).orElseThrow().getUsedAt()).isNotNull();
+				assertThat(refreshTokenRepository.findSessions(user.getPublicId())).isEmpty();
+			} finally {
+				tokenRepository.delete(token);
+				userRepository.delete(user);
+			}
+		}
+	}
+
 	@Nested
 	@DisplayName("JWT 재발급")
 	class Refresh {
@@ -246,8 +377,30 @@ class AuthServiceTest {
 			assertThat(response.refreshToken()).isNotNull();
 			assertThat(response.refreshToken()).isNotEqualTo(oldRefreshToken);
 
-			assertThat(refreshTokenRepository.getRefreshTokenData(oldRefreshToken)).isNull();
-			assertThat(refreshTokenRepository.getRefreshTokenData(response.refreshToken())).isNotNull();
+			assertThat(refreshTokenExists(oldRefreshToken)).isFalse();
+			assertThat(refreshTokenExists(response.refreshToken())).isTrue();
+		}
+
+		@Test
+		@DisplayName("이미 사용된 갱신 토큰으로 재발급 시 예외가 발생하고 그 토큰으로 발급된 갱신 토큰도 폐기된다")
+		void refresh_replayedToken_revokesFamily() {
+			// given
+			User user = saveActiveUser("replay@example.com");
+			String oldRefreshToken = refreshTokenProvider.createToken();
+			refreshTokenRepository.saveRefreshToken(oldRefreshToken, new RefreshTokenData(
+					user.getPublicId().toString(),
+					user.getEmail(),
+					user.getRole().getAuthority()
+			));
+			RefreshResponse rotated = authService.refresh(oldRefreshToken);
+
+			// when & then
+			assertThatThrownBy(() -> authService.refresh(oldRefreshToken))
+					.isInstanceOf(CustomException.class)
+					.extracting(e -> ((CustomException) e).getErrorCode())
+					.isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+			assertThat(refreshTokenExists(rotated.refreshToken())).isFalse();
+			assertThat(revocationList.isRevoked(user.getPublicId(), Instant.now().minusSeconds(1))).isTrue();
 		}
 
 		@Test
@@ -294,7 +447,7 @@ class AuthServiceTest {
 			authService.logout(refreshToken, user.getEmail());
 
 			// then
-			assertThat(refreshTokenRepository.getRefreshTokenData(refreshToken)).isNull();
+			assertThat(refreshTokenExists(refreshToken)).isFalse();
 		}
 
 		@Test
@@ -304,6 +457,33 @@ class AuthServiceTest {
 			assertThatCode(() -> authService.logout("nonexistent-token", "any@example.com"))
 					.doesNotThrowAnyException();
 		}
+
+		@Test
+		@DisplayName("로그아웃은 해당 기기의 갱신 토큰과 그 세션의 액세스 토큰만 폐기하고 다른 기기의 세션은 유지한다")
+		void logout_keepsOtherSessions() {
+			// given
+			User user = saveActiveUser("revoke@example.com");
+			RefreshTokenData data = new RefreshTokenData(
+					user.getPublicId().toString(),
+					user.getEmail(),
+					user.getRole().getAuthority()
+			);
+			String thisDevice = refreshTokenProvider.createToken();
+			String otherDevice = refreshTokenProvider.createToken();
+			String thisSession = refreshTokenRepository.saveRefreshToken(thisDevice, data);
+			String otherSession = refreshTokenRepository.saveRefreshToken(otherDevice, data);
+			Instant issuedAt = Instant.now();
+
+			// when
+			authService.logout(thisDevice, user.getEmail());
+
+			// then
+			assertThat(refreshTokenExists(thisDevice)).isFalse();
+			assertThat(refreshTokenExists(otherDevice)).isTrue();
+			assertThat(revocationList.isSessionRevoked(thisSession)).isTrue();
+			assertThat(revocationList.isSessionRevoked(otherSession)).isFalse();
+			assertThat(revocationList.isRevoked(user.getPublicId(), issuedAt)).isFalse();
+		}
 	}
 
 	@Nested
@@ -520,6 +700,35 @@ class AuthServiceTest {
 			assertThat(usedToken.getUsedAt()).isNotNull();
 		}
 
+		@Test
+		@DisplayName("비밀번호 재설정 시 모든 세션 폐기는 커밋 후로 미뤄진다")
+		void resetPassword_revokesAllSessionsAfterCommit() {
+			// given
+			User user = saveActiveUser("pwsessions@example.com");
+			RefreshTokenData data = new RefreshTokenData(
+					user.getPublicId().toString(),
+					user.getEmail(),
+					user.getRole().getAuthority()
+			);
+			String webToken = refreshTokenProvider.createToken();
+			String mobileToken = refreshTokenProvider.createToken();
+			refreshTokenRepository.saveRefreshToken(webToken, data);
+			refreshTokenRepository.saveRefreshToken(mobileToken, data);
+			VerificationToken token = tokenRepository.save(
+					VerificationToken.createPasswordVerificationToken(user)
+			);
+
+			// when
+			authService.resetPassword(token.getToken(), "NewPassword1!");
+
+			// then - 테스트 트랜잭션은 커밋되지 않으므로 이벤트만 발행되고 세션은 그대로
+			assertThat(events.stream(SessionRevocationEvent.class))
+					.extracting(SessionRevocationEvent::userPublicId)
+					.containsExactly(user.getPublicId());
+			assertThat(refreshTokenRepository.findSessions(user.getPublicId())).hasSize(2);
+			assertThat(revocationList.isRevoked(user.getPublicId(), Instant.now().minusSeconds(1))).isFalse();
+		}
+
 		@Test
 		@DisplayName("존재하지 않는 토큰으로 재설정 시 VERIFICATION_TOKEN_NOT_FOUND 예외 발생")
 		void resetPassword_tokenNotFound() {
@@ -569,4 +778,8 @@ class AuthServiceTest {
 
 		assertThat(count).isEqualTo(timesSent);
 	}
-}
\ No newline at end of file
+
+	private boolean refreshTokenExists(String token) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey("RT:" + token));
+	}
+}
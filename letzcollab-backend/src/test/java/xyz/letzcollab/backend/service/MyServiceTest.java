@@ -0,0 +1,192 @@
+package xyz.letzcollab.backend.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.letzcollab.backend.TestAuditConfig;
+import xyz.letzcollab.backend.dto.project.AddMemberRequest;
+import xyz.letzcollab.backend.dto.project.CreateProjectRequest;
+import xyz.letzcollab.backend.dto.task.CreateTaskRequest;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardCond;
+import xyz.letzcollab.backend.dto.task.MyTaskDashboardResponse;
+import xyz.letzcollab.backend.dto.task.MyTaskResponse;
+import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.entity.Workspace;
+import xyz.letzcollab.backend.entity.WorkspaceMember;
+import xyz.letzcollab.backend.entity.vo.ProjectRole;
+import xyz.letzcollab.backend.entity.vo.ProjectStatus;
+import xyz.letzcollab.backend.entity.vo.TaskPriority;
+import xyz.letzcollab.backend.repository.UserRepository;
+import xyz.letzcollab.backend.repository.WorkspaceMemberRepository;
+import xyz.letzcollab.backend.repository.WorkspaceRepository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@Import(TestAuditConfig.class)
+@DisplayName("MyService 통합 테스트")
+class MyServiceTest {
+
+	@MockitoBean
+	ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	EntityManager em;
+
+	@Autowired
+	MyService myService;
+	@Autowired
+	TaskService taskService;
+	@Autowired
+	ProjectService projectService;
+	@Autowired
+	ProjectMemberService projectMemberService;
+	@Autowired
+	WorkspaceService workspaceService;
+
+	@Autowired
+	UserRepository userRepository;
+	@Autowired
+	WorkspaceRepository workspaceRepository;
+	@Autowired
+	WorkspaceMemberRepository workspaceMemberRepository;
+
+	private User leader;   // 워크스페이스 소유자, 프로젝트 ADMIN
+	private User member;   // 두 프로젝트의 MEMBER
+	private User outsider; // 워크스페이스/프로젝트 모두 비소속
+
+	private Workspace workspace;
+	private UUID projectId;
+	private UUID privateProjectId;
+
+	@BeforeEach
+	void setUp() {
+		leader = saveUser("leader@test.com", "리더");
+		member = saveUser("member@test.com", "멤버");
+		outsider = saveUser("outsider@test.com", "외부인");
+
+		UUID workspaceId = workspaceService.createWorkspace(leader.getPublicId(), "테스트 워크스페이스", "CTO");
+		workspace = workspaceRepository.findWorkspaceByPublicIdWithOwner(workspaceId).orElseThrow();
+		workspaceMemberRepository.save(WorkspaceMember.createGeneralMember(member, workspace, "개발자"));
+
+		// 공개 프로젝트
+		projectId = projectService.createProject(leader.getPublicId(), workspaceId,
+				new CreateProjectRequest("테스트 프로젝트", "설명", ProjectStatus.ACTIVE,
+						LocalDate.now(), LocalDate.now().plusDays(30), false, "리더"));
+		projectMemberService.addMember(leader.getPublicId(), workspaceId, projectId,
+				new AddMemberRequest(member.getPublicId(), ProjectRole.MEMBER, "개발자"));
+
+		// 비공개 프로젝트
+		privateProjectId = projectService.createProject(leader.getPublicId(), workspaceId,
+				new CreateProjectRequest("비공개 프로젝트", "설명", ProjectStatus.ACTIVE,
+						LocalDate.now(), LocalDate.now().plusDays(30), true, "리더"));
+		projectMemberService.addMember(leader.getPublicId(), workspaceId, privateProjectId,
+				new AddMemberRequest(member.getPublicId(), ProjectRole.MEMBER, "개발자"));
+	}
+
+
+	@Nested
+	@DisplayName("내 업무 대시보드 (전체 워크스페이스)")
+	class GetMyTaskDashboard {
+
+		@Test
+		@DisplayName("워크스페이스/프로젝트별로 묶어서 상위 limit개 업무와 전체 개수를 한 번에 반환한다")
+		void groupsByWorkspaceAndProjectWithTopN() {
+			createSampleTask(leader.getPublicId(), member.getPublicId(), projectId);
+			createSampleTask(leader.getPublicId(), member.getPublicId(), projectId);
+			taskService.createTask(leader.getPublicId(), projectId,
+					new CreateTaskRequest("긴급 업무", null, member.getPublicId(), TaskPriority.URGENT, null));
+			taskService.createTask(leader.getPublicId(), privateProjectId,
+					new CreateTaskRequest("낮은 업무", null, member.getPublicId(), TaskPriority.LOW, null));
+
+			// member가 소유한 두 번째 워크스페이스
+			UUID otherWorkspaceId = workspaceService.createWorkspace(member.getPublicId(), "두번째 워크스페이스", "개발자");
+			UUID otherProjectId = projectService.createProject(member.getPublicId(), otherWorkspaceId,
+					new CreateProjectRequest("다른 프로젝트", "설명", ProjectStatus.ACTIVE,
+							LocalDate.now(), LocalDate.now().plusDays(30), false, "개발자"));
+			createSampleTask(member.getPublicId(), member.getPublicId(), otherProjectId);
+			em.flush();
+
+			MyTaskDashboardResponse result = myService.getMyTaskDashboard(
+					member.getPublicId(), new MyTaskDashboardCond(null, null, null, null), 2);
+
+			assertThat(result.workspaces()).hasSize(2);
+
+			MyTaskDashboardResponse.WorkspaceGroup main = findGroup(result, workspace.getPublicId());
+			assertThat(main.taskCount()).isEqualTo(4);
+			assertThat(main.tasks()).hasSize(2);
+			assertThat(main.tasks().getFirst().priority()).isEqualTo(TaskPriority.URGENT);
+			// 상위 N개에서 잘린 비공개 프로젝트 업무도 프로젝트별 개수에는 포함
+			assertThat(main.projects())
+					.extracting(MyTaskDashboardResponse.ProjectGroup::projectPublicId,
+							MyTaskDashboardResponse.ProjectGroup::taskCount)
+					.containsExactlyInAnyOrder(tuple(projectId, 3L), tuple(privateProjectId, 1L));
+
+			MyTaskDashboardResponse.WorkspaceGroup other = findGroup(result, otherWorkspaceId);
+			assertThat(other.taskCount()).isEqualTo(1);
+			assertThat(other.tasks()).extracting(MyTaskResponse::projectPublicId).containsExactly(otherProjectId);
+		}
+
+		@Test
+		@DisplayName("필터 조건은 업무 목록과 그룹별 개수에 모두 적용된다")
+		void filterAppliesToCounts() {
+			createSampleTask(leader.getPublicId(), member.getPublicId(), projectId);
+			taskService.createTask(leader.getPublicId(), projectId,
+					new CreateTaskRequest("긴급 업무", null, member.getPublicId(), TaskPriority.URGENT, null));
+			em.flush();
+
+			MyTaskDashboardResponse result = myService.getMyTaskDashboard(
+					member.getPublicId(), new MyTaskDashboardCond(null, TaskPriority.URGENT, null, null), 5);
+
+			assertThat(result.workspaces()).hasSize(1);
+			assertThat(result.workspaces().getFirst().taskCount()).isEqualTo(1);
+			assertThat(result.workspaces().getFirst().tasks())
+					.singleElement()
+					.extracting(MyTaskResponse::priority)
+					.isEqualTo(TaskPriority.URGENT);
+		}
+
+		@Test
+		@DisplayName("담당 업무가 없으면 빈 목록을 반환한다")
+		void emptyWhenNoTasks() {
+			MyTaskDashboardResponse result = myService.getMyTaskDashboard(
+					outsider.getPublicId(), new MyTaskDashboardCond(null, null, null, null), 5);
+
+			assertThat(result.workspaces()).isEmpty();
+		}
+
+		private MyTaskDashboardResponse.WorkspaceGroup findGroup(MyTaskDashboardResponse result, UUID workspacePublicId) {
+			return result.workspaces().stream()
+						 .filter(g -> g.workspacePublicId().equals(workspacePublicId))
+						 .findFirst()
+						 .orElseThrow();
+		}
+	}
+
+
+	// 헬퍼
+	private UUID createSampleTask(UUID reporterPublicId, UUID assigneePublicId, UUID targetProjectId) {
+		return taskService.createTask(reporterPublicId, targetProjectId,
+				new CreateTaskRequest("샘플 업무", "설명", assigneePublicId, TaskPriority.MEDIUM,
+						LocalDate.now().plusDays(7)));
+	}
+
+	private User saveUser(String email, String name) {
+		return userRepository.save(User.createDummyUser(name, email, "pwd1234!?", null));
+	}
+}
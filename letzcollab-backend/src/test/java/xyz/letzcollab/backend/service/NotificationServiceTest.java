@@ -1,5 +1,6 @@
 package xyz.letzcollab.backend.service;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,8 +10,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.mockito.ArgumentCaptor;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import xyz.letzcollab.backend.TestAuditConfig;
 import xyz.letzcollab.backend.dto.notification.NotificationResponse;
 import xyz.letzcollab.backend.entity.Notification;
@@ -19,13 +23,22 @@ import xyz.letzcollab.backend.entity.vo.NotificationType;
 import xyz.letzcollab.backend.entity.vo.ReferenceType;
 import xyz.letzcollab.backend.global.event.dto.NotificationEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
+import xyz.letzcollab.backend.global.sse.NotificationEmitterRegistry;
+import xyz.letzcollab.backend.global.sse.NotificationStreamCursor;
 import xyz.letzcollab.backend.repository.NotificationRepository;
 import xyz.letzcollab.backend.repository.UserRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static xyz.letzcollab.backend.global.exception.ErrorCode.NOTIFICATION_NOT_FOUND;
 
 @SpringBootTest
@@ -38,6 +51,8 @@ class NotificationServiceTest {
 	@Autowired NotificationService notificationService;
 	@Autowired NotificationRepository notificationRepository;
 	@Autowired UserRepository userRepository;
+	@Autowired EntityManager em;
+	@MockitoSpyBean NotificationEmitterRegistry emitterRegistry;
 
 	private User recipient;
 	private User otherUser;
@@ -217,6 +232,47 @@ class NotificationServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("알림 일괄 생성")
+	class CreateAll {
+
+		@Test
+		@DisplayName("여러 수신자의 알림이 한 번에 생성된다")
+		void createsNotificationsForAllRecipients() {
+			List<NotificationEvent> events = List.of(
+					sampleEvent(recipient.getId(), NotificationType.TASK_ASSIGNED),
+					sampleEvent(recipient.getId(), NotificationType.TASK_STATUS_CHANGED),
+					sampleEvent(otherUser.getId(), NotificationType.TASK_ASSIGNED)
+			);
+
+			notificationService.createAll(events);
+
+			assertThat(notificationRepository.countByRecipientPublicIdAndIsReadFalse(recipient.getPublicId())).isEqualTo(2);
+			assertThat(notificationRepository.countByRecipientPublicIdAndIsReadFalse(otherUser.getPublicId())).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 수신자의 알림은 건너뛰고 나머지는 생성된다")
+		void skipsMissingRecipient() {
+			List<NotificationEvent> events = List.of(
+					sampleEvent(recipient.getId(), NotificationType.TASK_ASSIGNED),
+					sampleEvent(Long.MAX_VALUE, NotificationType.TASK_ASSIGNED)
+			);
+
+			notificationService.createAll(events);
+
+			assertThat(notificationRepository.findAll()).hasSize(1)
+														.allMatch(n -> n.getRecipient().getId().equals(recipient.getId()));
+		}
+
+		private NotificationEvent sampleEvent(Long recipientId, NotificationType type) {
+			return new NotificationEvent(
+					recipientId, type, ReferenceType.TASK, SAMPLE_REFERENCE_ID, SAMPLE_PARENT_REFERENCE_ID,
+					"테스트 알림 메시지"
+			);
+		}
+	}
+
 	@Nested
 	@DisplayName("알림 목록 조회")
 	class GetMyNotifications {
@@ -334,6 +390,104 @@ class NotificationServiceTest {
 
 
 
+	@Nested
+	@DisplayName("실시간 알림 구독")
+	class Subscribe {
+
+		@Test
+		@DisplayName("Last-Event-ID 이후에 저장된 알림만 순서대로 재전송한다")
+		void replaysNotificationsAfterLastEventId() {
+			Notification first = createSampleNotification(recipient);
+			Notification second = createSampleNotification(recipient);
+			Notification third = createSampleNotification(recipient);
+			createSampleNotification(otherUser);
+
+			SseEmitter emitter = notificationService.subscribe(recipient.getPublicId(), cursorOf(first));
+
+			assertThat(replayedIds(emitter)).containsExactly(second.getId(), third.getId());
+		}
+
+		@Test
+		@DisplayName("이미 받은 알림보다 ID가 작아도 나중에 생성된 알림은 재전송한다")
+		void replaysLowerIdCreatedLater() {
+			// given - ID 블록이 다른 인스턴스/마감 알림 INSERT 때문에 ID 순서와 생성 순서가 다름
+			Notification lowerIdLater = createSampleNotification(recipient);
+			Notification received = createSampleNotification(recipient);
+			LocalDateTime receivedAt = LocalDateTime.now().minusMinutes(10);
+			setCreatedAt(received, receivedAt);
+			setCreatedAt(lowerIdLater, receivedAt.plusSeconds(1));
+
+			// when
+			SseEmitter emitter = notificationService.subscribe(recipient.getPublicId(),
+					new NotificationStreamCursor(receivedAt, received.getId()).format());
+
+			// then
+			assertThat(lowerIdLater.getId()).isLessThan(received.getId());
+			assertThat(replayedIds(emitter)).containsExactly(lowerIdLater.getId());
+		}
+
+		@Test
+		@DisplayName("먼저 생성됐지만 늦게 커밋된 알림도 겹쳐 읽는 구간 안이면 재전송한다")
+		void replaysNotificationsWithinOverlap() {
+			// given - 받은 알림보다 30초 먼저 생성됐지만 그 뒤에 커밋되어 스트림으로 전달되지 못한 알림
+			Notification committedLate = createSampleNotification(recipient);
+			Notification tooOld = createSampleNotification(recipient);
+			Notification received = createSampleNotification(recipient);
+			LocalDateTime receivedAt = LocalDateTime.now().minusMinutes(10);
+			setCreatedAt(received, receivedAt);
+			setCreatedAt(committedLate, receivedAt.minusSeconds(30));
+			setCreatedAt(tooOld, receivedAt.minusMinutes(5));
+
+			// when
+			SseEmitter emitter = notificationService.subscribe(recipient.getPublicId(),
+					new NotificationStreamCursor(receivedAt, received.getId()).format());
+
+			// then - 마지막으로 받은 알림 자신과 겹쳐 읽는 구간 밖의 알림은 보내지 않음
+			assertThat(replayedIds(emitter)).containsExactly(committedLate.getId());
+		}
+
+		@Test
+		@DisplayName("Last-Event-ID가 없으면 재전송하지 않는다")
+		void noLastEventId_noReplay() {
+			createSampleNotification(recipient);
+
+			notificationService.subscribe(recipient.getPublicId(), null);
+
+			verify(emitterRegistry, never()).send(eq(recipient.getPublicId()), any(SseEmitter.class), any(NotificationResponse.class));
+		}
+
+		@Test
+		@DisplayName("형식이 맞지 않는 Last-Event-ID는 무시하고 재전송하지 않는다")
+		void malformedLastEventId_noReplay() {
+			createSampleNotification(recipient);
+
+			notificationService.subscribe(recipient.getPublicId(), "12345");
+
+			verify(emitterRegistry, never()).send(eq(recipient.getPublicId()), any(SseEmitter.class), any(NotificationResponse.class));
+		}
+
+		private String cursorOf(Notification notification) {
+			return new NotificationStreamCursor(notification.getCreatedAt(), notification.getId()).format();
+		}
+
+		private List<Long> replayedIds(SseEmitter emitter) {
+			ArgumentCaptor<NotificationResponse> captor = ArgumentCaptor.forClass(NotificationResponse.class);
+			verify(emitterRegistry, atLeast(0)).send(eq(recipient.getPublicId()), eq(emitter), captor.capture());
+			return captor.getAllValues().stream().map(NotificationResponse::notificationId).toList();
+		}
+
+		private void setCreatedAt(Notification notification, LocalDateTime createdAt) {
+			em.flush();
+			em.createNativeQuery("UPDATE notifications SET created_at = :createdAt WHERE notification_id = :id")
+			  .setParameter("createdAt", createdAt)
+			  .setParameter("id", notification.getId())
+			  .executeUpdate();
+			em.clear();
+		}
+	}
+
+
+
 	// 헬퍼
 	private User saveUser(String email, String name) {
 		return userRepository.save(User.createDummyUser(name, email, "password1234!", null));
@@ -22,6 +22,7 @@ import xyz.letzcollab.backend.entity.WorkspaceMember;
 import xyz.letzcollab.backend.entity.vo.ProjectRole;
 import xyz.letzcollab.backend.entity.vo.ProjectStatus;
 import xyz.letzcollab.backend.entity.vo.WorkspaceRole;
+import xyz.letzcollab.backend.global.dto.SliceResponse;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.repository.*;
 
@@ -189,6 +190,42 @@ class ProjectServiceTest {
 					.extracting(e -> ((CustomException) e).getErrorCode())
 					.isEqualTo(WORKSPACE_NOT_FOUND_OR_ACCESS_DENIED);
 		}
+
+		@Test
+		@DisplayName("키워드 필터를 적용하면 totalElements도 필터된 결과 개수와 일치한다")
+		void totalElementsReflectsKeywordFilter() {
+			createProject(wsOwner, "검색 대상 프로젝트", false);
+			createProject(wsOwner, "다른 프로젝트", false);
+
+			Page<ProjectResponse> result = projectService.getMyProjects(
+					wsOwner.getPublicId(), workspace.getPublicId(),
+					new ProjectSearchCond("검색", null), PageRequest.of(0, 1)
+			);
+
+			assertThat(result.getContent()).hasSize(1);
+			assertThat(result.getTotalElements()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Slice 조회는 다음 페이지가 있으면 hasNext=true, 마지막 페이지면 false")
+		void sliceReportsHasNext() {
+			createProject(wsOwner, "프로젝트1", false);
+			createProject(wsOwner, "프로젝트2", false);
+
+			SliceResponse<ProjectResponse> first = projectService.getMyProjectSlice(
+					wsOwner.getPublicId(), workspace.getPublicId(),
+					new ProjectSearchCond(null, null), PageRequest.of(0, 1)
+			);
+			SliceResponse<ProjectResponse> last = projectService.getMyProjectSlice(
+					wsOwner.getPublicId(), workspace.getPublicId(),
+					new ProjectSearchCond(null, null), PageRequest.of(1, 1)
+			);
+
+			assertThat(first.content()).hasSize(1);
+			assertThat(first.hasNext()).isTrue();
+			assertThat(last.content()).hasSize(1);
+			assertThat(last.hasNext()).isFalse();
+		}
 	}
 
 
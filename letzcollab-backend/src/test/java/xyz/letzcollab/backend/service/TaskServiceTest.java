@@ -17,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 import xyz.letzcollab.backend.TestAuditConfig;
 import xyz.letzcollab.backend.dto.project.AddMemberRequest;
 import xyz.letzcollab.backend.dto.project.CreateProjectRequest;
+import xyz.letzcollab.backend.dto.project.UpdateOtherMemberRequest;
+import xyz.letzcollab.backend.dto.project.UpdateProjectRequest;
 import xyz.letzcollab.backend.dto.task.*;
 import xyz.letzcollab.backend.entity.Task;
 import xyz.letzcollab.backend.entity.User;
@@ -26,6 +28,8 @@ import xyz.letzcollab.backend.entity.vo.ProjectRole;
 import xyz.letzcollab.backend.entity.vo.ProjectStatus;
 import xyz.letzcollab.backend.entity.vo.TaskPriority;
 import xyz.letzcollab.backend.entity.vo.TaskStatus;
+import xyz.letzcollab.backend.global.dto.CursorResponse;
+import xyz.letzcollab.backend.global.dto.SliceResponse;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.repository.TaskRepository;
 import xyz.letzcollab.backend.repository.UserRepository;
@@ -33,6 +37,8 @@ import xyz.letzcollab.backend.repository.WorkspaceMemberRepository;
 import xyz.letzcollab.backend.repository.WorkspaceRepository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -310,6 +316,35 @@ class TaskServiceTest {
 					.isEqualTo(TASK_NOT_FOUND_OR_ACCESS_DENIED);
 		}
 
+		@Test
+		@DisplayName("권한 판단이 캐시된 뒤에도 프로젝트에서 추방되면 바로 조회 불가 - TASK_NOT_FOUND_OR_ACCESS_DENIED")
+		void kickedMemberLosesAccessDespiteCache() {
+			taskService.getTasks(member.getPublicId(), privateProjectId, emptySearchCond(), PageRequest.of(0, 10));
+
+			projectMemberService.kickMember(leader.getPublicId(), workspace.getPublicId(), member.getPublicId(), privateProjectId);
+
+			assertThatThrownBy(() ->
+					taskService.getTasks(member.getPublicId(), privateProjectId, emptySearchCond(), PageRequest.of(0, 10)))
+					.isInstanceOf(CustomException.class)
+					.extracting(e -> ((CustomException) e).getErrorCode())
+					.isEqualTo(TASK_NOT_FOUND_OR_ACCESS_DENIED);
+		}
+
+		@Test
+		@DisplayName("권한 판단이 캐시된 뒤 프로젝트가 비공개로 바뀌면 비소속 워크스페이스 멤버는 바로 조회 불가")
+		void visibilityChangeInvalidatesCachedPermission() {
+			taskService.getTasks(wsOnlyMember.getPublicId(), projectId, emptySearchCond(), PageRequest.of(0, 10));
+
+			projectService.updateProject(leader.getPublicId(), projectId,
+					new UpdateProjectRequest(null, null, null, null, null, true));
+
+			assertThatThrownBy(() ->
+					taskService.getTasks(wsOnlyMember.getPublicId(), projectId, emptySearchCond(), PageRequest.of(0, 10)))
+					.isInstanceOf(CustomException.class)
+					.extracting(e -> ((CustomException) e).getErrorCode())
+					.isEqualTo(TASK_NOT_FOUND_OR_ACCESS_DENIED);
+		}
+
 		@Test
 		@DisplayName("status 필터로 조회 시 해당 상태의 업무만 반환된다")
 		void filterByStatus() {
@@ -324,6 +359,118 @@ class TaskServiceTest {
 					PageRequest.of(0, 10));
 			assertThat(result).allMatch(t -> t.status() == TaskStatus.DONE);
 		}
+
+		@Test
+		@DisplayName("마지막 페이지에서도 count 생략 여부와 관계없이 totalElements가 정확하다")
+		void totalElementsOnLastPage() {
+			for (int i = 0; i < 3; i++) {
+				createSampleTask(leader.getPublicId(), member.getPublicId(), projectId);
+			}
+
+			Page<TaskResponse> result = taskService.getTasks(
+					member.getPublicId(), projectId, emptySearchCond(), PageRequest.of(1, 2));
+			assertThat(result.getContent()).hasSize(1);
+			assertThat(result.getTotalElements()).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("Slice 조회는 size + 1 조회로 hasNext를 판단하고 size만큼만 반환한다")
+		void sliceReportsHasNext() {
+			for (int i = 0; i < 3; i++) {
+				createSampleTask(leader.getPublicId(), member.getPublicId(), projectId);
+			}
+
+			SliceResponse<TaskResponse> first = taskService.getTaskSlice(
+					member.getPublicId(), projectId, emptySearchCond(), PageRequest.of(0, 2));
+			SliceResponse<TaskResponse> last = taskService.getTaskSlice(
+					member.getPublicId(), projectId, emptySearchCond(), PageRequest.of(1, 2));
+
+			assertThat(first.content()).hasSize(2);
+			assertThat(first.hasNext()).isTrue();
+			assertThat(last.content()).hasSize(1);
+			assertThat(last.hasNext()).isFalse();
+		}
+	}
+
+
+	@Nested
+	@DisplayName("업무 목록 커서 조회")
+	class GetTasksByCursor {
+
+		@Test
+		@DisplayName("nextCursor로 이어서 조회하면 중복/누락 없이 모든 업무를 기본 정렬 순서대로 반환한다")
+		void pagesThroughAllTasksWithoutDuplicates() {
+			for (TaskPriority priority : TaskPriority.values()) {
+				taskService.createTask(leader.getPublicId(), projectId,
+						new CreateTaskRequest("업무-" + priority, null, member.getPublicId(), priority, null));
+				taskService.createTask(leader.getPublicId(), projectId,
+						new CreateTaskRequest("업무-" + priority + "-기한", null, member.getPublicId(), priority,
+								LocalDate.now().plusDays(3)));
+			}
+
+			List<TaskResponse> collected = new ArrayList<>();
+			String cursor = null;
+			do {
+				CursorResponse<TaskResponse> page = taskService.getTasksByCursor(
+						member.getPublicId(), projectId, emptySearchCond(), cursor, 3);
+				collected.addAll(page.content());
+				cursor = page.nextCursor();
+			} while (cursor != null);
+
+			assertThat(collected).hasSize(8);
+			assertThat(collected).extracting(TaskResponse::publicId).doesNotHaveDuplicates();
+			assertThat(collected.getFirst().priority()).isEqualTo(TaskPriority.URGENT);
+			assertThat(collected.getFirst().dueDate()).isNotNull();	// 같은 우선순위에서는 마감일 있는 업무가 먼저
+			assertThat(collected.getLast().priority()).isEqualTo(TaskPriority.LOW);
+		}
+
+		@Test
+		@DisplayName("마지막 페이지면 hasNext=false, nextCursor=null")
+		void lastPageHasNoNextCursor() {
+			createSampleTask(leader.getPublicId(), member.getPublicId(), projectId);
+
+			CursorResponse<TaskResponse> result = taskService.getTasksByCursor(
+					member.getPublicId(), projectId, emptySearchCond(), null, 10);
+
+			assertThat(result.content()).hasSize(1);
+			assertThat(result.hasNext()).isFalse();
+			assertThat(result.nextCursor()).isNull();
+		}
+
+		@Test
+		@DisplayName("TaskSearchCond 필터가 커서 조회에도 적용된다")
+		void filterByPriority() {
+			createSampleTask(leader.getPublicId(), member.getPublicId(), projectId);
+			taskService.createTask(leader.getPublicId(), projectId,
+					new CreateTaskRequest("긴급 업무", null, member.getPublicId(), TaskPriority.URGENT, null));
+
+			CursorResponse<TaskResponse> result = taskService.getTasksByCursor(
+					member.getPublicId(), projectId,
+					new TaskSearchCond(null, TaskPriority.URGENT, null, null, null), null, 10);
+
+			assertThat(result.content()).hasSize(1)
+										.allMatch(t -> t.priority() == TaskPriority.URGENT);
+		}
+
+		@Test
+		@DisplayName("변조된 커서로 조회하면 INVALID_CURSOR")
+		void invalidCursorThrows() {
+			assertThatThrownBy(() ->
+					taskService.getTasksByCursor(member.getPublicId(), projectId, emptySearchCond(), "not-a-cursor", 10))
+					.isInstanceOf(CustomException.class)
+					.extracting(e -> ((CustomException) e).getErrorCode())
+					.isEqualTo(INVALID_CURSOR);
+		}
+
+		@Test
+		@DisplayName("비공개 프로젝트는 프로젝트 멤버가 아닌 워크스페이스 멤버는 조회 불가 - TASK_NOT_FOUND_OR_ACCESS_DENIED")
+		void wsMemberCannotGetTasksOnPrivateProject() {
+			assertThatThrownBy(() ->
+					taskService.getTasksByCursor(wsOnlyMember.getPublicId(), privateProjectId, emptySearchCond(), null, 10))
+					.isInstanceOf(CustomException.class)
+					.extracting(e -> ((CustomException) e).getErrorCode())
+					.isEqualTo(TASK_NOT_FOUND_OR_ACCESS_DENIED);
+		}
 	}
 
 
@@ -372,6 +519,20 @@ class TaskServiceTest {
 			assertThat(updated.getPriority()).isEqualTo(TaskPriority.HIGH);
 		}
 
+		@Test
+		@DisplayName("우선순위를 변경하면 정렬용 priorityRank도 함께 변경된다")
+		void priorityRankFollowsPriority() {
+			UUID taskId = createSampleTask(leader.getPublicId(), member.getPublicId(), projectId);
+			assertThat(taskRepository.findTaskDetailsByPublicId(taskId).orElseThrow().getPriorityRank())
+					.isEqualTo(TaskPriority.MEDIUM.getLevel());
+
+			taskService.updateTask(leader.getPublicId(), projectId, taskId,
+					new UpdateTaskRequest(null, null, null, null, TaskPriority.URGENT, null));
+
+			Task updated = taskRepository.findTaskDetailsByPublicId(taskId).orElseThrow();
+			assertThat(updated.getPriorityRank()).isEqualTo(TaskPriority.URGENT.getLevel());
+		}
+
 		@Test
 		@DisplayName("reporter(MEMBER)도 모든 필드를 수정할 수 있다")
 		void reporterCanUpdateAllFields() {
@@ -441,6 +602,27 @@ class TaskServiceTest {
 			assertThat(subTask.getStatus()).isEqualTo(TaskStatus.CANCELLED);
 		}
 
+		@Test
+		@DisplayName("멤버십이 캐시된 뒤 ADMIN으로 승격되면 바로 다른 사람의 업무를 수정할 수 있다")
+		void roleChangeInvalidatesCachedMembership() {
+			UUID taskId = createSampleTask(leader.getPublicId(), leader.getPublicId(), projectId);
+
+			// MEMBER 역할이 캐시됨
+			assertThatThrownBy(() -> taskService.updateTask(member.getPublicId(), projectId, taskId,
+					new UpdateTaskRequest("수정", null, null, null, null, null)))
+					.isInstanceOf(CustomException.class)
+					.extracting(e -> ((CustomException) e).getErrorCode())
+					.isEqualTo(INSUFFICIENT_PERMISSION);
+
+			projectMemberService.updateOtherMember(leader.getPublicId(), workspace.getPublicId(), projectId,
+					new UpdateOtherMemberRequest(member.getPublicId(), null, ProjectRole.ADMIN));
+
+			taskService.updateTask(member.getPublicId(), projectId, taskId,
+					new UpdateTaskRequest("수정", null, null, null, null, null));
+
+			assertThat(taskRepository.findTaskDetailsByPublicId(taskId).orElseThrow().getName()).isEqualTo("수정");
+		}
+
 		@Test
 		@DisplayName("프로젝트 비소속 사용자가 수정 시도하면 TASK_NOT_FOUND_OR_ACCESS_DENIED")
 		void outsiderCannotUpdate() {
@@ -0,0 +1,182 @@
+package xyz.letzcollab.backend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import xyz.letzcollab.backend.dto.auth.RefreshTokenData;
+import xyz.letzcollab.backend.dto.user.SessionResponse;
+import xyz.letzcollab.backend.entity.User;
+import xyz.letzcollab.backend.global.security.jwt.AccessTokenRevocationList;
+import xyz.letzcollab.backend.global.security.jwt.RefreshTokenProvider;
+import xyz.letzcollab.backend.repository.UserRepository;
+import xyz.letzcollab.backend.repository.redis.RefreshTokenRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("UserService 통합 테스트")
+@Testcontainers
+class UserServiceTest {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Autowired
+	private RefreshTokenProvider refreshTokenProvider;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private AccessTokenRevocationList revocationList;
+
+	@Container
+	private static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	@DynamicPropertySource
+	private static void redisProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.data.redis.host", redis::getHost);
+		registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+	}
+
+	private User saveActiveUser(String email) {
+		User user = User.createDummyUser("홍길동", email, "encodedPassword", "010-1234-5678");
+		return userRepository.save(user);
+	}
+
+	// 로그인 1번 = 세션 1개
+	private String login(User user) {
+		String refreshToken = refreshTokenProvider.createToken();
+		refreshTokenRepository.saveRefreshToken(refreshToken, new RefreshTokenData(
+				user.getPublicId().toString(),
+				user.getEmail(),
+				user.getRole().getAuthority()
+		));
+		return refreshToken;
+	}
+
+	@Nested
+	@DisplayName("세션 목록 조회")
+	class GetSessions {
+
+		@Test
+		@DisplayName("로그인한 기기마다 세션 1개씩 조회되고, 재발급해도 세션 id는 유지된다")
+		void getSessions_perLogin() {
+			// given
+			User user = saveActiveUser("sessions@example.com");
+			String first = login(user);
+			login(user);
+			List<String> before = userService.getSessions(user.getPublicId())
+											 .stream()
+											 .map(SessionResponse::sessionId)
+											 .toList();
+
+			// when
+			refreshTokenRepository.rotate(first, refreshTokenProvider.createToken());
+			List<SessionResponse> after = userService.getSessions(user.getPublicId());
+
+			// then
+			assertThat(before).hasSize(2);
+			assertThat(after).extracting(SessionResponse::sessionId).containsExactlyInAnyOrderElementsOf(before);
+			assertThat(after).allSatisfy(session -> {
+				assertThat(session.lastRefreshedAt()).isAfterOrEqualTo(session.createdAt());
+				assertThat(session.expiresAt()).isAfter(session.lastRefreshedAt());
+			});
+		}
+
+		@Test
+		@DisplayName("최근에 갱신된 세션부터 정렬된다")
+		void getSessions_sortedByLastRefreshed() {
+			// given
+			User user = saveActiveUser("sorted@example.com");
+			login(user);
+			login(user);
+
+			// when
+			List<SessionResponse> sessions = userService.getSessions(user.getPublicId());
+
+			// then
+			assertThat(sessions).extracting(SessionResponse::lastRefreshedAt)
+								.isSortedAccordingTo((a, b) -> b.compareTo(a));
+		}
+
+		@Test
+		@DisplayName("다른 사용자의 세션은 조회되지 않는다")
+		void getSessions_onlyOwnSessions() {
+			// given
+			User user = saveActiveUser("own@example.com");
+			User other = saveActiveUser("other@example.com");
+			login(other);
+
+			// when & then
+			assertThat(userService.getSessions(user.getPublicId())).isEmpty();
+			assertThat(userService.getSessions(other.getPublicId())).hasSize(1);
+		}
+	}
+
+	@Nested
+	@DisplayName("모든 기기에서 로그아웃")
+	class LogoutAll {
+
+		@Test
+		@DisplayName("모든 세션의 갱신 토큰이 폐기되고 이전에 발급된 액세스 토큰도 거부된다")
+		void logoutAll_revokesEverySession() {
+			// given
+			User user = saveActiveUser("logoutall@example.com");
+			String first = login(user);
+			String second = login(user);
+			Instant issuedBefore = Instant.now().minusSeconds(1);
+
+			// when
+			userService.logoutAll(user.getPublicId());
+
+			// then
+			assertThat(userService.getSessions(user.getPublicId())).isEmpty();
+			assertThat(refreshTokenExists(first)).isFalse();
+			assertThat(refreshTokenExists(second)).isFalse();
+			assertThat(revocationList.isRevoked(user.getPublicId(), issuedBefore)).isTrue();
+		}
+
+		@Test
+		@DisplayName("다른 사용자의 세션은 유지된다")
+		void logoutAll_keepsOtherUsersSessions() {
+			// given
+			User user = saveActiveUser("logoutall-me@example.com");
+			User other = saveActiveUser("logoutall-other@example.com");
+			login(user);
+			String otherToken = login(other);
+
+			// when
+			userService.logoutAll(user.getPublicId());
+
+			// then
+			assertThat(refreshTokenExists(otherToken)).isTrue();
+			assertThat(userService.getSessions(other.getPublicId())).hasSize(1);
+		}
+	}
+
+	private boolean refreshTokenExists(String token) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey("RT:" + token));
+	}
+}
@@ -1,5 +1,7 @@
 package xyz.letzcollab.backend.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,20 +10,33 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import xyz.letzcollab.backend.PostgresTestContainer;
 import xyz.letzcollab.backend.TestAuditConfig;
+import xyz.letzcollab.backend.dto.task.UpdateTaskRequest;
 import xyz.letzcollab.backend.dto.workspace.WorkspaceDetailsResponse;
 import xyz.letzcollab.backend.dto.workspace.WorkspaceResponse;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsDelta;
+import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsHistoryResponse;
 import xyz.letzcollab.backend.dto.workspace.WorkspaceStatsResponse;
 import xyz.letzcollab.backend.entity.*;
 import xyz.letzcollab.backend.entity.vo.ProjectStatus;
+import xyz.letzcollab.backend.entity.vo.StatsResolution;
 import xyz.letzcollab.backend.entity.vo.TaskPriority;
+import xyz.letzcollab.backend.entity.vo.TaskStatus;
 import xyz.letzcollab.backend.entity.vo.WorkspaceRole;
+import xyz.letzcollab.backend.global.cache.DirtyWorkspaceSet;
+import xyz.letzcollab.backend.global.event.batch.WorkspaceStatsDeltaBuffer;
+import xyz.letzcollab.backend.global.event.dto.WorkspaceStatsEvent;
 import xyz.letzcollab.backend.global.exception.CustomException;
 import xyz.letzcollab.backend.repository.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +47,7 @@ import static xyz.letzcollab.backend.global.exception.ErrorCode.*;
 @Transactional
 @ActiveProfiles("test")
 @Import(TestAuditConfig.class)
+@RecordApplicationEvents
 @DisplayName("WorkspaceService 통합 테스트")
 class WorkspaceServiceTest extends PostgresTestContainer {
 	@Autowired
@@ -52,6 +68,30 @@ class WorkspaceServiceTest extends PostgresTestContainer {
 	@Autowired
 	TaskRepository taskRepository;
 
+	@Autowired
+	WorkspaceStatsSnapshotRepository snapshotRepository;
+
+	@Autowired
+	WorkspaceStatsHistoryRepository historyRepository;
+
+	@Autowired
+	TaskService taskService;
+
+	@Autowired
+	WorkspaceMemberService workspaceMemberService;
+
+	@Autowired
+	DirtyWorkspaceSet dirtyWorkspaces;
+
+	@Autowired
+	TransactionTemplate transactionTemplate;
+
+	@Autowired
+	ApplicationEvents events;
+
+	@Autowired
+	EntityManager em;
+
 	private User owner;
 	private User otherUser;
 
@@ -333,6 +373,377 @@ class WorkspaceServiceTest extends PostgresTestContainer {
 
 			assertThat(stats.totalMembers()).isEqualTo(2);
 		}
+
+		@Test
+		@DisplayName("삭제된 업무와 삭제된 프로젝트의 업무는 통계에 포함되지 않는다")
+		void excludesSoftDeletedTasksAndProjects() {
+			// given
+			Workspace workspace = Workspace.createWorkspace("우아한동네 개발팀", owner, "CTO");
+			workspaceRepository.save(workspace);
+
+			Project liveProject = saveProject(workspace, "살아있는 프로젝트");
+			Project deletedProject = saveProject(workspace, "삭제될 프로젝트");
+
+			saveTask(liveProject);
+			Task deletedTask = saveTask(liveProject);
+			saveTask(deletedProject);
+
+			deletedTask.softDelete();
+			deletedProject.softDelete();
+			em.flush();
+
+			// when
+			WorkspaceStatsResponse stats = workspaceService.getStats(owner.getPublicId(), workspace.getPublicId());
+
+			// then
+			assertThat(stats.projects().total()).isEqualTo(1);
+			assertThat(stats.tasks().total()).isEqualTo(1);
+			assertThat(stats.tasks().todo()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("증분을 반영하면 다시 집계하지 않아도 스냅샷 카운터가 증분만큼 바뀐다")
+		void appliesDeltaToSnapshot() {
+			// given - 스냅샷 생성 (TODO 업무 1개)
+			Workspace workspace = Workspace.createWorkspace("우아한동네 개발팀", owner, "CTO");
+			workspaceRepository.save(workspace);
+			saveTask(saveProject(workspace, "프로젝트"));
+			workspaceService.getStats(owner.getPublicId(), workspace.getPublicId());
+
+			// TODO → DONE 상태 변경 + 멤버 1명 합류
+			LocalDate today = LocalDate.now();
+			WorkspaceStatsDelta delta = WorkspaceStatsDelta.ofTask(TaskStatus.DONE, null, today)
+														   .minus(WorkspaceStatsDelta.ofTask(TaskStatus.TODO, null, today))
+														   .plus(WorkspaceStatsDelta.ofMember());
+
+			// when
+			int updated = snapshotRepository.applyDelta(workspace.getId(), delta);
+			em.clear();
+
+			// then
+			WorkspaceStatsResponse stats = workspaceService.getStats(owner.getPublicId(), workspace.getPublicId());
+			assertThat(updated).isEqualTo(1);
+			assertThat(stats.tasks().total()).isEqualTo(1);
+			assertThat(stats.tasks().todo()).isEqualTo(0);
+			assertThat(stats.tasks().done()).isEqualTo(1);
+			assertThat(stats.totalMembers()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("재집계 대상으로 지정한 워크스페이스의 스냅샷만 다시 집계된다")
+		void recomputesOnlyGivenWorkspaces() {
+			// given - 두 워크스페이스 모두 스냅샷 생성 (업무 1개씩)
+			Workspace dirty = Workspace.createWorkspace("변경된 워크스페이스", owner, "CTO");
+			Workspace clean = Workspace.createWorkspace("변경 없는 워크스페이스", owner, "CTO");
+			workspaceRepository.save(dirty);
+			workspaceRepository.save(clean);
+			Project dirtyProject = saveProject(dirty, "프로젝트");
+			Project cleanProject = saveProject(clean, "프로젝트");
+			saveTask(dirtyProject);
+			saveTask(cleanProject);
+			snapshotRepository.updateSnapshots(LocalDate.now());
+
+			// 두 워크스페이스 모두 업무 추가
+			saveTask(dirtyProject);
+			saveTask(cleanProject);
+
+			// when
+			snapshotRepository.updateSnapshotsByWorkspaceIds(List.of(dirty.getId()), LocalDate.now());
+			em.clear();
+
+			// then
+			assertThat(workspaceService.getStats(owner.getPublicId(), dirty.getPublicId()).tasks().total()).isEqualTo(2);
+			assertThat(workspaceService.getStats(owner.getPublicId(), clean.getPublicId()).tasks().total()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("날짜 변경을 반영하면 어제가 마감일인 미완료 업무만큼 마감 초과 수가 늘고, 다시 실행해도 중복 반영되지 않는다")
+		void rollsOverOverdueTasksOnce() {
+			// given - 어제 기준 스냅샷 (마감일이 어제인 업무는 아직 마감 초과 아님)
+			Workspace workspace = Workspace.createWorkspace("우아한동네 개발팀", owner, "CTO");
+			workspaceRepository.save(workspace);
+			Project project = saveProject(workspace, "프로젝트");
+			LocalDate today = LocalDate.now();
+			LocalDate yesterday = today.minusDays(1);
+
+			taskRepository.save(Task.createTask(project, "미완료 업무", "", owner, TaskPriority.MEDIUM, null, owner, yesterday));
+			Task doneTask = Task.createTask(project, "완료 업무", "", owner, TaskPriority.MEDIUM, null, owner, yesterday);
+			doneTask.update(null, null, TaskStatus.DONE, null, null, null);
+			taskRepository.save(doneTask);
+			saveTask(project);
+			snapshotRepository.updateSnapshotByWorkspaceId(workspace.getId(), yesterday);
+
+			// when
+			int first = snapshotRepository.rollOverOverdue(yesterday, today);
+			int second = snapshotRepository.rollOverOverdue(yesterday, today);
+			em.clear();
+
+			// then
+			WorkspaceStatsResponse stats = workspaceService.getStats(owner.getPublicId(), workspace.getPublicId());
+			assertThat(first).isEqualTo(1);
+			assertThat(second).isZero();
+			assertThat(stats.tasks().overdue()).isEqualTo(1);
+		}
+	}
+
+	/**
+	 * 서비스 변경이 발행한 증분을 버퍼로 반영한 스냅샷 == 같은 데이터를 전체 재집계한 스냅샷
+	 * - 버퍼는 주기 실행 없이 새로 만들어 직접 flush (공용 버퍼의 전용 스레드와 섞이지 않도록)
+	 */
+	@Nested
+	@DisplayName("워크스페이스 통계 증분과 재집계 일치")
+	class DeltaMatchesRecompute {
+
+		private final LocalDate today = LocalDate.now();
+		private WorkspaceStatsDeltaBuffer deltaBuffer;
+		private Workspace workspace;
+		private Project project;
+
+		@BeforeEach
+		void setUp() {
+			deltaBuffer = new WorkspaceStatsDeltaBuffer(
+					snapshotRepository, dirtyWorkspaces, transactionTemplate, new SimpleMeterRegistry(), Duration.ofHours(1)
+			);
+			workspace = workspaceRepository.save(Workspace.createWorkspace("우아한동네 개발팀", owner, "CTO"));
+			project = saveProject(workspace, "프로젝트");
+		}
+
+		@Test
+		@DisplayName("하위 업무가 있는 업무를 취소하면 하위 업무까지 취소된 만큼 반영된다")
+		void cancelWithSubTasks() {
+			// given - 진행 중/완료/마감 초과 하위 업무
+			Task parent = saveTaskWithStatus(TaskStatus.IN_PROGRESS, today.plusDays(3), null);
+			saveTaskWithStatus(TaskStatus.TODO, today.minusDays(2), parent);
+			saveTaskWithStatus(TaskStatus.DONE, today.plusDays(1), parent);
+			Task child = saveTaskWithStatus(TaskStatus.IN_REVIEW, today.plusDays(1), parent);
+			saveTaskWithStatus(TaskStatus.TODO, today.minusDays(1), child);
+			prepareSnapshot();
+
+			// when
+			taskService.updateTask(owner.getPublicId(), project.getPublicId(), parent.getPublicId(),
+					new UpdateTaskRequest(null, null, TaskStatus.CANCELLED, null, null, null));
+
+			// then
+			assertDeltaMatchesRecompute();
+		}
+
+		@Test
+		@DisplayName("하위 업무가 있는 업무를 삭제하면 하위 업무까지 빠진 만큼 반영된다")
+		void softDeleteWithSubTasks() {
+			// given
+			Task parent = saveTaskWithStatus(TaskStatus.TODO, today.minusDays(1), null);
+			Task child = saveTaskWithStatus(TaskStatus.IN_PROGRESS, today.plusDays(1), parent);
+			saveTaskWithStatus(TaskStatus.CANCELLED, today.minusDays(3), child);
+			saveTaskWithStatus(TaskStatus.DONE, today.minusDays(3), parent);
+			saveTaskWithStatus(TaskStatus.TODO, today.plusDays(5), null);
+			prepareSnapshot();
+
+			// when
+			taskService.deleteTask(owner.getPublicId(), project.getPublicId(), parent.getPublicId());
+
+			// then
+			assertDeltaMatchesRecompute();
+		}
+
+		@Test
+		@DisplayName("마감일을 오늘 기준 앞뒤로 옮기면 마감 초과 수가 그만큼 바뀐다")
+		void moveDueDateAcrossToday() {
+			// given
+			Task becomesOverdue = saveTaskWithStatus(TaskStatus.TODO, today.plusDays(2), null);
+			Task leavesOverdue = saveTaskWithStatus(TaskStatus.IN_PROGRESS, today.minusDays(2), null);
+			Task doneMovedBack = saveTaskWithStatus(TaskStatus.DONE, today.plusDays(2), null);
+			Task toToday = saveTaskWithStatus(TaskStatus.TODO, today.minusDays(1), null);
+			prepareSnapshot();
+
+			// when
+			moveDueDate(becomesOverdue, today.minusDays(1));
+			moveDueDate(leavesOverdue, today.plusDays(1));
+			moveDueDate(doneMovedBack, today.minusDays(5));
+			moveDueDate(toToday, today);
+
+			// then
+			assertDeltaMatchesRecompute();
+		}
+
+		@Test
+		@DisplayName("멤버가 자진 탈퇴하거나 강퇴되면 멤버 수가 그만큼 줄어든다")
+		void memberLeaveAndKick() {
+			// given
+			User kicked = saveUser("kicked@test.com", "강퇴될 사용자");
+			workspaceMemberRepository.save(WorkspaceMember.createGeneralMember(otherUser, workspace, "디자이너"));
+			workspaceMemberRepository.save(WorkspaceMember.createGeneralMember(kicked, workspace, "기획자"));
+			prepareSnapshot();
+
+			// when
+			workspaceMemberService.leaveWorkspace(otherUser.getPublicId(), workspace.getPublicId());
+			workspaceMemberService.kickMember(owner.getPublicId(), workspace.getPublicId(), kicked.getPublicId());
+
+			// then
+			assertDeltaMatchesRecompute();
+		}
+
+		// 변경 전 스냅샷을 전체 집계로 만들고, 준비 과정의 이벤트는 버림
+		private void prepareSnapshot() {
+			em.flush();
+			snapshotRepository.updateSnapshotByWorkspaceId(workspace.getId(), today);
+			em.clear();
+			events.clear();
+		}
+
+		private void moveDueDate(Task task, LocalDate dueDate) {
+			taskService.updateTask(owner.getPublicId(), project.getPublicId(), task.getPublicId(),
+					new UpdateTaskRequest(null, null, null, null, null, dueDate));
+		}
+
+		private void assertDeltaMatchesRecompute() {
+			// 커밋 후 리스너가 하던 일을 그대로 재현 (테스트 트랜잭션은 커밋되지 않음)
+			em.flush();
+			events.stream(WorkspaceStatsEvent.class).forEach(event -> {
+				if (event.recompute()) {
+					deltaBuffer.recompute(event.workspaceId());
+				} else {
+					deltaBuffer.add(event.workspaceId(), event.delta());
+				}
+			});
+			deltaBuffer.flush();
+			em.clear();
+			WorkspaceStatsSnapshot applied = snapshotRepository.findByWorkspaceId(workspace.getId()).orElseThrow();
+
+			snapshotRepository.updateSnapshotByWorkspaceId(workspace.getId(), today);
+			em.clear();
+			WorkspaceStatsSnapshot recomputed = snapshotRepository.findByWorkspaceId(workspace.getId()).orElseThrow();
+
+			assertThat(events.stream(WorkspaceStatsEvent.class)).isNotEmpty();
+			assertThat(applied).usingRecursiveComparison()
+							   .ignoringFields("overdueAsOf", "historyPending")
+							   .isEqualTo(recomputed);
+		}
+
+		private Task saveTaskWithStatus(TaskStatus status, LocalDate dueDate, Task parent) {
+			Task task = Task.createTask(
+					project, "업무", "", owner, TaskPriority.MEDIUM, parent, owner, dueDate
+			);
+			task.update(null, null, status, null, null, null);
+			return taskRepository.save(task);
+		}
+	}
+
+	@Nested
+	@DisplayName("워크스페이스 통계 이력 조회")
+	class GetWorkspaceStatsHistory {
+		@Test
+		@DisplayName("스냅샷 변경이 5분 이력으로 기록되고, 1시간 단위로 다운샘플링하면 구간의 마지막 값이 남는다")
+		void recordsAndRollsUpHistory() {
+			// given - 1시간 전 구간의 10분/50분에 각각 업무 1개, 2개인 상태를 기록
+			Workspace workspace = Workspace.createWorkspace("우아한동네 개발팀", owner, "CTO");
+			workspaceRepository.save(workspace);
+			Project project = saveProject(workspace, "프로젝트");
+			saveTask(project);
+
+			LocalDateTime hour = StatsResolution.HOURLY.truncate(LocalDateTime.now()).minusHours(1);
+			snapshotRepository.updateSnapshotByWorkspaceId(workspace.getId(), LocalDate.now());
+			historyRepository.recordChangedSnapshots(hour.plusMinutes(10));
+
+			saveTask(project);
+			snapshotRepository.updateSnapshotByWorkspaceId(workspace.getId(), LocalDate.now());
+			historyRepository.recordChangedSnapshots(hour.plusMinutes(50));
+
+			// when
+			historyRepository.rollUp("FIVE_MINUTES", "HOURLY", "hour", hour, hour.plusHours(1));
+			em.clear();
+
+			// then
+			WorkspaceStatsHistoryResponse hourly = workspaceService.getStatsHistory(
+					owner.getPublicId(), workspace.getPublicId(), hour, hour.plusHours(1), StatsResolution.HOURLY
+			);
+			assertThat(hourly.points()).extracting(WorkspaceStatsHistoryResponse.Point::bucketStart)
+									   .containsExactly(hour);
+			assertThat(hourly.points()).extracting(WorkspaceStatsHistoryResponse.Point::totalTasks)
+									   .containsExactly(2);
+		}
+
+		@Test
+		@DisplayName("직전 기록 이후 바뀐 스냅샷만 기록하고, 늦게 바뀐 스냅샷은 다음 기록에 포함한다")
+		void recordsOnlyChangedSinceLastRecord() {
+			// given - 첫 기록으로 표시를 지움
+			Workspace workspace = Workspace.createWorkspace("우아한동네 개발팀", owner, "CTO");
+			workspaceRepository.save(workspace);
+			Project project = saveProject(workspace, "프로젝트");
+			saveTask(project);
+
+			LocalDateTime hour = StatsResolution.HOURLY.truncate(LocalDateTime.now()).minusHours(1);
+			snapshotRepository.updateSnapshotByWorkspaceId(workspace.getId(), LocalDate.now());
+			historyRepository.recordChangedSnapshots(hour);
+
+			// when - 바뀐 것이 없는 구간, 그 뒤 스냅샷이 바뀐 구간
+			int unchanged = historyRepository.recordChangedSnapshots(hour.plusMinutes(5));
+			saveTask(project);
+			snapshotRepository.updateSnapshotByWorkspaceId(workspace.getId(), LocalDate.now());
+			int changed = historyRepository.recordChangedSnapshots(hour.plusMinutes(10));
+			em.clear();
+
+			// then
+			assertThat(unchanged).isZero();
+			assertThat(changed).isEqualTo(1);
+			assertThat(historyRepository.findRange(workspace.getId(), StatsResolution.FIVE_MINUTES, hour, hour.plusHours(1)))
+					.extracting(WorkspaceStatsHistory::getBucketStart, WorkspaceStatsHistory::getTotalTasks)
+					.containsExactly(tuple(hour, 1), tuple(hour.plusMinutes(10), 2));
+		}
+
+		@Test
+		@DisplayName("조회 구간 앞부분에 이력이 없으면 직전 값을 구간 시작 시각의 첫 점으로 채운다")
+		void fillsStartWithPreviousValue() {
+			// given
+			Workspace workspace = Workspace.createWorkspace("우아한동네 개발팀", owner, "CTO");
+			workspaceRepository.save(workspace);
+			Project project = saveProject(workspace, "프로젝트");
+			saveTask(project);
+
+			LocalDateTime hour = StatsResolution.HOURLY.truncate(LocalDateTime.now()).minusHours(1);
+			snapshotRepository.updateSnapshotByWorkspaceId(workspace.getId(), LocalDate.now());
+			historyRepository.recordChangedSnapshots(hour.plusMinutes(10));
+
+			saveTask(project);
+			snapshotRepository.updateSnapshotByWorkspaceId(workspace.getId(), LocalDate.now());
+			historyRepository.recordChangedSnapshots(hour.plusMinutes(50));
+			em.clear();
+
+			// when - 10분 행과 50분 행 사이부터 조회
+			WorkspaceStatsHistoryResponse history = workspaceService.getStatsHistory(
+					owner.getPublicId(), workspace.getPublicId(),
+					hour.plusMinutes(32), hour.plusHours(1), StatsResolution.FIVE_MINUTES
+			);
+
+			// then - 시작 시각은 5분 단위로 내림
+			assertThat(history.points()).extracting(WorkspaceStatsHistoryResponse.Point::bucketStart)
+										.containsExactly(hour.plusMinutes(30), hour.plusMinutes(50));
+			assertThat(history.points()).extracting(WorkspaceStatsHistoryResponse.Point::totalTasks)
+										.containsExactly(1, 2);
+		}
+
+		@Test
+		@DisplayName("보관 기간이 지난 해상도로 조회하거나 기간이 올바르지 않으면 예외가 발생한다")
+		void rejectsInvalidRange() {
+			// given
+			Workspace workspace = Workspace.createWorkspace("우아한동네 개발팀", owner, "CTO");
+			workspaceRepository.save(workspace);
+			LocalDateTime now = LocalDateTime.now();
+
+			// when & then
+			assertThatThrownBy(() ->
+					workspaceService.getStatsHistory(owner.getPublicId(), workspace.getPublicId(),
+							now.minusDays(3), now, StatsResolution.FIVE_MINUTES))
+					.isInstanceOf(CustomException.class)
+					.extracting(e -> ((CustomException) e).getErrorCode())
+					.isEqualTo(STATS_HISTORY_RESOLUTION_EXPIRED);
+
+			assertThatThrownBy(() ->
+					workspaceService.getStatsHistory(owner.getPublicId(), workspace.getPublicId(),
+							now, now.minusDays(1), null))
+					.isInstanceOf(CustomException.class)
+					.extracting(e -> ((CustomException) e).getErrorCode())
+					.isEqualTo(INVALID_STATS_HISTORY_RANGE);
+		}
 	}
 
 
@@ -342,4 +753,17 @@ class WorkspaceServiceTest extends PostgresTestContainer {
 				User.createDummyUser(name, email, "pwd1234!?", null)
 		);
 	}
+
+	private Project saveProject(Workspace workspace, String name) {
+		return projectRepository.save(Project.createProject(
+				workspace, name, "", ProjectStatus.ACTIVE, LocalDate.now(), LocalDate.now().plusDays(30),
+				false, owner, "CTO"
+		));
+	}
+
+	private Task saveTask(Project project) {
+		return taskRepository.save(Task.createTask(
+				project, "업무", "", owner, TaskPriority.MEDIUM, null, owner, LocalDate.now().plusDays(30)
+		));
+	}
 }
\ No newline at end of file